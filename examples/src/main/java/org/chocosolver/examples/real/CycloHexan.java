@@ -11,9 +11,11 @@ package org.chocosolver.examples.real;
 
 import org.chocosolver.examples.AbstractProblem;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.RealVar;
+import org.kohsuke.args4j.Option;
 
 import static java.lang.Double.NEGATIVE_INFINITY;
 import static java.lang.Double.POSITIVE_INFINITY;
@@ -30,13 +32,16 @@ import static org.chocosolver.solver.search.strategy.Search.realVarSearch;
  */
 public class CycloHexan extends AbstractProblem {
 
+    @Option(name = "-hc4", usage = "Filter the functions in Java (HC4 and box consistency) instead of Ibex.", required = false)
+    boolean hc4 = false;
+
     RealVar[] vars;
     RealVar x, y, z;
 
 
     @Override
     public void buildModel() {
-        model = new Model();
+        model = new Model(Settings.init().setEnableIbex(!hc4));
         out.println("The CycloHexan problem consists in finding the 3D configuration of a cyclohexane molecule.\n" +
                 "It is decribed with a system of three non linear equations : \n" + " y^2 * (1 + z^2) + z * (z - 24 * y) = -13 \n" +
                 " x^2 * (1 + y^2) + y * (y - 24 * x) = -13 \n" +
@@ -23,6 +23,9 @@ public Datas datas;
 
 // the model
 public Model mModel;
+
+// when not null, records the parsed items
+public FlatzincTemplate template;
 }
 
 
@@ -216,6 +219,7 @@ param_decl
 	{
     // Parameter(Datas datas, Declaration type, String identifier, Expression expression)
     FParameter.make_parameter(datas, $pt.decl, $IDENTIFIER.text, $e.exp);
+    if(template != null) template.parameter($pt.decl, $IDENTIFIER.text, $e.exp);
     }
 	;
 
@@ -225,6 +229,7 @@ var_decl
 	vt=var_type CL IDENTIFIER anns=annotations (eq=EQ e=expr)? SC
 	{
 	FVariable.make_variable(datas, $vt.decl, $IDENTIFIER.text, $anns.anns, $eq!=null?$e.exp:null, mModel);
+	if(template != null) template.variable($vt.decl, $IDENTIFIER.text, $anns.anns, $eq!=null?$e.exp:null);
     }
 	;
 
@@ -239,6 +244,7 @@ constraint
     String name = $IDENTIFIER.text;
     datas.incCstrCounter(name);
     FConstraint.valueOf(name).build(mModel, datas, name, exps, $anns.anns);
+    if(template != null) template.constraint(name, exps, $anns.anns);
     }
 	;
 
@@ -246,6 +252,7 @@ solve_goal
 	:   SOLVE anns=annotations res=resolution SC
 	{
     FGoal.define_goal(mModel, $anns.anns,$res.rtype,$res.exp);
+    if(template != null) template.goal($anns.anns,$res.rtype,$res.exp);
     }
 	;
 
@@ -33,9 +33,9 @@ public class Parser {
 
     @Option(name = "-pa", aliases = {"--parser"}, usage = "Parser to use:\n" +
             "0: automatic -- based on file name extension (compression is allowed), " +
-            "1: FlatZinc (.fzn)," +
+            "1: FlatZinc (.fzn or .fzb)," +
             "2: XCSP3 (.xml)," +
-            "3: DIMACS (.cnf)," +
+            "3: DIMACS (.cnf or .wcnf)," +
             "4: MPS (.mps)")
     private int pa = 0;
 
@@ -67,7 +67,7 @@ public class Parser {
         if (pa == 0) {
             String[] parts = instance.split("\\.");
             for (String part : parts) {
-                if (part.equals("fzn")) {
+                if (part.equals("fzn") || part.equals("fzb")) {
                     pa = 1;
                     break;
                 }
@@ -75,7 +75,7 @@ public class Parser {
                     pa = 2;
                     break;
                 }
-                if (part.equals("cnf")) {
+                if (part.equals("cnf") || part.equals("wcnf")) {
                     pa = 3;
                     break;
                 }
@@ -87,7 +87,7 @@ public class Parser {
             switch (pa) {
                 case 0:
                     System.err.println("Unknown file type.");
-                    System.err.println("Expected file extensions: *.fzn, *.xml, *.cnf, *.mps");
+                    System.err.println("Expected file extensions: *.fzn, *.fzb, *.xml, *.cnf, *.wcnf, *.mps");
                     System.err.println();
                     return;
                 case 1:
@@ -43,9 +43,9 @@ public abstract class RegParser implements IParser {
     @SuppressWarnings({"unused", "FieldMayBeFinal"})
     @Option(name = "-pa", aliases = {"--parser"}, usage = "Parser to use.\n" +
             "0: automatic\n " +
-            "1: FlatZinc (.fzn)\n" +
+            "1: FlatZinc (.fzn or .fzb)\n" +
             "2: XCSP3 (.xml or .lzma)\n" +
-            "3: DIMACS (.cnf),\n" +
+            "3: DIMACS (.cnf or .wcnf),\n" +
             "4: MPS (.mps)")
     private int pa = 0;
 
@@ -125,6 +125,9 @@ public abstract class RegParser implements IParser {
     @Option(name = "-dfx", usage = "Force default explanation algorithm.")
     public boolean dftexp = false;
 
+    @Option(name = "-presolve", usage = "Presolve the model before solving it (default: false).")
+    public boolean presolve = false;
+
     /**
      * Default settings to apply
      */
@@ -196,6 +199,7 @@ public abstract class RegParser implements IParser {
             System.out.printf("%s\n", Arrays.toString(args));
         }
         createSettings();
+        defaultSettings.setEnablePresolve(presolve);
         Runtime.getRuntime().addShutdownHook(statOnKill);
         return true;
     }
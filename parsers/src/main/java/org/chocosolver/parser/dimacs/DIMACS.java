@@ -37,6 +37,10 @@ public class DIMACS extends RegParser {
     @Option(name = "-cp", usage = "Pure CP approach (does not rely on the underlying SAT solver).")
     private boolean cp = false;
 
+    @SuppressWarnings("FieldMayBeFinal")
+    @Option(name = "-readline", usage = "Read the instance line by line and post clauses one by one, instead of loading them in bulk (default: false).")
+    private boolean readline = false;
+
     /**
      * Needed to print the last solution found
      */
@@ -72,7 +76,7 @@ public class DIMACS extends RegParser {
         for (int i = 0; i < nb_cores; i++) {
             Model threadModel = new Model(iname + "_" + (i + 1), defaultSettings);
             portfolio.addModel(threadModel);
-            parsers[i] = new DIMACSParser();
+            parsers[i] = new DIMACSParser(!readline);
         }
     }
 
@@ -14,6 +14,8 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.BoolVar;
 
 import java.io.*;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -33,7 +35,36 @@ public class DIMACSParser {
     private static final String TAG_CNF = "cnf";
     private BoolVar[] literals;
 
+    /**
+     * Set to <i>true</i> to read the instance with a {@link DIMACSReader}
+     */
+    private final boolean fast;
+
+    public DIMACSParser() {
+        this(true);
+    }
+
+    /**
+     * @param fast set to <i>true</i> to load clauses in bulk into the SAT solver,
+     *             to <i>false</i> to read the instance line by line and post clauses one by one
+     */
+    public DIMACSParser(boolean fast) {
+        this.fast = fast;
+    }
+
     public void model(Model model, String instance) throws FileNotFoundException {
+        if (fast) {
+            DIMACSReader reader = new DIMACSReader(model);
+            try {
+                reader.read(Paths.get(instance));
+            } catch (NoSuchFileException e) {
+                throw new FileNotFoundException(instance);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            literals = reader.variables();
+            return;
+        }
         Reader reader = new FileReader(instance);
         try (BufferedReader br = new BufferedReader(reader)) {
             String line;
@@ -0,0 +1,404 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.dimacs;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.nary.sat.PropSat;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A DIMACS reader that loads clauses straight into the SAT solver of a model.
+ * <p>
+ * The file is memory-mapped and read byte per byte.
+ * A negative literal is the negation view of its CNF variable, as with the line-based reading,
+ * so that both readings build the same model; each literal is bound once to a SAT variable.
+ * Clauses are accumulated in an arena of literals, which is loaded in bulk with
+ * {@link PropSat#addClauses(int[], int, int)}.
+ * When the SAT solver is disabled, clauses are posted one by one with
+ * {@link Model#addClausesBoolOrArrayEqualTrue(BoolVar[])}.
+ * </p>
+ * <p>
+ * Weighted CNF files (MaxSAT) are supported, in both the former format
+ * (<code>p wcnf nbvars nbclauses top</code>, a clause whose weight is at least <i>top</i> being hard)
+ * and the 2022 one (no problem line, hard clauses prefixed by <code>h</code>).
+ * A soft clause is relaxed by a boolean variable, the negation of its literal for a unit clause,
+ * and the weighted sum of the relaxation variables is minimized.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+final class DIMACSReader {
+
+    private static final int EOF = -1;
+    /**
+     * Size of the memory-mapped regions of a file
+     */
+    private static final long WINDOW = 1L << 30;
+    /**
+     * Number of integers of the arena that triggers its loading into the SAT solver
+     */
+    private static final int FLUSH = 1 << 20;
+
+    private final Model model;
+    /**
+     * Set to <i>true</i> to load clauses into the SAT solver
+     */
+    private final boolean enableSAT;
+    /**
+     * The SAT propagator, created with the first clause
+     */
+    private PropSat sat;
+
+    // input
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long offset;
+    private long size;
+    /**
+     * Current character
+     */
+    private int ch;
+    /**
+     * Current line, for error messages
+     */
+    private int line;
+
+    // problem
+    private boolean weighted;
+    private long top = Long.MAX_VALUE;
+    private int nbDeclaredClauses = -1;
+    private int nbClauses;
+    /**
+     * CNF variables, 0-based
+     */
+    private BoolVar[] vars = new BoolVar[0];
+    private int nbVars;
+    /**
+     * SAT variable of each CNF variable and of its negation, -1 if not bound yet
+     */
+    private int[] psvars = new int[0], nsvars = new int[0];
+
+    // clauses
+    private int[] clause = new int[16];
+    private int[] arena = new int[1024];
+    private int arenaSize;
+
+    // soft clauses
+    private final List<BoolVar> relaxations = new ArrayList<>();
+    private final List<Long> weights = new ArrayList<>();
+    private long offsetCost;
+
+    DIMACSReader(Model model) {
+        this.model = model;
+        this.enableSAT = model.getSettings().enableSAT();
+    }
+
+    /**
+     * @return the CNF variables, in index order
+     */
+    BoolVar[] variables() {
+        return Arrays.copyOf(vars, nbVars);
+    }
+
+    /**
+     * Read a CNF or a WCNF file and load it into the model.
+     *
+     * @param path a DIMACS file
+     * @throws IOException     if the file cannot be read
+     * @throws ParserException if the file is not well-formed
+     */
+    void read(Path path) throws IOException {
+        try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.channel = fc;
+            this.size = fc.size();
+            this.offset = 0;
+            this.window = null;
+            this.line = 1;
+            // without a problem line, the 2022 WCNF format is expected
+            weighted = path.toString().endsWith(".wcnf");
+            next();
+            while (ch != EOF && ch != '%') {
+                if (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n') {
+                    next();
+                } else if (ch == 'c') {
+                    skipLine();
+                } else if (ch == 'p') {
+                    header();
+                } else {
+                    clause();
+                }
+            }
+        }
+        flush();
+        if (nbDeclaredClauses >= 0 && nbClauses != nbDeclaredClauses) {
+            throw new ParserException("Missing clauses");
+        }
+        if (weighted) {
+            objective();
+        }
+    }
+
+    //***********************************************************************************
+    // ITEMS
+    //***********************************************************************************
+
+    private void header() throws IOException {
+        next();
+        String format = word();
+        switch (format) {
+            case "cnf":
+                weighted = false;
+                break;
+            case "wcnf":
+                weighted = true;
+                break;
+            default:
+                throw error("Not a CNF file");
+        }
+        ensure((int) number());
+        nbDeclaredClauses = (int) number();
+        skipBlanks();
+        if (weighted && ch != '\n' && ch != EOF) {
+            top = number();
+        }
+    }
+
+    private void clause() throws IOException {
+        boolean hard = !weighted;
+        long weight = 0;
+        if (weighted) {
+            if (ch == 'h') {
+                hard = true;
+                next();
+            } else {
+                weight = number();
+                hard = weight >= top;
+            }
+        }
+        int n = 0;
+        int lit;
+        while ((lit = (int) number()) != 0) {
+            ensure(Math.abs(lit));
+            if (n == clause.length) {
+                clause = Arrays.copyOf(clause, n * 2);
+            }
+            clause[n++] = lit;
+        }
+        nbClauses++;
+        if (hard) {
+            post(n, null);
+        } else if (weight > 0) {
+            soft(n, weight);
+        }
+    }
+
+    /**
+     * Relax the soft clause stored in {@link #clause}
+     */
+    private void soft(int n, long weight) {
+        if (n == 0) {
+            offsetCost += weight;
+            return;
+        }
+        BoolVar r;
+        if (n == 1) {
+            // no need for an extra variable
+            BoolVar v = vars[Math.abs(clause[0]) - 1];
+            r = clause[0] > 0 ? v.not() : v;
+        } else {
+            r = model.boolVar("r_" + relaxations.size());
+            post(n, r);
+        }
+        relaxations.add(r);
+        weights.add(weight);
+    }
+
+    /**
+     * Post the clause stored in {@link #clause}, extended with <i>extra</i> if not null
+     */
+    private void post(int n, BoolVar extra) {
+        int m = n + (extra == null ? 0 : 1);
+        if (!enableSAT) {
+            BoolVar[] bvars = new BoolVar[m];
+            for (int i = 0; i < n; i++) {
+                BoolVar v = vars[Math.abs(clause[i]) - 1];
+                bvars[i] = clause[i] > 0 ? v : v.not();
+            }
+            if (extra != null) {
+                bvars[n] = extra;
+            }
+            if (m > 0) {
+                model.addClausesBoolOrArrayEqualTrue(bvars);
+            } else {
+                model.falseConstraint().post();
+            }
+            return;
+        }
+        if (sat == null) {
+            sat = model.getMinisat().getPropSat();
+        }
+        if (arenaSize + m + 1 > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + m + 1));
+        }
+        arena[arenaSize++] = m;
+        for (int i = 0; i < n; i++) {
+            int v = Math.abs(clause[i]) - 1;
+            int svar;
+            if (clause[i] > 0) {
+                if (psvars[v] < 0) {
+                    psvars[v] = sat.makeBool(vars[v]);
+                }
+                svar = psvars[v];
+            } else {
+                if (nsvars[v] < 0) {
+                    nsvars[v] = sat.makeBool(vars[v].not());
+                }
+                svar = nsvars[v];
+            }
+            arena[arenaSize++] = MiniSat.makeLiteral(svar, true);
+        }
+        if (extra != null) {
+            arena[arenaSize++] = MiniSat.makeLiteral(sat.makeBool(extra), true);
+        }
+        if (arenaSize >= FLUSH) {
+            flush();
+        }
+    }
+
+    /**
+     * Load the clauses of the arena into the SAT solver
+     */
+    private void flush() {
+        if (sat != null && arenaSize > 0) {
+            sat.addClauses(arena, 0, arenaSize);
+            arenaSize = 0;
+        }
+    }
+
+    /**
+     * Minimize the weighted sum of the relaxation variables
+     */
+    private void objective() {
+        long ub = offsetCost;
+        int[] coefs = new int[relaxations.size() + 1];
+        for (int i = 0; i < weights.size(); i++) {
+            ub += weights.get(i);
+            if (weights.get(i) > IntVar.MAX_INT_BOUND || ub > IntVar.MAX_INT_BOUND) {
+                throw new ParserException("Sum of weights is too large");
+            }
+            coefs[i] = weights.get(i).intValue();
+        }
+        coefs[relaxations.size()] = -1;
+        IntVar cost = model.intVar("cost", (int) offsetCost, (int) ub);
+        IntVar[] ivars = relaxations.toArray(new IntVar[relaxations.size() + 1]);
+        ivars[relaxations.size()] = cost;
+        model.scalar(ivars, coefs, "=", (int) -offsetCost).post();
+        model.setObjective(Model.MINIMIZE, cost);
+    }
+
+    /**
+     * Create the CNF variables up to <i>n</i>, if not already created
+     */
+    private void ensure(int n) {
+        if (n > vars.length) {
+            int m = Math.max(n, vars.length * 2);
+            vars = Arrays.copyOf(vars, m);
+            psvars = Arrays.copyOf(psvars, m);
+            nsvars = Arrays.copyOf(nsvars, m);
+        }
+        for (; nbVars < n; nbVars++) {
+            vars[nbVars] = model.boolVar(Integer.toString(nbVars));
+            psvars[nbVars] = nsvars[nbVars] = -1;
+        }
+    }
+
+    //***********************************************************************************
+    // LEXER
+    //***********************************************************************************
+
+    private void next() throws IOException {
+        if (window == null || !window.hasRemaining()) {
+            if (offset >= size) {
+                ch = EOF;
+                return;
+            }
+            long length = Math.min(WINDOW, size - offset);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            offset += length;
+        }
+        ch = window.get() & 0xff;
+        if (ch == '\n') {
+            line++;
+        }
+    }
+
+    private void skipLine() throws IOException {
+        while (ch != '\n' && ch != EOF) {
+            next();
+        }
+    }
+
+    private void skipBlanks() throws IOException {
+        while (ch == ' ' || ch == '\t' || ch == '\r') {
+            next();
+        }
+    }
+
+    private String word() throws IOException {
+        skipBlanks();
+        StringBuilder sb = new StringBuilder();
+        while (ch > ' ') {
+            sb.append((char) ch);
+            next();
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Read a (possibly negative) integer, clauses may span several lines
+     */
+    private long number() throws IOException {
+        while (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n') {
+            next();
+        }
+        boolean neg = ch == '-';
+        if (neg) {
+            next();
+        }
+        if (ch < '0' || ch > '9') {
+            throw error(ch == EOF ? "unexpected end of file" : "unexpected '" + (char) ch + "'");
+        }
+        long v = 0;
+        while (ch >= '0' && ch <= '9') {
+            v = v * 10 + (ch - '0');
+            if (v < 0) {
+                throw error("number too large");
+            }
+            next();
+        }
+        return neg ? -v : v;
+    }
+
+    private ParserException error(String msg) {
+        return new ParserException("DIMACS, line " + line + ": " + msg);
+    }
+}
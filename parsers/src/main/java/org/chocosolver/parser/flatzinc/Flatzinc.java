@@ -29,11 +29,15 @@ import org.kohsuke.args4j.Option;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -52,6 +56,18 @@ public class Flatzinc extends RegParser {
             "(default: false, i.e., restricted to the variables declared in output).")
     protected boolean ocs = false;
 
+    @Option(name = "-fzb", usage = "Also save the parsed model in the given file, in a binary form " +
+            "which can be given as instance (with the .fzb extension) to skip parsing (default: none).")
+    protected String fzb = null;
+
+    @Option(name = "-antlr", usage = "Parse the FlatZinc file with the ANTLR-based parser " +
+            "instead of the streaming reader (default: false).")
+    protected boolean antlr = false;
+
+    @Option(name = "-tpc", usage = "Two-phase construction: prepare the constraints in parallel " +
+            "(tuples, automata, ...) then post them in order (default: false).")
+    protected boolean tpc = false;
+
     //***********************************************************************************
     // VARIABLES
     //***********************************************************************************
@@ -117,26 +133,76 @@ public class Flatzinc extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
-            try {
-                long ptime = -System.currentTimeMillis();
-                FileInputStream fileInputStream = new FileInputStream(instance);
-                parse(models.get(i), datas[i], fileInputStream);
-                fileInputStream.close();
-                models.get(i).getSolver().logWithANSI(ansi);
-                if (level.isLoggable(Level.INFO)) {
-                    models.get(i).getSolver().log().white().printf(String.format("File parsed in %d ms%n", (ptime + System.currentTimeMillis())));
+        long ptime = -System.currentTimeMillis();
+        boolean binary = instance.endsWith(".fzb");
+        FlatzincTemplate template;
+        try {
+            if (binary) {
+                // a binary model, every model is instantiated from the mapped file
+                template = FlatzincTemplate.load(Paths.get(instance));
+            } else {
+                // the file is parsed once, the other models are instantiated from the recorded items
+                template = models.size() > 1 || fzb != null ? new FlatzincTemplate() : null;
+                try (FileInputStream fileInputStream = new FileInputStream(instance)) {
+                    parse(models.get(0), datas[0], fileInputStream, template);
                 }
-                if (level.is(Level.JSON)) {
-                    models.get(i).getSolver().log().printf("{\"name\":\"%s\",\"stats\":[", instance);
+                if (fzb != null) {
+                    template.save(Paths.get(fzb));
                 }
-            } catch (IOException e) {
-                throw new Error(e.getMessage());
+            }
+        } catch (IOException e) {
+            throw new Error(e.getMessage());
+        }
+        if (template != null) {
+            IntStream.range(binary ? 0 : 1, models.size()).parallel()
+                    .forEach(i -> template.instantiate(models.get(i), datas[i]));
+        }
+        for (Model model : models) {
+            model.getSolver().logWithANSI(ansi);
+            if (level.isLoggable(Level.INFO)) {
+                model.getSolver().log().white().printf(String.format("File parsed in %d ms%n", (ptime + System.currentTimeMillis())));
+            }
+            if (level.is(Level.JSON)) {
+                model.getSolver().log().printf("{\"name\":\"%s\",\"stats\":[", instance);
             }
         }
     }
 
     public void parse(Model target, Datas data, InputStream is) {
+        parse(target, data, is, null);
+    }
+
+    /**
+     * Parse a FlatZinc model and build it into <i>target</i>.
+     *
+     * @param target   the model to feed
+     * @param data     the data associated with <i>target</i>
+     * @param is       the FlatZinc model
+     * @param template if not null, records the parsed items, to build other models without parsing again
+     */
+    public void parse(Model target, Datas data, InputStream is, FlatzincTemplate template) {
+        if (antlr) {
+            parseWithANTLR(target, data, is, template);
+        } else {
+            ReadableByteChannel channel = is instanceof FileInputStream ?
+                    ((FileInputStream) is).getChannel() : Channels.newChannel(is);
+            try {
+                new FlatzincReader(target, data, template, tpc).read(channel);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Parse a FlatZinc model with the parser generated by ANTLR and build it into <i>target</i>.
+     *
+     * @param target   the model to feed
+     * @param data     the data associated with <i>target</i>
+     * @param is       the FlatZinc model
+     * @param template if not null, records the parsed items, to build other models without parsing again
+     */
+    public void parseWithANTLR(Model target, Datas data, InputStream is, FlatzincTemplate template) {
         CharStream input = new UnbufferedCharStream(is);
         Flatzinc4Lexer lexer = new Flatzinc4Lexer(input);
         lexer.setTokenFactory(new CommonTokenFactory(true));
@@ -145,6 +211,7 @@ public class Flatzinc extends RegParser {
         parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
         parser.setBuildParseTree(false);
         parser.setTrimParseTree(false);
+        parser.template = template;
         //parser.setProfile(true);
         parser.flatzinc_model(target, data);
         /*ParseInfo parseInfo = parser.getParseInfo();
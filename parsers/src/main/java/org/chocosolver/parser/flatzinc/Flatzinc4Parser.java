@@ -129,6 +129,9 @@ public class Flatzinc4Parser extends Parser {
 	// the model
 	public Model mModel;
 
+	// when not null, records the parsed items
+	public FlatzincTemplate template;
+
 	public Flatzinc4Parser(TokenStream input) {
 		super(input);
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
@@ -1152,6 +1155,7 @@ public class Flatzinc4Parser extends Parser {
 
 			    // Parameter(Datas datas, Declaration type, String identifier, Expression expression)
 			    FParameter.make_parameter(datas, ((Param_declContext)_localctx).pt.decl, (((Param_declContext)_localctx).IDENTIFIER!=null?((Param_declContext)_localctx).IDENTIFIER.getText():null), ((Param_declContext)_localctx).e.exp);
+			    if(template != null) template.parameter(((Param_declContext)_localctx).pt.decl, (((Param_declContext)_localctx).IDENTIFIER!=null?((Param_declContext)_localctx).IDENTIFIER.getText():null), ((Param_declContext)_localctx).e.exp);
 			    
 			}
 		}
@@ -1222,6 +1226,7 @@ public class Flatzinc4Parser extends Parser {
 			match(SC);
 
 				FVariable.make_variable(datas, ((Var_declContext)_localctx).vt.decl, (((Var_declContext)_localctx).IDENTIFIER!=null?((Var_declContext)_localctx).IDENTIFIER.getText():null), ((Var_declContext)_localctx).anns.anns, ((Var_declContext)_localctx).eq!=null?((Var_declContext)_localctx).e.exp:null, mModel);
+				if(template != null) template.variable(((Var_declContext)_localctx).vt.decl, (((Var_declContext)_localctx).IDENTIFIER!=null?((Var_declContext)_localctx).IDENTIFIER.getText():null), ((Var_declContext)_localctx).anns.anns, ((Var_declContext)_localctx).eq!=null?((Var_declContext)_localctx).e.exp:null);
 			    
 			}
 		}
@@ -1311,6 +1316,7 @@ public class Flatzinc4Parser extends Parser {
 			    String name = (((ConstraintContext)_localctx).IDENTIFIER!=null?((ConstraintContext)_localctx).IDENTIFIER.getText():null);
 			    datas.incCstrCounter(name);
 			    FConstraint.valueOf(name).build(mModel, datas, name, exps, ((ConstraintContext)_localctx).anns.anns);
+			    if(template != null) template.constraint(name, exps, ((ConstraintContext)_localctx).anns.anns);
 			    
 			}
 		}
@@ -1358,6 +1364,7 @@ public class Flatzinc4Parser extends Parser {
 			match(SC);
 
 			    FGoal.define_goal(mModel, ((Solve_goalContext)_localctx).anns.anns,((Solve_goalContext)_localctx).res.rtype,((Solve_goalContext)_localctx).res.exp);
+			    if(template != null) template.goal(((Solve_goalContext)_localctx).anns.anns,((Solve_goalContext)_localctx).res.rtype,((Solve_goalContext)_localctx).res.exp);
 			    
 			}
 		}
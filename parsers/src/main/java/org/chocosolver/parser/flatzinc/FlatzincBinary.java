@@ -0,0 +1,252 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.parser.flatzinc.ast.declaration.*;
+import org.chocosolver.parser.flatzinc.ast.expression.*;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of FlatZinc declarations and expressions, as stored by {@link FlatzincTemplate#save}.
+ * <p>
+ * A declaration or an expression starts with a tag byte, the ordinal of its type, followed by its content.
+ * Integers are written in big-endian order, strings as their UTF-8 length and bytes.
+ * Arrays of integers, such as tuples or cost matrices, are packed to be read in bulk.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+final class FlatzincBinary {
+
+    /**
+     * Tag of a missing expression or list
+     */
+    private static final byte NULL = -1;
+    /**
+     * Tag of an array of integer constants
+     */
+    private static final byte INTS = 64;
+
+    private FlatzincBinary() {
+    }
+
+    static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int v : values) {
+            out.writeInt(v);
+        }
+    }
+
+    private static int[] readInts(ByteBuffer in) {
+        int[] values = new int[in.getInt()];
+        in.asIntBuffer().get(values);
+        in.position(in.position() + values.length * Integer.BYTES);
+        return values;
+    }
+
+    private static List<EInt> toEInts(int[] values) {
+        List<EInt> list = new ArrayList<>(values.length);
+        for (int v : values) {
+            list.add(EInt.make(v));
+        }
+        return list;
+    }
+
+    static void write(DataOutputStream out, Declaration decl) throws IOException {
+        out.writeByte(decl.typeOf.ordinal());
+        switch (decl.typeOf) {
+            case INT2:
+                out.writeInt(((DInt2) decl).getLow());
+                out.writeInt(((DInt2) decl).getUpp());
+                break;
+            case INTN:
+                writeInts(out, ((DManyInt) decl).getValues());
+                break;
+            case ARRAY:
+                DArray arr = (DArray) decl;
+                out.writeInt(arr.getDimension());
+                for (int i = 0; i < arr.getDimension(); i++) {
+                    write(out, arr.getIndex(i));
+                }
+                write(out, arr.getWhat());
+                break;
+            case SET:
+                write(out, ((DSet) decl).getWhat());
+                break;
+            default:
+                break;
+        }
+    }
+
+    static Declaration readDeclaration(ByteBuffer in) {
+        Declaration.DType type = Declaration.DType.values()[in.get()];
+        switch (type) {
+            case BOOL:
+                return DBool.me;
+            case FLOAT:
+                return DFloat.me;
+            case INT:
+                return DInt.me;
+            case SETOFINT:
+                return DSetOfInt.me;
+            case INT2:
+                return new DInt2(EInt.make(in.getInt()), EInt.make(in.getInt()));
+            case INTN:
+                return new DManyInt(toEInts(readInts(in)));
+            case ARRAY:
+                List<Declaration> indices = new ArrayList<>();
+                for (int i = in.getInt(); i > 0; i--) {
+                    indices.add(readDeclaration(in));
+                }
+                return new DArray(indices, readDeclaration(in));
+            case SET:
+                return new DSet(readDeclaration(in));
+            default:
+                throw new ParserException("Unknown declaration type: " + type);
+        }
+    }
+
+    static void write(DataOutputStream out, Expression exp) throws IOException {
+        if (exp == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        switch (exp.getTypeOf()) {
+            case ANN:
+                out.writeByte(exp.getTypeOf().ordinal());
+                writeString(out, ((EAnnotation) exp).id.value);
+                writeAll(out, ((EAnnotation) exp).exps);
+                break;
+            case ARR:
+                List<Expression> what = ((EArray) exp).what;
+                if (((EArray) exp).isIntArray()
+                        || !what.isEmpty() && what.stream().allMatch(e -> e.getTypeOf() == Expression.EType.INT)) {
+                    out.writeByte(INTS);
+                    writeInts(out, exp.toIntArray());
+                } else {
+                    out.writeByte(exp.getTypeOf().ordinal());
+                    writeAll(out, what);
+                }
+                break;
+            case BOO:
+                out.writeByte(exp.getTypeOf().ordinal());
+                out.writeBoolean(((EBool) exp).value);
+                break;
+            case IDA:
+                out.writeByte(exp.getTypeOf().ordinal());
+                writeString(out, ((EIdArray) exp).name);
+                out.writeInt(((EIdArray) exp).index);
+                break;
+            case IDE:
+                out.writeByte(exp.getTypeOf().ordinal());
+                writeString(out, ((EIdentifier) exp).value);
+                break;
+            case INT:
+                out.writeByte(exp.getTypeOf().ordinal());
+                out.writeInt(((EInt) exp).value);
+                break;
+            case SET_B:
+                out.writeByte(exp.getTypeOf().ordinal());
+                out.writeInt(((ESetBounds) exp).getLow());
+                out.writeInt(((ESetBounds) exp).getUpp());
+                break;
+            case SET_L:
+                out.writeByte(exp.getTypeOf().ordinal());
+                writeInts(out, ((ESetList) exp).enumVal());
+                break;
+            case STR:
+                out.writeByte(exp.getTypeOf().ordinal());
+                writeString(out, ((EString) exp).st);
+                break;
+            default:
+                throw new ParserException("Unknown expression type: " + exp.getTypeOf());
+        }
+    }
+
+    /**
+     * Read an expression, resolving its identifiers in <i>datas</i>
+     */
+    static Expression readExpression(ByteBuffer in, Datas datas) {
+        byte tag = in.get();
+        if (tag == NULL) {
+            return null;
+        }
+        if (tag == INTS) {
+            return EArray.ofInts(readInts(in));
+        }
+        Expression.EType type = Expression.EType.values()[tag];
+        switch (type) {
+            case ANN:
+                return new EAnnotation(new EIdentifier(datas, readString(in)), readAll(in, datas));
+            case ARR:
+                return new EArray(readAll(in, datas));
+            case BOO:
+                return EBool.make(in.get() != 0);
+            case IDA:
+                return new EIdArray(datas, readString(in), in.getInt());
+            case IDE:
+                return new EIdentifier(datas, readString(in));
+            case INT:
+                return EInt.make(in.getInt());
+            case SET_B:
+                return new ESetBounds(EInt.make(in.getInt()), EInt.make(in.getInt()));
+            case SET_L:
+                return new ESetList(toEInts(readInts(in)));
+            case STR:
+                return new EString(readString(in));
+            default:
+                throw new ParserException("Unknown expression type: " + type);
+        }
+    }
+
+    static void writeAll(DataOutputStream out, List<? extends Expression> exps) throws IOException {
+        if (exps == null) {
+            out.writeInt(NULL);
+            return;
+        }
+        out.writeInt(exps.size());
+        for (Expression e : exps) {
+            write(out, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Expression> List<E> readAll(ByteBuffer in, Datas datas) {
+        int size = in.getInt();
+        if (size == NULL) {
+            return null;
+        }
+        List<E> exps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            exps.add((E) readExpression(in, datas));
+        }
+        return exps;
+    }
+}
@@ -0,0 +1,719 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.parser.flatzinc.ast.FConstraint;
+import org.chocosolver.parser.flatzinc.ast.FGoal;
+import org.chocosolver.parser.flatzinc.ast.FParameter;
+import org.chocosolver.parser.flatzinc.ast.FVariable;
+import org.chocosolver.parser.flatzinc.ast.declaration.*;
+import org.chocosolver.parser.flatzinc.ast.expression.*;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A streaming FlatZinc reader, an alternative to the {@link Flatzinc4Parser} generated by ANTLR.
+ * <p>
+ * The input is read by chunks into a byte buffer and analysed byte per byte: no token object is created,
+ * integer literals are decoded on the fly and arrays of integer constants are stored as plain <code>int[]</code>
+ * (see {@link EArray#ofInts(int[])}).
+ * Each item is built into the model as soon as it is read, like {@link Flatzinc4Parser} does.
+ * </p>
+ * <p>
+ * It recognizes the same language as the grammar <i>Flatzinc4Parser.g4</i>.
+ * </p>
+ * <p>
+ * In two-phase mode, constraints are not built as soon as they are read but once all of them are read.
+ * Then, what does not depend on the model (see {@link FConstraint#prepare(List)}) is computed in parallel,
+ * on the common {@link java.util.concurrent.ForkJoinPool}, and the constraints are posted in reading order.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public final class FlatzincReader {
+
+    private static final int EOF = -1;
+
+    /**
+     * The model to feed
+     */
+    private final Model model;
+    /**
+     * The data associated with {@link #model}
+     */
+    private final Datas datas;
+    /**
+     * When not null, records the parsed items
+     */
+    private final FlatzincTemplate template;
+    /**
+     * Set to <i>true</i> to prepare the constraints in parallel before posting them
+     */
+    private final boolean twoPhases;
+    /**
+     * Constraints read but not built yet, in two-phase mode
+     */
+    private final List<Pending> pending = new ArrayList<>();
+
+    private ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    /**
+     * Position of the next byte to read in {@link #bytes}
+     */
+    private int pos;
+    /**
+     * Number of valid bytes in {@link #bytes}
+     */
+    private int limit;
+    /**
+     * Current line, for error messages
+     */
+    private int line = 1;
+    /**
+     * Temporary storage for identifiers
+     */
+    private final StringBuilder sb = new StringBuilder();
+    /**
+     * Temporary storage for arrays of integers
+     */
+    private int[] ints = new int[64];
+
+    /**
+     * Create a reader that feeds <i>model</i>.
+     *
+     * @param model    the model to feed
+     * @param datas    the data associated with <i>model</i>
+     * @param template if not null, records the parsed items
+     */
+    public FlatzincReader(Model model, Datas datas, FlatzincTemplate template) {
+        this(model, datas, template, false);
+    }
+
+    /**
+     * Create a reader that feeds <i>model</i>.
+     *
+     * @param model     the model to feed
+     * @param datas     the data associated with <i>model</i>
+     * @param template  if not null, records the parsed items
+     * @param twoPhases set to <i>true</i> to prepare the constraints in parallel before posting them
+     */
+    public FlatzincReader(Model model, Datas datas, FlatzincTemplate template, boolean twoPhases) {
+        this.model = model;
+        this.datas = datas;
+        this.template = template;
+        this.twoPhases = twoPhases;
+        this.bytes = new byte[1 << 16];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Read a FlatZinc model from <i>channel</i> and build it.
+     *
+     * @param channel a FlatZinc model
+     * @throws IOException     if the channel cannot be read
+     * @throws ParserException if the model is not well-formed
+     */
+    public void read(ReadableByteChannel channel) throws IOException {
+        this.channel = channel;
+        this.pos = this.limit = 0;
+        this.line = 1;
+        while (skip() != EOF) {
+            String keyword = identifier();
+            switch (keyword) {
+                case "predicate":
+                    predicate();
+                    break;
+                case "array":
+                case "var":
+                case "bool":
+                case "float":
+                case "int":
+                case "set":
+                    declaration(keyword);
+                    break;
+                case "constraint":
+                    constraint();
+                    break;
+                case "solve":
+                    solve();
+                    break;
+                default:
+                    throw error("unexpected '" + keyword + "'");
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Build the pending constraints: prepare them in parallel, then post them in reading order
+     */
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        IntStream.range(0, pending.size()).parallel()
+                .forEach(i -> pending.get(i).prepared = pending.get(i).fc.prepare(pending.get(i).exps));
+        for (Pending p : pending) {
+            datas.incCstrCounter(p.name);
+            p.fc.build(model, datas, p.name, p.exps, p.annotations, p.prepared);
+        }
+        pending.clear();
+    }
+
+    //***********************************************************************************
+    // ITEMS
+    //***********************************************************************************
+
+    /**
+     * Predicate declarations are ignored
+     */
+    private void predicate() throws IOException {
+        int c;
+        while ((c = next()) != ';') {
+            if (c == EOF) {
+                throw error("unexpected end of file in predicate declaration");
+            }
+        }
+    }
+
+    /**
+     * A parameter or a variable declaration, <i>keyword</i> being already read
+     */
+    private void declaration(String keyword) throws IOException {
+        flush();
+        boolean var;
+        Declaration type;
+        if (keyword.equals("array")) {
+            List<Declaration> indices = new ArrayList<>(1);
+            expect('[');
+            do {
+                indices.add(indexSet());
+            } while (accept(','));
+            expect(']');
+            keyword("of");
+            String k = identifier();
+            var = k.equals("var");
+            Declaration what = var ? varType(peekIdentifier() ? identifier() : null) : parType(k);
+            type = new DArray(indices, what);
+        } else if (keyword.equals("var")) {
+            var = true;
+            type = varType(peekIdentifier() ? identifier() : null);
+        } else {
+            var = false;
+            type = parType(keyword);
+        }
+        expect(':');
+        String id = identifier();
+        if (var) {
+            List<EAnnotation> annotations = annotations();
+            Expression expression = null;
+            if (accept('=')) {
+                expression = expr();
+            }
+            expect(';');
+            FVariable.make_variable(datas, type, id, annotations, expression, model);
+            if (template != null) template.variable(type, id, annotations, expression);
+        } else {
+            expect('=');
+            Expression expression = expr();
+            expect(';');
+            FParameter.make_parameter(datas, type, id, expression);
+            if (template != null) template.parameter(type, id, expression);
+        }
+    }
+
+    private Declaration parType(String keyword) throws IOException {
+        switch (keyword) {
+            case "bool":
+                return DBool.me;
+            case "float":
+                return DFloat.me;
+            case "int":
+                return DInt.me;
+            case "set":
+                keyword("of");
+                keyword("int");
+                return DSetOfInt.me;
+            default:
+                throw error("unexpected parameter type '" + keyword + "'");
+        }
+    }
+
+    /**
+     * @param keyword the keyword read after <i>var</i>, or null if the type is a range or a set of integers
+     */
+    private Declaration varType(String keyword) throws IOException {
+        if (keyword == null) {
+            return intDomain();
+        }
+        switch (keyword) {
+            case "bool":
+                return DBool.me;
+            case "float":
+                return DFloat.me;
+            case "int":
+                return DInt.me;
+            case "set":
+                keyword("of");
+                return new DSet(intDomain());
+            default:
+                throw error("unexpected variable type '" + keyword + "'");
+        }
+    }
+
+    /**
+     * Either <i>l..u</i> or <i>{v1, ..., vn}</i>
+     */
+    private Declaration intDomain() throws IOException {
+        if (accept('{')) {
+            int n = intList('}');
+            List<EInt> values = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                values.add(EInt.make(ints[i]));
+            }
+            return new DManyInt(values);
+        }
+        int low = integer();
+        expect('.');
+        expect('.');
+        return new DInt2(EInt.make(low), EInt.make(integer()));
+    }
+
+    private Declaration indexSet() throws IOException {
+        if (peekIdentifier()) {
+            keyword("int");
+            return DInt.me;
+        }
+        int low = integer();
+        expect('.');
+        expect('.');
+        return new DInt2(EInt.make(low), EInt.make(integer()));
+    }
+
+    private void constraint() throws IOException {
+        String name = identifier();
+        expect('(');
+        List<Expression> exps = new ArrayList<>();
+        do {
+            exps.add(expr());
+        } while (accept(','));
+        expect(')');
+        List<EAnnotation> annotations = annotations();
+        expect(';');
+        FConstraint fc;
+        try {
+            fc = FConstraint.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw error("unknown constraint '" + name + "'");
+        }
+        if (twoPhases) {
+            pending.add(new Pending(name, fc, exps, annotations));
+        } else {
+            datas.incCstrCounter(name);
+            fc.build(model, datas, name, exps, annotations);
+        }
+        if (template != null) template.constraint(name, exps, annotations);
+    }
+
+    private void solve() throws IOException {
+        flush();
+        List<EAnnotation> annotations = annotations();
+        String k = identifier();
+        ResolutionPolicy policy;
+        Expression objective = null;
+        switch (k) {
+            case "satisfy":
+                policy = ResolutionPolicy.SATISFACTION;
+                break;
+            case "minimize":
+                policy = ResolutionPolicy.MINIMIZE;
+                objective = expr();
+                break;
+            case "maximize":
+                policy = ResolutionPolicy.MAXIMIZE;
+                objective = expr();
+                break;
+            default:
+                throw error("unexpected '" + k + "' in solve item");
+        }
+        expect(';');
+        FGoal.define_goal(model, annotations, policy, objective);
+        if (template != null) template.goal(annotations, policy, objective);
+    }
+
+    //***********************************************************************************
+    // EXPRESSIONS
+    //***********************************************************************************
+
+    private List<EAnnotation> annotations() throws IOException {
+        List<EAnnotation> annotations = new ArrayList<>();
+        while (skip() == ':' && peek(1) == ':') {
+            pos += 2;
+            String id = identifier();
+            List<Expression> exps = new ArrayList<>();
+            if (accept('(')) {
+                do {
+                    exps.add(expr());
+                } while (accept(','));
+                expect(')');
+            }
+            annotations.add(new EAnnotation(new EIdentifier(datas, id), exps));
+        }
+        return annotations;
+    }
+
+    private Expression expr() throws IOException {
+        int c = skip();
+        switch (c) {
+            case '{': {
+                pos++;
+                int n = intList('}');
+                List<EInt> values = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    values.add(EInt.make(ints[i]));
+                }
+                return new ESetList(values);
+            }
+            case '[':
+                pos++;
+                return array();
+            case '"':
+                return string();
+            default:
+                if (isDigit(c) || c == '-' || c == '+') {
+                    int i1 = integer();
+                    if (skip() == '.' && peek(1) == '.') {
+                        pos += 2;
+                        return new ESetBounds(EInt.make(i1), EInt.make(integer()));
+                    }
+                    return EInt.make(i1);
+                }
+                String id = identifier();
+                switch (id) {
+                    case "true":
+                        return EBool.make(true);
+                    case "false":
+                        return EBool.make(false);
+                }
+                if (accept('(')) {
+                    List<Expression> exps = new ArrayList<>();
+                    do {
+                        exps.add(expr());
+                    } while (accept(','));
+                    expect(')');
+                    return new EAnnotation(new EIdentifier(datas, id), exps);
+                }
+                if (accept('[')) {
+                    int i = integer();
+                    expect(']');
+                    return new EIdArray(datas, id, i);
+                }
+                return new EIdentifier(datas, id);
+        }
+    }
+
+    /**
+     * An array, '[' being already read.
+     * Leading integer constants are accumulated in {@link #ints},
+     * they are turned into expressions only when an element of another kind is met.
+     */
+    private Expression array() throws IOException {
+        if (accept(']')) {
+            return new EArray();
+        }
+        int n = 0;
+        List<Expression> exps = null;
+        do {
+            int c = skip();
+            if (exps == null && (isDigit(c) || c == '-' || c == '+')) {
+                int v = integer();
+                if (skip() == '.' && peek(1) == '.') {
+                    pos += 2;
+                    exps = toExpressions(n);
+                    exps.add(new ESetBounds(EInt.make(v), EInt.make(integer())));
+                } else {
+                    push(n++, v);
+                }
+            } else {
+                if (exps == null) {
+                    exps = toExpressions(n);
+                }
+                exps.add(expr());
+            }
+        } while (accept(','));
+        expect(']');
+        if (exps == null) {
+            return EArray.ofInts(Arrays.copyOf(ints, n));
+        }
+        return new EArray(exps);
+    }
+
+    private List<Expression> toExpressions(int n) {
+        List<Expression> exps = new ArrayList<>(Math.max(n * 2, 8));
+        for (int i = 0; i < n; i++) {
+            exps.add(EInt.make(ints[i]));
+        }
+        return exps;
+    }
+
+    /**
+     * Read integers separated by commas until <i>close</i>, into {@link #ints}
+     *
+     * @return the number of integers read
+     */
+    private int intList(char close) throws IOException {
+        int n = 0;
+        if (!accept(close)) {
+            do {
+                push(n++, integer());
+            } while (accept(','));
+            expect(close);
+        }
+        return n;
+    }
+
+    private void push(int i, int v) {
+        if (i == ints.length) {
+            ints = Arrays.copyOf(ints, ints.length * 2);
+        }
+        ints[i] = v;
+    }
+
+    /**
+     * A string, with its quotes, as the ANTLR lexer keeps them
+     */
+    private Expression string() throws IOException {
+        ByteArrayBuilder str = new ByteArrayBuilder();
+        str.add(bytes[pos++]);
+        int c;
+        while ((c = next()) != '"') {
+            if (c == EOF) {
+                throw error("unexpected end of file in string");
+            }
+            str.add((byte) c);
+            if (c == '\\') {
+                c = next();
+                if (c == EOF) {
+                    throw error("unexpected end of file in string");
+                }
+                str.add((byte) c);
+            }
+        }
+        str.add((byte) '"');
+        return new EString(str.toString());
+    }
+
+    //***********************************************************************************
+    // LEXICAL ANALYSIS
+    //***********************************************************************************
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(int c) {
+        return isIdentifierStart(c) || isDigit(c);
+    }
+
+    /**
+     * Make sure that at least <i>n</i> bytes are available, unless the end of the input is reached
+     *
+     * @return <i>true</i> if <i>n</i> bytes are available
+     */
+    private boolean ensure(int n) throws IOException {
+        while (limit - pos < n) {
+            if (pos > 0) {
+                System.arraycopy(bytes, pos, bytes, 0, limit - pos);
+                limit -= pos;
+                pos = 0;
+            }
+            buffer.clear().position(limit);
+            int r = channel.read(buffer);
+            if (r < 0) {
+                return false;
+            }
+            limit += r;
+        }
+        return true;
+    }
+
+    /**
+     * @return the byte at offset <i>k</i> from the current position, or {@link #EOF}
+     */
+    private int peek(int k) throws IOException {
+        return ensure(k + 1) ? bytes[pos + k] : EOF;
+    }
+
+    private int next() throws IOException {
+        if (pos == limit && !ensure(1)) {
+            return EOF;
+        }
+        byte c = bytes[pos++];
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    /**
+     * Skip white spaces and comments
+     *
+     * @return the next significant byte, not consumed, or {@link #EOF}
+     */
+    private int skip() throws IOException {
+        while (true) {
+            if (pos == limit && !ensure(1)) {
+                return EOF;
+            }
+            byte c = bytes[pos];
+            if (c == '\n') {
+                line++;
+                pos++;
+            } else if (c == ' ' || c == '\t' || c == '\r') {
+                pos++;
+            } else if (c == '%') {
+                int d;
+                do {
+                    d = next();
+                } while (d != '\n' && d != EOF);
+            } else {
+                return c;
+            }
+        }
+    }
+
+    private boolean accept(char c) throws IOException {
+        if (skip() == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) throws IOException {
+        if (!accept(c)) {
+            int d = skip();
+            throw error("'" + c + "' expected but " + (d == EOF ? "end of file" : "'" + (char) d + "'") + " found");
+        }
+    }
+
+    private void keyword(String keyword) throws IOException {
+        String k = identifier();
+        if (!k.equals(keyword)) {
+            throw error("'" + keyword + "' expected but '" + k + "' found");
+        }
+    }
+
+    private boolean peekIdentifier() throws IOException {
+        return isIdentifierStart(skip());
+    }
+
+    private String identifier() throws IOException {
+        int c = skip();
+        if (!isIdentifierStart(c)) {
+            throw error("identifier expected but " + (c == EOF ? "end of file" : "'" + (char) c + "'") + " found");
+        }
+        sb.setLength(0);
+        do {
+            sb.append((char) c);
+            pos++;
+            c = pos < limit || ensure(1) ? bytes[pos] : EOF;
+        } while (isIdentifierPart(c));
+        return sb.toString();
+    }
+
+    /**
+     * Read an integer constant, with an optional sign
+     */
+    private int integer() throws IOException {
+        int c = skip();
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            pos++;
+            c = pos < limit || ensure(1) ? bytes[pos] : EOF;
+        }
+        if (!isDigit(c)) {
+            throw error("integer expected but " + (c == EOF ? "end of file" : "'" + (char) c + "'") + " found");
+        }
+        long value = 0;
+        do {
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw error("integer out of range");
+            }
+            pos++;
+            c = pos < limit || ensure(1) ? bytes[pos] : EOF;
+        } while (isDigit(c));
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw error("integer out of range");
+        }
+        return (int) value;
+    }
+
+    private ParserException error(String message) {
+        return new ParserException("FlatZinc, line " + line + ": " + message);
+    }
+
+    /**
+     * A constraint waiting to be built
+     */
+    private static final class Pending {
+        final String name;
+        final FConstraint fc;
+        final List<Expression> exps;
+        final List<EAnnotation> annotations;
+        Object prepared;
+
+        Pending(String name, FConstraint fc, List<Expression> exps, List<EAnnotation> annotations) {
+            this.name = name;
+            this.fc = fc;
+            this.exps = exps;
+            this.annotations = annotations;
+        }
+    }
+
+    /**
+     * A growable array of bytes, decoded as UTF-8
+     */
+    private static final class ByteArrayBuilder {
+        private byte[] data = new byte[32];
+        private int size;
+
+        void add(byte b) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = b;
+        }
+
+        @Override
+        public String toString() {
+            return new String(data, 0, size, StandardCharsets.UTF_8);
+        }
+    }
+}
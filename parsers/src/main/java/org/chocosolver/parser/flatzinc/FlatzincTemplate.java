@@ -0,0 +1,299 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.parser.flatzinc.ast.FConstraint;
+import org.chocosolver.parser.flatzinc.ast.FGoal;
+import org.chocosolver.parser.flatzinc.ast.FParameter;
+import org.chocosolver.parser.flatzinc.ast.FVariable;
+import org.chocosolver.parser.flatzinc.ast.declaration.Declaration;
+import org.chocosolver.parser.flatzinc.ast.expression.EAnnotation;
+import org.chocosolver.parser.flatzinc.ast.expression.Expression;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A parsed FlatZinc model, from which any number of {@link Model}s can be built without parsing the file again.
+ * <p>
+ * The template is filled by the {@link Flatzinc4Parser} while it builds a first model,
+ * it records each item (parameter, variable, constraint and solve goal) with its parsed expressions.
+ * Then, {@link #instantiate(Model, Datas)} replays the items on another model,
+ * identifiers of the expressions being resolved against the data of that model.
+ * </p>
+ * <p>
+ * Once filled, a template is not modified anymore: several models can be instantiated from it concurrently,
+ * as long as each thread works on its own model and data.
+ * </p>
+ * <p>
+ * A template can be saved in a binary form, with {@link #save(Path)}, and loaded back with {@link #load(Path)}.
+ * The binary file is memory-mapped and decoded while instantiating, so that large arrays,
+ * like tuples or cost matrices, are read in bulk instead of being parsed again.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public final class FlatzincTemplate {
+
+    /**
+     * Magic number of the binary format, "FZNB"
+     */
+    private static final int MAGIC = 0x465A4E42;
+    /**
+     * Version of the binary format
+     */
+    private static final int VERSION = 1;
+    private static final byte PARAMETER = 0;
+    private static final byte VARIABLE = 1;
+    private static final byte CONSTRAINT = 2;
+    private static final byte GOAL = 3;
+
+    /**
+     * A FlatZinc item
+     */
+    private interface Item {
+        void apply(Model model, Datas datas);
+
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Items, in parsing order
+     */
+    private final List<Item> items = new ArrayList<>();
+
+    /**
+     * Binary form of the items, when the template is loaded from a file
+     */
+    private final ByteBuffer mapped;
+
+    /**
+     * Number of items in {@link #mapped}
+     */
+    private final int nbMapped;
+
+    public FlatzincTemplate() {
+        this(null, 0);
+    }
+
+    private FlatzincTemplate(ByteBuffer mapped, int nbMapped) {
+        this.mapped = mapped;
+        this.nbMapped = nbMapped;
+    }
+
+    /**
+     * Record a parameter declaration
+     */
+    void parameter(Declaration type, String identifier, Expression expression) {
+        items.add(new Item() {
+            @Override
+            public void apply(Model m, Datas d) {
+                FParameter.make_parameter(d, type, identifier, expression.bind(d));
+            }
+
+            @Override
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(PARAMETER);
+                FlatzincBinary.write(out, type);
+                FlatzincBinary.writeString(out, identifier);
+                FlatzincBinary.write(out, expression);
+            }
+        });
+    }
+
+    /**
+     * Record a variable declaration
+     */
+    void variable(Declaration type, String identifier, List<EAnnotation> annotations, Expression expression) {
+        items.add(new Item() {
+            @Override
+            public void apply(Model m, Datas d) {
+                FVariable.make_variable(d, type, identifier,
+                        Expression.bindAll(annotations, d),
+                        expression == null ? null : expression.bind(d), m);
+            }
+
+            @Override
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(VARIABLE);
+                FlatzincBinary.write(out, type);
+                FlatzincBinary.writeString(out, identifier);
+                FlatzincBinary.writeAll(out, annotations);
+                FlatzincBinary.write(out, expression);
+            }
+        });
+    }
+
+    /**
+     * Record a constraint
+     */
+    void constraint(String name, List<Expression> exps, List<EAnnotation> annotations) {
+        FConstraint fc = FConstraint.valueOf(name);
+        items.add(new Item() {
+            @Override
+            public void apply(Model m, Datas d) {
+                d.incCstrCounter(name);
+                fc.build(m, d, name, Expression.bindAll(exps, d), Expression.bindAll(annotations, d));
+            }
+
+            @Override
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(CONSTRAINT);
+                FlatzincBinary.writeString(out, name);
+                FlatzincBinary.writeAll(out, exps);
+                FlatzincBinary.writeAll(out, annotations);
+            }
+        });
+    }
+
+    /**
+     * Record the solve goal
+     */
+    void goal(List<EAnnotation> annotations, ResolutionPolicy type, Expression expr) {
+        items.add(new Item() {
+            @Override
+            public void apply(Model m, Datas d) {
+                FGoal.define_goal(m, Expression.bindAll(annotations, d), type,
+                        expr == null ? null : expr.bind(d));
+            }
+
+            @Override
+            public void write(DataOutputStream out) throws IOException {
+                out.writeByte(GOAL);
+                FlatzincBinary.writeAll(out, annotations);
+                out.writeByte(type.ordinal());
+                FlatzincBinary.write(out, expr);
+            }
+        });
+    }
+
+    /**
+     * Build the recorded FlatZinc model into <i>target</i>.
+     *
+     * @param target the model to feed
+     * @param datas  the data associated with <i>target</i>
+     */
+    public void instantiate(Model target, Datas datas) {
+        if (mapped != null) {
+            // each call reads through its own view of the mapped file
+            ByteBuffer in = mapped.duplicate();
+            for (int i = 0; i < nbMapped; i++) {
+                read(in, target, datas);
+            }
+        }
+        for (Item item : items) {
+            item.apply(target, datas);
+        }
+    }
+
+    /**
+     * Read the next item from <i>in</i> and build it into <i>target</i>,
+     * identifiers being resolved while reading.
+     */
+    private static void read(ByteBuffer in, Model target, Datas datas) {
+        byte kind = in.get();
+        switch (kind) {
+            case PARAMETER: {
+                Declaration type = FlatzincBinary.readDeclaration(in);
+                String identifier = FlatzincBinary.readString(in);
+                FParameter.make_parameter(datas, type, identifier, FlatzincBinary.readExpression(in, datas));
+                break;
+            }
+            case VARIABLE: {
+                Declaration type = FlatzincBinary.readDeclaration(in);
+                String identifier = FlatzincBinary.readString(in);
+                List<EAnnotation> annotations = FlatzincBinary.readAll(in, datas);
+                FVariable.make_variable(datas, type, identifier, annotations,
+                        FlatzincBinary.readExpression(in, datas), target);
+                break;
+            }
+            case CONSTRAINT: {
+                String name = FlatzincBinary.readString(in);
+                List<Expression> exps = FlatzincBinary.readAll(in, datas);
+                List<EAnnotation> annotations = FlatzincBinary.readAll(in, datas);
+                datas.incCstrCounter(name);
+                FConstraint.valueOf(name).build(target, datas, name, exps, annotations);
+                break;
+            }
+            case GOAL: {
+                List<EAnnotation> annotations = FlatzincBinary.readAll(in, datas);
+                ResolutionPolicy type = ResolutionPolicy.values()[in.get()];
+                FGoal.define_goal(target, annotations, type, FlatzincBinary.readExpression(in, datas));
+                break;
+            }
+            default:
+                throw new ParserException("Corrupted binary FlatZinc file: unknown item " + kind);
+        }
+    }
+
+    /**
+     * @return the number of recorded items
+     */
+    public int size() {
+        return nbMapped + items.size();
+    }
+
+    /**
+     * Write the recorded items into <i>path</i>, in a compact binary form
+     * that can be loaded back with {@link #load(Path)} without parsing the FlatZinc file again.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        if (mapped != null) {
+            throw new ParserException("A template loaded from a binary file cannot be saved");
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(items.size());
+            for (Item item : items) {
+                item.write(out);
+            }
+        }
+    }
+
+    /**
+     * Load a template written by {@link #save(Path)}.
+     * The file is memory-mapped, items are decoded on each call to {@link #instantiate(Model, Datas)}.
+     *
+     * @param path the binary file to read
+     * @return a template to instantiate models from
+     * @throws IOException if the file cannot be read
+     */
+    public static FlatzincTemplate load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (channel.size() < 12 || in.getInt() != MAGIC) {
+                throw new ParserException(path + " is not a binary FlatZinc file");
+            }
+            int version = in.getInt();
+            if (version != VERSION) {
+                throw new ParserException("Unsupported binary FlatZinc version: " + version);
+            }
+            int nbItems = in.getInt();
+            return new FlatzincTemplate(in.slice(), nbItems);
+        }
+    }
+}
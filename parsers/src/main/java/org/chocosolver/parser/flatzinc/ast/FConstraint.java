@@ -28,6 +28,7 @@ import org.chocosolver.util.tools.VariableUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -1411,6 +1412,17 @@ public enum FConstraint {
         }
     },
     regularChoco {
+        @Override
+        public Object prepare(List<Expression> exps) {
+            return fzn_regular.prepare(exps);
+        }
+
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations,
+                          Object prepared) {
+            fzn_regular.build(model, datas, id, exps, annotations, prepared);
+        }
+
         @Override
         public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
             fzn_regular.build(model, datas, id, exps, annotations);
@@ -1418,11 +1430,9 @@ public enum FConstraint {
     },
     fzn_regular {
         @Override
-        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
-
+        public Object prepare(List<Expression> exps) {
             //        array[int] of var int: x, int: Q, int: S,
             //        array[int,int] of int: d, int: q0, set of int: F
-            IntVar[] vars = exps.get(0).toIntVarArray(model);
             int Q = exps.get(1).intValue();
             int S = exps.get(2).intValue();
             int[] d = exps.get(3).toIntArray();
@@ -1441,12 +1451,57 @@ public enum FConstraint {
                     }
                 }
             }
-            //        auto.removeDeadTransitions();
-            //        auto.minimize();
+            // done here rather than in build, as it does not depend on the model
+            auto.removeDeadTransitions();
+            auto.minimize();
+            return renumber(auto);
+        }
+
+        /**
+         * The minimization numbers the states in hash order, which changes from one run to the other.
+         *
+         * @return a copy of <i>auto</i> whose states are numbered in BFS order from the initial state,
+         * over the transitions sorted by symbol
+         */
+        private FiniteAutomaton renumber(FiniteAutomaton auto) {
+            int[] index = new int[auto.getNbStates()];
+            Arrays.fill(index, -1);
+            int[] order = new int[index.length];
+            int size = 0;
+            index[auto.getInitialState()] = size;
+            order[size++] = auto.getInitialState();
+            FiniteAutomaton copy = new FiniteAutomaton();
+            copy.addState();
+            copy.setInitialState(0);
+            for (int k = 0; k < size; k++) {
+                if (auto.isFinal(order[k])) {
+                    copy.setFinal(k);
+                }
+                List<int[]> transitions = auto.getTransitions(order[k]);
+                transitions.sort(Comparator.comparingInt(t -> t[2]));
+                for (int[] t : transitions) {
+                    if (index[t[1]] < 0) {
+                        index[t[1]] = size;
+                        order[size++] = t[1];
+                        copy.addState();
+                    }
+                    copy.addTransition(k, index[t[1]], t[2]);
+                }
+            }
+            return copy;
+        }
 
-            model.regularDec(vars, auto);//.post();
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations,
+                          Object prepared) {
+            IntVar[] vars = exps.get(0).toIntVarArray(model);
+            model.regularDec(vars, (FiniteAutomaton) prepared);//.post();
 //            model.regular(vars, auto).post();
+        }
 
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
+            build(model, datas, id, exps, annotations, prepare(exps));
         }
     },
     sortChoco {
@@ -1488,6 +1543,17 @@ public enum FConstraint {
         }
     },
     tableChoco {
+        @Override
+        public Object prepare(List<Expression> exps) {
+            return choco_fzn_table.prepare(exps);
+        }
+
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations,
+                          Object prepared) {
+            choco_fzn_table.build(model, datas, id, exps, annotations, prepared);
+        }
+
         @Override
         public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
             choco_fzn_table.build(model, datas, id, exps, annotations);
@@ -1495,27 +1561,49 @@ public enum FConstraint {
     },
     choco_fzn_table {
         @Override
-        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
-
+        public Object prepare(List<Expression> exps) {
             // array[int] of var int: x, array[int, int] of int: t
-            IntVar[] x = exps.get(0).toIntVarArray(model);
             int[] f_t = exps.get(1).toIntArray();
-            int d2 = x.length;
+            int d2 = exps.get(0).arrayLength();
             int d1 = f_t.length / d2;
-            List<int[]> t = new ArrayList<>();
+            int[][] rows = new int[d1][];
             for (int i = 0; i < d1; i++) {
-                t.add(Arrays.copyOfRange(f_t, i * d2, (i + 1) * d2));
+                rows[i] = Arrays.copyOfRange(f_t, i * d2, (i + 1) * d2);
             }
+            // sorted and without duplicates, so that the table propagator has less to filter
+            Arrays.sort(rows, (t1, t2) -> {
+                for (int j = 0; j < d2; j++) {
+                    if (t1[j] != t2[j]) {
+                        return Integer.compare(t1[j], t2[j]);
+                    }
+                }
+                return 0;
+            });
             Tuples tuples = new Tuples(true);
-            for (int[] couple : t) {
-                tuples.add(couple);
+            for (int i = 0; i < d1; i++) {
+                if (i == 0 || !Arrays.equals(rows[i - 1], rows[i])) {
+                    tuples.add(rows[i]);
+                }
             }
+            return tuples;
+        }
+
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations,
+                          Object prepared) {
+            IntVar[] x = exps.get(0).toIntVarArray(model);
+            Tuples tuples = (Tuples) prepared;
             if (x.length == 2) {
                 model.table(x[0], x[1], tuples).post();
             } else {
                 model.table(x, tuples).post();
             }
         }
+
+        @Override
+        public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations) {
+            build(model, datas, id, exps, annotations, prepare(exps));
+        }
     },
     value_precede_chain_intChoco {
         @Override
@@ -2434,4 +2522,27 @@ public enum FConstraint {
 
 
     public abstract void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations);
+
+    /**
+     * Compute the part of the constraint construction that does not depend on the model,
+     * like tuples or automata, so that it can be done in parallel with other constraints.
+     * This method may be called concurrently: it must neither modify the model nor the data.
+     *
+     * @param exps the arguments of the constraint
+     * @return the data to give to {@link #build(Model, Datas, String, List, List, Object)},
+     * or <i>null</i> if there is nothing to prepare
+     */
+    public Object prepare(List<Expression> exps) {
+        return null;
+    }
+
+    /**
+     * Build the constraint with the data computed by {@link #prepare(List)}.
+     *
+     * @param prepared the value returned by {@link #prepare(List)}
+     */
+    public void build(Model model, Datas datas, String id, List<Expression> exps, List<EAnnotation> annotations,
+                      Object prepared) {
+        build(model, datas, id, exps, annotations);
+    }
 }
@@ -136,9 +136,14 @@ public final class FParameter {
             case INT:
             case INT2:
             case INTN:
-                int[] iarr = new int[size];
-                for (int i = 0; i < size; i++) {
-                    iarr[i] = ((EInt) value.getWhat_i(i)).value;
+                int[] iarr;
+                if (value.isIntArray()) {
+                    iarr = value.toIntArray();
+                } else {
+                    iarr = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        iarr[i] = ((EInt) value.getWhat_i(i)).value;
+                    }
                 }
                 datas.register(name, iarr);
                 break;
@@ -10,6 +10,8 @@
 package org.chocosolver.parser.flatzinc.ast.expression;
 
 
+import org.chocosolver.parser.flatzinc.ast.Datas;
+
 import java.util.List;
 
 /*
@@ -31,6 +33,11 @@ public final class EAnnotation extends Expression {
         this.exps = exps;
     }
 
+    @Override
+    public Expression bind(Datas datas) {
+        return new EAnnotation((EIdentifier) id.bind(datas), bindAll(exps, datas));
+    }
+
     @Override
     public String toString() {
         StringBuilder st = new StringBuilder(id.value);
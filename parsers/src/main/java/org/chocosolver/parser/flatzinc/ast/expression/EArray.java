@@ -9,11 +9,13 @@
  */
 package org.chocosolver.parser.flatzinc.ast.expression;
 
+import org.chocosolver.parser.flatzinc.ast.Datas;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
 
+import java.util.AbstractList;
 import java.util.Collections;
 import java.util.List;
 
@@ -29,20 +31,66 @@ public final class EArray extends Expression {
 
     public final List<Expression> what;
 
+    /**
+     * Values of the array when it only contains integer constants, null otherwise
+     */
+    private final int[] values;
+
     public EArray(List<Expression> what) {
         super(EType.ARR);
         this.what = what;
+        this.values = null;
     }
 
     public EArray() {
         super(EType.ARR);
         this.what = Collections.emptyList();
+        this.values = null;
+    }
+
+    private EArray(int[] values) {
+        super(EType.ARR);
+        this.values = values;
+        this.what = new AbstractList<Expression>() {
+            @Override
+            public Expression get(int index) {
+                return EInt.make(values[index]);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * Create an array of integer constants, stored as is.
+     * Its elements are only turned into {@link EInt} on demand.
+     *
+     * @param values the integer constants, not copied
+     * @return an array expression
+     */
+    public static EArray ofInts(int[] values) {
+        return new EArray(values);
+    }
+
+    /**
+     * @return <i>true</i> if this array only contains integer constants
+     */
+    public boolean isIntArray() {
+        return values != null;
     }
 
     public Expression getWhat_i(int i) {
         return what.get(i);
     }
 
+    @Override
+    public Expression bind(Datas datas) {
+        return what.isEmpty() || values != null ? this : new EArray(bindAll(what, datas));
+    }
+
     @Override
     public String toString() {
         StringBuilder st = new StringBuilder("[");
@@ -54,8 +102,16 @@ public final class EArray extends Expression {
     }
 
 
+    @Override
+    public int arrayLength() {
+        return what.size();
+    }
+
     @Override
     public int[] toIntArray() {
+        if (values != null) {
+            return values.clone();
+        }
         int[] arr = new int[what.size()];
         for (int i = 0; i < what.size(); i++) {
             arr[i] = what.get(i).intValue();
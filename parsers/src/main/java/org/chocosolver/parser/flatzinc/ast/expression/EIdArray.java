@@ -45,6 +45,11 @@ public final class EIdArray extends Expression {
         }
     }
 
+    @Override
+    public Expression bind(Datas datas) {
+        return new EIdArray(datas, name, index);
+    }
+
     @Override
     public String toString() {
         return name + '[' + index + ']';
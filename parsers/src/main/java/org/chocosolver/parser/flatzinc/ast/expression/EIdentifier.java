@@ -10,12 +10,15 @@
 package org.chocosolver.parser.flatzinc.ast.expression;
 
 import org.chocosolver.parser.Exit;
+import org.chocosolver.parser.ParserException;
 import org.chocosolver.parser.flatzinc.ast.Datas;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
 
+import java.lang.reflect.Array;
+
 
 /*
  * User : CPRUDHOM
@@ -37,6 +40,11 @@ public final class EIdentifier extends Expression {
         object = datas.get(value);
     }
 
+    @Override
+    public Expression bind(Datas datas) {
+        return new EIdentifier(datas, value);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -47,6 +55,14 @@ public final class EIdentifier extends Expression {
         return (Integer) object;
     }
 
+    @Override
+    public int arrayLength() {
+        if (object.getClass().isArray()) {
+            return Array.getLength(object);
+        }
+        throw new ParserException("Identifier " + value + " does not refer to an array");
+    }
+
     @Override
     public int[] toIntArray() {
         if (bool_arr.isInstance(object)) {
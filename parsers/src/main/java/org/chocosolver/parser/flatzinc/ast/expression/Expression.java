@@ -11,12 +11,17 @@ package org.chocosolver.parser.flatzinc.ast.expression;
 
 
 import org.chocosolver.parser.Exit;
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Datas;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.Variable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /*
 * User : CPRUDHOM
 * Mail : cprudhom(a)emn.fr
@@ -48,6 +53,49 @@ public abstract class Expression {
         return typeOf;
     }
 
+    /**
+     * Get a copy of this {@link Expression} whose identifiers are resolved in <i>datas</i>.
+     * Constant expressions are shared.
+     *
+     * @param datas the data to resolve identifiers
+     * @return an expression bound to <i>datas</i>
+     */
+    public Expression bind(Datas datas) {
+        return this;
+    }
+
+    /**
+     * Bind each expression of <i>exps</i> to <i>datas</i>
+     *
+     * @param exps  a list of expressions, can be null
+     * @param datas the data to resolve identifiers
+     * @param <E>   the type of expressions
+     * @return a new list of expressions bound to <i>datas</i>, or null if <i>exps</i> is null
+     * @see #bind(Datas)
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Expression> List<E> bindAll(List<E> exps, Datas datas) {
+        if (exps == null) {
+            return null;
+        }
+        List<E> bound = new ArrayList<>(exps.size());
+        for (E e : exps) {
+            bound.add((E) e.bind(datas));
+        }
+        return bound;
+    }
+
+    /**
+     * Get the number of elements of the array described by the {@link Expression},
+     * without building any variable
+     *
+     * @return int
+     * @throws ParserException if the {@link Expression} does not describe an array
+     */
+    public int arrayLength() {
+        throw new ParserException(this + " does not describe an array");
+    }
+
     /**
      * Get the int value of the {@link Expression}
      *
@@ -58,6 +58,10 @@ public class MPS extends RegParser {
     @Option(name = "-noeq", usage = "Split EQ constraints into a LQ and a GQ constraint.")
     private boolean noeq = false;
 
+    @SuppressWarnings("FieldMayBeFinal")
+    @Option(name = "-readline", usage = "Read the instance line by line, instead of with the streaming reader (default: false).")
+    private boolean readline = false;
+
     @Option(name = "-split", usage = "Split any contraints of cardinality greater than this value (default: 100).")
     int split = 100;
 
@@ -97,7 +101,7 @@ public class MPS extends RegParser {
             Model threadModel = new Model(iname + "_" + (i + 1), defaultSettings);
             threadModel.setPrecision(precision);
             portfolio.addModel(threadModel);
-            parsers[i] = new MPSParser();
+            parsers[i] = new MPSParser(!readline);
         }
     }
 
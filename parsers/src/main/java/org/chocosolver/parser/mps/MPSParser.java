@@ -12,8 +12,6 @@ package org.chocosolver.parser.mps;
 import org.chocosolver.parser.ParserException;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
-import org.chocosolver.solver.constraints.Operator;
-import org.chocosolver.solver.constraints.real.PropScalarMixed;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.Variable;
@@ -21,6 +19,8 @@ import org.chocosolver.util.tools.ArrayUtils;
 import org.chocosolver.util.tools.VariableUtils;
 
 import java.io.*;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -64,10 +64,40 @@ public class MPSParser {
 
     private double NEG_INF;
 
+    /**
+     * Set to <i>true</i> to read the instance with a {@link MPSReader}
+     */
+    private final boolean streaming;
+
+    /**
+     * Variables created by the streaming reader, in column order
+     */
+    private Variable[] columns;
+
+    public MPSParser() {
+        this(true);
+    }
+
+    /**
+     * @param streaming set to <i>true</i> to read instances with the streaming reader,
+     *                  to <i>false</i> to read them line by line
+     */
+    public MPSParser(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public void model(Model model, String instance, boolean maximize,
                       double ninf, double pinf,
                       boolean ibex,
                       boolean noeq) throws IOException {
+        if (streaming) {
+            MPSReader reader = new MPSReader(ninf, pinf);
+            try (ReadableByteChannel channel = MPSReader.open(Paths.get(instance))) {
+                reader.read(channel);
+            }
+            columns = reader.build(model, maximize, ibex, noeq);
+            return;
+        }
         ope4eq = new HashMap<>();
         coeffs4eq = new HashMap<>();
         vars4eq = new HashMap<>();
@@ -95,17 +125,18 @@ public class MPSParser {
             readRows(br);
             readColumns(br);
             readRHS(br);
-            // optional tags
+            // optional tags, each section stops right before the next tag
             br.reset();
             String line = br.readLine();
             while (line != null && !line.startsWith(TAG_ENDATA)) {
                 if (line.startsWith(TAG_RANGES)) {
                     readRanges(br);
-                }
-                if (line.startsWith(TAG_BOUNDS)) {
+                } else if (line.startsWith(TAG_BOUNDS)) {
                     readBounds(br);
+                } else {
+                    br.mark(CACHING);
                 }
-                br.mark(CACHING);
+                br.reset();
                 line = br.readLine();
             }
         }
@@ -291,6 +322,7 @@ public class MPSParser {
         line = br.readLine();
         String[] values;
         while (line != null
+                && !line.startsWith(TAG_RANGES)
                 && !line.startsWith(TAG_ENDATA)) {
             values = Arrays.stream(line.split(" ")).filter(v -> v.length() > 0).toArray(String[]::new);
             String var = values[2];
@@ -547,8 +579,7 @@ public class MPSParser {
     }
 
     private static Constraint mixedScalar(Variable[] vars, double[] coefs, String op, double b) {
-        return new Constraint("MIXEDSCALAR",
-                new PropScalarMixed(vars, coefs, Operator.get(op), b));
+        return vars[0].getModel().scalar(vars, coefs, op, b);
     }
 
 
@@ -720,6 +751,18 @@ public class MPSParser {
 
     public String printSolution() {
         StringBuilder st = new StringBuilder();
+        if (columns != null) {
+            for (Variable var : columns) {
+                st.append(var.getName()).append('\t');
+                if (VariableUtils.isReal(var)) {
+                    st.append(var.asRealVar().getLB());
+                } else {
+                    st.append(var.asIntVar().getLB());
+                }
+                st.append('\n');
+            }
+            return st.toString();
+        }
         for (int i = 0; i < allvars.size(); i++) {
             String vnam = allvars.get(i);
             st.append(vnam).append('\t');
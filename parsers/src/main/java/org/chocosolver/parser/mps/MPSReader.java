@@ -0,0 +1,775 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.mps;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A streaming MPS reader, an alternative to the line-based reading of {@link MPSParser}.
+ * <p>
+ * The input is read by chunks into a byte buffer, lines are split into fields without creating strings
+ * and row and column names are looked up directly from the bytes.
+ * The nonzero coefficients are stored, column-wise as they come, in primitive arrays.
+ * Once the whole file is read, they are sorted by row into a compressed sparse row (CSR) matrix
+ * from which each row is posted as a single linear constraint.
+ * </p>
+ * <p>
+ * The model built is the same as the one built by {@link MPSParser}, with the same variables and constraints
+ * in the same order.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+final class MPSReader {
+
+    private static final byte NONE = 0;
+    private static final byte INT = 1;
+    private static final byte DOUBLE = 2;
+
+    private static final int NAME = 0;
+    private static final int ROWS = 1;
+    private static final int COLUMNS = 2;
+    private static final int RHS = 3;
+    private static final int RANGES = 4;
+    private static final int BOUNDS = 5;
+    private static final int ENDATA = 6;
+
+    private final double NEG_INF;
+    private final double POS_INF;
+
+    // input
+    private ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private int pos;
+    private int limit;
+    /**
+     * Current line, for error messages
+     */
+    private int line;
+    /**
+     * Content of the current line
+     */
+    private byte[] chars = new byte[256];
+    /**
+     * Number of fields of the current line
+     */
+    private int nbFields;
+    /**
+     * Start and end positions of the fields in {@link #chars}
+     */
+    private int[] starts = new int[8], ends = new int[8];
+    /**
+     * Set to <i>true</i> if the last number read is an integer
+     */
+    private boolean isInt;
+
+    // rows
+    private final Names rows = new Names();
+    /**
+     * 'N', 'E', 'L' or 'G', per row
+     */
+    private byte[] types = new byte[64];
+    private double[] rhs = new double[64];
+    private byte[] rhsKinds = new byte[64];
+    private double[] ranges = new double[64];
+    private byte[] rangeKinds = new byte[64];
+
+    // columns
+    private final Names cols = new Names();
+    private boolean[] intCols = new boolean[64];
+    private double[] lbs = new double[64];
+    private double[] ubs = new double[64];
+
+    // nonzero coefficients, in reading order
+    private int nnz;
+    private int[] entCols = new int[1024];
+    private int[] entRows = new int[1024];
+    private double[] entVals = new double[1024];
+    private boolean[] entInts = new boolean[1024];
+
+    /**
+     * Create a reader.
+     *
+     * @param ninf value of negative infinity
+     * @param pinf value of positive infinity
+     */
+    MPSReader(double ninf, double pinf) {
+        this.NEG_INF = ninf;
+        this.POS_INF = pinf;
+        this.bytes = new byte[1 << 16];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Open an MPS file, uncompressing it on the fly if it is gzipped.
+     * The compression is detected from the content of the file, not from its name.
+     *
+     * @param path path to an MPS file, possibly gzipped
+     * @return a channel over the (uncompressed) content of the file
+     * @throws IOException if the file cannot be opened
+     */
+    static ReadableByteChannel open(Path path) throws IOException {
+        FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
+        ByteBuffer magic = ByteBuffer.allocate(2);
+        while (magic.hasRemaining() && fc.read(magic) >= 0) ;
+        fc.position(0);
+        if (magic.position() == 2 && (magic.get(0) & 0xff) == 0x1f && (magic.get(1) & 0xff) == 0x8b) {
+            return Channels.newChannel(new GZIPInputStream(Channels.newInputStream(fc), 1 << 16));
+        }
+        return fc;
+    }
+
+    /**
+     * Read an MPS model from <i>channel</i>.
+     *
+     * @param channel an MPS model
+     * @throws IOException     if the channel cannot be read
+     * @throws ParserException if the model is not well-formed
+     */
+    void read(ReadableByteChannel channel) throws IOException {
+        this.channel = channel;
+        this.pos = this.limit = 0;
+        this.line = 0;
+        int section = -1;
+        boolean rowsFound = false, colsFound = false;
+        boolean intMarker = false;
+        int lastCol = -1;
+        while (section != ENDATA && nextLine()) {
+            if (nbFields == 0 || chars[0] == '*') {
+                continue;
+            }
+            if (chars[0] != ' ' && chars[0] != '\t') {
+                section = section();
+                rowsFound |= section == ROWS;
+                colsFound |= section == COLUMNS;
+                continue;
+            }
+            switch (section) {
+                case ROWS:
+                    row();
+                    break;
+                case COLUMNS:
+                    if (nbFields >= 3 && equals(1, "'MARKER'")) {
+                        intMarker = equals(2, "'INTORG'");
+                    } else {
+                        lastCol = column(lastCol, intMarker);
+                    }
+                    break;
+                case RHS:
+                    rhs(rhs, rhsKinds);
+                    break;
+                case RANGES:
+                    rhs(ranges, rangeKinds);
+                    break;
+                case BOUNDS:
+                    bound();
+                    break;
+                default:
+                    throw error("unexpected data");
+            }
+        }
+        if (!rowsFound) {
+            throw new ParserException("No tag \"ROWS\" found");
+        }
+        if (!colsFound) {
+            throw new ParserException("No tag \"COLUMNS\" found");
+        }
+    }
+
+    //***********************************************************************************
+    // SECTIONS
+    //***********************************************************************************
+
+    private int section() {
+        if (equals(0, "NAME")) {
+            return NAME;
+        } else if (equals(0, "ROWS")) {
+            return ROWS;
+        } else if (equals(0, "COLUMNS")) {
+            return COLUMNS;
+        } else if (equals(0, "RHS")) {
+            return RHS;
+        } else if (equals(0, "RANGES")) {
+            return RANGES;
+        } else if (equals(0, "BOUNDS")) {
+            return BOUNDS;
+        } else if (equals(0, "ENDATA")) {
+            return ENDATA;
+        }
+        throw error("unsupported section \"" + field(0) + "\"");
+    }
+
+    private void row() {
+        if (nbFields < 2 || ends[0] - starts[0] != 1) {
+            throw error("malformed row");
+        }
+        byte type = chars[starts[0]];
+        if (type != 'N' && type != 'E' && type != 'L' && type != 'G') {
+            throw error("Unknown identifier \"" + field(0) + "\"");
+        }
+        if (rows.find(chars, starts[1], ends[1]) >= 0) {
+            throw error("row \"" + field(1) + "\" already declared");
+        }
+        int r = rows.add(chars, starts[1], ends[1]);
+        if (r == types.length) {
+            int n = r * 2;
+            types = Arrays.copyOf(types, n);
+            rhs = Arrays.copyOf(rhs, n);
+            rhsKinds = Arrays.copyOf(rhsKinds, n);
+            ranges = Arrays.copyOf(ranges, n);
+            rangeKinds = Arrays.copyOf(rangeKinds, n);
+        }
+        types[r] = type;
+    }
+
+    /**
+     * Read a line of the COLUMNS section
+     *
+     * @param lastCol index of the column read on the previous line
+     * @param intMarker set to <i>true</i> when inside an integer marker
+     * @return the index of the column read
+     */
+    private int column(int lastCol, boolean intMarker) {
+        if (nbFields != 3 && nbFields != 5) {
+            throw error("malformed column");
+        }
+        int c = lastCol;
+        // columns are usually contiguous
+        if (c < 0 || !cols.matches(c, chars, starts[0], ends[0])) {
+            c = cols.find(chars, starts[0], ends[0]);
+            if (c < 0) {
+                c = cols.add(chars, starts[0], ends[0]);
+                if (c == intCols.length) {
+                    int n = c * 2;
+                    intCols = Arrays.copyOf(intCols, n);
+                    lbs = Arrays.copyOf(lbs, n);
+                    ubs = Arrays.copyOf(ubs, n);
+                }
+                intCols[c] = intMarker;
+                lbs[c] = 0;
+                ubs[c] = POS_INF;
+            }
+        }
+        if (intCols[c] != intMarker) {
+            throw error("Incorrect type found");
+        }
+        for (int f = 1; f < nbFields; f += 2) {
+            int r = rows.find(chars, starts[f], ends[f]);
+            if (r < 0) {
+                throw error("unknown row \"" + field(f) + "\"");
+            }
+            double v = number(f + 1);
+            if (nnz == entCols.length) {
+                int n = nnz * 2;
+                entCols = Arrays.copyOf(entCols, n);
+                entRows = Arrays.copyOf(entRows, n);
+                entVals = Arrays.copyOf(entVals, n);
+                entInts = Arrays.copyOf(entInts, n);
+            }
+            entCols[nnz] = c;
+            entRows[nnz] = r;
+            entVals[nnz] = v;
+            entInts[nnz] = isInt;
+            nnz++;
+        }
+        return c;
+    }
+
+    /**
+     * Read a line of the RHS or RANGES section, only the first value of a row is kept
+     */
+    private void rhs(double[] values, byte[] kinds) {
+        // the name of the vector is optional
+        int f = nbFields % 2;
+        if (nbFields < 2 || nbFields > 5) {
+            throw error("malformed line");
+        }
+        for (; f < nbFields; f += 2) {
+            int r = rows.find(chars, starts[f], ends[f]);
+            if (r >= 0 && kinds[r] == NONE) {
+                values[r] = number(f + 1);
+                kinds[r] = isInt ? INT : DOUBLE;
+            }
+        }
+    }
+
+    private void bound() {
+        if (nbFields < 3 || nbFields > 4) {
+            throw error("malformed bound");
+        }
+        int c = cols.find(chars, starts[2], ends[2]);
+        if (c < 0) {
+            return;
+        }
+        if (equals(0, "LO")) {
+            lbs[c] = number(3);
+        } else if (equals(0, "UP")) {
+            ubs[c] = number(3);
+        } else if (equals(0, "FX")) {
+            lbs[c] = ubs[c] = number(3);
+        } else if (equals(0, "FR")) {
+            lbs[c] = NEG_INF;
+            ubs[c] = POS_INF;
+        } else if (equals(0, "MI")) {
+            lbs[c] = NEG_INF;
+            ubs[c] = 0;
+        } else if (equals(0, "PL")) {
+            lbs[c] = 0;
+            ubs[c] = POS_INF;
+        } else if (equals(0, "BV")) {
+            intCols[c] = true;
+            lbs[c] = 0;
+            ubs[c] = 1;
+        } else if (equals(0, "UI")) {
+            intCols[c] = true;
+            ubs[c] = number(3);
+            if (!isInt) {
+                throw error("UI refers to double instead of int");
+            }
+        } else if (equals(0, "LI")) {
+            intCols[c] = true;
+            lbs[c] = number(3);
+            if (!isInt) {
+                throw error("LI refers to double instead of int");
+            }
+        } else if (equals(0, "SC")) {
+            throw error("semi-continuous not supported");
+        } else {
+            throw error("Unknown identifier \"" + field(0) + "\"");
+        }
+    }
+
+    //***********************************************************************************
+    // MODEL
+    //***********************************************************************************
+
+    /**
+     * Build the model read.
+     *
+     * @param model    the model to feed
+     * @param maximize set to <i>true</i> to maximize the objective function
+     * @param ibex     set to <i>true</i> to post non-integer rows as Ibex functions
+     * @param noeq     set to <i>true</i> to split integer equalities
+     * @return the variables created, one per column, in reading order
+     */
+    Variable[] build(Model model, boolean maximize, boolean ibex, boolean noeq) {
+        int nbCols = cols.size;
+        Variable[] vars = new Variable[nbCols];
+        for (int c = 0; c < nbCols; c++) {
+            if (intCols[c]) {
+                vars[c] = model.intVar(cols.names[c], (int) lbs[c], (int) ubs[c]);
+            } else {
+                vars[c] = model.realVar(cols.names[c], lbs[c], ubs[c], model.getPrecision());
+            }
+        }
+        // sort the coefficients by row, preserving the column order (counting sort)
+        int nbRows = rows.size;
+        int[] rowPtr = new int[nbRows + 1];
+        for (int k = 0; k < nnz; k++) {
+            rowPtr[entRows[k] + 1]++;
+        }
+        for (int r = 0; r < nbRows; r++) {
+            rowPtr[r + 1] += rowPtr[r];
+        }
+        int[] colIdx = new int[nnz];
+        double[] vals = new double[nnz];
+        boolean[] ints = new boolean[nnz];
+        int[] next = Arrays.copyOf(rowPtr, nbRows);
+        for (int k = 0; k < nnz; k++) {
+            int p = next[entRows[k]]++;
+            colIdx[p] = entCols[k];
+            vals[p] = entVals[k];
+            ints[p] = entInts[k];
+        }
+        // free the reading arrays
+        entCols = entRows = null;
+        entVals = null;
+        entInts = null;
+        // rows are posted in lexicographic order, like MPSParser does
+        Integer[] order = new Integer[nbRows];
+        for (int r = 0; r < nbRows; r++) {
+            order[r] = r;
+        }
+        Arrays.sort(order, (r1, r2) -> rows.names[r1].compareTo(rows.names[r2]));
+        Row row = new Row(model, vars, colIdx, vals, ibex);
+        boolean foundObj = false;
+        boolean unimod = true;
+        for (int r : order) {
+            int from = rowPtr[r], to = rowPtr[r + 1];
+            if (from == to) {
+                continue;
+            }
+            boolean intRow = rhsKinds[r] != DOUBLE && rangeKinds[r] != DOUBLE;
+            for (int p = from; p < to; p++) {
+                unimod &= ints[p] && Math.abs(vals[p]) == 1;
+                intRow &= ints[p] && intCols[colIdx[p]];
+            }
+            row.set(from, to, intRow);
+            if (types[r] == 'N') {
+                if (foundObj) {
+                    throw new ParserException("More than one objective function found");
+                } else if (rangeKinds[r] != NONE) {
+                    throw new ParserException("Range found for objective function");
+                }
+                row.objective(maximize, rhs[r], noeq);
+                foundObj = true;
+            } else {
+                String op = types[r] == 'E' ? "=" : types[r] == 'L' ? "<=" : ">=";
+                if (rangeKinds[r] == NONE) {
+                    if (intRow && noeq && types[r] == 'E') {
+                        row.post("<=", rhs[r]);
+                        row.post(">=", rhs[r]);
+                    } else {
+                        row.post(op, rhs[r]);
+                    }
+                } else if (types[r] == 'E') {
+                    if (ranges[r] > 0) {
+                        row.post(">=", rhs[r]);
+                        row.post("<=", rhs[r] + ranges[r]);
+                    } else {
+                        row.post("<=", rhs[r]);
+                        row.post(">=", rhs[r] + ranges[r]);
+                    }
+                } else {
+                    row.post(op, rhs[r]);
+                    if (types[r] == 'G') {
+                        row.post("<=", rhs[r] + Math.abs(ranges[r]));
+                    } else {
+                        row.post(">=", rhs[r] - Math.abs(ranges[r]));
+                    }
+                }
+            }
+        }
+        model.getSolver().log().white().printf("c Unimodular: %s\n", unimod);
+        return vars;
+    }
+
+    /**
+     * A row of the CSR matrix, to be posted as one or more linear constraints
+     */
+    private final class Row {
+
+        private final Model model;
+        private final Variable[] vars;
+        private final int[] colIdx;
+        private final double[] vals;
+        private final boolean ibex;
+        private int from;
+        private int to;
+        private boolean intRow;
+
+        Row(Model model, Variable[] vars, int[] colIdx, double[] vals, boolean ibex) {
+            this.model = model;
+            this.vars = vars;
+            this.colIdx = colIdx;
+            this.vals = vals;
+            this.ibex = ibex;
+        }
+
+        void set(int from, int to, boolean intRow) {
+            this.from = from;
+            this.to = to;
+            this.intRow = intRow;
+        }
+
+        /**
+         * @param extra number of trailing slots to keep free
+         */
+        private IntVar[] intVars(int extra) {
+            IntVar[] ivars = new IntVar[to - from + extra];
+            for (int p = from; p < to; p++) {
+                ivars[p - from] = (IntVar) vars[colIdx[p]];
+            }
+            return ivars;
+        }
+
+        private int[] intCoefs(int extra) {
+            int[] coefs = new int[to - from + extra];
+            for (int p = from; p < to; p++) {
+                coefs[p - from] = (int) vals[p];
+            }
+            return coefs;
+        }
+
+        private Variable[] vars(int extra) {
+            Variable[] svars = new Variable[to - from + extra];
+            for (int p = from; p < to; p++) {
+                svars[p - from] = vars[colIdx[p]];
+            }
+            return svars;
+        }
+
+        private String function() {
+            StringBuilder fct = new StringBuilder();
+            for (int p = from; p < to; p++) {
+                if (p > from) fct.append('+');
+                fct.append('{').append(p - from).append('}').append("*").append(vals[p]);
+            }
+            return fct.toString();
+        }
+
+        void post(String op, double b) {
+            if (intRow) {
+                model.scalar(intVars(0), intCoefs(0), op, (int) b).post();
+            } else if (ibex) {
+                model.realIbexGenericConstraint(function() + op + b, vars(0)).post();
+            } else {
+                double[] coefs = Arrays.copyOfRange(vals, from, to);
+                model.scalar(vars(0), coefs, op, b).post();
+            }
+        }
+
+        void objective(boolean maximize, double b, boolean noeq) {
+            int n = to - from;
+            if (intRow) {
+                IntVar objective = model.intVar("OBJ", (int) Math.ceil(NEG_INF), (int) Math.floor(POS_INF));
+                model.setObjective(maximize, objective);
+                IntVar[] ivars = intVars(1);
+                ivars[n] = objective;
+                int[] coefs = intCoefs(1);
+                coefs[n] = -1;
+                if (noeq) {
+                    model.scalar(ivars, coefs, "<=", (int) b).post();
+                    model.scalar(ivars, coefs, ">=", (int) b).post();
+                } else {
+                    model.scalar(ivars, coefs, "=", (int) b).post();
+                }
+            } else {
+                RealVar objective = model.realVar("OBJ", NEG_INF, POS_INF, model.getPrecision());
+                model.setObjective(maximize, objective);
+                Variable[] svars = vars(1);
+                svars[n] = objective;
+                if (ibex) {
+                    model.realIbexGenericConstraint(function() + "={" + n + "}+" + b, svars).post();
+                } else {
+                    double[] coefs = Arrays.copyOfRange(vals, from, to + 1);
+                    coefs[n] = -1;
+                    model.scalar(svars, coefs, "=", b).post();
+                }
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // LEXER
+    //***********************************************************************************
+
+    private boolean fill() throws IOException {
+        buffer.clear();
+        int n;
+        do {
+            n = channel.read(buffer);
+        } while (n == 0);
+        pos = 0;
+        limit = Math.max(n, 0);
+        return n > 0;
+    }
+
+    /**
+     * Read the next line and split it into fields
+     *
+     * @return <i>false</i> at the end of the input
+     */
+    private boolean nextLine() throws IOException {
+        int len = 0;
+        boolean eol = false;
+        while (!eol) {
+            if (pos == limit && !fill()) {
+                if (len == 0) {
+                    return false;
+                }
+                break;
+            }
+            int end = pos;
+            while (end < limit && bytes[end] != '\n') {
+                end++;
+            }
+            eol = end < limit;
+            if (len + end - pos > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, len + end - pos));
+            }
+            System.arraycopy(bytes, pos, chars, len, end - pos);
+            len += end - pos;
+            pos = eol ? end + 1 : end;
+        }
+        if (len > 0 && chars[len - 1] == '\r') {
+            len--;
+        }
+        line++;
+        nbFields = 0;
+        int i = 0;
+        while (i < len) {
+            while (i < len && (chars[i] == ' ' || chars[i] == '\t')) {
+                i++;
+            }
+            if (i == len) {
+                break;
+            }
+            if (nbFields == starts.length) {
+                starts = Arrays.copyOf(starts, nbFields * 2);
+                ends = Arrays.copyOf(ends, nbFields * 2);
+            }
+            starts[nbFields] = i;
+            while (i < len && chars[i] != ' ' && chars[i] != '\t') {
+                i++;
+            }
+            ends[nbFields++] = i;
+        }
+        return true;
+    }
+
+    private boolean equals(int f, String s) {
+        int len = ends[f] - starts[f];
+        if (len != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (chars[starts[f] + i] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String field(int f) {
+        return new String(chars, starts[f], ends[f] - starts[f], StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Read the number of field <i>f</i> and set {@link #isInt} to <i>true</i> if it is written as an integer
+     */
+    private double number(int f) {
+        if (f >= nbFields) {
+            throw error("missing value");
+        }
+        int i = starts[f], end = ends[f];
+        boolean neg = chars[i] == '-';
+        if (neg) i++;
+        if (i < end && end - i <= 10) {
+            long v = 0;
+            int j = i;
+            while (j < end && chars[j] >= '0' && chars[j] <= '9') {
+                v = v * 10 + (chars[j++] - '0');
+            }
+            if (j == end && (neg ? -v >= Integer.MIN_VALUE : v <= Integer.MAX_VALUE)) {
+                isInt = true;
+                return neg ? -v : v;
+            }
+        }
+        isInt = false;
+        try {
+            return Double.parseDouble(field(f));
+        } catch (NumberFormatException e) {
+            throw error("invalid number \"" + field(f) + "\"");
+        }
+    }
+
+    private ParserException error(String msg) {
+        return new ParserException("MPS, line " + line + ": " + msg);
+    }
+
+    /**
+     * Names of rows or columns, indexed by their declaration order,
+     * that can be looked up from bytes without creating a string.
+     */
+    private static final class Names {
+        private String[] names = new String[64];
+        private int[] hashes = new int[64];
+        private int size;
+        /**
+         * Open-addressing hash table of name indices, -1 for an empty slot
+         */
+        private int[] table = new int[128];
+
+        Names() {
+            Arrays.fill(table, -1);
+        }
+
+        private static int hash(byte[] b, int from, int to) {
+            int h = 0;
+            for (int i = from; i < to; i++) {
+                h = 31 * h + b[i];
+            }
+            return h ^ (h >>> 16);
+        }
+
+        boolean matches(int idx, byte[] b, int from, int to) {
+            String name = names[idx];
+            if (name.length() != to - from) {
+                return false;
+            }
+            for (int i = from; i < to; i++) {
+                if (name.charAt(i - from) != (char) (b[i] & 0xff)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int find(byte[] b, int from, int to) {
+            int mask = table.length - 1;
+            int h = hash(b, from, to);
+            for (int s = h & mask; table[s] >= 0; s = (s + 1) & mask) {
+                int idx = table[s];
+                if (hashes[idx] == h && matches(idx, b, from, to)) {
+                    return idx;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Add a name, assuming it is not already stored
+         */
+        int add(byte[] b, int from, int to) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+            int idx = size++;
+            names[idx] = new String(b, from, to - from, StandardCharsets.ISO_8859_1);
+            hashes[idx] = hash(b, from, to);
+            if (size * 2 > table.length) {
+                table = new int[table.length * 2];
+                Arrays.fill(table, -1);
+                for (int i = 0; i < size - 1; i++) {
+                    insert(i);
+                }
+            }
+            insert(idx);
+            return idx;
+        }
+
+        private void insert(int idx) {
+            int mask = table.length - 1;
+            int s = hashes[idx] & mask;
+            while (table[s] >= 0) {
+                s = (s + 1) & mask;
+            }
+            table[s] = idx;
+        }
+    }
+}
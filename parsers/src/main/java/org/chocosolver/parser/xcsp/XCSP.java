@@ -20,6 +20,7 @@ import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.logger.Logger;
 import org.kohsuke.args4j.Option;
+import org.w3c.dom.Document;
 import org.xcsp.parser.callbacks.SolutionChecker;
 
 import java.io.ByteArrayInputStream;
@@ -28,6 +29,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.IntStream;
 
 /**
  * Created by cprudhom on 01/09/15.
@@ -90,30 +92,66 @@ public class XCSP extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
+        long ptime = -System.currentTimeMillis();
+        // Only the file reading is shared: the XML document is read once, then each model is built
+        // from its own copy of it. The XCSP3 parsing itself (XParser then XCSPParser callbacks) still runs
+        // once per model, since xcsp3 entries are mutated while loading, but concurrently.
+        Document[] documents = new Document[models.size()];
+        try {
+            documents[0] = parsers[0].loadDocument(instance);
+        } catch (Exception e) {
+            throw unsupported(models.get(0), e);
+        }
+        for (int i = 1; i < models.size(); i++) {
+            documents[i] = (Document) documents[0].cloneNode(true);
+        }
+        IntStream.range(0, models.size()).parallel().forEach(i -> {
             try {
-                long ptime = -System.currentTimeMillis();
-                parse(models.get(i), parsers[i], i);
-                models.get(i).getSolver().logWithANSI(ansi);
-                if (level.isLoggable(Level.INFO)) {
-                    models.get(i).getSolver().log().white().printf("File parsed in %d ms%n", (ptime + System.currentTimeMillis()));
-                }
-                if (level.is(Level.JSON)) {
-                    models.get(i).getSolver().log().printf("{\"name\":\"%s\",\"stats\":[", instance);
-                }
+                parse(models.get(i), parsers[i], documents[i], i);
             } catch (Exception e) {
-                if (level.isLoggable(Level.INFO)) {
-                    models.get(i).getSolver().log().red().print("s UNSUPPORTED\n");
-                    models.get(i).getSolver().log().printf("c %s\n", e.getMessage());
-                }
-                e.printStackTrace();
-                throw new RuntimeException("UNSUPPORTED");
+                throw unsupported(models.get(i), e);
+            }
+        });
+        for (Model model : models) {
+            model.getSolver().logWithANSI(ansi);
+            if (level.isLoggable(Level.INFO)) {
+                model.getSolver().log().white().printf("File parsed in %d ms%n", (ptime + System.currentTimeMillis()));
+            }
+            if (level.is(Level.JSON)) {
+                model.getSolver().log().printf("{\"name\":\"%s\",\"stats\":[", instance);
             }
         }
     }
 
+    private RuntimeException unsupported(Model model, Exception e) {
+        if (level.isLoggable(Level.INFO)) {
+            model.getSolver().log().red().print("s UNSUPPORTED\n");
+            model.getSolver().log().printf("c %s\n", e.getMessage());
+        }
+        e.printStackTrace();
+        return new RuntimeException("UNSUPPORTED");
+    }
+
     public void parse(Model target, XCSPParser parser, int i) throws Exception {
         parser.model(target, instance);
+        configure(target, parser, i);
+    }
+
+    /**
+     * Build an already loaded XCSP3 instance into <i>target</i>.
+     *
+     * @param target   the model to feed
+     * @param parser   the parser dedicated to <i>target</i>
+     * @param document the XCSP3 instance, not shared with any other concurrent call
+     * @param i        index of the model in the portfolio
+     * @throws Exception if the instance cannot be loaded
+     */
+    public void parse(Model target, XCSPParser parser, Document document, int i) throws Exception {
+        parser.model(target, document);
+        configure(target, parser, i);
+    }
+
+    private void configure(Model target, XCSPParser parser, int i) {
         if (i == 0) {
             IntVar[] decVars = (IntVar[]) getModel().getHook("decisions");
             if (decVars == null) {
@@ -38,6 +38,7 @@ import org.xcsp.common.structures.Transition;
 import org.xcsp.parser.callbacks.XCallbacks2;
 import org.xcsp.parser.entries.XConstraints;
 import org.xcsp.parser.entries.XVariables;
+import org.w3c.dom.Document;
 
 import java.io.File;
 import java.util.*;
@@ -79,18 +80,31 @@ public class XCSPParser implements XCallbacks2 {
     Implem implem;
 
     public void model(Model model, String instance) throws Exception {
+        File file = new File(instance);
+        if (file.exists()) {
+            model(model, loadDocument(instance));
+        } else {
+            throw new RuntimeException("FILE DOES NOT EXIST");
+        }
+    }
+
+    /**
+     * Build an already loaded XCSP3 instance into <i>model</i>.
+     * A document is read while loading the instance: it must not be shared by concurrent calls,
+     * use a copy (see {@link Document#cloneNode(boolean)}) for each thread instead.
+     *
+     * @param model    the model to feed
+     * @param document the XCSP3 instance, as returned by {@link #loadDocument(String)}
+     * @throws Exception if the instance cannot be loaded
+     */
+    public void model(Model model, Document document) throws Exception {
         this.model = model;
         this.mvars = new HashMap<>();
         this.symbolics = new HashSet<>();
         this.symbolToInt = new TObjectIntHashMap<>();
         this.intToSymbol = new TIntObjectHashMap<>();
         this.implem = new Implem(this);
-        File file = new File(instance);
-        if (file.exists()) {
-            loadInstance(instance);
-        } else {
-            throw new RuntimeException("FILE DOES NOT EXIST");
-        }
+        loadInstance(document);
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
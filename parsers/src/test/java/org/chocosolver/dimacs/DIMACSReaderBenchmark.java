@@ -0,0 +1,85 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.dimacs;
+
+import org.chocosolver.parser.dimacs.DIMACSParser;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Load-throughput benchmark of the DIMACS readers, on a random 3-CNF and a random weighted 3-CNF.
+ * Not a test: run its main method.
+ *
+ * @since 19/10/2026
+ */
+public class DIMACSReaderBenchmark {
+
+    private static final int NB_VARS = 250_000;
+    private static final int NB_CLAUSES = 1_000_000;
+    private static final int NB_RUNS = 5;
+
+    public static void main(String[] args) throws IOException {
+        Path cnf = write(".cnf", false);
+        Path wcnf = write(".wcnf", true);
+        try {
+            System.out.printf("CNF, %d clauses, %.1f MB%n", NB_CLAUSES, Files.size(cnf) / (1024. * 1024.));
+            System.out.printf("  line-based: %.0f clauses/s%n", NB_CLAUSES / time(cnf, false));
+            System.out.printf("  bulk loading: %.0f clauses/s%n", NB_CLAUSES / time(cnf, true));
+            // the line-based reader does not read weighted files
+            System.out.printf("WCNF, %d clauses, %.1f MB%n", NB_CLAUSES, Files.size(wcnf) / (1024. * 1024.));
+            System.out.printf("  bulk loading: %.0f clauses/s%n", NB_CLAUSES / time(wcnf, true));
+        } finally {
+            Files.delete(cnf);
+            Files.delete(wcnf);
+        }
+    }
+
+    /**
+     * @return the best loading time of <i>file</i> over a few runs, in seconds
+     */
+    private static double time(Path file, boolean fast) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int k = 0; k < NB_RUNS; k++) {
+            long t = System.nanoTime();
+            // with the settings of the DIMACS parser
+            new DIMACSParser(fast).model(new Model(Settings.prod().setEnableSAT(true)), file.toString());
+            best = Math.min(best, System.nanoTime() - t);
+        }
+        return best / 1e9;
+    }
+
+    /**
+     * Write a random 3-CNF, in the 2022 WCNF format if <i>weighted</i>, with one soft clause out of ten.
+     */
+    private static Path write(String suffix, boolean weighted) throws IOException {
+        Random rnd = new Random(0);
+        StringBuilder st = new StringBuilder();
+        if (!weighted) {
+            st.append("p cnf ").append(NB_VARS).append(' ').append(NB_CLAUSES).append('\n');
+        }
+        for (int c = 0; c < NB_CLAUSES; c++) {
+            if (weighted) {
+                st.append(c % 10 == 0 ? Integer.toString(1 + rnd.nextInt(10)) : "h").append(' ');
+            }
+            for (int k = 0; k < 3; k++) {
+                st.append(rnd.nextBoolean() ? "-" : "").append(rnd.nextInt(NB_VARS) + 1).append(' ');
+            }
+            st.append("0\n");
+        }
+        Path path = Files.createTempFile("dimacs", suffix);
+        Files.write(path, st.toString().getBytes());
+        return path;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.dimacs;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.ParserTestUtils;
+import org.chocosolver.parser.dimacs.DIMACSParser;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests of the bulk loading of DIMACS files, compared to the line-based one.
+ *
+ * @since 19/10/2026
+ */
+public class DIMACSReaderTest {
+
+    private static Model build(String file, boolean fast, boolean sat) throws IOException {
+        Model model = new Model(Settings.prod().setEnableSAT(sat));
+        new DIMACSParser(fast).model(model, file);
+        return model;
+    }
+
+    /**
+     * Check that both models have the same variables and the same clauses stored in their SAT solver
+     */
+    private static void assertSameModel(Model actual, Model expected) {
+        Assert.assertEquals(actual.getNbVars(), expected.getNbVars());
+        Assert.assertEquals(actual.getMinisat().getPropSat().getMiniSat().clauses.size(),
+                expected.getMinisat().getPropSat().getMiniSat().clauses.size());
+    }
+
+    private static Path write(String suffix, String content) throws IOException {
+        Path path = Files.createTempFile("dimacs", suffix);
+        Files.write(path, content.getBytes());
+        return path;
+    }
+
+    @DataProvider
+    public Object[][] instances() throws IOException {
+        return ParserTestUtils.instanceFiles("/dimacs", 200 * 1024, ".cnf");
+    }
+
+    @Test(groups = "10s", dataProvider = "instances")
+    public void testSameStatus(String file) throws IOException {
+        Model expected = build(file, false, true);
+        Model actual = build(file, true, true);
+        assertSameModel(actual, expected);
+        expected.getSolver().limitTime("5s");
+        actual.getSolver().limitTime("5s");
+        boolean sat = expected.getSolver().solve();
+        Assert.assertEquals(actual.getSolver().solve(), sat);
+        if (sat) {
+            Assert.assertTrue(actual.getSolver().isSatisfied().equals(org.chocosolver.util.ESat.TRUE));
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testCNF() throws IOException {
+        Path cnf = write(".cnf", "c comment\np cnf 3 4\n1 -3 0\n2 3\n -1 0\n-2 0 -1\n0\n");
+        try {
+            for (boolean sat : new boolean[]{true, false}) {
+                Model model = build(cnf.toString(), true, sat);
+                int nbSols = 0;
+                while (model.getSolver().solve()) {
+                    nbSols++;
+                    Assert.assertEquals(model.getVars()[0].asBoolVar().getValue(), 0);
+                    Assert.assertEquals(model.getVars()[1].asBoolVar().getValue(), 0);
+                }
+                Assert.assertEquals(nbSols, 1, "SAT: " + sat);
+            }
+        } finally {
+            Files.delete(cnf);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testWCNF() throws IOException {
+        // former format: weight 10 is top, so the first two clauses are hard
+        Path old = write(".wcnf", "p wcnf 3 6 10\n10 1 2 0\n10 -1 -2 0\n3 1 0\n2 2 3 0\n4 -3 0\n1 -2 0\n");
+        // 2022 format, same problem
+        Path neo = write(".wcnf", "c no header\nh 1 2 0\nh -1 -2 0\n3 1 0\n2 2 3 0\n4 -3 0\n1 -2 0\n");
+        try {
+            for (Path p : new Path[]{old, neo}) {
+                for (boolean sat : new boolean[]{true, false}) {
+                    Model model = build(p.toString(), true, sat);
+                    Assert.assertTrue(model.getSolver().getObjectiveManager().isOptimization());
+                    while (model.getSolver().solve()) ;
+                    // x1 = 1, x2 = 0, x3 = 0 violates (2 3) only
+                    Assert.assertEquals(model.getSolver().getObjectiveManager().getBestSolutionValue().intValue(), 2);
+                }
+            }
+        } finally {
+            Files.delete(old);
+            Files.delete(neo);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testError() throws IOException {
+        Path cnf = write(".cnf", "p cnf 2 2\n1 2 0\n-1 x 0\n");
+        try {
+            build(cnf.toString(), true, true);
+            Assert.fail();
+        } catch (ParserException e) {
+            Assert.assertTrue(e.getMessage().contains("line 3"), e.getMessage());
+        } finally {
+            Files.delete(cnf);
+        }
+    }
+}
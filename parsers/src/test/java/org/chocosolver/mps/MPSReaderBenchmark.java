@@ -0,0 +1,84 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.mps;
+
+import org.chocosolver.parser.mps.MPSParser;
+import org.chocosolver.solver.Model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Parse benchmark of the MPS readers, on a generated instance with 200,000 nonzero coefficients.
+ * Not a test: run its main method.
+ *
+ * @since 19/10/2026
+ */
+public class MPSReaderBenchmark {
+
+    private static final int NB_ROWS = 2_000;
+    private static final int NB_COLS = 10_000;
+    private static final int PER_COL = 20;
+    private static final int NB_RUNS = 5;
+
+    public static void main(String[] args) throws IOException {
+        Path mps = Files.createTempFile("bench", ".mps");
+        try {
+            Files.write(mps, generate().getBytes());
+            double mb = Files.size(mps) / (1024. * 1024.);
+            double readline = time(mps, false);
+            double streaming = time(mps, true);
+            System.out.printf("%.1f MB, %d nonzeros%n", mb, NB_COLS * PER_COL);
+            System.out.printf("  line-based: %.0f ms, %.1f MB/s%n", readline * 1e3, mb / readline);
+            System.out.printf("  streaming reader: %.0f ms, %.1f MB/s%n", streaming * 1e3, mb / streaming);
+        } finally {
+            Files.delete(mps);
+        }
+    }
+
+    /**
+     * @return the best parsing time of <i>file</i> over a few runs, in seconds
+     */
+    private static double time(Path file, boolean streaming) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int k = 0; k < NB_RUNS; k++) {
+            long t = System.nanoTime();
+            new MPSParser(streaming).model(new Model(), file.toString(), false, -999., 999., false, false);
+            best = Math.min(best, System.nanoTime() - t);
+        }
+        return best / 1e9;
+    }
+
+    private static String generate() {
+        StringBuilder st = new StringBuilder("NAME          BENCH\nROWS\n N  COST\n");
+        for (int r = 0; r < NB_ROWS; r++) {
+            st.append(" L  R").append(r).append('\n');
+        }
+        st.append("COLUMNS\n    MARKER                 'MARKER'                 'INTORG'\n");
+        for (int c = 0; c < NB_COLS; c++) {
+            st.append("    X").append(c).append("  COST  ").append(c % 7 + 1).append('\n');
+            for (int k = 0; k < PER_COL; k++) {
+                st.append("    X").append(c).append("  R").append((c * 31 + k * 97) % NB_ROWS)
+                        .append("  ").append((c + k) % 5 + 1).append('\n');
+            }
+        }
+        st.append("    MARKER                 'MARKER'                 'INTEND'\nRHS\n");
+        for (int r = 0; r < NB_ROWS; r++) {
+            st.append("    RHS  R").append(r).append("  ").append(500).append('\n');
+        }
+        st.append("BOUNDS\n");
+        for (int c = 0; c < NB_COLS; c++) {
+            st.append(" UP BND  X").append(c).append("  10\n");
+        }
+        st.append("ENDATA\n");
+        return st.toString();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.mps;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.ParserTestUtils;
+import org.chocosolver.parser.mps.MPSParser;
+import org.chocosolver.solver.Model;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tests of the streaming MPS reader, compared to the line-based one.
+ *
+ * @since 19/10/2026
+ */
+public class MPSReaderTest {
+
+    private static Model build(String file, boolean streaming) throws IOException {
+        Model model = new Model();
+        new MPSParser(streaming).model(model, file, false, -999., 999., false, false);
+        return model;
+    }
+
+    private static void assertSameModel(Model actual, Model expected) {
+        ParserTestUtils.assertSameModel(actual, expected, c -> c.getName() + Arrays.toString(c.getPropagators()));
+    }
+
+    @DataProvider
+    public Object[][] instances() throws IOException {
+        return ParserTestUtils.instanceFiles("/mps", Long.MAX_VALUE, ".mps", ".mps.gz");
+    }
+
+    @Test(groups = "10s", dataProvider = "instances")
+    public void testSameModel(String file) throws IOException {
+        assertSameModel(build(file, true), build(file, false));
+    }
+
+    @Test(groups = "1s")
+    public void testGzipDetection() throws IOException {
+        String file = Objects.requireNonNull(this.getClass().getResource("/mps/example1.mps")).getPath();
+        Path gz = Files.createTempFile("example1", ".mps");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gz))) {
+                Files.copy(Paths.get(file), out);
+            }
+            // compressed but without the .gz suffix
+            Model model = build(gz.toString(), true);
+            assertSameModel(model, build(file, false));
+            Assert.assertTrue(model.getSolver().solve());
+        } finally {
+            Files.delete(gz);
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testError() throws IOException {
+        Path mps = Files.createTempFile("error", ".mps");
+        try {
+            Files.write(mps, ("NAME          ERR\n" +
+                    "ROWS\n" +
+                    " N  COST\n" +
+                    " L  LIM1\n" +
+                    "COLUMNS\n" +
+                    "    X         COST                 1   LIM1                 1\n" +
+                    "    Y         COST                 1   LIM2                 1\n" +
+                    "RHS\n" +
+                    "    RHS1      LIM1                 5\n" +
+                    "ENDATA\n").getBytes());
+            build(mps.toString(), true);
+            Assert.fail();
+        } catch (ParserException e) {
+            Assert.assertTrue(e.getMessage().contains("line 7"), e.getMessage());
+        } finally {
+            Files.delete(mps);
+        }
+    }
+
+    @DataProvider
+    public Object[][] sections() {
+        String ranges = "RANGES\n" +
+                "    RNG       LIM1                 2   LIM2                -3\n" +
+                "    RNG       LIM3                 4\n";
+        String bounds = "BOUNDS\n" +
+                " UP BND       X                    4\n" +
+                " LO BND       Y                   -1\n" +
+                " UP BND       Y                    1\n" +
+                " BV BND       Z\n";
+        return new Object[][]{{ranges + bounds}, {bounds + ranges}};
+    }
+
+    @Test(groups = "1s", dataProvider = "sections")
+    public void testRangesAndBounds(String sections) throws IOException {
+        Path mps = Files.createTempFile("sections", ".mps");
+        try {
+            Files.write(mps, ("NAME          SECTIONS\n" +
+                    "ROWS\n" +
+                    " N  COST\n" +
+                    " L  LIM1\n" +
+                    " G  LIM2\n" +
+                    " E  LIM3\n" +
+                    "COLUMNS\n" +
+                    "    MARKER                 'MARKER'                 'INTORG'\n" +
+                    "    X         COST                 1   LIM1                 1\n" +
+                    "    X         LIM3                 1\n" +
+                    "    Y         COST                 2   LIM2                 1\n" +
+                    "    Y         LIM3                 1\n" +
+                    "    Z         COST                -1   LIM1                 1\n" +
+                    "    Z         LIM2                 1\n" +
+                    "    MARKER                 'MARKER'                 'INTEND'\n" +
+                    "RHS\n" +
+                    "    RHS       LIM1                 4   LIM2                 1\n" +
+                    "    RHS       LIM3                 2\n" +
+                    sections +
+                    "ENDATA\n").getBytes());
+            Model actual = build(mps.toString(), true);
+            Model expected = build(mps.toString(), false);
+            assertSameModel(actual, expected);
+            Assert.assertEquals(actual.getNbCstrs(), 7);
+            Assert.assertEquals(expected.getVars()[0].asIntVar().getUB(), 4);
+            Assert.assertEquals(expected.getVars()[1].asIntVar().getLB(), -1);
+            Assert.assertEquals(expected.getVars()[1].asIntVar().getUB(), 1);
+            Assert.assertEquals(expected.getVars()[2].asIntVar().getUB(), 1);
+        } finally {
+            Files.delete(mps);
+        }
+    }
+}
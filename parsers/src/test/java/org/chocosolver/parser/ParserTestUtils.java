@@ -0,0 +1,78 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.Variable;
+import org.testng.Assert;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Helpers shared by the tests comparing two readers of the same format.
+ *
+ * @since 19/10/2026
+ */
+public final class ParserTestUtils {
+
+    private ParserTestUtils() {
+    }
+
+    /**
+     * Check that both models declare the same variables, the same constraints (by name and number of propagators)
+     * and the same resolution policy.
+     */
+    public static void assertSameModel(Model actual, Model expected) {
+        assertSameModel(actual, expected, c -> c.getName() + c.getPropagators().length);
+    }
+
+    /**
+     * Check that both models declare the same variables, the same constraints and the same resolution policy.
+     *
+     * @param signature how constraints are compared
+     */
+    public static void assertSameModel(Model actual, Model expected, Function<Constraint, String> signature) {
+        Assert.assertEquals(actual.getNbVars(), expected.getNbVars());
+        Assert.assertEquals(actual.getNbCstrs(), expected.getNbCstrs());
+        Assert.assertEquals(
+                Arrays.stream(actual.getVars()).map(Variable::toString).collect(Collectors.toList()),
+                Arrays.stream(expected.getVars()).map(Variable::toString).collect(Collectors.toList()));
+        Assert.assertEquals(
+                Arrays.stream(actual.getCstrs()).map(signature).collect(Collectors.toList()),
+                Arrays.stream(expected.getCstrs()).map(signature).collect(Collectors.toList()));
+        Assert.assertEquals(actual.getResolutionPolicy(), expected.getResolutionPolicy());
+    }
+
+    /**
+     * @param folder   a folder of the test resources
+     * @param maxSize  larger files are ignored
+     * @param suffixes accepted file suffixes
+     * @return the paths of the files of <i>folder</i>, sorted, as a data provider
+     */
+    public static Object[][] instanceFiles(String folder, long maxSize, String... suffixes) throws IOException {
+        Path root = Paths.get(Objects.requireNonNull(ParserTestUtils.class.getResource(folder)).getPath());
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(p -> Arrays.stream(suffixes).anyMatch(s -> p.toString().endsWith(s))
+                            && p.toFile().length() < maxSize)
+                    .sorted()
+                    .map(p -> new Object[]{p.toString()})
+                    .toArray(Object[][]::new);
+        }
+    }
+}
@@ -9,12 +9,18 @@
  */
 package org.chocosolver.parser.flatzinc;
 
+import org.chocosolver.parser.Level;
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Datas;
 import org.chocosolver.solver.Model;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /*
 * User : CPRUDHOM
@@ -113,4 +119,105 @@ public class FlatzincModelTest {
         Assert.assertEquals(model.getSolver().getSolutionCount(), 1);
     }
 
+
+    @Test(groups = "1s")
+    public void testTemplate() {
+        InputStream in = new ByteArrayInputStream(("array [1..3] of int: w = [3, 5, 7];\n" +
+                "array [1..3] of var 0..4: x :: output_array([1..3]);\n" +
+                "var 0..100: obj :: output_var;\n" +
+                "var bool: b :: output_var;\n" +
+                "constraint int_lin_le(w, x, 20);\n" +
+                "constraint int_lin_eq([1, 2, 3, -1], [x[1], x[2], x[3], obj], 0);\n" +
+                "constraint int_le_reif(x[1], x[2], b);\n" +
+                "solve :: int_search(x, input_order, indomain_min, complete) maximize obj;").getBytes());
+
+        Flatzinc fzn = new Flatzinc(false, false, 1);
+        fzn.createSettings();
+        fzn.createSolver();
+        FlatzincTemplate template = new FlatzincTemplate();
+        fzn.parse(fzn.getModel(), fzn.datas[0], in, template);
+        Assert.assertEquals(template.size(), 8);
+        Model[] models = new Model[3];
+        Datas[] datas = new Datas[3];
+        models[0] = fzn.getModel();
+        datas[0] = fzn.datas[0];
+        for (int i = 1; i < models.length; i++) {
+            models[i] = new Model(fzn.getSettings());
+            datas[i] = new Datas(models[i], Level.SILENT, false);
+            template.instantiate(models[i], datas[i]);
+        }
+        int best = -1;
+        for (int i = 0; i < models.length; i++) {
+            Model model = models[i];
+            Assert.assertEquals(model.getNbVars(), models[0].getNbVars());
+            Assert.assertEquals(model.getNbCstrs(), models[0].getNbCstrs());
+            Assert.assertEquals(datas[i].allOutPutVars().length, datas[0].allOutPutVars().length);
+            while (model.getSolver().solve()) ;
+            int value = model.getSolver().getObjectiveManager().getBestSolutionValue().intValue();
+            if (i == 0) {
+                best = value;
+            }
+            Assert.assertEquals(value, best);
+        }
+        Assert.assertEquals(best, 8);
+    }
+
+    @Test(groups = "1s")
+    public void testBinaryTemplate() throws IOException {
+        InputStream in = new ByteArrayInputStream(("array [1..3] of int: w = [3, 5, 7];\n" +
+                "set of int: S = {1, 3, 4};\n" +
+                "array [1..3] of var 0..4: x :: output_array([1..3]);\n" +
+                "var 0..100: obj :: output_var;\n" +
+                "var bool: b :: output_var;\n" +
+                "var {1, 3, 4}: y :: output_var;\n" +
+                "var set of 1..3: s :: output_var;\n" +
+                "constraint int_lin_le(w, x, 20);\n" +
+                "constraint int_lin_eq([1, 2, 3, -1], [x[1], x[2], x[3], obj], 0);\n" +
+                "constraint int_le_reif(x[1], x[2], b);\n" +
+                "constraint choco_fzn_table([x[3], y], [0, 1, 1, 3, 2, 4, 3, 1, 4, 3]);\n" +
+                "constraint set_card(s, x[1]);\n" +
+                "solve :: int_search(x, input_order, indomain_min, complete) maximize obj;").getBytes());
+
+        Flatzinc fzn = new Flatzinc(false, false, 1);
+        fzn.createSettings();
+        fzn.createSolver();
+        FlatzincTemplate template = new FlatzincTemplate();
+        fzn.parse(fzn.getModel(), fzn.datas[0], in, template);
+        Path file = Files.createTempFile("model", ".fzb");
+        try {
+            template.save(file);
+            FlatzincTemplate loaded = FlatzincTemplate.load(file);
+            Assert.assertEquals(loaded.size(), template.size());
+            Model[] models = new Model[3];
+            Datas[] datas = new Datas[3];
+            models[0] = fzn.getModel();
+            datas[0] = fzn.datas[0];
+            for (int i = 1; i < models.length; i++) {
+                models[i] = new Model(fzn.getSettings());
+                datas[i] = new Datas(models[i], Level.SILENT, false);
+                loaded.instantiate(models[i], datas[i]);
+            }
+            for (int i = 0; i < models.length; i++) {
+                Model model = models[i];
+                Assert.assertEquals(model.getNbVars(), models[0].getNbVars());
+                Assert.assertEquals(model.getNbCstrs(), models[0].getNbCstrs());
+                Assert.assertEquals(datas[i].allOutPutVars().length, datas[0].allOutPutVars().length);
+                while (model.getSolver().solve()) ;
+                Assert.assertEquals(model.getSolver().getObjectiveManager().getBestSolutionValue().intValue(), 8);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(groups = "1s", expectedExceptions = ParserException.class)
+    public void testBinaryTemplateCorrupted() throws IOException {
+        Path file = Files.createTempFile("model", ".fzb");
+        try {
+            Files.write(file, "constraint int_le(1, 2);".getBytes());
+            FlatzincTemplate.load(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.chocosolver.parser.Level;
+import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.solver.Model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Parse-throughput benchmark of the FlatZinc readers, the ANTLR-based parser against {@link FlatzincReader},
+ * on a generated instance made of large constant arrays, variables and linear constraints.
+ * Not a test: run its main method.
+ *
+ * @since 19/10/2026
+ */
+public class FlatzincReaderBenchmark {
+
+    private static final int NB_ARRAYS = 200;
+    private static final int ARRAY_SIZE = 5_000;
+    private static final int NB_VARS = 20_000;
+    private static final int NB_CSTRS = 50_000;
+    private static final int NB_RUNS = 5;
+
+    public static void main(String[] args) throws IOException {
+        Path fzn = Files.createTempFile("bench", ".fzn");
+        try {
+            Files.write(fzn, generate().getBytes());
+            double mb = Files.size(fzn) / (1024. * 1024.);
+            double antlr = time(fzn, true);
+            double reader = time(fzn, false);
+            System.out.printf("%.1f MB, %d constraints%n", mb, NB_ARRAYS + NB_CSTRS);
+            System.out.printf("  ANTLR-based: %.0f ms, %.1f MB/s%n", antlr * 1e3, mb / antlr);
+            System.out.printf("  streaming reader: %.0f ms, %.1f MB/s%n", reader * 1e3, mb / reader);
+        } finally {
+            Files.delete(fzn);
+        }
+    }
+
+    /**
+     * @return the best parsing time of <i>file</i> over a few runs, in seconds
+     */
+    private static double time(Path file, boolean antlr) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int k = 0; k < NB_RUNS; k++) {
+            Flatzinc fzn = new Flatzinc();
+            fzn.antlr = antlr;
+            Model model = new Model();
+            Datas datas = new Datas(model, Level.SILENT, false);
+            try (InputStream is = Files.newInputStream(file)) {
+                long t = System.nanoTime();
+                fzn.parse(model, datas, is);
+                best = Math.min(best, System.nanoTime() - t);
+            }
+        }
+        return best / 1e9;
+    }
+
+    private static String generate() {
+        StringBuilder st = new StringBuilder();
+        for (int a = 0; a < NB_ARRAYS; a++) {
+            st.append("array [1..").append(ARRAY_SIZE).append("] of int: t").append(a).append(" = [");
+            for (int i = 0; i < ARRAY_SIZE; i++) {
+                if (i > 0) st.append(", ");
+                st.append((i * 7919 + a) % 100_000 - 50_000);
+            }
+            st.append("];\n");
+        }
+        st.append("var 1..").append(ARRAY_SIZE).append(": x :: output_var;\n");
+        for (int i = 0; i < NB_VARS; i++) {
+            st.append("var 0..100: y").append(i).append(";\n");
+        }
+        for (int a = 0; a < NB_ARRAYS; a++) {
+            st.append("constraint array_int_element(x, t").append(a).append(", ").append(a - 50_000).append(");\n");
+        }
+        for (int c = 0; c < NB_CSTRS; c++) {
+            int i = (c * 31) % NB_VARS, j = (c * 17 + 1) % NB_VARS, k = (c * 7 + 2) % NB_VARS;
+            st.append("constraint int_lin_le([").append(1 + c % 5).append(", -").append(1 + c % 3).append(", 2], [y")
+                    .append(i).append(", y").append(j).append(", y").append(k).append("], ").append(100 + c % 50)
+                    .append(");\n");
+        }
+        st.append("solve satisfy;\n");
+        return st.toString();
+    }
+}
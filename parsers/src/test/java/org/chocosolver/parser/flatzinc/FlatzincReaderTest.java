@@ -0,0 +1,215 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.chocosolver.parser.Level;
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.parser.flatzinc.ast.expression.EIdentifier;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.chocosolver.parser.ParserTestUtils.assertSameModel;
+import static org.chocosolver.parser.ParserTestUtils.instanceFiles;
+
+/**
+ * Tests of {@link FlatzincReader}, compared to the ANTLR-based parser.
+ *
+ * @since 19/10/2026
+ */
+public class FlatzincReaderTest {
+
+    private static Model build(byte[] content, boolean antlr) {
+        return build(content, antlr, false);
+    }
+
+    private static Model build(byte[] content, boolean antlr, boolean tpc) {
+        Flatzinc fzn = new Flatzinc();
+        fzn.antlr = antlr;
+        fzn.tpc = tpc;
+        Model model = new Model();
+        Datas datas = new Datas(model, Level.SILENT, false);
+        fzn.parse(model, datas, new ByteArrayInputStream(content), null);
+        return model;
+    }
+
+    @DataProvider
+    public Object[][] instances() throws IOException {
+        // large instances are left to the "mzn" group
+        return instanceFiles("/flatzinc", 256 * 1024, ".fzn");
+    }
+
+    @Test(groups = "10s", dataProvider = "instances")
+    public void testSameModel(String file) throws IOException {
+        byte[] content = Files.readAllBytes(Paths.get(file));
+        Model expected;
+        try {
+            expected = build(content, true);
+        } catch (Exception e) {
+            // not supported by the ANTLR-based parser either
+            return;
+        }
+        assertSameModel(build(content, false), expected);
+        assertSameModel(build(content, false, true), expected);
+    }
+
+    @Test(groups = "1s")
+    public void testTwoPhases() {
+        StringBuilder st = new StringBuilder("array [1..4] of var 1..3: x :: output_array([1..4]);\n");
+        // x[i] < x[i+1] is not allowed: transitions 1 -1-> 1, 1 -2-> 2, 2 -1-> 1, 2 -2-> 2, 2 -3-> 2 ...
+        st.append("constraint fzn_regular(x, 2, 3, [1, 2, 0, 1, 2, 2], 1, {1, 2});\n");
+        for (int i = 1; i < 4; i++) {
+            st.append("constraint choco_fzn_table([x[").append(i).append("], x[").append(i + 1)
+                    .append("]], [1, 1, 1, 2, 2, 1, 2, 2, 3, 3]);\n");
+        }
+        st.append("constraint int_ne(x[1], x[4]);\n");
+        st.append("solve satisfy;\n");
+        byte[] content = st.toString().getBytes();
+        Model sequential = build(content, false, false);
+        Model twoPhases = build(content, false, true);
+        assertSameModel(twoPhases, sequential);
+        while (sequential.getSolver().solve()) ;
+        while (twoPhases.getSolver().solve()) ;
+        Assert.assertTrue(sequential.getSolver().getSolutionCount() > 0);
+        Assert.assertEquals(twoPhases.getSolver().getSolutionCount(), sequential.getSolver().getSolutionCount());
+        Assert.assertEquals(twoPhases.getSolver().getNodeCount(), sequential.getSolver().getNodeCount());
+    }
+
+    @Test(groups = "1s")
+    public void testReducedData() {
+        // state 3 is unreachable and the table has duplicated tuples: the sequential build reduces them,
+        // which must neither change the solutions nor the search
+        int[] d = {1, 2, 0, 1, 2, 2, 3, 3, 3};
+        int[] t = {1, 1, 1, 2, 1, 1, 2, 1, 2, 2, 3, 3, 2, 2};
+        StringBuilder st = new StringBuilder("array [1..4] of var 1..3: x :: output_array([1..4]);\n");
+        st.append("constraint fzn_regular(x, 3, 3, ").append(Arrays.toString(d)).append(", 1, {1, 2});\n");
+        for (int i = 1; i < 4; i++) {
+            st.append("constraint choco_fzn_table([x[").append(i).append("], x[").append(i + 1)
+                    .append("]], ").append(Arrays.toString(t)).append(");\n");
+        }
+        st.append("solve satisfy;\n");
+        Model parsed = build(st.toString().getBytes(), false);
+        IntVar[] px = Arrays.copyOf(parsed.retrieveIntVars(true), 4);
+        Assert.assertEquals(px[3].getName(), "x_4");
+
+        Model expected = new Model();
+        IntVar[] ex = expected.intVarArray("x", 4, 1, 3);
+        FiniteAutomaton auto = new FiniteAutomaton();
+        for (int q = 0; q <= 3; q++) auto.addState();
+        auto.setInitialState(1);
+        auto.setFinal(1, 2);
+        for (int i = 0, k = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++, k++) {
+                if (d[k] > 0) {
+                    auto.addTransition(i + 1, d[k], j + 1);
+                }
+            }
+        }
+        expected.regularDec(ex, auto);
+        Tuples tuples = new Tuples(true);
+        for (int k = 0; k < t.length; k += 2) {
+            tuples.add(t[k], t[k + 1]);
+        }
+        for (int i = 0; i < 3; i++) {
+            expected.table(ex[i], ex[i + 1], tuples).post();
+        }
+
+        parsed.getSolver().setSearch(Search.inputOrderLBSearch(px));
+        expected.getSolver().setSearch(Search.inputOrderLBSearch(ex));
+        while (parsed.getSolver().solve()) ;
+        while (expected.getSolver().solve()) ;
+        Assert.assertTrue(expected.getSolver().getSolutionCount() > 0);
+        Assert.assertEquals(parsed.getSolver().getSolutionCount(), expected.getSolver().getSolutionCount());
+        Assert.assertEquals(parsed.getSolver().getNodeCount(), expected.getSolver().getNodeCount());
+        Assert.assertEquals(parsed.getSolver().getFailCount(), expected.getSolver().getFailCount());
+    }
+
+    @Test(groups = "1s")
+    public void testLiterals() {
+        byte[] content = ("predicate my_pred(array [int] of var int: x, var int: y);\n" +
+                "% a comment\n" +
+                "bool: t = true;\n" +
+                "int: n = -3;\n" +
+                "set of int: S = 1..3;\n" +
+                "array [1..2] of set of int: T = [{}, {1, 2}];\n" +
+                "array [1..4] of int: w = [+1, -2, 2147483647, -2147483648];\n" +
+                "var -5..5: x :: output_var;\n" +
+                "var {1, 3, 5}: y :: output_var :: is_defined_var;\n" +
+                "var set of {1, 2, 4}: s :: output_var;\n" +
+                "array [1..2] of var int: z :: output_array([1..2]) = [x, y];\n" +
+                "constraint int_lin_le([1, 1], z, 6) :: domain;\n" +
+                "constraint set_card(s, y);\n" +
+                "constraint int_le(n, x);\n" +
+                "solve :: seq_search([int_search(z, input_order, indomain_max, complete)]) maximize x;\n").getBytes();
+        Model model = build(content, false);
+        assertSameModel(model, build(content, true));
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getObjectiveManager().getBestSolutionValue().intValue(), 5);
+    }
+
+    @Test(groups = "1s")
+    public void testError() {
+        byte[] content = ("var 1..3: x;\n" +
+                "constraint int_le(x 2);\n" +
+                "solve satisfy;\n").getBytes();
+        try {
+            build(content, false);
+            Assert.fail();
+        } catch (ParserException e) {
+            Assert.assertTrue(e.getMessage().contains("line 2"), e.getMessage());
+        }
+    }
+
+    @Test(groups = "1s")
+    public void testChannelRefill() {
+        // a long line, so that tokens cross the boundaries of the internal buffer
+        StringBuilder st = new StringBuilder("array [1..30000] of int: t = [");
+        for (int i = 0; i < 30_000; i++) {
+            if (i > 0) st.append(",   ");
+            st.append(1_000_000 + i);
+        }
+        st.append("];\nvar 1..30000: x :: output_var;\n")
+                .append("constraint array_int_element(x, t, 1012345);\n")
+                .append("solve satisfy;\n");
+        InputStream in = new ByteArrayInputStream(st.toString().getBytes());
+        Flatzinc fzn = new Flatzinc();
+        Model model = new Model();
+        fzn.parse(model, new Datas(model, Level.SILENT, false), in, null);
+        Assert.assertTrue(model.getSolver().solve());
+        Assert.assertEquals(model.getVars()[0].asIntVar().getValue(), 12346);
+    }
+
+    @Test(groups = "1s")
+    public void testArrayLengthOfNonArray() {
+        Datas datas = new Datas();
+        datas.register("t", new int[]{1, 2, 3});
+        datas.register("n", 3);
+        Assert.assertEquals(new EIdentifier(datas, "t").arrayLength(), 3);
+        try {
+            new EIdentifier(datas, "n").arrayLength();
+            Assert.fail();
+        } catch (ParserException e) {
+            Assert.assertTrue(e.getMessage().contains("Identifier n "));
+        }
+    }
+}
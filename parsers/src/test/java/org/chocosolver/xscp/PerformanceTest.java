@@ -98,4 +98,27 @@ public class PerformanceTest {
         }
     }
 
+    @Test(groups = "xcsp", dataProvider = "instances", timeOut = 60000)
+    public void testManyModels(String path, int solutions, Integer bst, int nodes, int failures) throws SetUpException {
+        String file = this.getClass().getResource(path).getFile();
+        String[] args = new String[]{
+                file,
+                "-limit", "[50s]",
+                "-lvl", "SILENT",
+                "-p", "3"
+        };
+        XCSP xcsp = new XCSP();
+        xcsp.setUp(args);
+        xcsp.createSolver();
+        xcsp.buildModel();
+        Assert.assertEquals(xcsp.parsers.length, 3);
+        xcsp.configureSearch();
+        xcsp.solve();
+        Assert.assertEquals(xcsp.getModel().getSolver().getSearchState(), SearchState.TERMINATED, "Unexpected search state");
+        Assert.assertEquals(xcsp.getModel().getSolver().getSolutionCount() > 0, solutions > 0, "Unexpected satisfiability");
+        if (bst != null) {
+            Assert.assertEquals(xcsp.getModel().getSolver().getObjectiveManager().getBestSolutionValue(), bst, "Unexpected best solution");
+        }
+    }
+
 }
@@ -53,7 +53,9 @@ module org.chocosolver.solver {
     exports org.chocosolver.solver.constraints.nary.cumulative;
     exports org.chocosolver.solver.constraints.nary.element;
     exports org.chocosolver.solver.constraints.nary.globalcardinality;
+    exports org.chocosolver.solver.constraints.nary.lagrangian;
     exports org.chocosolver.solver.constraints.nary.lex;
+    exports org.chocosolver.solver.constraints.nary.lp;
     exports org.chocosolver.solver.constraints.nary.min_max;
     exports org.chocosolver.solver.constraints.nary.nvalue;
     //exports org.chocosolver.solver.constraints.nary.nvalue.amnv.graph;
@@ -76,6 +78,7 @@ module org.chocosolver.solver {
     exports org.chocosolver.solver.expression.discrete.logical;
     exports org.chocosolver.solver.expression.discrete.relational;
     exports org.chocosolver.solver.objective;
+    exports org.chocosolver.solver.presolve;
     exports org.chocosolver.solver.propagation;
     exports org.chocosolver.solver.search;
     exports org.chocosolver.solver.search.limits;
@@ -123,6 +126,8 @@ module org.chocosolver.solver {
     exports org.chocosolver.util.objects.setDataStructures.linkedlist;
     exports org.chocosolver.util.objects.setDataStructures.swapList;
     exports org.chocosolver.util.objects.setDataStructures.constant;
+    exports org.chocosolver.util.objects.setDataStructures.csr;
+    exports org.chocosolver.util.objects.setDataStructures.adaptive;
     exports org.chocosolver.util.objects.tree;
     exports org.chocosolver.util.procedure;
     exports org.chocosolver.util.sort;
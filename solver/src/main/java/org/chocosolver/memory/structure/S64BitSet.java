@@ -535,6 +535,37 @@ public class S64BitSet implements IStateBitSet {
                 (BITS_PER_WORD - Long.numberOfLeadingZeros(words[wiu - 1].get()));
     }
 
+    /**
+     * Returns the word of bits at the specified index.
+     *
+     * @param wordIndex a word index, bits <code>64 * wordIndex</code> to <code>64 * wordIndex + 63</code>.
+     * @return the word, 0 if the index is negative or beyond the words in use.
+     */
+    public long getWord(int wordIndex) {
+        if (wordIndex < 0 || wordIndex >= wordsInUse.get())
+            return 0;
+        return words[wordIndex].get();
+    }
+
+    /**
+     * Replaces the word of bits at the specified index, only saving it when it changes.
+     *
+     * @param wordIndex a word index, bits <code>64 * wordIndex</code> to <code>64 * wordIndex + 63</code>.
+     * @param word      the new bits.
+     * @throws IndexOutOfBoundsException if the specified index is negative.
+     */
+    public void setWord(int wordIndex, long word) {
+        if (wordIndex < 0)
+            throw new IndexOutOfBoundsException("wordIndex < 0: " + wordIndex);
+        if (getWord(wordIndex) == word)
+            return;
+        expandTo(wordIndex);
+        words[wordIndex].set(word);
+        if (word == 0)
+            recalculateWordsInUse();
+        if (CHECK) checkInvariants();
+    }
+
     /**
      * Returns true if this <code>BitSet</code> contains no bits that are set
      * to <code>true</code>.
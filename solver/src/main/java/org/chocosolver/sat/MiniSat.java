@@ -241,6 +241,61 @@ public class MiniSat implements SatFactory, Dimacs {
         return addClause(temporary_add_vector_);
     }
 
+    /**
+     * Add clauses in bulk to the solver.
+     * Clauses are stored one after the other in {@code arena}, from index {@code from} (inclusive)
+     * to index {@code to} (exclusive), each of them being preceded by its size:
+     * <pre>size<sub>1</sub>, l<sub>1,1</sub>, ..., l<sub>1,size<sub>1</sub></sub>, size<sub>2</sub>, ...</pre>
+     * Literals of a clause are sorted in place.
+     * Unlike {@link #addClause(TIntList)}, deductions made from unit clauses are propagated once,
+     * after all clauses are added.
+     *
+     * @param arena clauses, preceded by their size
+     * @param from  index of the size of the first clause
+     * @param to    index following the last literal of the last clause
+     * @return {@code false} if the Boolean formula is unsatisfiable.
+     */
+    public boolean addClauses(int[] arena, int from, int to) {
+        assert 0 == trailMarker();
+        if (!ok_) return false;
+        clauses.ensureCapacity(clauses.size() + (to - from) / 3);
+        int i = from;
+        next:
+        while (i < to) {
+            int size = arena[i++];
+            int end = i + size;
+            Arrays.sort(arena, i, end);
+            // Check if clause is satisfied and remove false/duplicated literals:
+            int lit = litUndef;
+            int j = i;
+            for (int k = i; k < end; k++) {
+                int l = arena[k];
+                Boolean v = valueLit(l);
+                if (v == Boolean.lTrue || l == neg(lit)) {
+                    i = end;
+                    continue next;
+                } else if (v != Boolean.lFalse && l != lit) {
+                    lit = l;
+                    arena[j++] = lit;
+                }
+            }
+            switch (j - i) {
+                case 0:
+                    return (ok_ = false);
+                case 1:
+                    uncheckedEnqueue(arena[i]);
+                    break;
+                default:
+                    Clause cr = new Clause(arena, i, j);
+                    clauses.add(cr);
+                    attachClause(cr);
+                    break;
+            }
+            i = end;
+        }
+        return (ok_ = propagate() == CR_Undef);
+    }
+
     // Incremental propagation.
     boolean initPropagator() {
         touched_variables_.resetQuick();
@@ -915,6 +970,11 @@ public class MiniSat implements SatFactory, Dimacs {
             this(ps, false);
         }
 
+        Clause(int[] ps, int from, int to) {
+            literals_ = Arrays.copyOfRange(ps, from, to);
+            this.learnt = false;
+        }
+
         public int size() {
             return literals_.length;
         }
@@ -0,0 +1,200 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.Variable;
+
+import java.lang.reflect.Array;
+import java.util.IdentityHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * The context of a duplication of a {@link Model}, see {@link Model#duplicate(String)}.
+ * <p>
+ * It maps each variable, constraint and propagator of the source model to its copy in the target model.
+ * Copies are built by the objects themselves, through their <code>duplicate(Model, DuplicationContext)</code> method
+ * (see {@link Variable#duplicate(Model, DuplicationContext)}, {@link Constraint#duplicate(Model, DuplicationContext)}
+ * and {@link Propagator#duplicate(Model, DuplicationContext)}), which is expected to:
+ * <ol>
+ *     <li>do nothing if the object is already known by the context,</li>
+ *     <li>otherwise, build a new instance in the target model, on the copies of the objects it depends on
+ *     (obtained with the <code>get</code> methods of the context),</li>
+ *     <li>and declare it with {@link #put(Object, Object)}.</li>
+ * </ol>
+ * A variable or a propagator which does not override its <code>duplicate</code> method,
+ * even if one of its super classes does, cannot be duplicated and a {@link SolverException} is thrown.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @since 19/10/2026
+ */
+public final class DuplicationContext {
+
+    /**
+     * The model to copy
+     */
+    private final Model source;
+    /**
+     * The copy
+     */
+    private final Model target;
+    /**
+     * Maps objects of the source to their copy
+     */
+    private final IdentityHashMap<Object, Object> copies;
+
+    /**
+     * Create a duplication context from <i>source</i> to <i>target</i>.
+     *
+     * @param source       the model to copy
+     * @param target       an empty model, to fill
+     * @param expectedSize expected number of objects to copy
+     */
+    DuplicationContext(Model source, Model target, int expectedSize) {
+        this.source = source;
+        this.target = target;
+        this.copies = new IdentityHashMap<>(expectedSize);
+    }
+
+    /**
+     * @return the model being copied
+     */
+    public Model getSource() {
+        return source;
+    }
+
+    /**
+     * @return the copy being built
+     */
+    public Model getTarget() {
+        return target;
+    }
+
+    /**
+     * @param object an object of the source model
+     * @return <i>true</i> if a copy of <i>object</i> is already known
+     */
+    public boolean contains(Object object) {
+        return copies.containsKey(object);
+    }
+
+    /**
+     * Declare <i>copy</i> as the copy of <i>object</i>.
+     *
+     * @param object an object of the source model
+     * @param copy   its copy, of the same class, but for constraints which can be copied as a {@link Constraint}
+     * @throws SolverException if <i>copy</i> and <i>object</i> are not of the same class,
+     *                         that is, if the <code>duplicate</code> method is inherited
+     */
+    public void put(Object object, Object copy) {
+        if (!(object instanceof Constraint) && copy.getClass() != object.getClass()) {
+            throw unsupported(object);
+        }
+        copies.put(object, copy);
+    }
+
+    /**
+     * @param var a variable of the source model
+     * @param <V> the type of variable
+     * @return the copy of <i>var</i> in the target model, built if needed
+     * @throws SolverException if <i>var</i> cannot be duplicated
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Variable> V get(V var) {
+        if (var == null) {
+            return null;
+        }
+        if (!copies.containsKey(var)) {
+            var.duplicate(target, this);
+        }
+        return (V) lookup(var);
+    }
+
+    /**
+     * @param vars variables of the source model
+     * @param <V>  the type of variables
+     * @return a new array made of the copies of <i>vars</i> in the target model
+     * @throws SolverException if one of <i>vars</i> cannot be duplicated
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Variable> V[] get(V[] vars) {
+        V[] copy = (V[]) Array.newInstance(vars.getClass().getComponentType(), vars.length);
+        for (int i = 0; i < vars.length; i++) {
+            copy[i] = get(vars[i]);
+        }
+        return copy;
+    }
+
+    /**
+     * @param propagator a propagator of the source model
+     * @param <P>        the type of propagator
+     * @return the copy of <i>propagator</i> in the target model, built if needed
+     * @throws SolverException if <i>propagator</i> cannot be duplicated
+     */
+    @SuppressWarnings("unchecked")
+    public <P extends Propagator<?>> P get(P propagator) {
+        if (!copies.containsKey(propagator)) {
+            propagator.duplicate(target, this);
+        }
+        return (P) lookup(propagator);
+    }
+
+    /**
+     * @param constraint a constraint of the source model
+     * @param <C>        the type of constraint
+     * @return the copy of <i>constraint</i> in the target model, built if needed
+     * @throws SolverException if <i>constraint</i> cannot be duplicated
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Constraint> C get(C constraint) {
+        if (!copies.containsKey(constraint)) {
+            constraint.duplicate(target, this);
+        }
+        return (C) lookup(constraint);
+    }
+
+    /**
+     * Return the copy of an object which is neither a variable, a constraint nor a propagator,
+     * but which may be shared by several of them (like a filtering algorithm).
+     *
+     * @param object an object of the source model
+     * @param copier builds a copy of <i>object</i>, called the first time <i>object</i> is requested
+     * @param <T>    the type of object
+     * @return the copy of <i>object</i>, built if needed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(T object, UnaryOperator<T> copier) {
+        if (!copies.containsKey(object)) {
+            put(object, copier.apply(object));
+        }
+        return (T) copies.get(object);
+    }
+
+    private Object lookup(Object object) {
+        Object copy = copies.get(object);
+        if (copy == null) {
+            throw unsupported(object);
+        }
+        return copy;
+    }
+
+    /**
+     * @param object an object that cannot be duplicated
+     * @return the exception to throw
+     */
+    public static SolverException unsupported(Object object) {
+        return new SolverException("Cannot duplicate " + object + ": " + object.getClass().getName()
+                + " does not define duplicate(Model, DuplicationContext)");
+    }
+}
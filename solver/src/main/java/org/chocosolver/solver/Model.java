@@ -23,10 +23,14 @@ import org.chocosolver.solver.constraints.nary.cnf.SatConstraint;
 import org.chocosolver.solver.constraints.real.IbexHandler;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.expression.discrete.arithmetic.ExpressionCache;
 import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
 import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.variables.*;
+import org.chocosolver.util.PoolManager;
+import org.chocosolver.util.graphOperations.connectivity.UGVarIncrementalConnectivity;
 import org.chocosolver.util.tools.VariableUtils;
 
 import java.util.*;
@@ -82,6 +86,11 @@ public class Model implements IModel {
      */
     private final TIntObjectHashMap<IntVar> cachedConstants;
 
+    /**
+     * A cache of the variables of expressions, to share identical sub-expressions, lazily created
+     */
+    private ExpressionCache cachedExpressions;
+
     /**
      * Variables of the model
      */
@@ -299,6 +308,21 @@ public class Model implements IModel {
         return cachedConstants;
     }
 
+    /**
+     * Get the cache of variables created by the decomposition of expressions,
+     * to avoid creating multiple identical intermediary variables and constraints.
+     * Should not be called by the user.
+     *
+     * @return the cache of expressions
+     * @see Settings#enableExpressionCaching()
+     */
+    public ExpressionCache getCachedExpressions() {
+        if (cachedExpressions == null) {
+            cachedExpressions = new ExpressionCache(settings.enableExpressionCaching());
+        }
+        return cachedExpressions;
+    }
+
     /**
      * The basic "true" constraint, which is always satisfied
      *
@@ -762,6 +786,84 @@ public class Model implements IModel {
         this.getSolver().getMeasures().setModelName(name);
     }
 
+    /**
+     * Returns a copy of this model, with the same name.
+     *
+     * @return a copy of this model
+     * @see #duplicate(String)
+     */
+    public Model duplicate() {
+        return duplicate(name);
+    }
+
+    /**
+     * Returns a copy of this model, named <i>name</i>, built on a fresh environment and with the same settings.
+     * <p>
+     * Variables (including views and constants), constraints, the objective, the tasks
+     * and the hooks referring to variables (or arrays of variables) are duplicated.
+     * Variables and constraints are declared in the same order as in this model,
+     * so the copy of an object can be obtained with {@link #getVars()} and {@link #getCstrs()}.
+     * The search strategy declared in the solver, if any, is duplicated too
+     * (see {@link AbstractStrategy#duplicate(DuplicationContext)}),
+     * but the other settings of the solver (limits, monitors, moves, ...) are not.
+     * </p>
+     * <p>
+     * Each object is copied by its own <code>duplicate(Model, DuplicationContext)</code> method,
+     * see {@link DuplicationContext} for more details.
+     * This model is only read, so many copies can be built concurrently, for instance
+     * to feed a {@link ParallelPortfolio}.
+     * </p>
+     *
+     * @param name name of the copy
+     * @return a copy of this model
+     * @throws SolverException if the resolution of this model has started or if an object cannot be duplicated
+     */
+    public Model duplicate(String name) {
+        if (solver.getEngine().isInitialized()) {
+            throw new SolverException("Cannot duplicate a model whose resolution has started");
+        }
+        Model copy = new Model(name, settings);
+        copy.seed = seed;
+        copy.precision = precision;
+        DuplicationContext context = new DuplicationContext(this, copy, 2 * (vIdx + cIdx));
+        for (int i = 0; i < vIdx; i++) {
+            context.get(vars[i]);
+        }
+        cachedConstants.forEachEntry((k, v) -> {
+            copy.cachedConstants.put(k, context.get(v));
+            return true;
+        });
+        for (int i = 0; i < cIdx; i++) {
+            copy.post(context.get(cstrs[i]));
+        }
+        hooks.forEach((k, h) -> {
+            if (h instanceof Variable) {
+                copy.hooks.put(k, context.get((Variable) h));
+            } else if (h instanceof Variable[]) {
+                copy.hooks.put(k, context.get((Variable[]) h));
+            } else if (k.equals(TASK_SET_HOOK_NAME)) {
+                // tasks declare themselves in the hook of the copy
+                //noinspection unchecked
+                for (Task t : (List<Task>) h) {
+                    new Task(context.get(t.getStart()), context.get(t.getDuration()), context.get(t.getEnd()));
+                }
+            } else if (!k.equals("cinstances") && !(h instanceof PoolManager)
+                    && !(h instanceof UGVarIncrementalConnectivity)) {
+                // declared constraints, pools of operations and connectivity structures
+                // are maintained by the copy itself
+                throw DuplicationContext.unsupported(h);
+            }
+        });
+        if (objective != null) {
+            copy.setObjective(policy == ResolutionPolicy.MAXIMIZE, context.get(objective));
+        }
+        AbstractStrategy<Variable> search = solver.getSearch();
+        if (search != null) {
+            copy.getSolver().setSearch(context.get(search, s -> s.duplicate(context)));
+        }
+        return copy;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////         RELATED TO VAR              ////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -15,6 +15,9 @@ import org.chocosolver.solver.constraints.nary.sat.NogoodStealer;
 import org.chocosolver.solver.constraints.real.RealConstraint;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.objective.ParetoArchive;
+import org.chocosolver.solver.objective.ParetoMaximizer;
+import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.loop.lns.INeighborFactory;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
@@ -31,6 +34,8 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -245,6 +250,30 @@ public class ParallelPortfolio {
         this.reliableness.put(model, reliable);
     }
 
+    /**
+     * <p>
+     * Adds a populated model and <i>nbCopies</i> copies of it to the list of models to run in parallel.
+     * Copies are built concurrently with {@link Model#duplicate(String)}, which avoids populating each model.
+     * The search strategy of <i>model</i>, if any, is copied too, so copies branch on the same decision variables.
+     * All these models are considered as reliable.
+     * </p>
+     * <p>
+     * <b>Important:</b> the objective variable, if any, <b>HAS</b> to be declared before calling this method.
+     * </p>
+     *
+     * @param model    a populated model
+     * @param nbCopies number of copies of <i>model</i> to add
+     */
+    public void addModelAndCopies(Model model, int nbCopies) {
+        Model[] copies = new Model[nbCopies];
+        IntStream.range(0, nbCopies).parallel()
+                .forEach(i -> copies[i] = model.duplicate(model.getName() + "_" + (i + 1)));
+        addModel(model);
+        for (Model copy : copies) {
+            addModel(copy);
+        }
+    }
+
     /**
      * Run the solve() instruction of every model of the portfolio in parallel.
      *
@@ -377,6 +406,88 @@ public class ParallelPortfolio {
         return StreamSupport.stream(it, false);
     }
 
+    /**
+     * Attempts to compute the Pareto front of the declared problem, all models running in parallel.
+     * <p>
+     * Each model enumerates solutions and shares them through a single {@link ParetoArchive}:
+     * any solution found by a model is used by the others to filter their objectives.
+     * The search ends as soon as a reliable model proves that the front is complete,
+     * or when all models stop.
+     * </p>
+     * <p>
+     * Models should not declare an objective with {@link Model#setObjective(boolean, Variable)}.
+     * Note that all variables will be recorded and that a solution is attached to the model which found it.
+     * </p>
+     *
+     * @param objectives function which returns, for a given model, the array of variables to optimize.
+     *                   Arrays returned must be of the same size and consistently ordered.
+     * @param maximize   set to <tt>true</tt> to solve a maximization problem, set to <tt>false</tt> to solve a minimization
+     *                   problem.
+     * @return a list that contained the solutions found.
+     * @throws SolverException if no model has been added.
+     */
+    public List<Solution> findParetoFront(Function<Model, IntVar[]> objectives, boolean maximize) {
+        if (models.isEmpty()) {
+            throw new SolverException("No model found in the ParallelPortfolio.");
+        }
+        getSolverTerminated().set(false);
+        getSolutionFound().set(false);
+        getSolverRunning().set(models.size());
+        if (!isPrepared) {
+            prepare();
+        }
+        ParetoArchive<Solution> archive = null;
+        Constraint[] paretos = new Constraint[models.size()];
+        ParetoMaximizer[] maximizers = new ParetoMaximizer[models.size()];
+        for (int i = 0; i < models.size(); i++) {
+            Model m = models.get(i);
+            IntVar[] objs = Stream.of(objectives.apply(m))
+                    .map(o -> maximize ? o : m.intMinusView(o)).toArray(IntVar[]::new);
+            if (archive == null) {
+                archive = new ParetoArchive<>(objs.length);
+            }
+            maximizers[i] = new ParetoMaximizer(objs, archive);
+            paretos[i] = new Constraint("PARETO", maximizers[i]);
+            paretos[i].post();
+        }
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        try {
+            forkJoinPool.submit(() -> IntStream.range(0, models.size()).parallel().forEach(i -> {
+                Model m = models.get(i);
+                if (!getSolverTerminated().get()) {
+                    while (m.getSolver().solve()) {
+                        maximizers[i].onSolution();
+                    }
+                    // only ever raise the flag, a worker ending later must not reset it
+                    if ((reliableness.get(m) && m.getSolver().getSearchState() == SearchState.TERMINATED)
+                            || getSolverRunning().decrementAndGet() <= 0) {
+                        getSolverTerminated().set(true);
+                    }
+                }
+            })).get();
+        } catch (InterruptedException | ExecutionException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof SolverException) {
+                throw (SolverException) cause;
+            }
+            // a partial front must not be returned as if the search had completed
+            SolverException se = new SolverException("A model of the ParallelPortfolio failed " +
+                    "while computing the Pareto front: " + cause);
+            se.initCause(cause);
+            throw se;
+        } finally {
+            forkJoinPool.shutdownNow();
+            getSolverTerminated().set(false);
+            for (int i = 0; i < models.size(); i++) {
+                models.get(i).unpost(paretos[i]);
+            }
+        }
+        return archive.getPayloads();
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
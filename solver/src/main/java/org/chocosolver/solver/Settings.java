@@ -13,6 +13,7 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.ISatFactory;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.real.Ibex;
+import org.chocosolver.solver.presolve.Presolver;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.util.ESat;
@@ -42,10 +43,14 @@ public class Settings {
 
     private int maxDomSizeForEnumerated = 1 << 16;
 
+    private int maxDomSizeForBitset = 1 << 16;
+
     private int minCardForSumDecomposition = 50;
 
     private boolean enableTableSubstitution = true;
 
+    private boolean enableExpressionCaching = false;
+
     private int maxTupleSizeForSubstitution = 10_000;
 
     private boolean sortPropagatorActivationWRTPriority = true;
@@ -60,6 +65,8 @@ public class Settings {
 
     private IntPredicate enableIncrementalityOnBoolSum = i -> i > 10;
 
+    private IntPredicate enableIncrementalityOnMixedScalar = i -> i > 10;
+
     private boolean enableSAT = false;
 
     private boolean swapOnPassivate = true;
@@ -84,10 +91,16 @@ public class Settings {
 
     private boolean explainGlobalFailureInSum = false;
 
+    private boolean enablePresolve = false;
+
+    private boolean enableModelCompilation = false;
+
     private double ibexContractionRatio = Ibex.RATIO;
 
     private boolean ibexRestoreRounding = Ibex.PRESERVE_ROUNDING;
 
+    private boolean enableIbex = true;
+
     private Function<Model, Solver> initSolver = Solver::new;
 
     private final HashMap<String, Object> additionalSettings = new HashMap<>();
@@ -227,6 +240,25 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return maximum domain span for an enumerated integer variable to be based on a bitset
+     */
+    public int getMaxDomSizeForBitset() {
+        return maxDomSizeForBitset;
+    }
+
+    /**
+     * Define the maximum domain span for an enumerated integer variable to be based on a bitset.
+     * Above it, the domain is stored as an interval with holes, which are created on demand.
+     *
+     * @param maxDomSizeForBitset domain span threshold
+     * @return the current instance
+     */
+    public Settings setMaxDomSizeForBitset(int maxDomSizeForBitset) {
+        this.maxDomSizeForBitset = maxDomSizeForBitset;
+        return this;
+    }
+
     /**
      * @return minimum number of cardinality threshold to a sum constraint to be decomposed
      */
@@ -268,6 +300,26 @@ public class Settings {
     }
 
 
+    /**
+     * @return <tt>true</tt> if identical sub-expressions share the same intermediary variable
+     */
+    public boolean enableExpressionCaching() {
+        return enableExpressionCaching;
+    }
+
+    /**
+     * Define whether identical sub-expressions, declared in the same model, are decomposed once
+     * and share the same intermediary variable.
+     * Must be set before the first expression is decomposed.
+     *
+     * @param enableExpressionCaching enable expression caching
+     * @return the current instance
+     */
+    public Settings setEnableExpressionCaching(boolean enableExpressionCaching) {
+        this.enableExpressionCaching = enableExpressionCaching;
+        return this;
+    }
+
     /**
      * @return maximum domain size threshold to replace intension constraints by extension constraints
      */
@@ -412,6 +464,26 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @param nbvars number of variables in the constraint
+     * @return {@code true} if the incrementality is enabled on mixed integer/real scalar products,
+     * based on the number of variables involved.
+     */
+    public boolean enableIncrementalityOnMixedScalar(int nbvars) {
+        return enableIncrementalityOnMixedScalar.test(nbvars);
+    }
+
+    /**
+     * Define the predicate to choose incremental mixed integer/real scalar product, based on number variables declared
+     *
+     * @param enableIncrementalityOnMixedScalar predicate to pick declare scalar product
+     * @return the current instance
+     */
+    public Settings setEnableIncrementalityOnMixedScalar(IntPredicate enableIncrementalityOnMixedScalar) {
+        this.enableIncrementalityOnMixedScalar = enableIncrementalityOnMixedScalar;
+        return this;
+    }
+
     /**
      * @return <i>true</i> when an underlying SAT solver is used to manage clauses declared through {@link ISatFactory},
      * <i>false</i> when clauses are managed with CSP constraints only.
@@ -432,6 +504,44 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return <i>true</i> if the model is simplified by a {@link Presolver} before the resolution starts.
+     */
+    public boolean enablePresolve() {
+        return enablePresolve;
+    }
+
+    /**
+     * Indicate if the model is simplified by a {@link Presolver} on the first call to {@link Solver#solve()}.
+     *
+     * @param enablePresolve {@code true} to presolve the model
+     * @return the current instance
+     */
+    public Settings setEnablePresolve(boolean enablePresolve) {
+        this.enablePresolve = enablePresolve;
+        return this;
+    }
+
+    /**
+     * @return <i>true</i> if small groups of constraints are compiled into extension constraints by the presolver.
+     */
+    public boolean enableModelCompilation() {
+        return enableModelCompilation;
+    }
+
+    /**
+     * Indicate if small groups of constraints are compiled into extension constraints,
+     * see {@link org.chocosolver.solver.presolve.SubNetworkCompiler}.
+     * Only checked when {@link #enablePresolve()} returns {@code true}
+     *
+     * @param enableModelCompilation {@code true} to compile small groups of constraints
+     * @return the current instance
+     */
+    public Settings setEnableModelCompilation(boolean enableModelCompilation) {
+        this.enableModelCompilation = enableModelCompilation;
+        return this;
+    }
+
     /**
      * @return <i>true</i> if, on propagator passivation, the propagator is swapped from active to passive in its variables' propagators list.
      * <i>false</i> if, on propagator passivation, only the propagator's state is set to PASSIVE.
@@ -546,8 +656,9 @@ public class Settings {
 
     /**
      * @return <i>0b00<i/> if constraint-oriented propagation engine,
-     * <i>0b01<i/> if hybridization between variable and constraint oriented and
-     * <i>0b10<i/> if variable-oriented.
+     * <i>0b01<i/> if hybridization between variable and constraint oriented,
+     * <i>0b10<i/> if variable-oriented and
+     * <i>0b11<i/> if variable events are batched per priority level.
      */
     public byte enableHybridizationOfPropagationEngine() {
         return hybridEngine;
@@ -560,7 +671,10 @@ public class Settings {
      * @param hybrid When set to '0b00', this works as a constraint-oriented propagation engine;
      *               when set to '0b01', this workds as an hybridization between variable and constraint oriented
      *               propagation engine.
-     *               when set to '0b10', this workds as a variable- oriented propagation engine.
+     *               when set to '0b10', this workds as a variable- oriented propagation engine;
+     *               when set to '0b11', modified variables are batched while a priority queue is emptied
+     *               and their propagators are scheduled once, with the aggregated event mask,
+     *               before the next queue is popped.
      * @return the current instance
      */
     public Settings setHybridizationOfPropagationEngine(byte hybrid) {
@@ -749,6 +863,31 @@ public class Settings {
         return ibexRestoreRounding;
     }
 
+    /**
+     * @return <tt>true</tt> if real constraints declared with Ibex functions are filtered by Ibex
+     */
+    public boolean enableIbex() {
+        return enableIbex;
+    }
+
+    /**
+     * Define how real constraints declared with Ibex functions, like
+     * {@link org.chocosolver.solver.constraints.IRealConstraintFactory#realIbexGenericConstraint(String, org.chocosolver.solver.variables.Variable...)},
+     * are filtered.
+     * When set to <i>true</i> (default value), they are delegated to Ibex, which requires the native library.
+     * When set to <i>false</i>, the functions are parsed into continuous expressions and
+     * filtered in Java by {@link org.chocosolver.solver.expression.continuous.relational.PropEquation}
+     * (HC4 and box consistency), with outward-rounded interval arithmetic.
+     * Must be set before the first real constraint is declared.
+     *
+     * @param enableIbex set to <i>false</i> to filter real constraints without Ibex
+     * @return the current instance
+     */
+    public Settings setEnableIbex(boolean enableIbex) {
+        this.enableIbex = enableIbex;
+        return this;
+    }
+
     public Object get(String key) {
         return additionalSettings.get(key);
     }
@@ -18,6 +18,7 @@ import org.chocosolver.solver.learn.AbstractEventObserver;
 import org.chocosolver.solver.objective.IBoundsManager;
 import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
+import org.chocosolver.solver.presolve.Presolver;
 import org.chocosolver.solver.propagation.PropagationEngine;
 import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.limits.ICounter;
@@ -233,6 +234,11 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     private Logger logger = new ANSILogger();
 
+    /**
+     * The presolver, if the model was presolved
+     */
+    private Presolver presolver;
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -385,6 +391,18 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
                 }
             }
         }
+        if (presolver == null && mModel.getSettings().enablePresolve()) {
+            presolver = new Presolver(mModel);
+            try {
+                presolver.presolve();
+            } catch (ContradictionException ce) {
+                // the initial propagation will fail
+                mModel.post(mModel.falseConstraint());
+            }
+            if (mModel.getSettings().warnUser()) {
+                logger.white().println(presolver.toString());
+            }
+        }
         engine.initialize();
         getMeasures().setReadingTimeCount(System.nanoTime() - mModel.getCreationTime());
         // end note
@@ -875,6 +893,14 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return mModel;
     }
 
+    /**
+     * @return the presolver which simplified the model, or <i>null</i> if the model was not presolved
+     * @see Settings#setEnablePresolve(boolean)
+     */
+    public Presolver getPresolver() {
+        return presolver;
+    }
+
     /**
      * @return the current learn.
      */
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.reification.Opposite;
 import org.chocosolver.solver.exception.SolverException;
@@ -409,6 +410,38 @@ public class Constraint {
         opposite.opposite = this;
     }
 
+    /**
+     * Build a copy of this constraint in <i>model</i> and declare it in <i>context</i>,
+     * unless <i>context</i> already knows it.
+     * This method is called when a model is duplicated, see {@link Model#duplicate(String)}.
+     * <p>
+     * By default, the copy is a {@link Constraint} made of the copies of the propagators of this constraint.
+     * It is linked to the copies of the reifying variable and of the opposite constraint, if any.
+     * The status of the copy is left to the caller.
+     * </p>
+     *
+     * @param model   the model being built
+     * @param context the duplication context
+     * @throws SolverException if a propagator of this constraint cannot be duplicated
+     */
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            Propagator<?>[] props = new Propagator<?>[propagators.length];
+            for (int i = 0; i < propagators.length; i++) {
+                props[i] = context.get(propagators[i]);
+            }
+            Constraint copy = new Constraint(name, props);
+            copy.enabled = enabled;
+            context.put(this, copy);
+            if (boolReif != null) {
+                copy.boolReif = context.get(boolReif);
+            }
+            if (opposite != null) {
+                copy.setOpposite(context.get(opposite));
+            }
+        }
+    }
+
     /**
      * Make the opposite constraint of this.
      * BEWARE: this method should never be called by the user
@@ -93,8 +93,12 @@ public class ConstraintsName {
 
     public static final String LEXCHAIN = "LEXCHAIN";
 
+    public static final String LAGRANGIAN = "LAGRANGIAN";
+
     public static final String LEX = "LEX";
 
+    public static final String LPRELAXATION = "LPRELAXATION";
+
     public static final String MDDC = "MDDC";
 
     public static final String MULTICOSTREGULAR = "MULTICOSTREGULAR";
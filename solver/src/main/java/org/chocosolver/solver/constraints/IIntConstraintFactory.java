@@ -47,9 +47,12 @@ import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.knapsack.PropKnapsack;
 import org.chocosolver.solver.constraints.nary.knapsack.PropKnapsackKatriel01;
+import org.chocosolver.solver.constraints.nary.lagrangian.DualizedConstraint;
+import org.chocosolver.solver.constraints.nary.lagrangian.PropLagrangianRelaxation;
 import org.chocosolver.solver.constraints.nary.lex.PropIncreasing;
 import org.chocosolver.solver.constraints.nary.lex.PropLex;
 import org.chocosolver.solver.constraints.nary.lex.PropLexChain;
+import org.chocosolver.solver.constraints.nary.lp.PropLinearRelaxation;
 import org.chocosolver.solver.constraints.nary.min_max.*;
 import org.chocosolver.solver.constraints.nary.nvalue.*;
 import org.chocosolver.solver.constraints.nary.nvalue.amnv.graph.Gci;
@@ -1802,6 +1805,57 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Constraint(ConstraintsName.LEX, new PropLex(vars1, vars2, false));
     }
 
+    /**
+     * Creates a constraint which bounds <i>objective</i> with the LP relaxation of the linear constraints
+     * (namely, {@link #sum(IntVar[], String, int)} and {@link #scalar(IntVar[], int[], String, int)} ones, and those
+     * linear constraints some global constraints, like {@link #knapsack(IntVar[], IntVar, IntVar, int[], int[])},
+     * are made of) <b>posted so far</b> in the model.
+     * The LP is solved with a dual simplex, warm started from the last basis, and reduced-cost fixing is applied on
+     * the variables of the relaxation.
+     * <p>
+     * This constraint is redundant and is only relevant when dealing with an optimization problem
+     * whose objective is <i>objective</i>. It should be posted after any other linear constraint.
+     * <p>
+     * The dual simplex relies on a dense tableau, so when the LP is too large
+     * (see {@link org.chocosolver.solver.constraints.nary.lp.DualSimplex#MAX_SIZE}),
+     * no relaxation is done and a TRUE constraint is returned.
+     *
+     * @param objective the objective variable
+     * @param maximize  set to <i>true</i> when <i>objective</i> is maximized
+     * @return a linear relaxation constraint
+     */
+    default Constraint linearRelaxation(IntVar objective, boolean maximize) {
+        PropLinearRelaxation lp = PropLinearRelaxation.make(ref(), objective, maximize);
+        if (lp == null) {
+            return ref().trueConstraint();
+        }
+        return new Constraint(ConstraintsName.LPRELAXATION, lp);
+    }
+
+    /**
+     * Creates a constraint which bounds <i>objective</i>, equal to SUM(coeffs_i . vars_i),
+     * with a Lagrangian relaxation of the <i>dualized</i> constraints.
+     * Dualized constraints are moved to the objective function, weighted with multipliers which are optimized by
+     * subgradient, and the resulting subproblem is solved by choosing the best value of each variable.
+     * Multipliers are kept from one node to another.
+     * <p>
+     * This constraint is redundant: the dualized constraints (for instance, a knapsack capacity,
+     * the bounds of a global cardinality or the capacity of a cumulative resource, see {@link DualizedConstraint})
+     * as well as the objective definition must be posted too.
+     *
+     * @param vars      decision variables
+     * @param coeffs    coefficients of the objective
+     * @param objective the objective variable
+     * @param maximize  set to <i>true</i> when <i>objective</i> is maximized
+     * @param dualized  constraints to dualize
+     * @return a Lagrangian relaxation constraint
+     */
+    default Constraint lagrangianRelaxation(IntVar[] vars, int[] coeffs, IntVar objective, boolean maximize,
+                                            DualizedConstraint... dualized) {
+        return new Constraint(ConstraintsName.LAGRANGIAN,
+                new PropLagrangianRelaxation(vars, coeffs, objective, maximize, dualized));
+    }
+
     /**
      * Creates an Argmax constraint.
      * z is the index of the maximum value of the collection of domain variables vars.
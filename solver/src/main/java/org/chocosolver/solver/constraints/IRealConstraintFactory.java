@@ -14,6 +14,7 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.real.PropMixed;
 import org.chocosolver.solver.constraints.real.PropMixedElement;
 import org.chocosolver.solver.constraints.real.PropScalarMixed;
+import org.chocosolver.solver.constraints.real.PropScalarMixedIncr;
 import org.chocosolver.solver.constraints.real.RealConstraint;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
@@ -90,6 +91,10 @@ public interface IRealConstraintFactory extends ISelf<Model> {
 	 * @return a scalar constraint
 	 */
 	default Constraint scalar(Variable[] vars, double[] coeffs, String op, double bound){
+		if (ref().getSettings().enableIncrementalityOnMixedScalar(vars.length)) {
+			return new Constraint(ConstraintsName.MIXEDSCALAR,
+					new PropScalarMixedIncr(vars, coeffs, Operator.get(op), bound));
+		}
 		return new Constraint(ConstraintsName.MIXEDSCALAR,
 				new PropScalarMixed(vars, coeffs, Operator.get(op), bound));
 	}
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.reification.PropImplied;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -112,4 +113,10 @@ public class ImpliedConstraint extends Constraint {
         return bool.toString() + "=>" + trueCons.toString();
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new ImpliedConstraint(context.get(bool), context.get(trueCons)));
+        }
+    }
 }
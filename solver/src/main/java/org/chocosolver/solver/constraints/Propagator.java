@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints;
 
 
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
@@ -627,6 +628,25 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return reifVar != null;
     }
 
+    /**
+     * Build a copy of this propagator in <i>model</i> and declare it in <i>context</i>,
+     * unless <i>context</i> already knows it.
+     * <p>
+     * This method is called when a model is duplicated, see {@link Model#duplicate(String)},
+     * before resolution starts.
+     * A propagator which supports duplication overrides this method to build a new instance
+     * on the copies of its variables, obtained with {@link DuplicationContext#get(Variable[])},
+     * and declares it with {@link DuplicationContext#put(Object, Object)}.
+     * </p>
+     *
+     * @param model   the model being built
+     * @param context the duplication context
+     * @throws SolverException if this propagator cannot be duplicated
+     */
+    public void duplicate(Model model, DuplicationContext context) {
+        throw DuplicationContext.unsupported(this);
+    }
+
     //***********************************************************************************
     // ACCESSORS
     //***********************************************************************************
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.reification.PropReif;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -122,4 +123,11 @@ public class ReificationConstraint extends Constraint {
         return bool.toString() + "=>" + trueCons.toString() + ", !" + bool + "=>" + falseCons.toString();
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new ReificationConstraint(context.get(bool),
+                    context.get(trueCons), context.get(falseCons)));
+        }
+    }
 }
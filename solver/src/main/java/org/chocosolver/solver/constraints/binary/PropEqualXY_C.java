@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -156,4 +158,10 @@ public final class PropEqualXY_C extends Propagator<IntVar> {
         return vars[0] + " + " + vars[1] + " = " + cste;
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropEqualXY_C(context.get(vars), cste));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -168,4 +170,10 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".EQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropEqualX_Y(context.get(x), context.get(y)));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -157,6 +159,13 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @return the constant <i>C</i> in X = Y + C
+     */
+    public int getConstant() {
+        return cste;
+    }
+
     @Override
     public String toString() {
         StringBuilder bf = new StringBuilder();
@@ -167,4 +176,11 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
         bf.append(")");
         return bf.toString();
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropEqualX_YC(context.get(vars), cste));
+        }
+    }
 }
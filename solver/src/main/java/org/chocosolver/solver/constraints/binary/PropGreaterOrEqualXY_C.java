@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -126,4 +128,10 @@ public final class PropGreaterOrEqualXY_C extends Propagator<IntVar> {
         return x.getName() + " + " + y.getName() + " >= " + cste;
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropGreaterOrEqualXY_C(context.get(vars), cste));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -126,4 +128,10 @@ public final class PropGreaterOrEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".GEQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropGreaterOrEqualX_Y(context.get(vars)));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -131,4 +133,10 @@ public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
         return x.getName() + " >= " + y.getName() + " + " + cste;
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropGreaterOrEqualX_YC(context.get(vars), cste));
+        }
+    }
 }
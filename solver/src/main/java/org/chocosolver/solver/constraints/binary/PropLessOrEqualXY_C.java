@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -125,4 +127,10 @@ public final class PropLessOrEqualXY_C extends Propagator<IntVar> {
         return x.getName() + " + " + y.getName() + " <= " + cste;
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropLessOrEqualXY_C(context.get(vars), cste));
+        }
+    }
 }
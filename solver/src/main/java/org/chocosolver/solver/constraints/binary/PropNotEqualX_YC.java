@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -122,4 +124,10 @@ public class PropNotEqualX_YC extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".NEQ." + vars[1].getName() + "+" + cste + ")";
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropNotEqualX_YC(context.get(vars), cste));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.binary.element;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -151,4 +153,10 @@ public class PropElement extends Propagator<IntVar> {
         return sb.toString();
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropElement(context.get(result), values, context.get(index), offset));
+        }
+    }
 }
@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.extension.binary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -205,4 +207,11 @@ public class PropBinAC2001 extends PropBinCSP {
             vars[0].removeValues(vrms, this);
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropBinAC2001(context.get(v0), context.get(v1), (CouplesTable) relation));
+        }
+    }
 }
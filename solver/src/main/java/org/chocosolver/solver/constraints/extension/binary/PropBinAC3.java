@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -107,4 +109,11 @@ public class PropBinAC3 extends PropBinCSP {
         v0.removeValues(vrms, this);
         itv0.dispose();
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropBinAC3(context.get(v0), context.get(v1), (CouplesBitSetTable) relation));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -325,4 +327,11 @@ public class PropBinAC3rm extends PropBinCSP {
             }
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropBinAC3rm(context.get(v0), context.get(v1), (CouplesBitSetTable) relation));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -94,4 +96,11 @@ public class PropBinFC extends PropBinCSP {
             values.dispose();
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropBinFC(context.get(v0), context.get(v1), (CouplesTable) relation));
+        }
+    }
 }
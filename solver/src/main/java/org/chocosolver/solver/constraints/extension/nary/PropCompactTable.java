@@ -12,6 +12,8 @@ package org.chocosolver.solver.constraints.extension.nary;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -233,6 +235,13 @@ public class PropCompactTable extends Propagator<IntVar> {
         return tuples.check(vars);
     }
 
+    /**
+     * @return the tuples this propagator was built with
+     */
+    public Tuples getTuples() {
+        return tuples;
+    }
+
 //***********************************************************************************
 // RSparseBitSet
 //***********************************************************************************
@@ -306,4 +315,11 @@ public class PropCompactTable extends Propagator<IntVar> {
             return -1;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropCompactTable(context.get(vars), tuples));
+        }
+    }
+}
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -114,4 +116,11 @@ public class PropCompactTableStar extends PropCompactTable {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropCompactTableStar(context.get(vars), tuples));
+        }
+    }
+}
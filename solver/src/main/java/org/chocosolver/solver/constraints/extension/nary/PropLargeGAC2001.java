@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
@@ -220,4 +222,11 @@ public class PropLargeGAC2001 extends PropLargeCSP<LargeRelation> {
                 reviseVar(valcheck.getPosition(i), false);
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropLargeGAC2001(context.get(vars), relation));
+        }
+    }
 }
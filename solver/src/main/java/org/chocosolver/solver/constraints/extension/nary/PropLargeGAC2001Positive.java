@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -191,4 +193,11 @@ public class PropLargeGAC2001Positive extends PropLargeCSP<IterTuplesTable> {
         sb.append("})");
         return sb.toString();
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropLargeGAC2001Positive(context.get(vars), relation));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -286,4 +288,11 @@ public class PropLargeGAC3rm extends PropLargeCSP<LargeRelation> {
         }
         return null;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropLargeGAC3rm(context.get(vars), relation));
+        }
+    }
 }
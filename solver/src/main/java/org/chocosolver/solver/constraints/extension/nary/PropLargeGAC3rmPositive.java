@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -196,4 +198,11 @@ public class PropLargeGAC3rmPositive extends PropLargeCSP<IterTuplesTable> {
             }
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropLargeGAC3rmPositive(context.get(vars), relation));
+        }
+    }
 }
@@ -10,6 +10,8 @@
 package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -199,4 +201,11 @@ public class PropLargeGACSTRPos extends PropLargeCSP<TuplesList> {
         maintainList();
         pruningPhase();
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropLargeGACSTRPos(context.get(vars), relation));
+        }
+    }
 }
@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import gnu.trove.set.TIntSet;
 import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -122,4 +124,11 @@ public class PropLargeMDDC extends Propagator<IntVar> {
         }
         return res;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropLargeMDDC(MDD, context.get(vars)));
+        }
+    }
 }
@@ -11,7 +11,9 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -230,4 +232,11 @@ public class PropTableStr2 extends Propagator<IntVar> {
             }
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropTableStr2(context.get(vars), tuplesObject));
+        }
+    }
 }
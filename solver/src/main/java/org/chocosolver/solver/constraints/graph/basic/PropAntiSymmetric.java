@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.basic;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -99,4 +101,11 @@ public class PropAntiSymmetric extends Propagator<DirectedGraphVar> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropAntiSymmetric(context.get(g)));
+        }
+    }
 }
@@ -10,6 +10,8 @@
 package org.chocosolver.solver.constraints.graph.basic;
 
 import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -141,4 +143,11 @@ public class PropDiameter extends Propagator<GraphVar> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropDiameter(context.get(g), context.get(diameter)));
+        }
+    }
 }
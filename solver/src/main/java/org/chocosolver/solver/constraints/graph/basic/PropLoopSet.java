@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.basic;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -88,4 +90,11 @@ public class PropLoopSet extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropLoopSet(context.get(g), context.get(loops)));
+        }
+    }
 }
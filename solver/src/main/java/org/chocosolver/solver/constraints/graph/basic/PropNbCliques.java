@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.basic;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.nvalue.amnv.mis.F;
@@ -126,4 +128,11 @@ public class PropNbCliques extends Propagator<Variable> {
             }
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropNbCliques(context.get(g), context.get(nb[0])));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.basic;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.events.GraphEventType;
 import org.chocosolver.solver.variables.GraphVar;
 import org.chocosolver.solver.constraints.Propagator;
@@ -101,4 +103,11 @@ public class PropNbNodes extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropNbNodes(context.get(g), context.get(k)));
+        }
+    }
 }
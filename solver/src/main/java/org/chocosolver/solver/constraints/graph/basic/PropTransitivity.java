@@ -10,6 +10,8 @@
 package org.chocosolver.solver.constraints.graph.basic;
 
 import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -200,4 +202,11 @@ public class PropTransitivity<V extends GraphVar<?>> extends Propagator<V> {
             }
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropTransitivity<>(context.get(g)));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.channeling.edges;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -86,4 +88,11 @@ public class PropEdgeBoolChannel extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropEdgeBoolChannel(context.get(bool), from, to, context.get(g)));
+        }
+    }
 }
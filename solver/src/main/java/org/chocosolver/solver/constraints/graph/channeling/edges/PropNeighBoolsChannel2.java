@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.channeling.edges;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -87,4 +89,15 @@ public class PropNeighBoolsChannel2 extends Propagator<BoolVar> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            BoolVar[][] cmatrix = new BoolVar[n][];
+            for (int i = 0; i < n; i++) {
+                cmatrix[i] = context.get(matrix[i]);
+            }
+            context.put(this, new PropNeighBoolsChannel2(cmatrix, context.get(g)));
+        }
+    }
 }
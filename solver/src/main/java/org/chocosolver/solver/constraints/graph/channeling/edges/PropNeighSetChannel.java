@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.channeling.edges;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -119,4 +121,11 @@ public class PropNeighSetChannel extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropNeighSetChannel(context.get(set), vertex, context.get(g), inc));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.channeling.edges;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -109,4 +111,11 @@ public class PropNeighSetsChannel2 extends Propagator<SetVar> {
 		}
 		return ESat.UNDEFINED;
 	}
+
+	@Override
+	public void duplicate(Model model, DuplicationContext context) {
+		if (!context.contains(this)) {
+			context.put(this, new PropNeighSetsChannel2(context.get(sets), context.get(g)));
+		}
+	}
 }
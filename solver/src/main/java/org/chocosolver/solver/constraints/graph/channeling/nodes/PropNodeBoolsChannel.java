@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.channeling.nodes;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -114,4 +116,11 @@ public class PropNodeBoolsChannel extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropNodeBoolsChannel(context.get(bools), context.get(g)));
+        }
+    }
 }
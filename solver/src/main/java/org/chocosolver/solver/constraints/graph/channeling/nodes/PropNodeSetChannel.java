@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.channeling.nodes;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -121,4 +123,11 @@ public class PropNodeSetChannel extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropNodeSetChannel(context.get(set), context.get(g)));
+        }
+    }
 }
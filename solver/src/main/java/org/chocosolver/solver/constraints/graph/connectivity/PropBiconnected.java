@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.connectivity;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -16,6 +18,7 @@ import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.solver.variables.events.GraphEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.graphOperations.connectivity.ConnectivityFinder;
+import org.chocosolver.util.graphOperations.connectivity.UGVarIncrementalConnectivity;
 
 
 /**
@@ -32,6 +35,9 @@ public class PropBiconnected extends Propagator<UndirectedGraphVar> {
 
     private final UndirectedGraphVar g;
     private final ConnectivityFinder env_CC_finder;
+    private final UGVarIncrementalConnectivity connectivity;
+    // version of the last potential graph found biconnected
+    private int biconnectedVersion;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -41,6 +47,8 @@ public class PropBiconnected extends Propagator<UndirectedGraphVar> {
         super(new UndirectedGraphVar[]{graph}, PropagatorPriority.LINEAR, false);
         this.g = graph;
         env_CC_finder = new ConnectivityFinder(g.getUB());
+        connectivity = UGVarIncrementalConnectivity.of(g);
+        biconnectedVersion = -1;
     }
 
     //***********************************************************************************
@@ -49,8 +57,16 @@ public class PropBiconnected extends Propagator<UndirectedGraphVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        if (g.getPotentialNodes().size() == g.getMandatoryNodes().size() && !env_CC_finder.isBiconnected()) {
-            fails();
+        if (g.getPotentialNodes().size() == g.getMandatoryNodes().size()) {
+            int version = connectivity.getPotentialVersion();
+            if (version == biconnectedVersion) {
+                return;
+            }
+            // a biconnected graph is connected, which is cheap to check with the shared components
+            if (connectivity.findPotentialCC().getNBCC() > 1 || !env_CC_finder.isBiconnected()) {
+                fails();
+            }
+            biconnectedVersion = version;
         }
     }
 
@@ -73,4 +89,11 @@ public class PropBiconnected extends Propagator<UndirectedGraphVar> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropBiconnected(context.get(g)));
+        }
+    }
 }
@@ -9,15 +9,17 @@
  */
 package org.chocosolver.solver.constraints.graph.connectivity;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.solver.variables.events.GraphEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.connectivity.ConnectivityFinder;
 import org.chocosolver.util.graphOperations.connectivity.UGVarConnectivityHelper;
-
-import java.util.BitSet;
+import org.chocosolver.util.graphOperations.connectivity.UGVarIncrementalConnectivity;
 
 /**
  * Propagator checking that the graph is connected
@@ -33,10 +35,9 @@ public class PropConnected extends Propagator<UndirectedGraphVar> {
     // VARIABLES
     //***********************************************************************************
 
-    private final int n;
     private final UndirectedGraphVar g;
-    private final BitSet visited;
     private final UGVarConnectivityHelper helper;
+    private final UGVarIncrementalConnectivity connectivity;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -45,9 +46,8 @@ public class PropConnected extends Propagator<UndirectedGraphVar> {
     public PropConnected(UndirectedGraphVar graph) {
         super(new UndirectedGraphVar[]{graph}, PropagatorPriority.LINEAR, false);
         this.g = graph;
-        this.n = graph.getNbMaxNodes();
-        this.visited = new BitSet(n);
         this.helper = new UGVarConnectivityHelper(g);
+        this.connectivity = UGVarIncrementalConnectivity.of(g);
     }
 
     //***********************************************************************************
@@ -69,18 +69,24 @@ public class PropConnected extends Propagator<UndirectedGraphVar> {
         // cannot filter if no mandatory node
         if (g.getMandatoryNodes().size() > 0) {
 
-            // 1 --- explore the graph from the first mandatory node and
-            // remove unreachable nodes (fail if mandatory node is not reached)
-            visited.clear();
+            // 1 --- remove nodes which are not in the connected component of the first mandatory node
+            // (fail if a mandatory node is not reached)
+            ConnectivityFinder potentialCC = connectivity.findPotentialCC();
+            int[] nodeCC = potentialCC.getNodeCC();
             int root = g.getMandatoryNodes().iterator().next();
-            helper.exploreFrom(root, visited);
-            for (int o : g.getPotentialNodes()) {
-                if (!visited.get(o)) {
-                    g.removeNode(o, this);
+            if (potentialCC.getNBCC() > 1) {
+                for (int o : g.getPotentialNodes()) {
+                    if (nodeCC[o] != nodeCC[root]) {
+                        g.removeNode(o, this);
+                    }
                 }
             }
 
-            // 2 --- enforce articulation points and bridges that link two mandatory nodes
+            // 2 --- enforce articulation points and bridges that link two mandatory nodes,
+            // there are none when mandatory nodes are already connected by mandatory edges
+            if (connectivity.getNbMandatoryCC() <= 1) {
+                return;
+            }
             helper.computeMandatoryArticulationPointsAndBridges();
             for(int ap:helper.getArticulationPoints()) {
                 g.enforceNode(ap, this);
@@ -101,13 +107,11 @@ public class PropConnected extends Propagator<UndirectedGraphVar> {
         if (g.getMandatoryNodes().size() < 2) {
             return ESat.UNDEFINED;
         }
-        // BFS from a mandatory node
-        visited.clear();
+        // every mandatory node is in the connected component of the first one?
+        int[] nodeCC = connectivity.findPotentialCC().getNodeCC();
         int root = g.getMandatoryNodes().iterator().next();
-        helper.exploreFrom(root, visited);
-        // every mandatory node is reached?
         for (int i : g.getMandatoryNodes()) {
-            if (!visited.get(i)) {
+            if (nodeCC[i] != nodeCC[root]) {
                 return ESat.FALSE;
             }
         }
@@ -116,4 +120,11 @@ public class PropConnected extends Propagator<UndirectedGraphVar> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropConnected(context.get(g)));
+        }
+    }
 }
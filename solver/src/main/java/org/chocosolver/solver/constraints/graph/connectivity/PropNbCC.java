@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.connectivity;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -16,7 +18,9 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.connectivity.ConnectivityFinder;
 import org.chocosolver.util.graphOperations.connectivity.UGVarConnectivityHelper;
+import org.chocosolver.util.graphOperations.connectivity.UGVarIncrementalConnectivity;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 
 import java.util.BitSet;
@@ -37,8 +41,9 @@ public class PropNbCC extends Propagator<Variable> {
     private final UndirectedGraphVar g;
     private final IntVar k;
     private final UGVarConnectivityHelper helper;
-    private final BitSet visitedMin, visitedMax;
-    private final int[] fifo, ccOf;
+    private final UGVarIncrementalConnectivity connectivity;
+    // connected components of the potential graph which contain a mandatory node
+    private final BitSet mandatoryCC;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -49,10 +54,8 @@ public class PropNbCC extends Propagator<Variable> {
         this.g = graph;
         this.k = k;
         this.helper = new UGVarConnectivityHelper(g);
-        this.visitedMin = new BitSet(g.getNbMaxNodes());
-        this.visitedMax = new BitSet(g.getNbMaxNodes());
-        this.fifo = new int[g.getNbMaxNodes()];
-        this.ccOf = new int[g.getNbMaxNodes()];
+        this.connectivity = UGVarIncrementalConnectivity.of(g);
+        this.mandatoryCC = new BitSet(g.getNbMaxNodes());
     }
 
     //***********************************************************************************
@@ -82,9 +85,9 @@ public class PropNbCC extends Propagator<Variable> {
             if (k.getUB() == min) {
 
                 // 1 --- remove unreachable nodes
-                int n = g.getNbMaxNodes();
+                int[] nodeCC = connectivity.findPotentialCC().getNodeCC();
                 for (int o : g.getPotentialNodes()) {
-                    if (!visitedMin.get(o)) {
+                    if (!mandatoryCC.get(nodeCC[o])) {
                         g.removeNode(o, this);
                     }
                 }
@@ -115,7 +118,7 @@ public class PropNbCC extends Propagator<Variable> {
                 // if so the edge should not be filtered
                 for(int i:g.getPotentialNodes()){
                     for(int j:g.getPotentialNeighborsOf(i)){
-                        if(ccOf[i] != ccOf[j]) {
+                        if(connectivity.findMandatory(i) != connectivity.findMandatory(j)) {
                             g.removeEdge(i,j,this);
                         }
                     }
@@ -124,48 +127,25 @@ public class PropNbCC extends Propagator<Variable> {
         }
     }
 
+    /**
+     * @return the number of connected components of the potential graph which contain a mandatory node
+     */
     private int minCC() {
-        int min = 0;
-        visitedMin.clear();
+        ConnectivityFinder potentialCC = connectivity.findPotentialCC();
+        int[] nodeCC = potentialCC.getNodeCC();
+        mandatoryCC.clear();
         for (int i : g.getMandatoryNodes()) {
-            if (!visitedMin.get(i)) {
-                helper.exploreFrom(i, visitedMin);
-                min++;
-            }
+            mandatoryCC.set(nodeCC[i]);
         }
-        return min;
+        return mandatoryCC.cardinality();
     }
 
+    /**
+     * @return the number of connected components of the mandatory graph, plus the number of optional nodes
+     */
     private int maxCC() {
-        int nbK = 0;
-        visitedMax.clear();
-        for(int i:g.getMandatoryNodes()) {
-            if(!visitedMax.get(i)) {
-                exploreLBFrom(i, visitedMax);
-                nbK++;
-            }
-        }
         int delta = g.getPotentialNodes().size() - g.getMandatoryNodes().size();
-        return nbK + delta;
-    }
-
-    private void exploreLBFrom(int root, BitSet visited) {
-        int first = 0;
-        int last = 0;
-        int i = root;
-        fifo[last++] = i;
-        visited.set(i);
-        ccOf[i] = root; // mark cc of explored node
-        while (first < last) {
-            i = fifo[first++];
-            for (int j : g.getMandatoryNeighborsOf(i)) { // mandatory edges only
-                if (!visited.get(j)) {
-                    visited.set(j);
-                    ccOf[j] = root; // mark cc of explored node
-                    fifo[last++] = j;
-                }
-            }
-        }
+        return connectivity.getNbMandatoryCC() + delta;
     }
 
     //***********************************************************************************
@@ -182,4 +162,11 @@ public class PropNbCC extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropNbCC(context.get(g), context.get(k)));
+        }
+    }
 }
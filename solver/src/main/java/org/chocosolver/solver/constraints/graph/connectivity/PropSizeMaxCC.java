@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.connectivity;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -18,6 +20,7 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.GraphEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.graphOperations.connectivity.ConnectivityFinder;
+import org.chocosolver.util.graphOperations.connectivity.UGVarIncrementalConnectivity;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -39,7 +42,8 @@ public class PropSizeMaxCC extends Propagator<Variable> {
     private final UndirectedGraphVar g;
     private final IntVar sizeMaxCC;
     private final ConnectivityFinder GLBCCFinder;
-    private final ConnectivityFinder GUBCCFinder;
+    private final UGVarIncrementalConnectivity connectivity;
+    private ConnectivityFinder GUBCCFinder;
 
     /* Constructor */
 
@@ -48,7 +52,7 @@ public class PropSizeMaxCC extends Propagator<Variable> {
         this.g = graph;
         this.sizeMaxCC = sizeMaxCC;
         this.GLBCCFinder = new ConnectivityFinder(g.getLB());
-        this.GUBCCFinder = new ConnectivityFinder(g.getUB());
+        this.connectivity = UGVarIncrementalConnectivity.of(g);
     }
 
     /* Methods */
@@ -62,7 +66,7 @@ public class PropSizeMaxCC extends Propagator<Variable> {
     public void propagate(int evtmask) throws ContradictionException {
         // Find CCs and their sizes
         this.GLBCCFinder.findAllCC();
-        this.GUBCCFinder.findAllCC();
+        this.GUBCCFinder = connectivity.findPotentialCC();
         int nbCC_GLB = GLBCCFinder.getNBCC();
         // Retrieve MAX_NCC(g) lower and upper bounds from g
         int maxNCC_LB = GLBCCFinder.getSizeMaxCC();
@@ -130,7 +134,7 @@ public class PropSizeMaxCC extends Propagator<Variable> {
             }
             // e.
             if (recomputeMaxNCC_UB) {
-                this.GUBCCFinder.findAllCC();
+                this.GUBCCFinder = connectivity.findPotentialCC();
                 maxNCC_UB = GUBCCFinder.getSizeMaxCC();
                 if (maxNCC_UB < sizeMaxCC.getLB()) {
                     fails();
@@ -216,7 +220,7 @@ public class PropSizeMaxCC extends Propagator<Variable> {
     public ESat isEntailed() {
         // Find CCs and their sizes
         this.GLBCCFinder.findAllCC();
-        this.GUBCCFinder.findAllCC();
+        this.GUBCCFinder = connectivity.findPotentialCC();
         // Retrieve MAX_NCC(g) lower and upper bounds from g
         int maxNCC_LB = GLBCCFinder.getSizeMaxCC();
         int maxNCC_UB = GUBCCFinder.getSizeMaxCC();
@@ -233,4 +237,11 @@ public class PropSizeMaxCC extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropSizeMaxCC(context.get(g), context.get(sizeMaxCC)));
+        }
+    }
 }
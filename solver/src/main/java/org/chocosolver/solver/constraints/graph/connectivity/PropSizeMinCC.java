@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.connectivity;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -18,6 +20,7 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.GraphEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.graphOperations.connectivity.ConnectivityFinder;
+import org.chocosolver.util.graphOperations.connectivity.UGVarIncrementalConnectivity;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -39,7 +42,8 @@ public class PropSizeMinCC extends Propagator<Variable> {
     private final UndirectedGraphVar g;
     private final IntVar sizeMinCC;
     private final ConnectivityFinder GLBCCFinder;
-    private final ConnectivityFinder GUBCCFinder;
+    private final UGVarIncrementalConnectivity connectivity;
+    private ConnectivityFinder GUBCCFinder;
 
     /* Constructor */
 
@@ -48,7 +52,7 @@ public class PropSizeMinCC extends Propagator<Variable> {
         this.g = graph;
         this.sizeMinCC = sizeMinCC;
         this.GLBCCFinder = new ConnectivityFinder(g.getLB());
-        this.GUBCCFinder = new ConnectivityFinder(g.getUB());
+        this.connectivity = UGVarIncrementalConnectivity.of(g);
     }
 
     /* Methods */
@@ -93,7 +97,7 @@ public class PropSizeMinCC extends Propagator<Variable> {
     public void propagate(int evtmask) throws ContradictionException {
         // Find CCs and their sizes
         this.GLBCCFinder.findAllCC();
-        this.GUBCCFinder.findAllCC();
+        this.GUBCCFinder = connectivity.findPotentialCC();
         // Compute |V_T|, |V_U| and |V_TU|
         int nbNodesT = g.getMandatoryNodes().size();
         int nbNodesTU = g.getPotentialNodes().size();
@@ -301,7 +305,7 @@ public class PropSizeMinCC extends Propagator<Variable> {
     public ESat isEntailed() {
         // Find CCs and their sizes
         this.GLBCCFinder.findAllCC();
-        this.GUBCCFinder.findAllCC();
+        this.GUBCCFinder = connectivity.findPotentialCC();
         // Compute |V_T|, |V_U| and |V_TU|
         int nbNodesT = g.getMandatoryNodes().size();
         int nbNodesTU = g.getPotentialNodes().size();
@@ -323,4 +327,11 @@ public class PropSizeMinCC extends Propagator<Variable> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropSizeMinCC(context.get(g), context.get(sizeMinCC)));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.cycles;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -178,4 +180,11 @@ public class PropAcyclic extends Propagator<GraphVar<?>> {
         }
         return ESat.TRUE;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropAcyclic(context.get(g)));
+        }
+    }
 }
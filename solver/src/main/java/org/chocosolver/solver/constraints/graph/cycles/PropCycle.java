@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.graph.cycles;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -144,4 +146,11 @@ public class PropCycle extends Propagator<UndirectedGraphVar> {
             e1[i].set(ext);
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropCycle(context.get(g)));
+        }
+    }
 }
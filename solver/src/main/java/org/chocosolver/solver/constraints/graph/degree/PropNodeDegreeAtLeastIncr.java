@@ -10,6 +10,8 @@
 package org.chocosolver.solver.constraints.graph.degree;
 
 import gnu.trove.stack.array.TIntArrayStack;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -173,4 +175,16 @@ public class PropNodeDegreeAtLeastIncr extends Propagator<GraphVar<?>> {
             }
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            if (g.isDirected()) {
+                Orientation setType = target instanceof IncidentSet.PredecessorsSet ? Orientation.PREDECESSORS : Orientation.SUCCESSORS;
+                context.put(this, new PropNodeDegreeAtLeastIncr((DirectedGraphVar) context.get(g), setType, degrees));
+            } else {
+                context.put(this, new PropNodeDegreeAtLeastIncr((UndirectedGraphVar) context.get(g), degrees));
+            }
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.degree;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -170,4 +172,16 @@ public class PropNodeDegreeVar extends Propagator<Variable> {
         }
         return ESat.TRUE;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            if (g.isDirected()) {
+                Orientation setType = target instanceof IncidentSet.PredecessorsSet ? Orientation.PREDECESSORS : Orientation.SUCCESSORS;
+                context.put(this, new PropNodeDegreeVar((DirectedGraphVar) context.get(g), setType, context.get(degrees)));
+            } else {
+                context.put(this, new PropNodeDegreeVar((UndirectedGraphVar) context.get(g), context.get(degrees)));
+            }
+        }
+    }
 }
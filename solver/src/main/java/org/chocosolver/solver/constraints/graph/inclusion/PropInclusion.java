@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.inclusion;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -123,4 +125,11 @@ public class PropInclusion extends Propagator<GraphVar<?>> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropInclusion(context.get(g[0]), context.get(g[1])));
+        }
+    }
 }
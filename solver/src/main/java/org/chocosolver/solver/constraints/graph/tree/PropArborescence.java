@@ -9,10 +9,13 @@
  */
 package org.chocosolver.solver.constraints.graph.tree;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
+import org.chocosolver.util.graphOperations.dominance.SimpleDominatorsFinder;
 
 import java.util.BitSet;
 
@@ -128,4 +131,11 @@ public class PropArborescence extends PropArborescences {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropArborescence(context.get(g), root, domFinder instanceof SimpleDominatorsFinder));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.graph.tree;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -175,4 +177,11 @@ public class PropArborescences extends Propagator<DirectedGraphVar> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropArborescences(context.get(g), domFinder instanceof SimpleDominatorsFinder));
+        }
+    }
 }
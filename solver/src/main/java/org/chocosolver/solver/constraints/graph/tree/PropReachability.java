@@ -9,9 +9,12 @@
  */
 package org.chocosolver.solver.constraints.graph.tree;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.dominance.SimpleDominatorsFinder;
 
 /**
  * Every vertex is reachable from the root
@@ -77,4 +80,11 @@ public class PropReachability extends PropArborescence {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropReachability(context.get(g), root, domFinder instanceof SimpleDominatorsFinder));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -67,4 +69,10 @@ public class PropAllDiffAdaptative extends PropAllDiffAC {
         }
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropAllDiffAdaptative(context.get(vars)));
+        }
+    }
 }
@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.nary.alldifferent;
 
 import gnu.trove.stack.array.TIntArrayStack;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -171,4 +173,11 @@ public class PropAllDiffInst extends Propagator<IntVar> {
                 throw new UnsupportedOperationException("Unknown event type for explanation");
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropAllDiffInst(context.get(vars)));
+        }
+    }
 }
@@ -13,6 +13,8 @@ import gnu.trove.stack.TIntStack;
 import gnu.trove.stack.array.TIntArrayStack;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateBool;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.automata.FA.ICostAutomaton;
@@ -294,4 +296,11 @@ public class PropCostRegular extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            IntVar[] cvars = context.get(vars);
+            context.put(this, new PropCostRegular(cvars, cautomaton, CostRegular.initGraph(cvars, cautomaton)));
+        }
+    }
 }
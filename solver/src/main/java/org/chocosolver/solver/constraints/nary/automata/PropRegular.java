@@ -12,6 +12,8 @@ package org.chocosolver.solver.constraints.nary.automata;
 import gnu.trove.iterator.TIntIterator;
 import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
@@ -256,4 +258,10 @@ public class PropRegular extends Propagator<IntVar> {
         return new StoredDirectedMultiGraph(environment, graph, starts, offsets, totalSizes);
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropRegular(context.get(vars), automaton));
+        }
+    }
 }
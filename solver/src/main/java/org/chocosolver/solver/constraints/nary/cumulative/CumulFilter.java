@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.cumulative;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -56,4 +57,15 @@ public abstract class CumulFilter {
 	 * @throws ContradictionException
 	 */
 	public abstract void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException;
+
+	/**
+	 * Build a new filter of the same kind, for the copy of a propagator (see {@link org.chocosolver.solver.Model#duplicate(String)}).
+	 * A filter which does not override this method, even if one of its super classes does, cannot be duplicated.
+	 *
+	 * @return a new filter of the same class, for as many tasks
+	 * @throws org.chocosolver.solver.exception.SolverException if this filter cannot be duplicated
+	 */
+	public CumulFilter duplicate() {
+		throw DuplicationContext.unsupported(this);
+	}
 }
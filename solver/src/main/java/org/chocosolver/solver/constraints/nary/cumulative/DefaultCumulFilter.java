@@ -95,4 +95,9 @@ public class DefaultCumulFilter extends CumulFilter {
 		if(disjTaskInter==null)disjTaskInter = Cumulative.Filter.DISJUNCTIVE_TASK_INTERVAL.make(nbMaxTasks);
 		return disjTaskInter;
 	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new DefaultCumulFilter(nbMaxTasks);
+	}
 }
@@ -90,4 +90,9 @@ public class DisjunctiveTaskIntervalFilter extends CumulFilter{
             }
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public CumulFilter duplicate() {
+        return new DisjunctiveTaskIntervalFilter(nbMaxTasks);
+    }
+}
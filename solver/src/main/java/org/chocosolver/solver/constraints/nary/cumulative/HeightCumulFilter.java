@@ -99,4 +99,9 @@ public class HeightCumulFilter extends SweepCumulFilter {
 			}
 		}
 	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new HeightCumulFilter(nbMaxTasks);
+	}
 }
@@ -97,4 +97,9 @@ public class NRJCumulFilter extends CumulFilter{
 			}
 		}
 	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new NRJCumulFilter(nbMaxTasks);
+	}
 }
@@ -138,4 +138,9 @@ public class NaiveTimeCumulFilter extends CumulFilter {
             }
         }
     }
+
+    @Override
+    public CumulFilter duplicate() {
+        return new NaiveTimeCumulFilter(nbMaxTasks);
+    }
 }
@@ -10,6 +10,8 @@
 package org.chocosolver.solver.constraints.nary.cumulative;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -278,4 +280,24 @@ public class PropCumulative extends Propagator<IntVar> {
                 throw new UnsupportedOperationException("Unknown event type explanation");
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropCumulative(context.get(s), context.get(d), context.get(e), context.get(h),
+                    context.get(capa), duplicateFilters(context)));
+        }
+    }
+
+    /**
+     * @param context the duplication context
+     * @return the copies of the filters, which are shared between the copies of the propagators sharing them
+     */
+    protected CumulFilter[] duplicateFilters(DuplicationContext context) {
+        CumulFilter[] copies = new CumulFilter[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            copies[i] = context.get(filters[i], CumulFilter::duplicate);
+        }
+        return copies;
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.cumulative;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
@@ -205,4 +207,11 @@ public class PropGraphCumulative extends PropCumulative {
 
     private final static int START = 1, END = 2;
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropGraphCumulative(context.get(s), context.get(d), context.get(e), context.get(h),
+                    context.get(capa), fast, duplicateFilters(context)));
+        }
+    }
 }
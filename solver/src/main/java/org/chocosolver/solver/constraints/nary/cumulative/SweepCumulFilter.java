@@ -236,6 +236,11 @@ public class SweepCumulFilter extends CumulFilter {
 		}
 	}
 
+	@Override
+	public CumulFilter duplicate() {
+		return new SweepCumulFilter(nbMaxTasks);
+	}
+
 	//***********************************************************************************
 	// DATA STRUCTURES
 	//***********************************************************************************
@@ -152,4 +152,9 @@ public class SweepHeiSortCumulFilter extends SweepCumulFilter {
 		}
 		return true;
 	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new SweepHeiSortCumulFilter(nbMaxTasks);
+	}
 }
@@ -138,4 +138,9 @@ public class TimeCumulFilter extends CumulFilter {
 			}
 		}
 	}
+
+	@Override
+	public CumulFilter duplicate() {
+		return new TimeCumulFilter(nbMaxTasks);
+	}
 }
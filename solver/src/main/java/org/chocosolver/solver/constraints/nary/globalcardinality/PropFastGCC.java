@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.nary.globalcardinality;
 
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -22,6 +24,8 @@ import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.tools.ArrayUtils;
 
+import java.util.Arrays;
+
 /**
  * Propagator for Global Cardinality Constraint (GCC) for integer variables
  * Basic filter: no particular consistency but fast and with a correct checker
@@ -274,4 +278,12 @@ public class PropFastGCC extends Propagator<IntVar> {
         return st.toString();
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            IntVar[] cvars = context.get(vars);
+            context.put(this, new PropFastGCC(Arrays.copyOfRange(cvars, 0, n), values, map,
+                    Arrays.copyOfRange(cvars, n, cvars.length)));
+        }
+    }
 }
@@ -0,0 +1,263 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lagrangian;
+
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.exception.SolverException;
+
+/**
+ * A constraint dualized in a {@link PropLagrangianRelaxation}.
+ * <p>
+ * A dualized constraint is made of one or more rows of the form:
+ * <pre>
+ *     SUM(g_r(i, x_i)) &lt;= rhs_r     (or = rhs_r)
+ * </pre>
+ * where g_r(i, v) is the contribution of the assignment x_i = v to the row r.
+ * Such rows are said <i>separable</i>: once multiplied by their Lagrangian multiplier,
+ * they only add a penalty to each (variable, value) pair, so that the Lagrangian subproblem
+ * decomposes into one independent choice per variable.
+ * </p>
+ * <p>
+ * Knapsack-like linear constraints, upper and lower bounds of a global cardinality constraint
+ * and capacity of a cumulative resource over time are expressed that way.
+ * Other separable constraints can be dualized by extending this class.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public abstract class DualizedConstraint {
+
+    /**
+     * @return number of rows of this dualized constraint
+     */
+    public abstract int nbRows();
+
+    /**
+     * @param r index of a row
+     * @return the right-hand side of the row <i>r</i>
+     */
+    public abstract double rhs(int r);
+
+    /**
+     * @param r index of a row
+     * @return <i>true</i> if row <i>r</i> is an equality, in which case its multiplier is not sign-constrained
+     */
+    public boolean isEquality(int r) {
+        return false;
+    }
+
+    /**
+     * @return <i>true</i> if the penalty of the assignment x_i = v is proportional to v, for any i,
+     * in which case a linear objective only needs to be evaluated on the bounds of the domains
+     */
+    public boolean isLinear() {
+        return false;
+    }
+
+    /**
+     * Called each time the multipliers change, before any call to {@link #penalty(int, int, double[], int)}.
+     * Can be overridden to precompute data from the multipliers.
+     *
+     * @param lambda multipliers
+     * @param offset index of the first row of this constraint in <i>lambda</i>
+     */
+    public void prepare(double[] lambda, int offset) {
+    }
+
+    /**
+     * @param i      index of a variable
+     * @param v      a value from the domain of the <i>i</i>-th variable
+     * @param lambda multipliers
+     * @param offset index of the first row of this constraint in <i>lambda</i>
+     * @return SUM_r(lambda_r . g_r(i, v))
+     */
+    public abstract double penalty(int i, int v, double[] lambda, int offset);
+
+    /**
+     * Add g_r(i, v) to <i>g</i>[offset + r] for each row r.
+     *
+     * @param i      index of a variable
+     * @param v      a value from the domain of the <i>i</i>-th variable
+     * @param g      subgradient
+     * @param offset index of the first row of this constraint in <i>g</i>
+     */
+    public abstract void subgradient(int i, int v, double[] g, int offset);
+
+    //***********************************************************************************
+    // FACTORY
+    //***********************************************************************************
+
+    /**
+     * Dualize SUM(coeffs_i . x_i) op b
+     *
+     * @param coeffs coefficients, one per variable
+     * @param op     operator among "=", "&lt;=" and "&gt;="
+     * @param b      right-hand side
+     * @return a dualized linear constraint
+     */
+    public static DualizedConstraint linear(int[] coeffs, String op, int b) {
+        Operator o = Operator.get(op);
+        if (o != Operator.EQ && o != Operator.LE && o != Operator.GE) {
+            throw new SolverException("Only \"=\", \"<=\" and \">=\" can be dualized");
+        }
+        int sign = o == Operator.GE ? -1 : 1;
+        double[] c = new double[coeffs.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = sign * (double) coeffs[i];
+        }
+        double rhs = sign * (double) b;
+        boolean eq = o == Operator.EQ;
+        return new DualizedConstraint() {
+            @Override
+            public int nbRows() {
+                return 1;
+            }
+
+            @Override
+            public double rhs(int r) {
+                return rhs;
+            }
+
+            @Override
+            public boolean isEquality(int r) {
+                return eq;
+            }
+
+            @Override
+            public boolean isLinear() {
+                return true;
+            }
+
+            @Override
+            public double penalty(int i, int v, double[] lambda, int offset) {
+                return lambda[offset] * c[i] * v;
+            }
+
+            @Override
+            public void subgradient(int i, int v, double[] g, int offset) {
+                g[offset] += c[i] * v;
+            }
+        };
+    }
+
+    /**
+     * Dualize the capacity of a knapsack: SUM(weights_i . x_i) &lt;= capacity
+     *
+     * @param weights  weight of each item
+     * @param capacity capacity of the knapsack
+     * @return a dualized knapsack capacity
+     */
+    public static DualizedConstraint knapsack(int[] weights, int capacity) {
+        return linear(weights, "<=", capacity);
+    }
+
+    /**
+     * Dualize the bounds of a global cardinality constraint:
+     * for each j, occ_min_j &lt;= |{i | x_i = values_j}| &lt;= occ_max_j.
+     *
+     * @param values values to count
+     * @param occMin minimal number of occurrences of each value
+     * @param occMax maximal number of occurrences of each value
+     * @return a dualized global cardinality
+     */
+    public static DualizedConstraint cardinality(int[] values, int[] occMin, int[] occMax) {
+        int m = values.length;
+        return new DualizedConstraint() {
+            @Override
+            public int nbRows() {
+                // first upper bounds, then lower bounds
+                return 2 * m;
+            }
+
+            @Override
+            public double rhs(int r) {
+                return r < m ? occMax[r] : -occMin[r - m];
+            }
+
+            @Override
+            public double penalty(int i, int v, double[] lambda, int offset) {
+                for (int j = 0; j < m; j++) {
+                    if (values[j] == v) {
+                        return lambda[offset + j] - lambda[offset + m + j];
+                    }
+                }
+                return 0.;
+            }
+
+            @Override
+            public void subgradient(int i, int v, double[] g, int offset) {
+                for (int j = 0; j < m; j++) {
+                    if (values[j] == v) {
+                        g[offset + j] += 1;
+                        g[offset + m + j] -= 1;
+                        return;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Dualize the capacity of a cumulative resource,
+     * variables being the starting times of the tasks:
+     * for each time t in [horizonStart, horizonEnd[,
+     * SUM(heights_i | x_i &lt;= t &lt; x_i + durations_i) &lt;= capacity.
+     * <p>
+     * Any task running outside of the horizon is ignored outside of the horizon.
+     * </p>
+     *
+     * @param durations    duration of each task
+     * @param heights      height of each task
+     * @param capacity     capacity of the resource
+     * @param horizonStart first time point
+     * @param horizonEnd   last time point (excluded)
+     * @return a dualized cumulative resource
+     */
+    public static DualizedConstraint resource(int[] durations, int[] heights, int capacity,
+                                              int horizonStart, int horizonEnd) {
+        int T = horizonEnd - horizonStart;
+        // prefix sums of multipliers over time
+        double[] prefix = new double[T + 1];
+        return new DualizedConstraint() {
+            @Override
+            public int nbRows() {
+                return T;
+            }
+
+            @Override
+            public double rhs(int r) {
+                return capacity;
+            }
+
+            @Override
+            public void prepare(double[] lambda, int offset) {
+                for (int t = 0; t < T; t++) {
+                    prefix[t + 1] = prefix[t] + lambda[offset + t];
+                }
+            }
+
+            @Override
+            public double penalty(int i, int v, double[] lambda, int offset) {
+                int s = (int) Math.max(0, Math.min(T, (long) v - horizonStart));
+                int e = (int) Math.max(0, Math.min(T, (long) v + durations[i] - horizonStart));
+                return heights[i] * (prefix[e] - prefix[s]);
+            }
+
+            @Override
+            public void subgradient(int i, int v, double[] g, int offset) {
+                int s = (int) Math.max(0, Math.min(T, (long) v - horizonStart));
+                int e = (int) Math.max(0, Math.min(T, (long) v + durations[i] - horizonStart));
+                for (int t = s; t < e; t++) {
+                    g[offset + t] += heights[i];
+                }
+            }
+        };
+    }
+}
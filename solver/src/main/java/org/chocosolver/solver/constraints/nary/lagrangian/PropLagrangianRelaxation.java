@@ -0,0 +1,461 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lagrangian;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * A generic Lagrangian relaxation bounding an objective variable.
+ * <p>
+ * The objective is expected to be: obj = SUM(cost(i, x_i)).
+ * Some constraints over the x_i, given as {@link DualizedConstraint}s, are moved to the objective
+ * with a multiplier (a <i>penalty</i>) per row.
+ * The remaining problem (the <i>subproblem</i>) only involves the domains of the variables,
+ * and is solved by choosing, for each variable, the value which minimizes its cost plus the penalties.
+ * The subproblem value is a valid bound of the objective,
+ * which is improved by subgradient optimisation of the multipliers.
+ * </p>
+ * <p>
+ * Multipliers are not restored on backtrack: they warm start the next call, wherever it occurs in the search tree.
+ * Once the bound is computed, any value whose assignment would make the bound exceed the best known objective value
+ * is removed (Lagrangian variable fixing).
+ * </p>
+ * <p>
+ * When the objective is linear and so are the dualized constraints (see {@link DualizedConstraint#isLinear()}),
+ * the penalized cost of each variable is linear in its value: the subproblem and the filtering
+ * only consider the bounds of the domains. Otherwise, every value of every domain is evaluated.
+ * </p>
+ * <p>
+ * Inspired from the work of Held &amp; Karp and Sellmann &amp; Fahle (Annals of OR, 2003).
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public class PropLagrangianRelaxation extends Propagator<IntVar> {
+
+    /**
+     * Absolute rounding tolerance
+     */
+    private static final double EPS = 1e-6;
+    /**
+     * Relative rounding tolerance, applied to the magnitude of the terms of a sum:
+     * it covers the rounding errors of sums of up to millions of terms
+     */
+    private static final double REL_EPS = 1e-9;
+
+    /**
+     * Number of decision variables
+     */
+    private final int n;
+    /**
+     * The objective variable
+     */
+    private final IntVar obj;
+    /**
+     * Set to <i>true</i> when the objective variable is maximized
+     */
+    private final boolean maximize;
+    /**
+     * Cost of each assignment
+     */
+    private final IntBinaryOperator cost;
+    /**
+     * Coefficients of a linear objective, used instead of {@link #cost} when not null
+     */
+    private final int[] coeffs;
+    /**
+     * Dualized constraints
+     */
+    private final DualizedConstraint[] dualized;
+    /**
+     * Index of the first row of each dualized constraint
+     */
+    private final int[] offsets;
+    /**
+     * Right-hand side of each row
+     */
+    private final double[] rhs;
+    /**
+     * Whether each row is an equality
+     */
+    private final boolean[] equality;
+    /**
+     * Current multipliers, kept from one call to another
+     */
+    private final double[] lambda;
+    /**
+     * Multipliers of the best bound found in the current call
+     */
+    private final double[] bestLambda;
+    /**
+     * Subgradient
+     */
+    private final double[] g;
+    /**
+     * Value chosen by each variable in the subproblem
+     */
+    private final int[] args;
+    /**
+     * Minimal penalized cost of each variable in the subproblem
+     */
+    private final double[] mins;
+    /**
+     * Magnitude of the terms of {@link #mins}, for the rounding tolerance
+     */
+    private final double[] scales;
+    /**
+     * Magnitude of the terms of the last evaluated penalized cost
+     */
+    private double scale;
+    /**
+     * Magnitude of the terms of the last subproblem value
+     */
+    private double boundScale;
+    /**
+     * Number of subgradient iterations per call
+     */
+    private final int nbIter;
+    /**
+     * Set to <i>true</i> when the penalized cost of each variable is linear in its value
+     */
+    private final boolean linear;
+
+    /**
+     * Create a Lagrangian relaxation propagator.
+     *
+     * @param vars     decision variables
+     * @param obj      objective variable, equal to SUM(cost(i, vars_i))
+     * @param maximize set to <i>true</i> to maximize the objective variable
+     * @param cost     cost of the assignment of the value v (second argument) to the i-th variable (first argument)
+     * @param dualized constraints to dualize
+     * @param nbIter   number of subgradient iterations per call
+     */
+    public PropLagrangianRelaxation(IntVar[] vars, IntVar obj, boolean maximize, IntBinaryOperator cost,
+                                    DualizedConstraint[] dualized, int nbIter) {
+        this(vars, obj, maximize, cost, null, dualized, nbIter);
+    }
+
+    private PropLagrangianRelaxation(IntVar[] vars, IntVar obj, boolean maximize, IntBinaryOperator cost,
+                                     int[] coeffs, DualizedConstraint[] dualized, int nbIter) {
+        super(ArrayUtils.append(vars, new IntVar[]{obj}), PropagatorPriority.VERY_SLOW, false);
+        this.n = vars.length;
+        this.obj = obj;
+        this.maximize = maximize;
+        this.cost = cost;
+        this.coeffs = coeffs;
+        this.dualized = dualized.clone();
+        this.offsets = new int[dualized.length];
+        int m = 0;
+        for (int k = 0; k < dualized.length; k++) {
+            offsets[k] = m;
+            m += dualized[k].nbRows();
+        }
+        this.rhs = new double[m];
+        this.equality = new boolean[m];
+        for (int k = 0; k < dualized.length; k++) {
+            for (int r = 0; r < dualized[k].nbRows(); r++) {
+                rhs[offsets[k] + r] = dualized[k].rhs(r);
+                equality[offsets[k] + r] = dualized[k].isEquality(r);
+            }
+        }
+        this.lambda = new double[m];
+        this.bestLambda = new double[m];
+        this.g = new double[m];
+        this.args = new int[n];
+        this.mins = new double[n];
+        this.scales = new double[n];
+        this.nbIter = nbIter;
+        boolean lin = coeffs != null;
+        for (int k = 0; k < dualized.length && lin; k++) {
+            lin = dualized[k].isLinear();
+        }
+        this.linear = lin;
+    }
+
+    /**
+     * Create a Lagrangian relaxation propagator of a linear objective: obj = SUM(coeffs_i . vars_i).
+     *
+     * @param vars     decision variables
+     * @param coeffs   coefficients of the objective
+     * @param obj      objective variable
+     * @param maximize set to <i>true</i> to maximize the objective variable
+     * @param dualized constraints to dualize
+     */
+    public PropLagrangianRelaxation(IntVar[] vars, int[] coeffs, IntVar obj, boolean maximize,
+                                    DualizedConstraint... dualized) {
+        this(vars, obj, maximize, null, coeffs.clone(), dualized, 30);
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.all();
+    }
+
+    /**
+     * @return the best value of the objective, from the point of view of a minimization
+     */
+    private double upperBound() {
+        return maximize ? -obj.getLB() : obj.getUB();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        double best = Double.NEGATIVE_INFINITY;
+        double alpha = 2.;
+        int noImprovement = 0;
+        for (int it = 0; it < nbIter; it++) {
+            double bound = solveSubproblem(lambda);
+            if (bound > best + EPS) {
+                best = bound;
+                System.arraycopy(lambda, 0, bestLambda, 0, lambda.length);
+                noImprovement = 0;
+            } else if (++noImprovement == 5) {
+                alpha /= 2;
+                noImprovement = 0;
+            }
+            if (bound > upperBound() + tolerance(boundScale + Math.abs(upperBound()))) {
+                fails();
+            }
+            if (!updateMultipliers(bound, alpha)) {
+                // the relaxed solution satisfies the dualized constraints, no better bound can be found
+                break;
+            }
+        }
+        System.arraycopy(bestLambda, 0, lambda, 0, lambda.length);
+        best = solveSubproblem(lambda);
+        // rounded towards the relaxed side, so that an inexact bound does not cut the optimum
+        if (maximize) {
+            obj.updateUpperBound((int) Math.floor(-best + tolerance(boundScale)), this);
+        } else {
+            obj.updateLowerBound((int) Math.ceil(best - tolerance(boundScale)), this);
+        }
+        filter(best);
+    }
+
+    /**
+     * @param lambda multipliers
+     * @return the value of the Lagrangian subproblem
+     */
+    private double solveSubproblem(double[] lambda) {
+        for (int k = 0; k < dualized.length; k++) {
+            dualized[k].prepare(lambda, offsets[k]);
+        }
+        double bound = 0.;
+        boundScale = 0.;
+        for (int i = 0; i < n; i++) {
+            double min = Double.POSITIVE_INFINITY;
+            double sc = 0.;
+            int arg = vars[i].getLB();
+            int ub = vars[i].getUB();
+            if (linear) {
+                // the minimum of a linear function is reached on a bound
+                min = penalizedCost(i, arg, lambda);
+                sc = scale;
+                double f = penalizedCost(i, ub, lambda);
+                if (f < min) {
+                    min = f;
+                    sc = scale;
+                    arg = ub;
+                }
+            } else {
+                for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+                    double f = penalizedCost(i, v, lambda);
+                    if (f < min) {
+                        min = f;
+                        sc = scale;
+                        arg = v;
+                    }
+                }
+            }
+            mins[i] = min;
+            scales[i] = sc;
+            args[i] = arg;
+            bound += min;
+            boundScale += sc;
+        }
+        for (int r = 0; r < lambda.length; r++) {
+            bound -= lambda[r] * rhs[r];
+            boundScale += Math.abs(lambda[r] * rhs[r]);
+        }
+        return bound;
+    }
+
+    /**
+     * Also stores the magnitude of the terms of the penalized cost in {@link #scale}.
+     */
+    private double penalizedCost(int i, int v, double[] lambda) {
+        // computed in long to avoid overflow
+        double f = coeffs == null ? cost.applyAsInt(i, v) : (long) coeffs[i] * v;
+        if (maximize) {
+            f = -f;
+        }
+        double sc = Math.abs(f);
+        for (int k = 0; k < dualized.length; k++) {
+            double p = dualized[k].penalty(i, v, lambda, offsets[k]);
+            f += p;
+            sc += Math.abs(p);
+        }
+        scale = sc;
+        return f;
+    }
+
+    /**
+     * @param magnitude sum of the absolute values of the terms of a computed value
+     * @return an upper bound of the rounding error of the computed value
+     */
+    private static double tolerance(double magnitude) {
+        return EPS + REL_EPS * magnitude;
+    }
+
+    /**
+     * @param base Lagrangian bound without the contribution of the <i>i</i>-th variable
+     * @param i    index of a variable
+     * @param v    a value
+     * @param ub   best known objective value
+     * @return <i>true</i> if the assignment of <i>v</i> to the <i>i</i>-th variable makes the Lagrangian bound
+     * exceed <i>ub</i>, rounding errors included
+     */
+    private boolean exceeds(double base, int i, int v, double ub) {
+        double f = penalizedCost(i, v, lambda);
+        return base + f > ub + tolerance(boundScale + scale + Math.abs(ub));
+    }
+
+    /**
+     * Subgradient step.
+     *
+     * @param bound value of the subproblem
+     * @param alpha step factor
+     * @return <i>false</i> if the subgradient is null
+     */
+    private boolean updateMultipliers(double bound, double alpha) {
+        for (int r = 0; r < g.length; r++) {
+            g[r] = -rhs[r];
+        }
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < dualized.length; k++) {
+                dualized[k].subgradient(i, args[i], g, offsets[k]);
+            }
+        }
+        double norm = 0.;
+        for (int r = 0; r < g.length; r++) {
+            // a satisfied inequality with a null multiplier cannot move
+            if (!equality[r] && lambda[r] == 0. && g[r] < 0.) {
+                g[r] = 0.;
+            }
+            norm += g[r] * g[r];
+        }
+        if (norm == 0.) {
+            return false;
+        }
+        double target = Math.min(upperBound(), bound + Math.abs(bound) * .1 + 1.);
+        if (target <= bound) {
+            target = bound + 1.;
+        }
+        double step = alpha * (target - bound) / norm;
+        for (int r = 0; r < g.length; r++) {
+            lambda[r] += step * g[r];
+            if (!equality[r] && lambda[r] < 0.) {
+                lambda[r] = 0.;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove any value whose assignment makes the Lagrangian bound exceed the best known objective value.
+     *
+     * @param bound Lagrangian bound computed with the current multipliers
+     * @throws ContradictionException if a domain becomes empty
+     */
+    private void filter(double bound) throws ContradictionException {
+        double ub = upperBound();
+        for (int i = 0; i < n; i++) {
+            IntVar x = vars[i];
+            if (x.isInstantiated()) continue;
+            double base = bound - mins[i];
+            if (linear) {
+                filterLinear(i, base, ub);
+            } else if (x.hasEnumeratedDomain()) {
+                int ubx = x.getUB();
+                for (int v = x.getLB(); v <= ubx; v = x.nextValue(v)) {
+                    if (exceeds(base, i, v, ub)) {
+                        x.removeValue(v, this);
+                    }
+                }
+            } else {
+                int lb = x.getLB();
+                while (lb < x.getUB() && exceeds(base, i, lb, ub)) {
+                    lb++;
+                }
+                x.updateLowerBound(lb, this);
+                int ubx = x.getUB();
+                while (ubx > lb && exceeds(base, i, ubx, ub)) {
+                    ubx--;
+                }
+                x.updateUpperBound(ubx, this);
+            }
+        }
+    }
+
+    /**
+     * Filter the bounds of the <i>i</i>-th variable when its penalized cost is linear in its value.
+     *
+     * @param i    index of a variable
+     * @param base Lagrangian bound without the contribution of the <i>i</i>-th variable
+     * @param ub   best known objective value
+     * @throws ContradictionException if the domain becomes empty
+     */
+    private void filterLinear(int i, double base, double ub) throws ContradictionException {
+        IntVar x = vars[i];
+        int lb = x.getLB();
+        int ubx = x.getUB();
+        double flb = penalizedCost(i, lb, lambda);
+        double sc = scale;
+        double fub = penalizedCost(i, ubx, lambda);
+        sc = Math.max(sc, scale);
+        double slope = (fub - flb) / ((double) ubx - lb);
+        double tol = tolerance(boundScale + sc + Math.abs(ub));
+        // the estimated new bound is checked, and moved back while the value does not exceed,
+        // since the slope is not exact
+        if (slope > 0.) {
+            double t = Math.floor((ub + tol - base - flb) / slope);
+            if (t < (double) ubx - lb) {
+                int nub = lb + (int) Math.max(t, -1);
+                while (nub < ubx && !exceeds(base, i, nub + 1, ub)) {
+                    nub++;
+                }
+                x.updateUpperBound(nub, this);
+            }
+        } else if (slope < 0.) {
+            double t = Math.floor((ub + tol - base - fub) / -slope);
+            if (t < (double) ubx - lb) {
+                int nlb = ubx - (int) Math.max(t, -1);
+                while (nlb > lb && !exceeds(base, i, nlb - 1, ub)) {
+                    nlb--;
+                }
+                x.updateLowerBound(nlb, this);
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        // the relaxation is implied by the constraints it is made of
+        return ESat.TRUE;
+    }
+}
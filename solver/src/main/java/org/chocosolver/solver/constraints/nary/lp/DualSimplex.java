@@ -0,0 +1,647 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+import org.chocosolver.solver.exception.SolverException;
+
+import java.util.Arrays;
+
+/**
+ * A dense bounded-variable dual simplex, dedicated to the resolution of LP relaxations.
+ * <p>
+ * The linear program solved is:
+ * <pre>
+ *     min  c.x
+ *     s.t. rlo_i &lt;= A_i.x &lt;= rup_i, for each row i
+ *          lo_j &lt;= x_j &lt;= up_j, for each column j
+ * </pre>
+ * where bounds on columns are finite and bounds on rows can be infinite.
+ * Each row is associated with a logical variable w_i = A_i.x, bounded by [rlo_i, rup_i],
+ * so that a basis made of the logical variables is always dual feasible.
+ * </p>
+ * <p>
+ * The objective function is fixed while bounds on columns may change between two calls to {@link #solve(int)}.
+ * Since the last optimal basis remains dual feasible, it is used to warm start the next resolution,
+ * which is what makes the dual simplex adapted to tree search.
+ * </p>
+ * <p>
+ * Any dual feasible basis provides a valid lower bound of the LP, so {@link #getObjective()}
+ * can be used even when the resolution stops on the iteration limit.
+ * </p>
+ * <p>
+ * Since the arithmetic is not exact, the values computed by the simplex itself should not be used to filter domains.
+ * Safe bounds are instead derived from the multipliers of the rows, following
+ * A. Neumaier and O. Shcherbina, <i>Safe bounds in linear and mixed-integer linear programming</i>,
+ * Math. Program. 99 (2004): see {@link #getSafeObjective()} and {@link #isInfeasibilityCertified()}.
+ * </p>
+ * <p>
+ * The tableau is dense: it stores m &times; (n + m) doubles, for m rows and n columns.
+ * This restricts the dual simplex to small and medium-sized LPs,
+ * the number of cells being bounded by {@link #MAX_SIZE} (see {@link #fits(int, int)}).
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public class DualSimplex {
+
+    /**
+     * Maximum number of cells of the tableau (32 MB of doubles)
+     */
+    public static final long MAX_SIZE = 1L << 22;
+
+    /**
+     * Possible outcomes of {@link #solve(int)}
+     */
+    public enum Status {
+        /**
+         * An optimal basis has been found
+         */
+        OPTIMAL,
+        /**
+         * The LP has no solution
+         */
+        INFEASIBLE,
+        /**
+         * The iteration limit has been reached, the objective value is a valid lower bound
+         */
+        ITERATION_LIMIT
+    }
+
+    /**
+     * Primal feasibility tolerance
+     */
+    private static final double FEAS_EPS = 1e-7;
+    /**
+     * Dual feasibility tolerance
+     */
+    private static final double DUAL_EPS = 1e-9;
+    /**
+     * Smallest pivot accepted
+     */
+    private static final double PIV_EPS = 1e-9;
+    /**
+     * Number of pivots before the tableau is recomputed from scratch
+     */
+    private static final int REFACTOR = 100;
+    /**
+     * Unit roundoff of doubles
+     */
+    private static final double U = 0x1p-53;
+
+    /**
+     * Number of structural columns
+     */
+    private final int n;
+    /**
+     * Number of rows
+     */
+    private final int m;
+    /**
+     * Original matrix (m x n)
+     */
+    private final double[][] A;
+    /**
+     * Costs of structural columns
+     */
+    private final double[] c;
+    /**
+     * Lower bounds of the n + m columns (structural then logical)
+     */
+    private final double[] lo;
+    /**
+     * Upper bounds of the n + m columns (structural then logical)
+     */
+    private final double[] up;
+    /**
+     * Current tableau, that is B^-1.[-A | I] (m x (n + m))
+     */
+    private final double[][] T;
+    /**
+     * Basic column of each row
+     */
+    private final int[] basis;
+    /**
+     * Row of each column in the basis, -1 if the column is nonbasic
+     */
+    private final int[] position;
+    /**
+     * For nonbasic columns, whether it is set to its upper bound
+     */
+    private final boolean[] atUpper;
+    /**
+     * Reduced costs
+     */
+    private final double[] d;
+    /**
+     * Values of the basic columns
+     */
+    private final double[] xB;
+    /**
+     * Number of pivots since last refactorization
+     */
+    private int pivots;
+    /**
+     * Total number of pivots
+     */
+    private long iterations;
+    /**
+     * Objective value of the current basis
+     */
+    private double objective;
+    /**
+     * Row on which the last call to {@link #solve(int)} detected infeasibility, -1 if none
+     */
+    private int infeasibleRow = -1;
+    /**
+     * Lower side of the safe reduced costs of structural columns
+     */
+    private final double[] sdlo;
+    /**
+     * Upper side of the safe reduced costs of structural columns
+     */
+    private final double[] sdup;
+
+    /**
+     * @param rows    number of rows of the LP
+     * @param columns number of columns of the LP
+     * @return <i>true</i> if the tableau of such an LP does not exceed {@link #MAX_SIZE} cells
+     */
+    public static boolean fits(int rows, int columns) {
+        return (long) rows * ((long) columns + rows) <= MAX_SIZE;
+    }
+
+    /**
+     * Create a dual simplex for the LP: min c.x s.t. rlo &lt;= A.x &lt;= rup.
+     * Bounds on columns are set to 0 and should be defined with {@link #setBounds(int, double, double)}.
+     *
+     * @param A   matrix of coefficients, one row per linear constraint
+     * @param rlo lower bound of each row, possibly {@link Double#NEGATIVE_INFINITY}
+     * @param rup upper bound of each row, possibly {@link Double#POSITIVE_INFINITY}
+     * @param c   costs
+     * @throws SolverException if the tableau would exceed {@link #MAX_SIZE} cells
+     */
+    public DualSimplex(double[][] A, double[] rlo, double[] rup, double[] c) {
+        if (!fits(A.length, c.length)) {
+            throw new SolverException("The LP has too many rows and columns for a dense tableau: "
+                    + A.length + " x " + (c.length + A.length) + " > " + MAX_SIZE);
+        }
+        this.m = A.length;
+        this.n = c.length;
+        this.A = A;
+        this.c = c.clone();
+        int N = n + m;
+        this.lo = new double[N];
+        this.up = new double[N];
+        System.arraycopy(rlo, 0, lo, n, m);
+        System.arraycopy(rup, 0, up, n, m);
+        this.T = new double[m][N];
+        this.basis = new int[m];
+        this.position = new int[N];
+        this.atUpper = new boolean[N];
+        this.d = new double[N];
+        this.xB = new double[m];
+        this.sdlo = new double[n];
+        this.sdup = new double[n];
+        reset();
+    }
+
+    /**
+     * @return number of structural columns
+     */
+    public int getNbColumns() {
+        return n;
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int getNbRows() {
+        return m;
+    }
+
+    /**
+     * Set the bounds of a structural column.
+     *
+     * @param j  index of the column
+     * @param lb lower bound (finite)
+     * @param ub upper bound (finite)
+     */
+    public void setBounds(int j, double lb, double ub) {
+        assert j < n && lb <= ub;
+        lo[j] = lb;
+        up[j] = ub;
+    }
+
+    /**
+     * @return the objective value of the last basis computed
+     */
+    public double getObjective() {
+        return objective;
+    }
+
+    /**
+     * @return total number of pivots made
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @param j index of a structural column
+     * @return value of the column in the last basis computed
+     */
+    public double getValue(int j) {
+        return position[j] >= 0 ? xB[position[j]] : value(j);
+    }
+
+    /**
+     * @param j index of a structural column
+     * @return reduced cost of the column in the last basis computed
+     */
+    public double getReducedCost(int j) {
+        return d[j];
+    }
+
+    /**
+     * @param j index of a structural column
+     * @return <i>true</i> if the column is in the basis
+     */
+    public boolean isBasic(int j) {
+        return position[j] >= 0;
+    }
+
+    /**
+     * @param j index of a nonbasic structural column
+     * @return <i>true</i> if the column is set to its upper bound
+     */
+    public boolean isAtUpper(int j) {
+        return atUpper[j];
+    }
+
+    /**
+     * Solve the LP, starting from the last basis.
+     *
+     * @param maxIter maximum number of pivots
+     * @return the status of the resolution
+     */
+    public Status solve(int maxIter) {
+        infeasibleRow = -1;
+        if (pivots >= REFACTOR) {
+            refactor();
+        }
+        if (!restoreDualFeasibility()) {
+            reset();
+        }
+        computeXB();
+        for (int it = 0; it < maxIter; it++) {
+            int r = selectLeaving();
+            if (r < 0) {
+                computeObjective();
+                return Status.OPTIMAL;
+            }
+            int leaving = basis[r];
+            boolean toUpper = xB[r] > up[leaving];
+            int q = selectEntering(r, toUpper);
+            if (q < 0) {
+                infeasibleRow = r;
+                return Status.INFEASIBLE;
+            }
+            pivot(r, q);
+            atUpper[leaving] = toUpper;
+            if (pivots >= REFACTOR) {
+                refactor();
+                if (!restoreDualFeasibility()) {
+                    reset();
+                }
+            }
+            computeXB();
+        }
+        computeObjective();
+        return Status.ITERATION_LIMIT;
+    }
+
+    /**
+     * Compute a lower bound of the LP which is safe with respect to rounding errors.
+     * <p>
+     * For any multipliers y of the rows, c.x = (c - A<sup>T</sup>.y).x + y.(A.x),
+     * so minimizing each term over the bounds of the columns and of the rows gives a lower bound,
+     * whatever the accuracy of y.
+     * The multipliers of the last basis are used, and rounding errors made while evaluating the bound
+     * are accounted for.
+     * The bound is thus valid even when the last resolution did not reach optimality.
+     * </p>
+     * <p>
+     * This also computes safe reduced costs, see {@link #getSafeReducedCostLB(int)}
+     * and {@link #getSafeReducedCostUB(int)}.
+     * </p>
+     *
+     * @return a safe lower bound of the LP
+     */
+    public double getSafeObjective() {
+        double[] y = new double[m];
+        System.arraycopy(d, n, y, 0, m);
+        return safeBound(c, y);
+    }
+
+    /**
+     * @param j index of a structural column
+     * @return a lower bound of the exact reduced cost of the column,
+     * as computed by the last call to {@link #getSafeObjective()}
+     */
+    public double getSafeReducedCostLB(int j) {
+        return sdlo[j];
+    }
+
+    /**
+     * @param j index of a structural column
+     * @return an upper bound of the exact reduced cost of the column,
+     * as computed by the last call to {@link #getSafeObjective()}
+     */
+    public double getSafeReducedCostUB(int j) {
+        return sdup[j];
+    }
+
+    /**
+     * Check the infeasibility detected by the last call to {@link #solve(int)}.
+     * <p>
+     * The row on which infeasibility was detected is a combination y of the rows.
+     * For any x, 0 = -(A<sup>T</sup>.y).x + y.(A.x): if the range of the right-hand side
+     * over the bounds of the columns and of the rows, safely evaluated, excludes 0, the LP has no solution.
+     * </p>
+     *
+     * @return <i>true</i> if the LP is proven infeasible
+     */
+    public boolean isInfeasibilityCertified() {
+        if (infeasibleRow < 0) {
+            return false;
+        }
+        double[] y = new double[m];
+        double[] y_ = new double[m];
+        for (int i = 0; i < m; i++) {
+            y[i] = T[infeasibleRow][n + i];
+            y_[i] = -y[i];
+        }
+        double[] zero = new double[n];
+        return safeBound(zero, y) > 0. || safeBound(zero, y_) > 0.;
+    }
+
+    /**
+     * Evaluate, with outward rounding, a lower bound of cost.x over the LP
+     * using the multipliers y of the rows.
+     * Multipliers that would multiply an infinite bound of a row are set to 0.
+     *
+     * @param cost costs of the structural columns
+     * @param y    multipliers of the rows, modified
+     * @return a lower bound of cost.x, safe with respect to rounding errors
+     */
+    private double safeBound(double[] cost, double[] y) {
+        for (int i = 0; i < m; i++) {
+            if ((y[i] > 0. && lo[n + i] == Double.NEGATIVE_INFINITY)
+                    || (y[i] < 0. && up[n + i] == Double.POSITIVE_INFINITY)) {
+                y[i] = 0.;
+            }
+        }
+        // reduced costs c - A^T.y, with a bound on the error made
+        double[] err = new double[n];
+        for (int j = 0; j < n; j++) {
+            sdlo[j] = cost[j];
+            err[j] = Math.abs(cost[j]);
+        }
+        for (int i = 0; i < m; i++) {
+            if (y[i] == 0.) continue;
+            double[] a = A[i];
+            for (int j = 0; j < n; j++) {
+                if (a[j] != 0.) {
+                    double p = a[j] * y[i];
+                    sdlo[j] -= p;
+                    err[j] += Math.abs(p);
+                }
+            }
+        }
+        double g = gamma(m + 2);
+        double s = 0.;
+        double abs = 0.;
+        for (int j = 0; j < n; j++) {
+            double r = sdlo[j];
+            double e = Math.nextUp(err[j] * g);
+            sdlo[j] = Math.nextDown(r - e);
+            sdup[j] = Math.nextUp(r + e);
+            double t = Math.min(
+                    Math.min(sdlo[j] * lo[j], sdlo[j] * up[j]),
+                    Math.min(sdup[j] * lo[j], sdup[j] * up[j]));
+            s += t;
+            abs += Math.abs(t);
+        }
+        for (int i = 0; i < m; i++) {
+            double t = y[i] > 0. ? y[i] * lo[n + i] : y[i] < 0. ? y[i] * up[n + i] : 0.;
+            s += t;
+            abs += Math.abs(t);
+        }
+        return Math.nextDown(s - Math.nextUp(abs * gamma(n + m + 2)));
+    }
+
+    /**
+     * @param k number of floating-point operations
+     * @return the bound on the relative error of k operations
+     */
+    private static double gamma(int k) {
+        return k * U / (1. - k * U);
+    }
+
+    /**
+     * Restore the initial basis, made of logical columns only.
+     */
+    public void reset() {
+        for (int i = 0; i < m; i++) {
+            Arrays.fill(T[i], 0.);
+            for (int j = 0; j < n; j++) {
+                T[i][j] = -A[i][j];
+            }
+            T[i][n + i] = 1.;
+            basis[i] = n + i;
+            position[n + i] = i;
+        }
+        for (int j = 0; j < n; j++) {
+            position[j] = -1;
+            d[j] = c[j];
+            atUpper[j] = c[j] < 0;
+        }
+        Arrays.fill(d, n, n + m, 0.);
+        pivots = 0;
+    }
+
+    /**
+     * Recompute the tableau of the current basis from the original matrix, to limit numerical drift.
+     */
+    private void refactor() {
+        int[] target = basis.clone();
+        boolean[] side = atUpper.clone();
+        boolean[] inTarget = new boolean[n + m];
+        for (int b : target) {
+            inTarget[b] = true;
+        }
+        reset();
+        for (int t = 0; t < m; t++) {
+            int q = target[t];
+            if (q < n) {
+                // find a row whose basic logical column is not part of the target basis
+                int r = -1;
+                double best = PIV_EPS;
+                for (int i = 0; i < m; i++) {
+                    int b = basis[i];
+                    if (b >= n && !inTarget[b] && Math.abs(T[i][q]) > best) {
+                        best = Math.abs(T[i][q]);
+                        r = i;
+                    }
+                }
+                if (r >= 0) {
+                    pivot(r, q);
+                }
+            }
+        }
+        for (int j = 0; j < n + m; j++) {
+            if (position[j] < 0) {
+                atUpper[j] = side[j];
+            }
+        }
+        pivots = 0;
+    }
+
+    /**
+     * Make sure each nonbasic column is set to the bound its reduced cost requires.
+     *
+     * @return <i>false</i> if a column should be set to an infinite bound
+     */
+    private boolean restoreDualFeasibility() {
+        for (int j = 0; j < n + m; j++) {
+            if (position[j] < 0) {
+                if (d[j] > DUAL_EPS) {
+                    atUpper[j] = false;
+                } else if (d[j] < -DUAL_EPS) {
+                    atUpper[j] = true;
+                }
+                if (Double.isInfinite(value(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private double value(int j) {
+        return atUpper[j] ? up[j] : lo[j];
+    }
+
+    private void computeXB() {
+        int N = n + m;
+        for (int i = 0; i < m; i++) {
+            double[] row = T[i];
+            double s = 0.;
+            for (int j = 0; j < N; j++) {
+                if (position[j] < 0 && row[j] != 0.) {
+                    s -= row[j] * value(j);
+                }
+            }
+            xB[i] = s;
+        }
+    }
+
+    private void computeObjective() {
+        double s = 0.;
+        for (int j = 0; j < n; j++) {
+            s += c[j] * getValue(j);
+        }
+        objective = s;
+    }
+
+    /**
+     * @return the row whose basic column is the most infeasible, -1 if the basis is primal feasible
+     */
+    private int selectLeaving() {
+        int r = -1;
+        double worst = FEAS_EPS;
+        for (int i = 0; i < m; i++) {
+            int b = basis[i];
+            double v = Math.max(lo[b] - xB[i], xB[i] - up[b]);
+            if (v > worst * Math.max(1., Math.abs(xB[i]))) {
+                worst = v / Math.max(1., Math.abs(xB[i]));
+                r = i;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Dual ratio test.
+     *
+     * @param r       leaving row
+     * @param toUpper <i>true</i> if the basic column of row r exceeds its upper bound
+     * @return the entering column, -1 if none exists (the LP is infeasible)
+     */
+    private int selectEntering(int r, boolean toUpper) {
+        double[] row = T[r];
+        int q = -1;
+        double ratio = Double.POSITIVE_INFINITY;
+        double piv = 0.;
+        for (int j = 0; j < n + m; j++) {
+            if (position[j] >= 0 || lo[j] == up[j]) continue;
+            double a = row[j];
+            // the basic value is -sum(a_j.x_j), moving x_j away from its bound
+            // must decrease it when toUpper, increase it otherwise
+            boolean eligible = atUpper[j] ^ toUpper ? a > PIV_EPS : a < -PIV_EPS;
+            if (eligible) {
+                double t = Math.abs(d[j]) / Math.abs(a);
+                if (t < ratio - DUAL_EPS || (t <= ratio + DUAL_EPS && Math.abs(a) > piv)) {
+                    ratio = Math.min(ratio, t);
+                    piv = Math.abs(a);
+                    q = j;
+                }
+            }
+        }
+        return q;
+    }
+
+    private void pivot(int r, int q) {
+        int N = n + m;
+        double[] pr = T[r];
+        double p = pr[q];
+        for (int j = 0; j < N; j++) {
+            pr[j] /= p;
+        }
+        pr[q] = 1.;
+        for (int i = 0; i < m; i++) {
+            if (i != r) {
+                double[] row = T[i];
+                double f = row[q];
+                if (f != 0.) {
+                    for (int j = 0; j < N; j++) {
+                        if (pr[j] != 0.) {
+                            row[j] -= f * pr[j];
+                        }
+                    }
+                    row[q] = 0.;
+                }
+            }
+        }
+        double dq = d[q];
+        if (dq != 0.) {
+            for (int j = 0; j < N; j++) {
+                d[j] -= dq * pr[j];
+            }
+        }
+        d[q] = 0.;
+        int leaving = basis[r];
+        position[leaving] = -1;
+        basis[r] = q;
+        position[q] = r;
+        pivots++;
+        iterations++;
+    }
+}
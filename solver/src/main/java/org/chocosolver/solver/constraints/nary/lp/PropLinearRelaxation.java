@@ -0,0 +1,241 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.map.hash.TIntDoubleHashMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.sum.PropSum;
+import org.chocosolver.solver.constraints.nary.sum.PropSumWithLong;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A propagator which solves the LP relaxation of a set of linear constraints
+ * to bound an objective variable.
+ * <p>
+ * The LP is solved with a {@link DualSimplex}, warm started from the last basis computed.
+ * When the LP is proven infeasible, the propagator fails.
+ * Otherwise, the objective variable is bounded by the LP value
+ * and reduced-cost fixing is applied,
+ * based on the current bound of the objective variable (which is tightened on each solution
+ * by the objective manager).
+ * </p>
+ * <p>
+ * Domains are only filtered with the safe bounds of the LP, which are valid despite rounding errors
+ * (see {@link DualSimplex#getSafeObjective()} and {@link DualSimplex#isInfeasibilityCertified()}).
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public class PropLinearRelaxation extends Propagator<IntVar> {
+
+    /**
+     * The LP solver
+     */
+    private final DualSimplex lp;
+    /**
+     * Index of the objective variable
+     */
+    private final int obj;
+    /**
+     * Set to <i>true</i> when the objective variable is maximized
+     */
+    private final boolean maximize;
+    /**
+     * Maximum number of pivots per call
+     */
+    private final int maxIter;
+
+    /**
+     * Create a propagator which bounds <i>vars[obj]</i> with the LP relaxation of: rlo &lt;= A.vars &lt;= rup.
+     *
+     * @param vars     variables, the column j of A stands for vars[j]
+     * @param A        matrix of coefficients, one row per linear constraint
+     * @param rlo      lower bound of each row, possibly {@link Double#NEGATIVE_INFINITY}
+     * @param rup      upper bound of each row, possibly {@link Double#POSITIVE_INFINITY}
+     * @param obj      index of the objective variable in <i>vars</i>
+     * @param maximize set to <i>true</i> to maximize the objective variable
+     * @param maxIter  maximum number of pivots per call
+     */
+    public PropLinearRelaxation(IntVar[] vars, double[][] A, double[] rlo, double[] rup,
+                                int obj, boolean maximize, int maxIter) {
+        super(vars, PropagatorPriority.VERY_SLOW, false);
+        double[] c = new double[vars.length];
+        c[obj] = maximize ? -1. : 1.;
+        this.lp = new DualSimplex(A, rlo, rup, c);
+        this.obj = obj;
+        this.maximize = maximize;
+        this.maxIter = maxIter;
+    }
+
+    /**
+     * Build the LP relaxation of the linear constraints posted so far in <i>model</i>,
+     * that is, those relying on {@link PropSum} or {@link PropSumWithLong} (and sub-classes).
+     * Reified linear constraints and those with operator {@link Operator#NQ} are ignored.
+     *
+     * @param model     a model
+     * @param objective the objective variable
+     * @param maximize  set to <i>true</i> to maximize the objective variable
+     * @return a propagator bounding <i>objective</i>,
+     * or <i>null</i> if the LP is too large for a {@link DualSimplex} (see {@link DualSimplex#fits(int, int)})
+     */
+    public static PropLinearRelaxation make(Model model, IntVar objective, boolean maximize) {
+        TIntIntHashMap columns = new TIntIntHashMap(16, .5f, -1, -1);
+        List<IntVar> vars = new ArrayList<>();
+        columns.put(objective.getId(), 0);
+        vars.add(objective);
+        List<TIntDoubleHashMap> rows = new ArrayList<>();
+        TDoubleArrayList rlo = new TDoubleArrayList();
+        TDoubleArrayList rup = new TDoubleArrayList();
+        for (Constraint c : model.getCstrs()) {
+            for (Propagator<?> p : c.getPropagators()) {
+                if (p.isReified()) continue;
+                Operator o;
+                double b;
+                if (p instanceof PropSum) {
+                    o = ((PropSum) p).getOperator();
+                    b = ((PropSum) p).getB();
+                } else if (p instanceof PropSumWithLong) {
+                    o = ((PropSumWithLong) p).getOperator();
+                    b = ((PropSumWithLong) p).getB();
+                } else {
+                    continue;
+                }
+                if (o == Operator.NQ) continue;
+                TIntDoubleHashMap row = new TIntDoubleHashMap();
+                for (int k = 0; k < p.getNbVars(); k++) {
+                    IntVar v = (IntVar) p.getVar(k);
+                    int col = columns.get(v.getId());
+                    if (col < 0) {
+                        col = vars.size();
+                        columns.put(v.getId(), col);
+                        vars.add(v);
+                    }
+                    double coef = p instanceof PropSum ?
+                            ((PropSum) p).getCoefficient(k) :
+                            ((PropSumWithLong) p).getCoefficient(k);
+                    row.adjustOrPutValue(col, coef, coef);
+                }
+                rows.add(row);
+                rlo.add(o == Operator.LE ? Double.NEGATIVE_INFINITY : b);
+                rup.add(o == Operator.GE ? Double.POSITIVE_INFINITY : b);
+            }
+        }
+        if (!DualSimplex.fits(rows.size(), vars.size())) {
+            return null;
+        }
+        double[][] A = new double[rows.size()][vars.size()];
+        for (int i = 0; i < A.length; i++) {
+            double[] a = A[i];
+            rows.get(i).forEachEntry((col, coef) -> {
+                a[col] = coef;
+                return true;
+            });
+        }
+        return new PropLinearRelaxation(vars.toArray(new IntVar[0]), A, rlo.toArray(), rup.toArray(),
+                0, maximize, 10 * (A.length + 1));
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        for (int j = 0; j < vars.length; j++) {
+            lp.setBounds(j, vars[j].getLB(), vars[j].getUB());
+        }
+        if (lp.solve(maxIter) == DualSimplex.Status.INFEASIBLE) {
+            if (lp.isInfeasibilityCertified()) {
+                fails();
+            }
+            // not proven, retry from scratch to get rid of numerical drift
+            lp.reset();
+            if (lp.solve(maxIter) == DualSimplex.Status.INFEASIBLE && lp.isInfeasibilityCertified()) {
+                fails();
+            }
+        }
+        // a safe lower bound of (maximize ? -obj : obj), whatever the status
+        double v = lp.getSafeObjective();
+        if (maximize) {
+            vars[obj].updateUpperBound(toInt(Math.floor(-v)), this);
+        } else {
+            vars[obj].updateLowerBound(toInt(Math.ceil(v)), this);
+        }
+        reducedCostFixing(v);
+    }
+
+    private static int toInt(double v) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v));
+    }
+
+    /**
+     * A variable whose safe reduced cost is positive (resp. negative) and moved away from its lower (resp. upper)
+     * bound by t deteriorates the safe LP value by at least t.|d_j|, where d_j is the side of its safe reduced cost
+     * closest to 0.
+     * This value cannot exceed the gap between the safe LP value and the current bound of the objective.
+     *
+     * @param v safe LP value
+     * @throws ContradictionException if a domain becomes empty
+     */
+    private void reducedCostFixing(double v) throws ContradictionException {
+        double gap = (maximize ? -(double) vars[obj].getLB() : vars[obj].getUB()) - v;
+        for (int j = 0; j < vars.length; j++) {
+            if (j == obj || vars[j].isInstantiated()) continue;
+            double dlo = lp.getSafeReducedCostLB(j);
+            double dup = lp.getSafeReducedCostUB(j);
+            double width = (double) vars[j].getUB() - vars[j].getLB();
+            if (dlo > 0.) {
+                double t = maxShift(gap, dlo);
+                if (t < width) {
+                    vars[j].updateUpperBound(vars[j].getLB() + (int) t, this);
+                }
+            } else if (dup < 0.) {
+                double t = maxShift(gap, -dup);
+                if (t < width) {
+                    vars[j].updateLowerBound(vars[j].getUB() - (int) t, this);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param gap gap between the safe LP value and the bound of the objective
+     * @param d   a positive reduced cost
+     * @return the largest integral shift allowed, the division being rounded upward to remain safe
+     */
+    private static double maxShift(double gap, double d) {
+        double q = gap / d;
+        return Math.floor(q + Math.ulp(q) * 4);
+    }
+
+    @Override
+    public ESat isEntailed() {
+        // the relaxation is redundant with the linear constraints it is made of
+        return ESat.TRUE;
+    }
+
+    @Override
+    public String toString() {
+        return "LP relaxation over " + lp.getNbRows() + " rows and " + lp.getNbColumns() + " columns";
+    }
+}
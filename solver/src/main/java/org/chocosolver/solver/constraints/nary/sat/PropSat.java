@@ -206,6 +206,23 @@ public class PropSat extends Propagator<Variable> {
         return result;
     }
 
+    /**
+     * Add clauses in bulk to SAT solver, literals being built on SAT variables returned by
+     * {@link #makeBool(BoolVar)} and the like.
+     *
+     * @param arena clauses, each of them preceded by its size
+     * @param from  index of the size of the first clause
+     * @param to    index following the last literal of the last clause
+     * @return <tt>false</tt> if failure is detected
+     * @see MiniSat#addClauses(int[], int, int)
+     */
+    public boolean addClauses(int[] arena, int from, int to) {
+        sat_.synchro();
+        boolean result = sat_.addClauses(arena, from, to);
+        sat_.storeEarlyDeductions();
+        return result;
+    }
+
     /**
      * Add learnt clause to SAT solver
      *
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseBuilder;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -449,6 +451,11 @@ public class PropScalar extends PropSum {
         }
     }
 
+    @Override
+    public int getCoefficient(int i) {
+        return c[i];
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -489,4 +496,10 @@ public class PropScalar extends PropSum {
         return new PropScalar(vars, c, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropScalar(context.get(vars), c, pos, o, b));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -656,6 +658,28 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable of this propagator
+     * @return the coefficient of the <i>i</i>-th variable in the linear form
+     */
+    public int getCoefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
+    /**
+     * @return the operator of this linear form
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the bound to respect
+     */
+    public int getB() {
+        return b;
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -697,4 +721,11 @@ public class PropSum extends Propagator<IntVar> {
     protected PropSum opposite(){
         return new PropSum(vars, pos, nop(o), b + nb(o));
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropSum(context.get(vars), pos, o, b));
+        }
+    }
 }
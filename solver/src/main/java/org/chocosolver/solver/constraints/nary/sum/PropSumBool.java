@@ -12,6 +12,8 @@ package org.chocosolver.solver.constraints.nary.sum;
 import static org.chocosolver.solver.constraints.PropagatorPriority.BINARY;
 import static org.chocosolver.util.tools.ArrayUtils.concat;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -235,6 +237,11 @@ public class PropSumBool extends PropSum {
         }
     }
 
+    @Override
+    public int getCoefficient(int i) {
+        return i == l - 1 ? -1 : super.getCoefficient(i);
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -258,4 +265,15 @@ public class PropSumBool extends PropSum {
         System.arraycopy(vars, 0, bvars, 0, bvars.length);
         return new PropSumBool(bvars, pos, nop(o), vars[vars.length-1], b + nb(o), reactToFineEvt);
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            BoolVar[] bvars = new BoolVar[vars.length - 1];
+            for (int i = 0; i < bvars.length; i++) {
+                bvars[i] = (BoolVar) context.get(vars[i]);
+            }
+            context.put(this, new PropSumBool(bvars, pos, o, context.get(vars[vars.length - 1]), b, reactToFineEvt));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -203,4 +205,15 @@ public class PropSumFullBool extends PropSum {
         System.arraycopy(vars, 0, bvars, 0, bvars.length);
         return new PropSumFullBool(bvars, pos, nop(o), b + nb(o), reactToFineEvt);
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            BoolVar[] bvars = new BoolVar[vars.length];
+            for (int i = 0; i < bvars.length; i++) {
+                bvars[i] = (BoolVar) context.get(vars[i]);
+            }
+            context.put(this, new PropSumFullBool(bvars, pos, o, b, reactToFineEvt));
+        }
+    }
 }
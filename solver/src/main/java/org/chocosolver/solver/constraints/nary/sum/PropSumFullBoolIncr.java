@@ -10,6 +10,8 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -133,4 +135,14 @@ public class PropSumFullBoolIncr extends PropSumFullBool {
         return new PropSumFullBoolIncr(bvars, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            BoolVar[] bvars = new BoolVar[vars.length];
+            for (int i = 0; i < bvars.length; i++) {
+                bvars[i] = (BoolVar) context.get(vars[i]);
+            }
+            context.put(this, new PropSumFullBoolIncr(bvars, pos, o, b));
+        }
+    }
 }
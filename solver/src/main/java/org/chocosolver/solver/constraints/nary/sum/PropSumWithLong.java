@@ -444,6 +444,28 @@ public class PropSumWithLong extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable of this propagator
+     * @return the coefficient of the <i>i</i>-th variable in the linear form
+     */
+    public long getCoefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
+    /**
+     * @return the operator of this linear form
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the bound to respect
+     */
+    public long getB() {
+        return b;
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -0,0 +1,404 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.real;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.expression.continuous.arithmetic.BiCArExpression;
+import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
+import org.chocosolver.solver.expression.continuous.arithmetic.RealIntervalConstant;
+import org.chocosolver.solver.expression.continuous.relational.CReExpression;
+import org.chocosolver.solver.expression.continuous.relational.PropEquation;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.view.RealView;
+import org.chocosolver.util.objects.RealInterval;
+import org.chocosolver.util.tools.RealUtils;
+import org.chocosolver.util.tools.VariableUtils;
+
+import java.util.TreeSet;
+
+/**
+ * Parser of a function written with the Ibex syntax, like <code>"{0}^2 * (1 + {1}^2) = -13"</code>,
+ * which compiles it into a {@link PropEquation}, filtered in Java without Ibex.
+ * <p>
+ * Supported: the '{i}' tags, numbers, intervals '[a,b]', 'pi', operators '+,-,*,/,^',
+ * functions 'exp, ln, log, sqr, sqrt, abs, cos, sin, min, max' and relations '=,<=,>=,<,>'.
+ * An exponent must be a constant: an integer, or the inverse of 2 or 3.
+ * Constant sub-expressions are evaluated with outward rounding.
+ * Integer variables are replaced by real views.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public final class IbexFunctionParser {
+
+    /**
+     * Precision of the real views over integer variables
+     */
+    private static final double VIEW_PRECISION = 1.e-6;
+
+    private final String function;
+    private final Variable[] vars;
+    private final CArExpression[] leaves;
+    private int pos;
+
+    private IbexFunctionParser(String function, Variable[] vars, CArExpression[] leaves) {
+        this.function = function;
+        this.vars = vars;
+        this.leaves = leaves;
+    }
+
+    /**
+     * Parse <i>function</i> and compile it into a propagator.
+     *
+     * @param function         a function, without semi-colon
+     * @param contractionRatio ratio below which a contraction does not trigger a new filtering
+     * @param vars             variables referenced by the '{i}' tags
+     * @return a propagator filtering <i>function</i>
+     * @throws SolverException if the function is malformed or not supported
+     */
+    public static PropEquation parse(String function, double contractionRatio, Variable... vars) {
+        return parse(function, contractionRatio, vars, new CArExpression[vars.length]);
+    }
+
+    /**
+     * Parse <i>function</i> and compile it into a propagator.
+     *
+     * @param function         a function, without semi-colon
+     * @param contractionRatio ratio below which a contraction does not trigger a new filtering
+     * @param vars             variables referenced by the '{i}' tags
+     * @param leaves           leaves of the expression trees, per variable, shared among the functions
+     *                         of a constraint, lazily created
+     * @return a propagator filtering <i>function</i>
+     * @throws SolverException if the function is malformed or not supported
+     */
+    static PropEquation parse(String function, double contractionRatio, Variable[] vars, CArExpression[] leaves) {
+        IbexFunctionParser parser = new IbexFunctionParser(function, vars, leaves);
+        CArExpression left = parser.sum();
+        CReExpression.Operator op = parser.relation();
+        CArExpression right = parser.sum();
+        parser.skipBlanks();
+        if (parser.pos < function.length()) {
+            throw parser.error("unexpected character");
+        }
+        CArExpression exp = left.sub(right);
+        TreeSet<RealVar> scope = new TreeSet<>();
+        exp.collectVariables(scope);
+        if (scope.isEmpty()) {
+            throw parser.error("no variable");
+        }
+        PropEquation prop = new PropEquation(scope.toArray(new RealVar[0]), exp, op);
+        prop.setContractionRatio(contractionRatio);
+        return prop;
+    }
+
+    //***********************************************************************************
+    // GRAMMAR
+    //***********************************************************************************
+
+    private CReExpression.Operator relation() {
+        skipBlanks();
+        if (accept("<=")) return CReExpression.Operator.LE;
+        if (accept(">=")) return CReExpression.Operator.GE;
+        if (accept("=")) return CReExpression.Operator.EQ;
+        if (accept("<")) return CReExpression.Operator.LT;
+        if (accept(">")) return CReExpression.Operator.GT;
+        throw error("relation expected");
+    }
+
+    private CArExpression sum() {
+        CArExpression e = product();
+        while (true) {
+            if (accept("+")) {
+                e = binary(CArExpression.Operator.ADD, e, product());
+            } else if (accept("-")) {
+                e = binary(CArExpression.Operator.SUB, e, product());
+            } else {
+                return e;
+            }
+        }
+    }
+
+    private CArExpression product() {
+        CArExpression e = unary();
+        while (true) {
+            if (accept("*")) {
+                e = binary(CArExpression.Operator.MUL, e, unary());
+            } else if (accept("/")) {
+                e = binary(CArExpression.Operator.DIV, e, unary());
+            } else {
+                return e;
+            }
+        }
+    }
+
+    private CArExpression unary() {
+        if (accept("-")) {
+            CArExpression e = unary();
+            return isConstant(e) ? cste(-e.getUB(), -e.getLB()) : e.neg();
+        }
+        if (accept("+")) {
+            return unary();
+        }
+        CArExpression e = atom();
+        if (accept("^")) {
+            e = power(e, unary());
+        }
+        return e;
+    }
+
+    private CArExpression atom() {
+        skipBlanks();
+        if (pos == function.length()) {
+            throw error("unexpected end");
+        }
+        char c = function.charAt(pos);
+        if (accept("(")) {
+            CArExpression e = sum();
+            expect(")");
+            return e;
+        } else if (accept("{")) {
+            int idx = (int) number();
+            expect("}");
+            return leaf(idx);
+        } else if (accept("[")) {
+            double l = signedNumber();
+            expect(",");
+            double u = signedNumber();
+            expect("]");
+            return cste(l, u);
+        } else if (Character.isDigit(c) || c == '.') {
+            return constant(number());
+        } else if (Character.isLetter(c)) {
+            String name = identifier();
+            if (name.equals("pi")) {
+                return cste(RealUtils.prevFloat(Math.PI), RealUtils.nextFloat(Math.PI));
+            }
+            expect("(");
+            CArExpression e1 = sum();
+            CArExpression e;
+            switch (name) {
+                case "min":
+                case "max":
+                    expect(",");
+                    CArExpression e2 = sum();
+                    e = binary(name.equals("min") ? CArExpression.Operator.MIN : CArExpression.Operator.MAX, e1, e2);
+                    break;
+                default:
+                    e = function(name, e1);
+            }
+            expect(")");
+            return e;
+        }
+        throw error("unexpected character");
+    }
+
+    //***********************************************************************************
+    // NODES
+    //***********************************************************************************
+
+    private CArExpression leaf(int idx) {
+        if (idx < 0 || idx >= vars.length) {
+            throw error("unknown variable {" + idx + "}");
+        }
+        if (leaves[idx] == null) {
+            if (VariableUtils.isReal(vars[idx])) {
+                leaves[idx] = (RealVar) vars[idx];
+            } else if (VariableUtils.isInt(vars[idx])) {
+                leaves[idx] = new RealView<>((IntVar) vars[idx], VIEW_PRECISION);
+            } else {
+                throw error("variable {" + idx + "} is neither integer nor real");
+            }
+        }
+        return leaves[idx];
+    }
+
+    private CArExpression binary(CArExpression.Operator op, CArExpression e1, CArExpression e2) {
+        if (isConstant(e1) && isConstant(e2)) {
+            switch (op) {
+                case ADD:
+                    return new RealIntervalConstant(RealUtils.add(e1, e2));
+                case SUB:
+                    return new RealIntervalConstant(RealUtils.sub(e1, e2));
+                case MUL:
+                    return new RealIntervalConstant(RealUtils.mul(e1, e2));
+                case DIV:
+                    return new RealIntervalConstant(RealUtils.odiv(e1, e2));
+                case MIN:
+                    return cste(Math.min(e1.getLB(), e2.getLB()), Math.min(e1.getUB(), e2.getUB()));
+                case MAX:
+                    return cste(Math.max(e1.getLB(), e2.getLB()), Math.max(e1.getUB(), e2.getUB()));
+            }
+        }
+        return new BiCArExpression(op, e1, e2);
+    }
+
+    private CArExpression power(CArExpression e, CArExpression exponent) {
+        if (!isConstant(exponent)) {
+            throw error("the exponent must be a constant");
+        }
+        double l = exponent.getLB();
+        if (l == exponent.getUB() && Math.rint(l) == l && l >= 0) {
+            int k = (int) l;
+            if (k == 0) {
+                return cste(1., 1.);
+            } else if (k == 1) {
+                return e;
+            } else if (isConstant(e)) {
+                return new RealIntervalConstant(RealUtils.iPower(e, k));
+            } else if (k == 2) {
+                return e.sqr();
+            } else if (k == 3) {
+                return e.cub();
+            }
+            return new BiCArExpression(CArExpression.Operator.POW, e, cste(k, k));
+        }
+        // inverse of an integer
+        double r = Math.rint(1. / ((l + exponent.getUB()) / 2.));
+        if ((r == 2 || r == 3) && l <= 1. / r && 1. / r <= exponent.getUB()) {
+            if (isConstant(e)) {
+                return new RealIntervalConstant(RealUtils.iRoot(e, (int) r));
+            }
+            return r == 2 ? e.sqrt() : e.cbrt();
+        }
+        throw error("unsupported exponent " + exponent);
+    }
+
+    private CArExpression function(String name, CArExpression e) {
+        boolean cste = isConstant(e);
+        switch (name) {
+            case "sqr":
+                return cste ? new RealIntervalConstant(RealUtils.iPower(e, 2)) : e.sqr();
+            case "sqrt":
+                return cste ? new RealIntervalConstant(RealUtils.iRoot(e, 2)) : e.sqrt();
+            case "abs":
+                return cste ? abs(e) : e.abs();
+            case "exp":
+                return cste ? cste(Math.max(0., RealUtils.prevFloat(Math.exp(e.getLB()))),
+                        RealUtils.nextFloat(Math.exp(e.getUB()))) : e.exp();
+            case "ln":
+            case "log":
+                return cste ? cste(RealUtils.prevFloat(Math.log(e.getLB())),
+                        RealUtils.nextFloat(Math.log(e.getUB()))) : e.ln();
+            case "cos":
+                return cste ? new RealIntervalConstant(RealUtils.cos(e)) : e.cos();
+            case "sin":
+                return cste ? new RealIntervalConstant(RealUtils.sin(e)) : e.sin();
+            default:
+                throw error("function '" + name + "' is not supported without Ibex");
+        }
+    }
+
+    private static CArExpression abs(RealInterval e) {
+        if (e.getUB() < 0.) {
+            return cste(-e.getUB(), -e.getLB());
+        } else if (e.getLB() < 0.) {
+            return cste(0., Math.max(-e.getLB(), e.getUB()));
+        }
+        return cste(e.getLB(), e.getUB());
+    }
+
+    private static boolean isConstant(CArExpression e) {
+        return e instanceof RealIntervalConstant;
+    }
+
+    private static CArExpression cste(double l, double u) {
+        return new RealIntervalConstant(l, u);
+    }
+
+    /**
+     * @return an interval enclosing <i>v</i>, which may not be exactly represented
+     */
+    private static CArExpression constant(double v) {
+        if (Math.rint(v) == v && Math.abs(v) < 1L << 53) {
+            return cste(v, v);
+        }
+        return cste(RealUtils.prevFloat(v), RealUtils.nextFloat(v));
+    }
+
+    //***********************************************************************************
+    // LEXER
+    //***********************************************************************************
+
+    private void skipBlanks() {
+        while (pos < function.length() && Character.isWhitespace(function.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private boolean accept(String token) {
+        skipBlanks();
+        if (function.startsWith(token, pos)) {
+            pos += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String token) {
+        if (!accept(token)) {
+            throw error("'" + token + "' expected");
+        }
+    }
+
+    private String identifier() {
+        int start = pos;
+        while (pos < function.length() && Character.isLetterOrDigit(function.charAt(pos))) {
+            pos++;
+        }
+        return function.substring(start, pos);
+    }
+
+    private double signedNumber() {
+        if (accept("-")) {
+            return -signedNumber();
+        }
+        accept("+");
+        skipBlanks();
+        if (function.startsWith("oo", pos)) {
+            pos += 2;
+            return Double.POSITIVE_INFINITY;
+        }
+        return number();
+    }
+
+    private double number() {
+        skipBlanks();
+        int start = pos;
+        while (pos < function.length() && (Character.isDigit(function.charAt(pos)) || function.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (pos < function.length() && (function.charAt(pos) == 'e' || function.charAt(pos) == 'E')) {
+            int p = pos + 1;
+            if (p < function.length() && (function.charAt(p) == '+' || function.charAt(p) == '-')) {
+                p++;
+            }
+            if (p < function.length() && Character.isDigit(function.charAt(p))) {
+                pos = p;
+                while (pos < function.length() && Character.isDigit(function.charAt(pos))) {
+                    pos++;
+                }
+            }
+        }
+        if (start == pos) {
+            throw error("number expected");
+        }
+        try {
+            return Double.parseDouble(function.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("malformed number");
+        }
+    }
+
+    private SolverException error(String msg) {
+        return new SolverException("Malformed function \"" + function + "\" at " + pos + ": " + msg);
+    }
+}
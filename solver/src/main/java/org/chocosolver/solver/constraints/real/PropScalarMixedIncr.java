@@ -0,0 +1,612 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.real;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateDouble;
+import org.chocosolver.memory.IStateDoubleVector;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.solver.variables.events.RealEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.RealUtils;
+import org.chocosolver.util.tools.VariableUtils;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+/**
+ * A propagator for SUM(x_i*c_i) o b, where x_i are integer or real variables, maintained incrementally.
+ * <br/>
+ * Based on "Bounds Consistency Techniques for Long Linear Constraint" </br>
+ * W. Harvey and J. Schimpf
+ * <p>
+ * Integer variables are stored first, then real ones, each kind with its own coefficient array.
+ * The bounds of each term and their sums are backtrackable and updated on each event,
+ * the terms are scanned only when the widest one exceeds the slack.
+ * All computations are rounded outward, so no solution is lost to floating-point errors.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public class PropScalarMixedIncr extends Propagator<Variable> {
+
+    private static final double MAX_EXACT = 1L << 53;
+
+    /**
+     * Number of variables
+     */
+    private final int l;
+
+    /**
+     * Number of integer variables, stored first
+     */
+    private final int ni;
+
+    /**
+     * Integer variables and their coefficients
+     */
+    private final IntVar[] ivars;
+    private final double[] ic;
+
+    /**
+     * Real variables and their coefficients
+     */
+    private final RealVar[] rvars;
+    private final double[] rc;
+
+    /**
+     * Bound to respect
+     */
+    private final double b;
+
+    /**
+     * The operator among EQ, LE and GE
+     */
+    private final Operator o;
+
+    /**
+     * Smallest precision
+     */
+    private final double sprc;
+
+    /**
+     * For each term, the next position of the same variable (itself if unique)
+     */
+    private final int[] twin;
+
+    /**
+     * Lower and upper bounds of each term c_i*x_i, rounded outward
+     */
+    private final IStateDoubleVector lbs;
+    private final IStateDoubleVector ubs;
+
+    /**
+     * Sum of the finite lower bounds, rounded down, and sum of the finite upper bounds, rounded up.
+     */
+    private final IStateDouble sumLB;
+    private final IStateDouble sumUB;
+
+    /**
+     * Number of infinite lower bounds and of infinite upper bounds
+     */
+    private final IStateInt infLB;
+    private final IStateInt infUB;
+
+    /**
+     * Upper bound of the largest variability of the terms
+     */
+    private final IStateDouble maxI;
+
+    /**
+     * Upper bound of the rounding errors accumulated in the sums since they were last computed from scratch
+     */
+    private final IStateDouble drift;
+
+    /**
+     * Create a scalar product: SCALAR(x_i*c_i) o b
+     *
+     * @param variables list of variables
+     * @param coeffs    list of coefficients
+     * @param o         operator
+     * @param b         bound to respect.
+     */
+    public PropScalarMixedIncr(Variable[] variables, double[] coeffs, Operator o, double b) {
+        super(intsFirst(variables), PropagatorPriority.LINEAR, true);
+        this.l = vars.length;
+        this.ni = (int) Arrays.stream(variables).filter(v -> !VariableUtils.isReal(v)).count();
+        this.ivars = new IntVar[ni];
+        this.ic = new double[ni];
+        this.rvars = new RealVar[l - ni];
+        this.rc = new double[l - ni];
+        int i = 0, r = 0;
+        for (int k = 0; k < variables.length; k++) {
+            if (VariableUtils.isReal(variables[k])) {
+                rvars[r] = variables[k].asRealVar();
+                rc[r++] = coeffs[k];
+            } else {
+                ivars[i] = variables[k].asIntVar();
+                ic[i++] = coeffs[k];
+            }
+        }
+        OptionalDouble d = Arrays.stream(rvars)
+                .mapToDouble(RealVar::getPrecision)
+                .min();
+        if (d.isPresent()) {
+            sprc = d.getAsDouble();
+        } else {
+            sprc = variables[0].getModel().getPrecision();
+        }
+        this.o = o;
+        this.b = b;
+        this.twin = new int[l];
+        for (int k = 0; k < l; k++) {
+            twin[k] = k;
+            for (int j = k - 1; j >= 0; j--) {
+                if (vars[j] == vars[k]) {
+                    twin[k] = twin[j];
+                    twin[j] = k;
+                    break;
+                }
+            }
+        }
+        IEnvironment env = model.getEnvironment();
+        this.lbs = env.makeDoubleVector(l, 0.);
+        this.ubs = env.makeDoubleVector(l, 0.);
+        this.sumLB = env.makeFloat(0.);
+        this.sumUB = env.makeFloat(0.);
+        this.infLB = env.makeInt(0);
+        this.infUB = env.makeInt(0);
+        this.maxI = env.makeFloat(0.);
+        this.drift = env.makeFloat(0.);
+    }
+
+    private static Variable[] intsFirst(Variable[] variables) {
+        Variable[] vs = new Variable[variables.length];
+        int k = 0;
+        for (Variable v : variables) {
+            if (!VariableUtils.isReal(v)) vs[k++] = v;
+        }
+        for (Variable v : variables) {
+            if (VariableUtils.isReal(v)) vs[k++] = v;
+        }
+        return vs;
+    }
+
+    private double coeff(int k) {
+        return k < ni ? ic[k] : rc[k - ni];
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        double c = coeff(vIdx);
+        switch (o) {
+            case LE:
+                if (vIdx >= ni) {
+                    return c > 0 ? RealEventType.INCLOW.getMask() : RealEventType.DECUPP.getMask();
+                } else {
+                    return IntEventType.combine(IntEventType.INSTANTIATE, c > 0 ? IntEventType.INCLOW : IntEventType.DECUPP);
+                }
+            case GE:
+                if (vIdx >= ni) {
+                    return c > 0 ? RealEventType.DECUPP.getMask() : RealEventType.INCLOW.getMask();
+                } else {
+                    return IntEventType.combine(IntEventType.INSTANTIATE, c > 0 ? IntEventType.DECUPP : IntEventType.INCLOW);
+                }
+            default:
+                if (vIdx >= ni) {
+                    return RealEventType.BOUND.getMask();
+                } else {
+                    return IntEventType.boundAndInst();
+                }
+        }
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            resync();
+        }
+        filter();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        refresh(idxVarInProp);
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Execute filtering wrt the operator
+     *
+     * @throws ContradictionException if contradiction is detected
+     */
+    private void filter() throws ContradictionException {
+        switch (o) {
+            case LE:
+                filterUB();
+                if (infUB.get() == 0 && sumUB.get() <= b) {
+                    setPassive();
+                }
+                break;
+            case GE:
+                filterLB();
+                if (infLB.get() == 0 && sumLB.get() >= b) {
+                    setPassive();
+                }
+                break;
+            default:
+                boolean anychange;
+                do {
+                    anychange = filterUB();
+                    anychange |= filterLB();
+                } while (anychange);
+                break;
+        }
+    }
+
+    /**
+     * Filter the upper bound of each term wrt the sum of the lower bounds of the other terms.
+     *
+     * @return <i>true</i> if a term has been modified
+     * @throws ContradictionException if contradiction is detected
+     */
+    private boolean filterUB() throws ContradictionException {
+        int inf = infLB.get();
+        if (inf > 1) {
+            return false;
+        }
+        // slack, rounded up
+        double F = addUp(b, -sumLB.get());
+        if (inf == 0 && F < drift.get()) {
+            resync();
+            F = addUp(b, -sumLB.get());
+        }
+        if (inf == 0) {
+            if (F < 0) {
+                fails();
+            }
+            if (maxI.get() <= F) {
+                return false;
+            }
+        }
+        boolean anychange = false;
+        double max = 0.;
+        for (int k = 0; k < l; k++) {
+            double lb = lbs.quickGet(k);
+            double ub = ubs.quickGet(k);
+            double rest;
+            if (lb == Double.NEGATIVE_INFINITY) {
+                rest = F;
+            } else if (inf == 0) {
+                rest = addUp(F, lb);
+            } else {
+                rest = Double.POSITIVE_INFINITY;
+            }
+            if (ub > rest && (k < ni || ub - rest > sprc)) {
+                double c = coeff(k);
+                boolean change;
+                if (k < ni) {
+                    change = c > 0 ?
+                            ivars[k].updateUpperBound(floor(divUp(rest, c)), this) :
+                            ivars[k].updateLowerBound(ceil(divDown(rest, c)), this);
+                } else {
+                    change = c > 0 ?
+                            rvars[k - ni].updateUpperBound(divUp(rest, c), this) :
+                            rvars[k - ni].updateLowerBound(divDown(rest, c), this);
+                }
+                if (change) {
+                    refreshAll(k);
+                    anychange = true;
+                }
+            }
+            max = Math.max(max, ubs.quickGet(k) - lbs.quickGet(k));
+        }
+        maxI.set(max);
+        return anychange;
+    }
+
+    /**
+     * Filter the lower bound of each term wrt the sum of the upper bounds of the other terms.
+     *
+     * @return <i>true</i> if a term has been modified
+     * @throws ContradictionException if contradiction is detected
+     */
+    private boolean filterLB() throws ContradictionException {
+        int inf = infUB.get();
+        if (inf > 1) {
+            return false;
+        }
+        // excess, rounded up
+        double E = addUp(sumUB.get(), -b);
+        if (inf == 0 && E < drift.get()) {
+            resync();
+            E = addUp(sumUB.get(), -b);
+        }
+        if (inf == 0) {
+            if (E < 0) {
+                fails();
+            }
+            if (maxI.get() <= E) {
+                return false;
+            }
+        }
+        boolean anychange = false;
+        double max = 0.;
+        for (int k = 0; k < l; k++) {
+            double lb = lbs.quickGet(k);
+            double ub = ubs.quickGet(k);
+            double rest;
+            if (ub == Double.POSITIVE_INFINITY) {
+                rest = -E;
+            } else if (inf == 0) {
+                rest = addDown(ub, -E);
+            } else {
+                rest = Double.NEGATIVE_INFINITY;
+            }
+            if (lb < rest && (k < ni || rest - lb > sprc)) {
+                double c = coeff(k);
+                boolean change;
+                if (k < ni) {
+                    change = c > 0 ?
+                            ivars[k].updateLowerBound(ceil(divDown(rest, c)), this) :
+                            ivars[k].updateUpperBound(floor(divUp(rest, c)), this);
+                } else {
+                    change = c > 0 ?
+                            rvars[k - ni].updateLowerBound(divDown(rest, c), this) :
+                            rvars[k - ni].updateUpperBound(divUp(rest, c), this);
+                }
+                if (change) {
+                    refreshAll(k);
+                    anychange = true;
+                }
+            }
+            max = Math.max(max, ubs.quickGet(k) - lbs.quickGet(k));
+        }
+        maxI.set(max);
+        return anychange;
+    }
+
+    /**
+     * Recompute the bounds of all terms and their sums from scratch.
+     * Called on full propagation and when the slack is smaller than the accumulated rounding errors.
+     */
+    private void resync() {
+        double slb = 0., sub = 0., max = 0.;
+        int il = 0, iu = 0;
+        for (int k = 0; k < l; k++) {
+            double lb = lowerTerm(k);
+            double ub = upperTerm(k);
+            lbs.quickSet(k, lb);
+            ubs.quickSet(k, ub);
+            if (lb == Double.NEGATIVE_INFINITY) {
+                il++;
+            } else {
+                slb = addDown(slb, lb);
+            }
+            if (ub == Double.POSITIVE_INFINITY) {
+                iu++;
+            } else {
+                sub = addUp(sub, ub);
+            }
+            max = Math.max(max, ub - lb);
+        }
+        sumLB.set(slb);
+        sumUB.set(sub);
+        infLB.set(il);
+        infUB.set(iu);
+        maxI.set(max);
+        drift.set(0.);
+    }
+
+    /**
+     * Refresh the term in position <i>k</i> and the other terms over the same variable.
+     */
+    private void refreshAll(int k) {
+        int j = k;
+        do {
+            refresh(j);
+            j = twin[j];
+        } while (j != k);
+    }
+
+    /**
+     * Refresh the bounds of the term in position <i>k</i> and the sums.
+     */
+    private void refresh(int k) {
+        double nlb = lowerTerm(k);
+        double olb = lbs.quickGet(k);
+        if (nlb != olb) {
+            lbs.quickSet(k, nlb);
+            if (olb == Double.NEGATIVE_INFINITY) {
+                infLB.add(-1);
+                olb = 0.;
+            }
+            if (nlb == Double.NEGATIVE_INFINITY) {
+                infLB.add(1);
+                nlb = 0.;
+            }
+            double s = sumLB.get();
+            double e = error(s, -olb);
+            s = addDown(s, -olb);
+            e += error(s, nlb);
+            sumLB.set(addDown(s, nlb));
+            if (e > 0.) {
+                drift.set(drift.get() + e);
+            }
+        }
+        double nub = upperTerm(k);
+        double oub = ubs.quickGet(k);
+        if (nub != oub) {
+            ubs.quickSet(k, nub);
+            if (oub == Double.POSITIVE_INFINITY) {
+                infUB.add(-1);
+                oub = 0.;
+            }
+            if (nub == Double.POSITIVE_INFINITY) {
+                infUB.add(1);
+                nub = 0.;
+            }
+            double s = sumUB.get();
+            double e = error(s, -oub);
+            s = addUp(s, -oub);
+            e += error(s, nub);
+            sumUB.set(addUp(s, nub));
+            if (e > 0.) {
+                drift.set(drift.get() + e);
+            }
+        }
+    }
+
+    private double lowerTerm(int k) {
+        if (k < ni) {
+            double c = ic[k];
+            return mulDown(c, c > 0 ? ivars[k].getLB() : ivars[k].getUB());
+        } else {
+            double c = rc[k - ni];
+            return mulDown(c, c > 0 ? rvars[k - ni].getLB() : rvars[k - ni].getUB());
+        }
+    }
+
+    private double upperTerm(int k) {
+        if (k < ni) {
+            double c = ic[k];
+            return mulUp(c, c > 0 ? ivars[k].getUB() : ivars[k].getLB());
+        } else {
+            double c = rc[k - ni];
+            return mulUp(c, c > 0 ? rvars[k - ni].getUB() : rvars[k - ni].getLB());
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        double slb = 0., sub = 0.;
+        for (int k = 0; k < l; k++) {
+            slb = addDown(slb, lowerTerm(k));
+            sub = addUp(sub, upperTerm(k));
+        }
+        boolean sat, unsat;
+        switch (o) {
+            case LE:
+                sat = sub <= b;
+                unsat = slb > b;
+                break;
+            case GE:
+                sat = slb >= b;
+                unsat = sub < b;
+                break;
+            default:
+                sat = false;
+                unsat = sub < b || slb > b;
+                break;
+        }
+        if (unsat) {
+            return ESat.FALSE;
+        }
+        // real variables are instantiated up to their precision
+        if (sat || isCompletelyInstantiated()) {
+            return ESat.TRUE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder linComb = new StringBuilder(20);
+        linComb.append(coeff(0)).append('.').append(vars[0].getName());
+        for (int k = 1; k < l; k++) {
+            double c = coeff(k);
+            if (c > 0) {
+                linComb.append(" + ").append(c);
+            } else {
+                linComb.append(" - ").append(-c);
+            }
+            linComb.append('.').append(vars[k].getName());
+        }
+        linComb.append(" ").append(o).append(" ");
+        linComb.append(b);
+        return linComb.toString();
+    }
+
+    //***********************************************************************************
+    // DIRECTED ROUNDING
+    //***********************************************************************************
+
+    /**
+     * @return the error of the rounded-to-nearest <i>s = a + b</i>, that is <i>(a + b) - s</i> (Knuth's TwoSum)
+     */
+    private static double sumError(double a, double b, double s) {
+        double bb = s - a;
+        return (a - (s - bb)) + (b - bb);
+    }
+
+    /**
+     * @return an upper bound of the error of the directed rounding of <i>a + b</i>
+     */
+    private static double error(double a, double b) {
+        double s = a + b;
+        return sumError(a, b, s) != 0. ? 2 * Math.ulp(s) : 0.;
+    }
+
+    private static double addDown(double a, double b) {
+        double s = a + b;
+        if (Double.isInfinite(s)) return s;
+        return sumError(a, b, s) < 0 ? RealUtils.prevFloat(s) : s;
+    }
+
+    private static double addUp(double a, double b) {
+        double s = a + b;
+        if (Double.isInfinite(s)) return s;
+        return sumError(a, b, s) > 0 ? RealUtils.nextFloat(s) : s;
+    }
+
+    private static boolean exact(double c, double v) {
+        return c == 0. || v == 0. || c == 1. || c == -1.
+                || (Math.rint(c) == c && Math.rint(v) == v && Math.abs(c * v) < MAX_EXACT);
+    }
+
+    private static double mulDown(double c, double v) {
+        if (c == 0.) return 0.;
+        double p = c * v;
+        return exact(c, v) || Double.isInfinite(p) ? p : RealUtils.prevFloat(p);
+    }
+
+    private static double mulUp(double c, double v) {
+        if (c == 0.) return 0.;
+        double p = c * v;
+        return exact(c, v) || Double.isInfinite(p) ? p : RealUtils.nextFloat(p);
+    }
+
+    private static double divDown(double a, double c) {
+        double q = a / c;
+        return Double.isInfinite(q) ? q : RealUtils.prevFloat(q);
+    }
+
+    private static double divUp(double a, double c) {
+        double q = a / c;
+        return Double.isInfinite(q) ? q : RealUtils.nextFloat(q);
+    }
+
+    private static int floor(double v) {
+        return v >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) Math.floor(v);
+    }
+
+    private static int ceil(double v) {
+        return v <= Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) Math.ceil(v);
+    }
+}
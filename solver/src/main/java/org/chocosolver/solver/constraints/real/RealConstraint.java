@@ -13,6 +13,8 @@ import gnu.trove.map.hash.TIntIntHashMap;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.Variable;
 
@@ -25,6 +27,8 @@ import static org.chocosolver.solver.constraints.ConstraintsName.REALCONSTRAINT;
 
 /**
  * A constraint on real variables, solved using IBEX. <br/>
+ * When Ibex is disabled (see {@link org.chocosolver.solver.Settings#enableIbex()}),
+ * each function is parsed by {@link IbexFunctionParser} and filtered in Java. <br/>
  *
  * @author Charles Prud'homme, Jean-Guillaume Fages
  * @since 18/07/12
@@ -39,12 +43,12 @@ public class RealConstraint extends Constraint {
     //***********************************************************************************
 
     /**
-     * Make a new RealConstraint defined as a set of RealPropagators
+     * Make a new RealConstraint defined as a set of propagators
      *
      * @param name        name of the constraint
      * @param propagators set of propagators defining the constraint
      */
-    private RealConstraint(String name, RealPropagator... propagators) {
+    private RealConstraint(String name, Propagator<?>... propagators) {
         super(name, propagators);
     }
 
@@ -99,9 +103,17 @@ public class RealConstraint extends Constraint {
      * @param rvars     a list of real variables
      * @return a RealPropagator to propagate the given functions over given variable domains
      */
-    private static RealPropagator[] createPropagator(String functions, double contractionRatio, Variable... rvars) {
+    private static Propagator<?>[] createPropagator(String functions, double contractionRatio, Variable... rvars) {
         // split functions to correctly maintain indices of contractors
         String[] theFunctions = functions.split(";");
+        if (!rvars[0].getModel().getSettings().enableIbex()) {
+            Propagator<?>[] props = new Propagator[theFunctions.length];
+            CArExpression[] leaves = new CArExpression[rvars.length];
+            for (int i = 0; i < props.length; i++) {
+                props[i] = IbexFunctionParser.parse(theFunctions[i], contractionRatio, rvars, leaves);
+            }
+            return props;
+        }
         RealPropagator[] props = new RealPropagator[theFunctions.length];
         List<Variable> vars = new ArrayList<>();
         TIntIntHashMap sidx = new TIntIntHashMap();
@@ -140,6 +152,10 @@ public class RealConstraint extends Constraint {
      * @param bool the variable to reify with
      */
     public void reifyWith(BoolVar bool) {
+        if (!(propagators[0] instanceof RealPropagator)) {
+            super.reifyWith(bool);
+            return;
+        }
         Model s = propagators[0].getModel();
         getOpposite();
         if (boolReif == null) {
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -59,4 +61,10 @@ public class PropOpposite extends Propagator<Variable> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropOpposite(context.get(original), context.get(vars)));
+        }
+    }
 }
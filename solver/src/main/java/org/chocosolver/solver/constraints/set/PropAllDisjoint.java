@@ -17,8 +17,9 @@ import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
-import org.chocosolver.util.procedure.IntProcedure;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
 
 /**
  * Ensures that all non-empty sets are disjoint
@@ -33,9 +34,9 @@ public class PropAllDisjoint extends Propagator<SetVar> {
     //***********************************************************************************
 
     private final int n;
-    private int currentSet;
     private final ISetDeltaMonitor[] sdm;
-    private final IntProcedure elementForced;
+    // elements of the delta, to apply them at once
+    private final ISet buffer;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -55,13 +56,7 @@ public class PropAllDisjoint extends Propagator<SetVar> {
         for (int i = 0; i < n; i++) {
             sdm[i] = this.vars[i].monitorDelta(this);
         }
-        elementForced = element -> {
-            for (int i = 0; i < n; i++) {
-                if (i != currentSet) {
-                    vars[i].remove(element, this);
-                }
-            }
-        };
+        buffer = SetFactory.makeRangeSet();
     }
 
     //***********************************************************************************
@@ -77,11 +72,9 @@ public class PropAllDisjoint extends Propagator<SetVar> {
     public void propagate(int evtmask) throws ContradictionException {
         if (PropagatorEventType.isFullPropagation(evtmask)) {
             for (int i = 0; i < n; i++) {
-                for (int j : vars[i].getLB()) {
-                    for (int i2 = 0; i2 < n; i2++) {
-                        if (i2 != i) {
-                            vars[i2].remove(j, this);
-                        }
+                for (int i2 = 0; i2 < n; i2++) {
+                    if (i2 != i) {
+                        vars[i2].removeAll(vars[i].getLB(), this);
                     }
                 }
             }
@@ -93,8 +86,13 @@ public class PropAllDisjoint extends Propagator<SetVar> {
 
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
-        currentSet = idxVarInProp;
-        sdm[currentSet].forEach(elementForced, SetEventType.ADD_TO_KER);
+        buffer.clear();
+        sdm[idxVarInProp].forEach(buffer::add, SetEventType.ADD_TO_KER);
+        for (int i = 0; i < n; i++) {
+            if (i != idxVarInProp) {
+                vars[i].removeAll(buffer, this);
+            }
+        }
     }
 
     @Override
@@ -16,6 +16,8 @@
 
 package org.chocosolver.solver.constraints.set;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -25,7 +27,6 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 
 /**
  * A propagator ensuring that |set| = card
@@ -76,18 +77,9 @@ public class PropCardinality extends Propagator<Variable> {
         if (card.isInstantiated()) {
             int c = card.getValue();
             if (c == k) {
-                ISetIterator iter = set.getUB().iterator();
-                while (iter.hasNext()){
-                    int j = iter.nextInt();
-                    if (!set.getLB().contains(j)) {
-                        set.remove(j, this);
-                    }
-                }
+                set.retainAll(set.getLB(), this);
             } else if (c == e) {
-                ISetIterator iter = set.getUB().iterator();
-                while (iter.hasNext()){
-                    set.force(iter.nextInt(), this);
-                }
+                set.forceAll(set.getUB(), this);
             }
         }
     }
@@ -105,4 +97,10 @@ public class PropCardinality extends Propagator<Variable> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropCardinality(context.get(set), context.get(card)));
+        }
+    }
 }
@@ -16,6 +16,8 @@
 
 package org.chocosolver.solver.constraints.set;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -70,4 +72,11 @@ public class PropIntCstNotMemberSet extends Propagator<SetVar> {
 			return ESat.TRUE;
 		}
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropIntCstNotMemberSet(context.get((SetVar) vars[0]), cst));
+        }
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.set;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -136,4 +138,10 @@ public class PropIntEnumMemberSet extends Propagator<Variable> {
         }
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropIntEnumMemberSet(context.get(set), context.get(iv)));
+        }
+    }
 }
@@ -17,7 +17,9 @@ import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.tools.ArrayUtils;
 
@@ -34,10 +36,10 @@ public class PropIntersection extends Propagator<SetVar> {
 
     private final int k;
     private final ISetDeltaMonitor[] sdm;
-    private final IntProcedure intersectionForced;
     private final IntProcedure intersectionRemoved;
     private final IntProcedure setForced;
-    private final IntProcedure setRemoved;
+    // elements of the delta, to apply them at once
+    private final ISet buffer;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -51,11 +53,6 @@ public class PropIntersection extends Propagator<SetVar> {
             sdm[i] = this.vars[i].monitorDelta(this);
         }
         // PROCEDURES
-        intersectionForced = element -> {
-            for (int i = 0; i < k; i++) {
-                vars[i].force(element, this);
-            }
-        };
         intersectionRemoved = element -> {
             int mate = -1;
             for (int i = 0; i < k; i++)
@@ -93,7 +90,7 @@ public class PropIntersection extends Propagator<SetVar> {
                 vars[k].force(element, this);
             }
         };
-        setRemoved = element -> vars[k].remove(element, this);
+        buffer = SetFactory.makeRangeSet();
     }
 
     //***********************************************************************************
@@ -118,14 +115,13 @@ public class PropIntersection extends Propagator<SetVar> {
                     intersection.force(j, this);
                 }
             }
+            for (int i = 0; i < k; i++) {
+                vars[i].forceAll(intersection.getLB(), this);
+            }
             iter = intersection.getUB().iterator();
             while (iter.hasNext()){
                 int j = iter.nextInt();
-                if (intersection.getLB().contains(j)) {
-                    for (int i = 0; i < k; i++) {
-                        vars[i].force(j, this);
-                    }
-                } else {
+                if (!intersection.getLB().contains(j)) {
                     for (int i = 0; i < k; i++)
                         if (!vars[i].getUB().contains(j)) {
                             intersection.remove(j, this);
@@ -141,11 +137,16 @@ public class PropIntersection extends Propagator<SetVar> {
 
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        buffer.clear();
         if (idxVarInProp < k) {
             sdm[idxVarInProp].forEach(setForced, SetEventType.ADD_TO_KER);
-            sdm[idxVarInProp].forEach(setRemoved, SetEventType.REMOVE_FROM_ENVELOPE);
+            sdm[idxVarInProp].forEach(buffer::add, SetEventType.REMOVE_FROM_ENVELOPE);
+            vars[k].removeAll(buffer, this);
         } else {
-            sdm[idxVarInProp].forEach(intersectionForced, SetEventType.ADD_TO_KER);
+            sdm[idxVarInProp].forEach(buffer::add, SetEventType.ADD_TO_KER);
+            for (int i = 0; i < k; i++) {
+                vars[i].forceAll(buffer, this);
+            }
             sdm[idxVarInProp].forEach(intersectionRemoved, SetEventType.REMOVE_FROM_ENVELOPE);
         }
     }
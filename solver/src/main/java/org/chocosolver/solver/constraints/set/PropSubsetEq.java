@@ -16,8 +16,9 @@ import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
-import org.chocosolver.util.procedure.IntProcedure;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
 
 /**
  * Ensures that X subseteq Y
@@ -33,8 +34,8 @@ public class PropSubsetEq extends Propagator<SetVar> {
     //***********************************************************************************
 
     private final ISetDeltaMonitor[] sdm;
-    private final IntProcedure elementForced;
-    private final IntProcedure elementRemoved;
+    // elements of the delta, to apply them at once
+    private final ISet buffer;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -53,8 +54,7 @@ public class PropSubsetEq extends Propagator<SetVar> {
         for (int i = 0; i < 2; i++) {
             sdm[i] = this.vars[i].monitorDelta(this);
         }
-        elementForced = element -> vars[1].force(element, this);
-        elementRemoved = element -> vars[0].remove(element, this);
+        buffer = SetFactory.makeRangeSet();
     }
 
     //***********************************************************************************
@@ -71,26 +71,22 @@ public class PropSubsetEq extends Propagator<SetVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        ISetIterator iter = vars[0].getLB().iterator();
-        while (iter.hasNext()){
-            vars[1].force(iter.nextInt(), this);
-        }
-        iter = vars[0].getUB().iterator();
-        while (iter.hasNext()){
-            int j = iter.nextInt();
-            if (!vars[1].getUB().contains(j))
-                vars[0].remove(j, this);
-        }
+        vars[1].forceAll(vars[0].getLB(), this);
+        vars[0].retainAll(vars[1].getUB(), this);
         sdm[0].startMonitoring();
         sdm[1].startMonitoring();
     }
 
     @Override
     public void propagate(int i, int mask) throws ContradictionException {
-        if (i == 0)
-            sdm[i].forEach(elementForced, SetEventType.ADD_TO_KER);
-        else
-            sdm[i].forEach(elementRemoved, SetEventType.REMOVE_FROM_ENVELOPE);
+        buffer.clear();
+        if (i == 0) {
+            sdm[i].forEach(buffer::add, SetEventType.ADD_TO_KER);
+            vars[1].forceAll(buffer, this);
+        } else {
+            sdm[i].forEach(buffer::add, SetEventType.REMOVE_FROM_ENVELOPE);
+            vars[0].removeAll(buffer, this);
+        }
     }
 
     @Override
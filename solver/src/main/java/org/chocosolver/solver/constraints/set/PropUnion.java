@@ -17,7 +17,9 @@ import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.tools.ArrayUtils;
 
@@ -35,9 +37,9 @@ public class PropUnion extends Propagator<SetVar> {
     private final int k;
     private final ISetDeltaMonitor[] sdm;
     private final IntProcedure unionForced;
-    private final IntProcedure unionRemoved;
-    private final IntProcedure setForced;
     private final IntProcedure setRemoved;
+    // elements of the delta, to apply them at once
+    private final ISet buffer;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -74,12 +76,6 @@ public class PropUnion extends Propagator<SetVar> {
                 vars[mate].force(element, this);
             }
         };
-        unionRemoved = element -> {
-            for (int i = 0; i < k; i++) {
-                vars[i].remove(element, this);
-            }
-        };
-        setForced = element -> vars[k].force(element, this);
         setRemoved = element -> {
             if (vars[k].getUB().contains(element)) {
                 int mate = -1;
@@ -99,6 +95,7 @@ public class PropUnion extends Propagator<SetVar> {
                 }
             }
         };
+        buffer = SetFactory.makeRangeSet();
     }
 
     //***********************************************************************************
@@ -110,15 +107,8 @@ public class PropUnion extends Propagator<SetVar> {
         if (PropagatorEventType.isFullPropagation(evtmask)) {
             SetVar union = vars[k];
             for (int i = 0; i < k; i++) {
-                ISetIterator iter = vars[i].getLB().iterator();
-                while(iter.hasNext())
-                    union.force(iter.nextInt(),this);
-                iter = vars[i].getUB().iterator();
-                while(iter.hasNext()) {
-                    int j = iter.nextInt();
-                    if (!union.getUB().contains(j))
-                        vars[i].remove(j, this);
-                }
+                union.forceAll(vars[i].getLB(), this);
+                vars[i].retainAll(union.getUB(), this);
             }
             ISetIterator unionUB = union.getUB().iterator();
             while (unionUB.hasNext()) {
@@ -158,12 +148,17 @@ public class PropUnion extends Propagator<SetVar> {
 
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        buffer.clear();
         if (idxVarInProp < k) {
-            sdm[idxVarInProp].forEach(setForced, SetEventType.ADD_TO_KER);
+            sdm[idxVarInProp].forEach(buffer::add, SetEventType.ADD_TO_KER);
+            vars[k].forceAll(buffer, this);
             sdm[idxVarInProp].forEach(setRemoved, SetEventType.REMOVE_FROM_ENVELOPE);
         } else {
             sdm[idxVarInProp].forEach(unionForced, SetEventType.ADD_TO_KER);
-            sdm[idxVarInProp].forEach(unionRemoved, SetEventType.REMOVE_FROM_ENVELOPE);
+            sdm[idxVarInProp].forEach(buffer::add, SetEventType.REMOVE_FROM_ENVELOPE);
+            for (int i = 0; i < k; i++) {
+                vars[i].removeAll(buffer, this);
+            }
         }
     }
 
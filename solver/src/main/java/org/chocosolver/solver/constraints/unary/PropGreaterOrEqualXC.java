@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -84,4 +86,10 @@ public class PropGreaterOrEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " >= " + constant;
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new PropGreaterOrEqualXC(context.get(vars[0]), constant));
+        }
+    }
 }
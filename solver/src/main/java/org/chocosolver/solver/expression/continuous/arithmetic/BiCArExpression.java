@@ -69,7 +69,7 @@ public class BiCArExpression implements CArExpression {
         this.op = op;
         this.e1 = e1;
         this.e2 = e2;
-        this.model = e1.getModel();
+        this.model = e1.getModel() != null ? e1.getModel() : e2.getModel();
     }
 
     @Override
@@ -169,6 +169,8 @@ public class BiCArExpression implements CArExpression {
                 );
                 break;
             case POW:
+                res = RealUtils.iPower(e1, exponent());
+                break;
             case ATAN2:
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
@@ -217,12 +219,24 @@ public class BiCArExpression implements CArExpression {
                 }
                 break;
             case POW:
+                e1.intersect(RealUtils.iRoot(this, exponent(), e1), cause);
+                break;
             case ATAN2:
             default:
                 throw new UnsupportedOperationException("Equation does not support " + op.name()+". Consider using Ibex instead.");
         }
     }
 
+    /**
+     * @return the exponent of a power, only integer constants greater than 1 are supported by equations
+     */
+    private int exponent() {
+        if (e2.getLB() == e2.getUB() && e2.getLB() >= 2 && Math.rint(e2.getLB()) == e2.getLB()) {
+            return (int) e2.getLB();
+        }
+        throw new UnsupportedOperationException("Equation only supports integer constant exponents greater than 1. Consider using Ibex instead.");
+    }
+
     @Override
     public void collectVariables(TreeSet<RealVar> set) {
         e1.collectVariables(set);
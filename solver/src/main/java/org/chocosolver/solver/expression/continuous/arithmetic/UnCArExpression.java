@@ -205,7 +205,19 @@ public class UnCArExpression implements CArExpression {
                 }
                 break;
             case EXP:
+                res = new RealIntervalConstant(
+                        Math.max(0., RealUtils.prevFloat(Math.exp(e.getLB()))),
+                        RealUtils.nextFloat(Math.exp(e.getUB())));
+                break;
             case LN:
+                if (e.getUB() < 0.) {
+                    res = new RealIntervalConstant(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+                } else {
+                    res = new RealIntervalConstant(
+                            RealUtils.prevFloat(Math.log(Math.max(0., e.getLB()))),
+                            RealUtils.nextFloat(Math.log(e.getUB())));
+                }
+                break;
             case TAN:
             case ACOS:
             case ASIN:
@@ -252,7 +264,19 @@ public class UnCArExpression implements CArExpression {
                 res = new RealIntervalConstant(-this.getUB(), this.getUB());
                 break;
             case EXP:
+                if (this.getUB() < 0.) {
+                    res = new RealIntervalConstant(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+                } else {
+                    res = new RealIntervalConstant(
+                            RealUtils.prevFloat(Math.log(Math.max(0., this.getLB()))),
+                            RealUtils.nextFloat(Math.log(this.getUB())));
+                }
+                break;
             case LN:
+                res = new RealIntervalConstant(
+                        Math.max(0., RealUtils.prevFloat(Math.exp(this.getLB()))),
+                        RealUtils.nextFloat(Math.exp(this.getUB())));
+                break;
             case TAN:
             case ACOS:
             case ASIN:
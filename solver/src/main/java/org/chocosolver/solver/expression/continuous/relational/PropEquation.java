@@ -11,10 +11,12 @@ package org.chocosolver.solver.expression.continuous.relational;
 
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.real.Ibex;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
 import org.chocosolver.solver.expression.continuous.arithmetic.RealIntervalConstant;
 import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.RealInterval;
 import org.chocosolver.util.tools.RealUtils;
@@ -41,6 +43,11 @@ public class PropEquation extends Propagator<RealVar> {
     protected CArExpression[][] subExpsWOX;
     protected int boxConsistencyDepth = 6;
     RealInterval[] unexplored = new RealInterval[this.boxConsistencyDepth * 2];
+    /**
+     * Filtering is applied again as long as a domain is reduced by more than this ratio of its width
+     */
+    protected double contractionRatio = Ibex.RATIO;
+    private final double[] widths;
 
     public PropEquation(RealVar[] vars, CArExpression e1, CReExpression.Operator op) {
         super(vars, PropagatorPriority.LINEAR, false);
@@ -68,7 +75,10 @@ public class PropEquation extends Propagator<RealVar> {
 
         for (int i = 0; i < vars.length; i++) {
             RealVar var = vars[i];
-            this.addBoxedVar(var);
+            // views cannot be silently assigned, they only benefit from HC4
+            if ((var.getTypeAndKind() & Variable.VIEW) == 0) {
+                this.addBoxedVar(var);
+            }
         }
 
         exp.init();
@@ -77,6 +87,18 @@ public class PropEquation extends Propagator<RealVar> {
         exp.subExps(collectedSubExp);
         //noinspection ConstantForZeroLengthArrayAllocation
         subExps = collectedSubExp.toArray(new CArExpression[0]);
+        widths = new double[vars.length];
+    }
+
+    /**
+     * Defines the ratio that real domains must be contracted by to apply the filtering again,
+     * up to a fixpoint.
+     * The default value is {@link Ibex#RATIO}, like for Ibex.
+     *
+     * @param ratio a ratio in [0, 1]
+     */
+    public void setContractionRatio(double ratio) {
+        this.contractionRatio = ratio;
     }
 
     public void addBoxedVar(RealVar var) {
@@ -94,13 +116,32 @@ public class PropEquation extends Propagator<RealVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        // Hull consitency: HC4
-        this.tighten(subExps);
-        this.proj();
-        // Box consistency
-        for (int i = 0; i < nbBoxedVars; i++) {
-            bc(boxedVars[i], subExpsWX[i], subExpsWOX[i]);
+        do {
+            for (int i = 0; i < vars.length; i++) {
+                widths[i] = vars[i].getUB() - vars[i].getLB();
+            }
+            // Hull consitency: HC4
+            this.tighten(subExps);
+            this.proj();
+            // Box consistency
+            for (int i = 0; i < nbBoxedVars; i++) {
+                bc(boxedVars[i], subExpsWX[i], subExpsWOX[i]);
+            }
+        } while (contracted());
+    }
+
+    /**
+     * @return <i>true</i> if a domain has been reduced by more than {@link #contractionRatio}
+     * since the last call to {@link #propagate(int)}
+     */
+    private boolean contracted() {
+        for (int i = 0; i < vars.length; i++) {
+            double w = vars[i].getUB() - vars[i].getLB();
+            if (w < widths[i] && (widths[i] == Double.POSITIVE_INFINITY || widths[i] - w > contractionRatio * widths[i])) {
+                return true;
+            }
         }
+        return false;
     }
 
     @Override
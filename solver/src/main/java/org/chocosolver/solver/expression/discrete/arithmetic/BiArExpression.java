@@ -79,6 +79,14 @@ public class BiArExpression implements ArExpression {
         if (me == null) {
             IntVar v1 = e1.intVar();
             IntVar v2 = e2.intVar();
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(),
+                    op == Operator.ADD || op == Operator.MUL || op == Operator.MIN || op == Operator.MAX,
+                    new IntVar[]{v1, v2});
+            me = cache.get(key);
+            if (me != null) {
+                return me;
+            }
             int[] bounds;
             switch (op) {
                 case ADD:
@@ -133,6 +141,7 @@ public class BiArExpression implements ArExpression {
                 default:
                     throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
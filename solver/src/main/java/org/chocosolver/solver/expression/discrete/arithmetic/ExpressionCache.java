@@ -0,0 +1,127 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.expression.discrete.arithmetic;
+
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * A cache of the variables created by the decomposition of expressions, one per {@link org.chocosolver.solver.Model}.
+ * <p>
+ * An expression node is identified by its operator, the variables of its children and its constants.
+ * Since children are decomposed first, two identical sub-trees are mapped to the same variable,
+ * and the intermediary constraints are posted only once.
+ * </p>
+ * <p>
+ * Should not be called by the user.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public final class ExpressionCache {
+
+    /**
+     * Identifier of an expression node
+     */
+    public static final class Key {
+        private final String op;
+        private final int[] data;
+        private final int hash;
+
+        private Key(String op, int[] data) {
+            this.op = op;
+            this.data = data;
+            this.hash = 31 * op.hashCode() + Arrays.hashCode(data);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return hash == key.hash && op.equals(key.op) && Arrays.equals(data, key.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final HashMap<Key, IntVar> cache = new HashMap<>();
+
+    private final boolean enabled;
+
+    /**
+     * Create a cache of expressions
+     *
+     * @param enabled set to <i>false</i> to disable the cache, each expression is then decomposed on its own
+     */
+    public ExpressionCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Build the identifier of an expression node.
+     *
+     * @param op          name of the operator
+     * @param commutative set to <i>true</i> if the order of <i>vars</i> does not matter
+     * @param vars        variables of the children
+     * @param cstes       constants of the node
+     * @return the identifier of the node, or <i>null</i> if the cache is disabled
+     */
+    public Key key(String op, boolean commutative, IntVar[] vars, int... cstes) {
+        if (!enabled) {
+            return null;
+        }
+        int[] data = new int[1 + vars.length + cstes.length];
+        data[0] = vars.length;
+        for (int i = 0; i < vars.length; i++) {
+            data[1 + i] = vars[i].getId();
+        }
+        if (commutative) {
+            Arrays.sort(data, 1, 1 + vars.length);
+        }
+        System.arraycopy(cstes, 0, data, 1 + vars.length, cstes.length);
+        return new Key(op, data);
+    }
+
+    /**
+     * @param key identifier of an expression node, may be <i>null</i>
+     * @return the variable of the expression node, or <i>null</i> if the node is unknown
+     */
+    public IntVar get(Key key) {
+        return key == null ? null : cache.get(key);
+    }
+
+    /**
+     * Associate a variable with an expression node
+     *
+     * @param key identifier of the expression node, may be <i>null</i>
+     * @param var the variable of the node
+     * @param <V> type of the variable
+     * @return <i>var</i>
+     */
+    public <V extends IntVar> V put(Key key, V var) {
+        if (key != null) {
+            cache.put(key, var);
+        }
+        return var;
+    }
+
+    /**
+     * @return number of expression nodes in the cache
+     */
+    public int size() {
+        return cache.size();
+    }
+}
@@ -61,11 +61,18 @@ public class IfArExpression implements ArExpression {
             BoolVar v0 = b0.boolVar();
             IntVar v1 = e1.intVar();
             IntVar v2 = e2.intVar();
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key("IF", false, new IntVar[]{v0, v1, v2});
+            me = cache.get(key);
+            if (me != null) {
+                return me;
+            }
             me = model.intVar(model.generateName("if_exp_"),
                     Math.min(v1.getLB(), v2.getLB()),
                     Math.max(v1.getUB(), v2.getUB()));
             model.reifyXeqY(me, v1, v0);
             model.reifyXeqY(me, v2, v0.not());
+            cache.put(key, me);
         }
         return me;
     }
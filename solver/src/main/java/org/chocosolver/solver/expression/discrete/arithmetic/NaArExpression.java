@@ -82,6 +82,12 @@ public class NaArExpression implements ArExpression {
     public IntVar intVar() {
         if (me == null) {
             IntVar[] vs = Arrays.stream(es).map(ArExpression::intVar).toArray(IntVar[]::new);
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(), true, vs);
+            me = cache.get(key);
+            if (me != null) {
+                return me;
+            }
             int[] bounds;
             switch (op) {
                 case ADD:
@@ -113,6 +119,7 @@ public class NaArExpression implements ArExpression {
                 default:
                     throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
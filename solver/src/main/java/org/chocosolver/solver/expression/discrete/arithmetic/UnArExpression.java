@@ -80,6 +80,12 @@ public class UnArExpression implements ArExpression {
     public IntVar intVar() {
         if (me == null) {
             IntVar v = e.intVar();
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(), false, new IntVar[]{v});
+            me = cache.get(key);
+            if (me != null) {
+                return me;
+            }
             switch (op){
                 case NEG:
                     me = model.intMinusView(v);
@@ -95,6 +101,7 @@ public class UnArExpression implements ArExpression {
                 default:
                     throw new UnsupportedOperationException("Unary arithmetic expressions does not support "+op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
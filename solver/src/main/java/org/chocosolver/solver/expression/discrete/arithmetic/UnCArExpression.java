@@ -78,6 +78,12 @@ public class UnCArExpression implements ArExpression {
     public IntVar intVar() {
         if (me == null) {
             IntVar v1 = e1.intVar();
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(), false, new IntVar[]{v1}, e2);
+            me = cache.get(key);
+            if (me != null) {
+                return me;
+            }
             int[] bounds;
             switch (op) {
                 case ADD:
@@ -138,6 +144,7 @@ public class UnCArExpression implements ArExpression {
                 default:
                     throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
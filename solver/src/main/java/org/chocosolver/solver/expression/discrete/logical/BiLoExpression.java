@@ -12,6 +12,7 @@ package org.chocosolver.solver.expression.discrete.logical;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.expression.discrete.arithmetic.ExpressionCache;
 import org.chocosolver.solver.expression.discrete.relational.ReExpression;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
@@ -61,6 +62,12 @@ public class BiLoExpression extends LoExpression {
         if (me == null) {
             BoolVar b1 = e1.boolVar();
             BoolVar b2 = e2.boolVar();
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(), op != Operator.IMP, new IntVar[]{b1, b2});
+            me = (BoolVar) cache.get(key);
+            if (me != null) {
+                return me;
+            }
             me = model.boolVar(model.generateName(op + "_exp_"));
             switch (op) {
                 case XOR:
@@ -75,6 +82,7 @@ public class BiLoExpression extends LoExpression {
                 default:
                     throw new UnsupportedOperationException("Binary logical expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.expression.discrete.logical;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.expression.discrete.arithmetic.ExpressionCache;
 import org.chocosolver.solver.expression.discrete.relational.ReExpression;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
@@ -65,6 +66,12 @@ public class NaLoExpression extends LoExpression {
     public BoolVar boolVar() {
         if (me == null) {
             BoolVar[] vs = Arrays.stream(es).map(ReExpression::boolVar).toArray(BoolVar[]::new);
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(), true, vs);
+            me = (BoolVar) cache.get(key);
+            if (me != null) {
+                return me;
+            }
             me = model.boolVar(model.generateName(op + "_exp_"));
             switch (op) {
                 case AND:
@@ -95,6 +102,7 @@ public class NaLoExpression extends LoExpression {
                 default:
                     throw new UnsupportedOperationException("N-ary logical expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
@@ -12,6 +12,7 @@ package org.chocosolver.solver.expression.discrete.logical;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.expression.discrete.arithmetic.ExpressionCache;
 import org.chocosolver.solver.expression.discrete.relational.ReExpression;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
@@ -53,12 +54,19 @@ public class UnLoExpression extends LoExpression {
     public BoolVar boolVar() {
         if (me == null) {
             BoolVar b = e.boolVar();
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(), false, new IntVar[]{b});
+            me = (BoolVar) cache.get(key);
+            if (me != null) {
+                return me;
+            }
             if (op == Operator.NOT) {
                 me = model.boolNotView(b);
             } else {
                 throw new UnsupportedOperationException(
                     "Unary logical expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
@@ -14,6 +14,7 @@ import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
 import org.chocosolver.solver.expression.discrete.arithmetic.BiArExpression;
+import org.chocosolver.solver.expression.discrete.arithmetic.ExpressionCache;
 import org.chocosolver.solver.expression.discrete.arithmetic.NaArExpression;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
@@ -84,6 +85,14 @@ public class BiReExpression implements ReExpression {
         if (me == null) {
             IntVar v1 = e1.intVar();
             IntVar v2 = e2.intVar();
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(),
+                    op == ReExpression.Operator.EQ || op == ReExpression.Operator.NE,
+                    new IntVar[]{v1, v2});
+            me = (BoolVar) cache.get(key);
+            if (me != null) {
+                return me;
+            }
             me = model.boolVar(model.generateName(op+"_exp_"));
             switch (op) {
                 case LT:
@@ -107,6 +116,7 @@ public class BiReExpression implements ReExpression {
                 default:
                     throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
@@ -13,6 +13,7 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
+import org.chocosolver.solver.expression.discrete.arithmetic.ExpressionCache;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -83,6 +84,12 @@ public class NaReExpression implements ReExpression {
     public BoolVar boolVar() {
         if (me == null) {
             IntVar[] vs = Arrays.stream(es).map(ArExpression::intVar).toArray(IntVar[]::new);
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(), op == Operator.EQ, vs);
+            me = (BoolVar) cache.get(key);
+            if (me != null) {
+                return me;
+            }
             me = model.boolVar(model.generateName(op+"_exp_"));
             if (op == Operator.EQ) {
                 if (vs.length == 2) {
@@ -102,6 +109,7 @@ public class NaReExpression implements ReExpression {
                 throw new UnsupportedOperationException(
                     "Binary arithmetic expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
@@ -15,6 +15,7 @@ import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
 import org.chocosolver.solver.expression.discrete.arithmetic.BiArExpression;
+import org.chocosolver.solver.expression.discrete.arithmetic.ExpressionCache;
 import org.chocosolver.solver.expression.discrete.arithmetic.NaArExpression;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
@@ -84,6 +85,12 @@ public class UnCReExpression implements ReExpression {
     public BoolVar boolVar() {
         if (me == null) {
             IntVar v1 = e1.intVar();
+            ExpressionCache cache = model.getCachedExpressions();
+            ExpressionCache.Key key = cache.key(op.name(), false, new IntVar[]{v1}, e2);
+            me = (BoolVar) cache.get(key);
+            if (me != null) {
+                return me;
+            }
             //me = model.boolVar(model.generateName(op+"_exp_"));
             switch (op) {
                 case LT:
@@ -107,6 +114,7 @@ public class UnCReExpression implements ReExpression {
                 default:
                     throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
             }
+            cache.put(key, me);
         }
         return me;
     }
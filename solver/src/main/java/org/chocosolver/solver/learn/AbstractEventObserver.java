@@ -26,6 +26,9 @@ public abstract class AbstractEventObserver {
      * A default observer that does nothing on events
      */
     public static final AbstractEventObserver SILENT_OBSERVER = new AbstractEventObserver() {
+        @Override
+        public void removeInterval(IntVar var, int from, int to, ICause cause) {
+        }
     };
 
     /**
@@ -40,6 +43,23 @@ public abstract class AbstractEventObserver {
     public void removeValue(IntVar var, int val, ICause cause) {
     }
 
+    /**
+     * Explain the removal of [{@code from},{@code to}] from {@code var}, due to {@code cause}.
+     * By default, each value is explained with {@link #removeValue(IntVar, int, ICause)}.
+     * <p/>
+     * Prerequisite: all values of [{@code from},{@code to}] should belong to {@code var}
+     *
+     * @param var   an integer variable
+     * @param from  first value removed
+     * @param to    last value removed
+     * @param cause a cause
+     */
+    public void removeInterval(IntVar var, int from, int to, ICause cause) {
+        for (int v = from; v <= to; v++) {
+            removeValue(var, v, cause);
+        }
+    }
+
     /**
      * Explain the removal of [{@code old},{@code value}[ from {@code var}, due to {@code cause}.
      * <p/>
@@ -27,6 +27,7 @@ import org.chocosolver.util.PoolManager;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
+import java.util.BitSet;
 import java.util.HashSet;
 
 /**
@@ -63,6 +64,14 @@ public class ExplanationForSignedClause extends IExplanation {
     private final Implications mIG;
 
     private final PoolManager<IntIterableRangeSet> manager;
+    /**
+     * To count distinct decision levels
+     */
+    private final BitSet levels = new BitSet();
+    /**
+     * To locate the node of a literal which is not in {@link #front}
+     */
+    private final ValueSortedMap<IntVar> nodes = new ValueSortedMap<>();
 
     public ExplanationForSignedClause(Implications ig) {
         front = new ValueSortedMap<>();
@@ -337,6 +346,33 @@ public class ExplanationForSignedClause extends IExplanation {
         return literals.size();
     }
 
+    /**
+     * @return the number of distinct decision levels among the literals of the learnt signed clause,
+     * also known as the Literal Block Distance (LBD) of the clause.
+     * The level of a literal is the one of the left-most node which contradicts it, whether or not
+     * the literal is still in the front.
+     */
+    public int getLBD() {
+        levels.clear();
+        for (IntVar var : literals) {
+            int p = front.getValueOrDefault(var, -1);
+            if (p < 0) {
+                // the literal is not in 'front' anymore, look for its node from the end of the graph
+                nodes.clear();
+                mIG.findPredecessor(nodes, var, mIG.size());
+                p = nodes.getValue(var);
+            }
+            // go left as long as the domain of 'var' contradicts its literal
+            int q = mIG.getPredecessorOf(p);
+            while (q < p && var.getLit().disjoint(mIG.getDomainAt(q))) {
+                p = q;
+                q = mIG.getPredecessorOf(p);
+            }
+            levels.set(mIG.getDecisionLevelAt(p));
+        }
+        return levels.cardinality();
+    }
+
     /**
      * @return the decision to refute (ie, point to jump to wrt the current decision path).
      */
@@ -0,0 +1,365 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe archive of non-dominated points (objectives are expected to be maximized),
+ * each point being attached to a payload (typically, a {@link org.chocosolver.solver.Solution}).
+ * <p>
+ * Points are stored in a k-d tree whose nodes maintain the bounding box of their subtree.
+ * Dominance queries (is a point dominated, which points are dominated by a new one,
+ * what is the tightest bound on an objective) are answered by visiting only the subtrees whose box
+ * intersects the dominance orthant of the query point.
+ * The tree is kept balanced by partial rebuilding (scapegoat strategy)
+ * and removed points are lazily discarded on rebuild.
+ * </p>
+ * <p>
+ * The archive can be shared among several {@link ParetoMaximizer}s, for instance
+ * when computing a Pareto front with a {@link org.chocosolver.solver.ParallelPortfolio}.
+ * </p>
+ *
+ * @param <T> type of the payload
+ * @since 19/10/2026
+ */
+public class ParetoArchive<T> {
+
+    /**
+     * Balance factor of the scapegoat strategy
+     */
+    private static final double ALPHA = 0.7;
+
+    private static final class Node<T> {
+        final int[] point;
+        final long stamp;
+        T payload;
+        boolean alive = true;
+        int axis;
+        int count;
+        int[] lo;
+        int[] hi;
+        Node<T> left;
+        Node<T> right;
+
+        Node(int[] point, T payload, long stamp) {
+            this.point = point;
+            this.payload = payload;
+            this.stamp = stamp;
+        }
+    }
+
+    /**
+     * Number of objectives
+     */
+    private final int n;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node<T> root;
+    /**
+     * Number of points in the archive
+     */
+    private int size;
+    /**
+     * Number of nodes in the tree, including the removed ones
+     */
+    private int nodes;
+    private long stamp;
+    @SuppressWarnings("unchecked")
+    private Node<T>[] path = new Node[16];
+
+    /**
+     * Create an empty archive for points of dimension <i>n</i>
+     *
+     * @param n number of objectives
+     */
+    public ParetoArchive(int n) {
+        this.n = n;
+    }
+
+    /**
+     * @return the number of objectives
+     */
+    public int getDimension() {
+        return n;
+    }
+
+    /**
+     * @return the number of non-dominated points stored
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the payloads of the non-dominated points, in insertion order
+     */
+    public List<T> getPayloads() {
+        lock.readLock().lock();
+        try {
+            List<Node<T>> alive = new ArrayList<>(size);
+            collect(root, alive);
+            alive.sort(Comparator.comparingLong(a -> a.stamp));
+            List<T> payloads = new ArrayList<>(alive.size());
+            for (Node<T> node : alive) {
+                payloads.add(node.payload);
+            }
+            return payloads;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Try to add <i>point</i> in the archive.
+     * If <i>point</i> is strictly dominated by a point of the archive, nothing is done.
+     * Otherwise, every point weakly dominated by <i>point</i> is removed from the archive,
+     * its payload being passed to <i>onRemoval</i>, and <i>point</i> is added.
+     *
+     * @param point     values of the objectives (not copied, should not be modified afterwards)
+     * @param payload   object attached to <i>point</i>
+     * @param onRemoval action to run on the payload of each removed point
+     * @return <i>true</i> if <i>point</i> has been added
+     */
+    public boolean add(int[] point, T payload, Consumer<T> onRemoval) {
+        assert point.length == n;
+        lock.writeLock().lock();
+        try {
+            if (isStrictlyDominated(root, point)) {
+                return false;
+            }
+            removeDominatedBy(root, point, onRemoval);
+            insert(new Node<>(point, payload, stamp++));
+            if (nodes - size > size && nodes > 32) {
+                root = rebuild(root, 0);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compute tightest point for objective <i>i</i>, that is, the lowest value <i>i</i>-th objective should take
+     * so that <i>dp</i> is not dominated by a point of the archive.
+     *
+     * @param dp dominated point
+     * @param i  index of the objective
+     * @return the tightest value or {@link Integer#MIN_VALUE} if no point of the archive dominates <i>dp</i>
+     */
+    public int tightestPoint(int[] dp, int i) {
+        lock.readLock().lock();
+        try {
+            return tightestPoint(root, dp, i, Integer.MIN_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int tightestPoint(Node<T> node, int[] dp, int i, int best) {
+        while (node != null) {
+            for (int j = 0; j < n; j++) {
+                if (node.hi[j] < dp[j]) return best;
+            }
+            if (node.hi[i] < best) return best;
+            if (node.alive) {
+                int dominates = dominates(node.point, dp, i);
+                if (dominates > 0) {
+                    int currentPoint = dominates == 1 ? node.point[i] : node.point[i] + 1;
+                    if (best < currentPoint) {
+                        best = currentPoint;
+                    }
+                }
+            }
+            best = tightestPoint(node.left, dp, i, best);
+            node = node.right;
+        }
+        return best;
+    }
+
+    /**
+     * Return an int :
+     * 0 if a doesn't dominate b
+     * 1 if a dominates b and a = b if we don't take into account index i
+     * 2 if a dominates b and a dominates b if we don't take into account index i
+     */
+    private int dominates(int[] a, int[] b, int i) {
+        int dominates = 0;
+        for (int j = 0; j < n; j++) {
+            if (a[j] < b[j]) return 0;
+            if (a[j] > b[j]) {
+                if (dominates == 0) dominates = 1;
+                if (j != i) dominates = 2;
+            }
+        }
+        return dominates;
+    }
+
+    private boolean isStrictlyDominated(Node<T> node, int[] p) {
+        while (node != null) {
+            for (int j = 0; j < n; j++) {
+                if (node.hi[j] < p[j]) return false;
+            }
+            if (node.alive && !Arrays.equals(node.point, p) && geq(node.point, p)) {
+                return true;
+            }
+            if (isStrictlyDominated(node.left, p)) {
+                return true;
+            }
+            node = node.right;
+        }
+        return false;
+    }
+
+    private void removeDominatedBy(Node<T> node, int[] p, Consumer<T> onRemoval) {
+        while (node != null) {
+            for (int j = 0; j < n; j++) {
+                if (node.lo[j] > p[j]) return;
+            }
+            if (node.alive && geq(p, node.point)) {
+                node.alive = false;
+                onRemoval.accept(node.payload);
+                node.payload = null;
+                size--;
+            }
+            removeDominatedBy(node.left, p, onRemoval);
+            node = node.right;
+        }
+    }
+
+    private boolean geq(int[] a, int[] b) {
+        for (int j = 0; j < n; j++) {
+            if (a[j] < b[j]) return false;
+        }
+        return true;
+    }
+
+    private void insert(Node<T> node) {
+        node.lo = node.point.clone();
+        node.hi = node.point.clone();
+        node.count = 1;
+        size++;
+        nodes++;
+        if (root == null) {
+            node.axis = 0;
+            root = node;
+            return;
+        }
+        int depth = 0;
+        Node<T> cur = root;
+        while (true) {
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+            }
+            path[depth++] = cur;
+            cur.count++;
+            for (int j = 0; j < n; j++) {
+                cur.lo[j] = Math.min(cur.lo[j], node.point[j]);
+                cur.hi[j] = Math.max(cur.hi[j], node.point[j]);
+            }
+            Node<T> next = node.point[cur.axis] < cur.point[cur.axis] ? cur.left : cur.right;
+            if (next == null) {
+                node.axis = (cur.axis + 1) % n;
+                if (node.point[cur.axis] < cur.point[cur.axis]) {
+                    cur.left = node;
+                } else {
+                    cur.right = node;
+                }
+                break;
+            }
+            cur = next;
+        }
+        // depth of the new node is 'depth', check balance
+        if (depth > Math.log(nodes) / Math.log(1 / ALPHA) + 1) {
+            for (int d = depth - 1; d >= 0; d--) {
+                Node<T> p = path[d];
+                int child = Math.max(p.left == null ? 0 : p.left.count, p.right == null ? 0 : p.right.count);
+                if (child > ALPHA * p.count) {
+                    Node<T> s = rebuild(p, p.axis);
+                    if (d == 0) {
+                        root = s;
+                    } else if (path[d - 1].left == p) {
+                        path[d - 1].left = s;
+                    } else {
+                        path[d - 1].right = s;
+                    }
+                    // ancestors lost the removed nodes of the rebuilt subtree
+                    int lost = p.count - (s == null ? 0 : s.count);
+                    for (int a = 0; a < d; a++) {
+                        path[a].count -= lost;
+                    }
+                    break;
+                }
+            }
+        }
+        Arrays.fill(path, 0, depth, null);
+    }
+
+    private Node<T> rebuild(Node<T> subroot, int axis) {
+        List<Node<T>> alive = new ArrayList<>();
+        collect(subroot, alive);
+        int before = subroot == null ? 0 : subroot.count;
+        nodes -= before - alive.size();
+        //noinspection unchecked
+        return build(alive.toArray(new Node[0]), 0, alive.size(), axis);
+    }
+
+    private Node<T> build(Node<T>[] nds, int from, int to, int axis) {
+        if (from >= to) {
+            return null;
+        }
+        Arrays.sort(nds, from, to, Comparator.comparingInt(a -> a.point[axis]));
+        int mid = (from + to) >>> 1;
+        // equal values on axis go to the right subtree
+        while (mid > from && nds[mid - 1].point[axis] == nds[mid].point[axis]) {
+            mid--;
+        }
+        Node<T> node = nds[mid];
+        node.axis = axis;
+        node.left = build(nds, from, mid, (axis + 1) % n);
+        node.right = build(nds, mid + 1, to, (axis + 1) % n);
+        node.count = to - from;
+        node.lo = node.point.clone();
+        node.hi = node.point.clone();
+        if (node.left != null) {
+            span(node, node.left);
+        }
+        if (node.right != null) {
+            span(node, node.right);
+        }
+        return node;
+    }
+
+    private void span(Node<T> node, Node<T> child) {
+        for (int j = 0; j < n; j++) {
+            node.lo[j] = Math.min(node.lo[j], child.lo[j]);
+            node.hi[j] = Math.max(node.hi[j], child.hi[j]);
+        }
+    }
+
+    private void collect(Node<T> node, List<Node<T>> alive) {
+        while (node != null) {
+            if (node.alive) {
+                alive.add(node);
+            }
+            collect(node.left, alive);
+            node = node.right;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
@@ -39,19 +40,16 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
     //***********************************************************************************
 
     // Set of incomparable and Pareto-best solutions
-    private final LinkedList<Solution> paretoSolutions;
-    private final LinkedList<int[]> paretoFront;
+    private final ParetoArchive<Solution> archive;
 
     private final Model model;
 
-    // Allow to recycle (dominated) Solution objects
+    // Allow to recycle (dominated) Solution objects, only when the archive is not shared
     private final LinkedList<Solution> poolSols = new LinkedList<>();
+    private final boolean recycle;
 
     // objective function
     private final IntVar[] objectives;
-    private final int n;
-
-    //private final int[] vals;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -70,13 +68,31 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * @param objectives objective variables (must all be optimized in the same direction)
      */
     public ParetoMaximizer(final IntVar[] objectives) {
+        this(objectives, new ParetoArchive<>(objectives.length), true);
+    }
+
+    /**
+     * Create an object to compute the Pareto front of a multi-objective problem,
+     * relying on an archive that may be shared with other {@link ParetoMaximizer}s (e.g., one per worker of a portfolio).
+     * Solutions found by others are then used to filter the objectives of this one.
+     * Objectives are expected to be maximized (use {@link org.chocosolver.solver.variables.IViewFactory#intMinusView(IntVar)} in case of minimisation).
+     *
+     * @param objectives objective variables (must all be optimized in the same direction)
+     * @param archive    the archive storing non-dominated solutions
+     */
+    public ParetoMaximizer(final IntVar[] objectives, ParetoArchive<Solution> archive) {
+        this(objectives, archive, false);
+    }
+
+    private ParetoMaximizer(final IntVar[] objectives, ParetoArchive<Solution> archive, boolean recycle) {
         super(objectives, PropagatorPriority.QUADRATIC, false);
-        this.paretoSolutions = new LinkedList<>();
-        this.paretoFront = new LinkedList<>();
+        if (archive.getDimension() != objectives.length) {
+            throw new SolverException("The archive dimension does not match the number of objectives");
+        }
+        this.archive = archive;
+        this.recycle = recycle;
         this.objectives = objectives.clone();
-        n = objectives.length;
         model = objectives[0].getModel();
-        //vals = new int[n];
     }
 
     //***********************************************************************************
@@ -87,20 +103,20 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * @return the set of Pareto-best (possibly optimal) solutions found so far
      */
     public List<Solution> getParetoFront() {
-        return paretoSolutions;
+        return archive.getPayloads();
+    }
+
+    /**
+     * @return the archive storing the Pareto-best solutions
+     */
+    public ParetoArchive<Solution> getArchive() {
+        return archive;
     }
 
     @Override
     public void onSolution() {
         // get objective values
         int[] vals = Stream.of(objectives).mapToInt(IntVar::getValue).toArray();
-        // remove dominated solutions
-        for (int i = paretoFront.size() - 1; i >= 0; i--) {
-            if (isDominated(paretoSolutions.get(i), vals)) {
-                poolSols.add(paretoSolutions.remove(i));
-                paretoFront.remove(i);
-            }
-        }
         // store current solution
         Solution solution;
         if (poolSols.isEmpty()) {
@@ -109,18 +125,11 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
             solution = poolSols.remove();
         }
         solution.record();
-        paretoSolutions.add(solution);
-        paretoFront.add(vals);
-    }
-
-    private boolean isDominated(Solution solution, int[] vals) {
-        for (int i = 0; i < n; i++) {
-            int delta = solution.getIntVal(objectives[i]) - vals[i];
-            if (delta > 0) {
-                return false;
-            }
+        // remove dominated solutions
+        if (!archive.add(vals, solution, recycle ? poolSols::add : s -> {
+        }) && recycle) {
+            poolSols.add(solution);
         }
-        return true;
     }
 
     @Override
@@ -137,17 +146,7 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
      * @param i index of the variable
      */
     private void computeTightestPoint(int i) throws ContradictionException {
-        int tightestPoint = Integer.MIN_VALUE;
-        int[] dominatedPoint = computeDominatedPoint(i);
-        for (int[] sol : paretoFront) {
-            int dominates = dominates(sol, dominatedPoint, i);
-            if (dominates > 0) {
-                int currentPoint = dominates == 1 ? sol[i] : sol[i] + 1;
-                if (tightestPoint < currentPoint) {
-                    tightestPoint = currentPoint;
-                }
-            }
-        }
+        int tightestPoint = archive.tightestPoint(computeDominatedPoint(i), i);
         if (tightestPoint > Integer.MIN_VALUE) {
             objectives[i].updateLowerBound(tightestPoint, this);
         }
@@ -166,29 +165,6 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
         return dp;
     }
 
-    /**
-     * Return an int :
-     * 0 if a doesn't dominate b
-     * 1 if a dominates b and a = b if we don't take into account index i
-     * 2 if a dominates b and a dominates b if we don't take into account index i
-     *
-     * @param a vector
-     * @param b vector
-     * @param i index
-     * @return an int representing the fact that a dominates b
-     */
-    private int dominates(int[] a, int[] b, int i) {
-        int dominates = 0;
-        for (int j = 0; j < objectives.length; j++) {
-            if (a[j] < b[j]) return 0;
-            if (a[j] > b[j]) {
-                if (dominates == 0) dominates = 1;
-                if (j != i) dominates = 2;
-            }
-        }
-        return dominates;
-    }
-
     @Override
     public ESat isEntailed() {
         return ESat.TRUE;
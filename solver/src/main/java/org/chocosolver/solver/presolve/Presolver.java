@@ -0,0 +1,803 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.presolve;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.binary.PropEqualX_Y;
+import org.chocosolver.solver.constraints.binary.PropEqualX_YC;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTable;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseConstraint;
+import org.chocosolver.solver.constraints.nary.cnf.SatConstraint;
+import org.chocosolver.solver.constraints.nary.sum.PropSum;
+import org.chocosolver.solver.constraints.nary.sum.PropSumWithLong;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.VariableUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A presolver, which simplifies a model before its resolution starts.
+ * <p>
+ * Reductions are applied by rounds, until none of them modifies the model:
+ * <ol>
+ *     <li>the constraints are propagated at the root node, domain reductions are thus permanent,</li>
+ *     <li>entailed constraints are removed,</li>
+ *     <li>linear constraints (sum and scalar) are normalized: fixed variables are moved to the right-hand side,
+ *     a variable <i>x</i> involved in an equality <i>x = y + c</i> is replaced by <i>y + c</i>
+ *     and coefficients are divided by their GCD,</li>
+ *     <li>linear constraints with the same left-hand side are merged, dominated and redundant ones are removed,
+ *     coefficients of boolean variables in inequalities are tightened,</li>
+ *     <li>tuples of Compact-Table constraints that are not supported by the domains are removed,
+ *     as well as columns of fixed variables,</li>
+ *     <li>once, boolean variables are probed: a value which fails on propagation is removed,</li>
+ *     <li>once, if a {@link SubNetworkCompiler} is set, small groups of constraints are compiled into extension ones.</li>
+ * </ol>
+ * Constraints are replaced by unposting them and posting simpler ones, so a constraint object
+ * kept by the user may not be part of the model anymore.
+ * Equality constraints used for substitution are kept, so that every variable remains defined.
+ * Reified constraints are ignored.
+ * </p>
+ * <p>
+ * The presolver has to be called before the resolution starts, at the root world.
+ * It can be run automatically on the first call to {@link Solver#solve()}
+ * with {@link org.chocosolver.solver.Settings#setEnablePresolve(boolean)}.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public class Presolver {
+
+    private static final long NEG_INF = Long.MIN_VALUE;
+    private static final long POS_INF = Long.MAX_VALUE;
+
+    private final Model model;
+    /**
+     * Maximum number of rounds
+     */
+    private int maxRounds = 16;
+    /**
+     * Maximum number of boolean variables to probe
+     */
+    private int probingLimit = 1_000;
+    /**
+     * Compiler of small groups of constraints, <i>null</i> if disabled
+     */
+    private SubNetworkCompiler compiler;
+
+    // substitution, x = parent + offset
+    private final TIntObjectHashMap<Link> links = new TIntObjectHashMap<>();
+    private long shift;
+
+    // statistics
+    private int nbFixedVars;
+    private int nbProbingFixedVars;
+    private int nbSubstitutedVars;
+    private int nbRemovedCstrs;
+    private int nbRewrittenCstrs;
+    private int nbTightenedCoeffs;
+    private int nbReducedTables;
+    private int nbRemovedTuples;
+    private int nbRounds;
+    private long time;
+
+    /**
+     * Create a presolver for <i>model</i>.
+     *
+     * @param model the model to presolve
+     */
+    public Presolver(Model model) {
+        this.model = model;
+        if (model.getSettings().enableModelCompilation()) {
+            this.compiler = new SubNetworkCompiler(model);
+        }
+    }
+
+    /**
+     * @param maxRounds maximum number of rounds of reductions (default is 16)
+     * @return this
+     */
+    public Presolver setMaxRounds(int maxRounds) {
+        this.maxRounds = maxRounds;
+        return this;
+    }
+
+    /**
+     * @param probingLimit maximum number of boolean variables to probe, 0 to disable probing (default is 1000)
+     * @return this
+     */
+    public Presolver setProbingLimit(int probingLimit) {
+        this.probingLimit = probingLimit;
+        return this;
+    }
+
+    /**
+     * @param compiler compiler of small groups of constraints, run once the other reductions are done,
+     *                 <i>null</i> to disable compilation
+     *                 (default is enabled if {@link org.chocosolver.solver.Settings#enableModelCompilation()})
+     * @return this
+     */
+    public Presolver setCompiler(SubNetworkCompiler compiler) {
+        this.compiler = compiler;
+        return this;
+    }
+
+    /**
+     * @return the compiler of small groups of constraints, or <i>null</i> if compilation is disabled
+     */
+    public SubNetworkCompiler getCompiler() {
+        return compiler;
+    }
+
+    /**
+     * Simplify the model.
+     *
+     * @throws ContradictionException if the model is proven to be infeasible
+     * @throws SolverException        if the resolution has already started
+     */
+    public void presolve() throws ContradictionException {
+        if (model.getEnvironment().getWorldIndex() != 0) {
+            throw new SolverException("The presolver must be called before the resolution starts");
+        }
+        time -= System.nanoTime();
+        int fixed = countFixed();
+        try {
+            boolean probed = probingLimit <= 0;
+            boolean compiled = compiler == null;
+            boolean modified;
+            do {
+                nbRounds++;
+                modified = simplify();
+                if (!modified && !probed) {
+                    probed = true;
+                    modified = probe();
+                }
+                if (!modified && !compiled) {
+                    compiled = true;
+                    modified = compiler.compile();
+                }
+            } while (modified && nbRounds < maxRounds);
+            model.getSolver().propagate();
+        } finally {
+            nbFixedVars += countFixed() - fixed;
+            time += System.nanoTime();
+        }
+    }
+
+    /**
+     * Apply one round of reductions, except probing
+     *
+     * @return <i>true</i> if the model has been modified
+     */
+    private boolean simplify() throws ContradictionException {
+        int fixed = countFixed();
+        model.getSolver().propagate();
+        boolean modified = removeEntailed();
+        collectEqualities();
+        modified |= reduceLinear();
+        modified |= reduceTables();
+        return modified || countFixed() > fixed;
+    }
+
+    //***********************************************************************************
+    // ENTAILMENT
+    //***********************************************************************************
+
+    private boolean removeEntailed() {
+        int nb = 0;
+        for (Constraint c : model.getCstrs()) {
+            if (candidate(c) && entailed(c)) {
+                model.unpost(c);
+                nb++;
+            }
+        }
+        nbRemovedCstrs += nb;
+        return nb > 0;
+    }
+
+    private static boolean entailed(Constraint c) {
+        for (Propagator<?> p : c.getPropagators()) {
+            if (!p.isPassive() && !(p.isCompletelyInstantiated() && p.isEntailed() == ESat.TRUE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return <i>true</i> if <i>c</i> can be removed or rewritten
+     */
+    static boolean candidate(Constraint c) {
+        if (c.getStatus() != Constraint.Status.POSTED
+                || c instanceof SatConstraint || c instanceof ClauseConstraint) {
+            return false;
+        }
+        for (Propagator<?> p : c.getPropagators()) {
+            if (p.isReified()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //***********************************************************************************
+    // SUBSTITUTION
+    //***********************************************************************************
+
+    private static final class Link {
+        IntVar parent;
+        long offset;
+
+        Link(IntVar parent, long offset) {
+            this.parent = parent;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Build classes of variables equal up to a constant, from posted equality constraints
+     */
+    private void collectEqualities() {
+        links.clear();
+        for (Constraint c : model.getCstrs()) {
+            if (!candidate(c) || c.getPropagators().length != 1) continue;
+            Propagator<?> p = c.getPropagator(0);
+            if (p.isPassive()) continue;
+            if (p instanceof PropEqualX_Y) {
+                union((IntVar) p.getVar(0), (IntVar) p.getVar(1), 0);
+            } else if (p instanceof PropEqualX_YC) {
+                union((IntVar) p.getVar(0), (IntVar) p.getVar(1), ((PropEqualX_YC) p).getConstant());
+            }
+        }
+    }
+
+    /**
+     * Record that x = y + c
+     */
+    private void union(IntVar x, IntVar y, long c) {
+        if (x.isInstantiated() || y.isInstantiated()) return;
+        IntVar rx = find(x);
+        long ox = shift;
+        IntVar ry = find(y);
+        long oy = shift;
+        if (rx != ry) {
+            // rx = x - ox = y + c - ox = ry + oy + c - ox
+            links.put(rx.getId(), new Link(ry, oy + c - ox));
+        }
+    }
+
+    /**
+     * @return the representative of <i>x</i>, {@link #shift} being set such that x = rep + shift
+     */
+    private IntVar find(IntVar x) {
+        long off = 0;
+        IntVar r = x;
+        Link l;
+        while ((l = links.get(r.getId())) != null) {
+            off += l.offset;
+            r = l.parent;
+        }
+        // path compression
+        long rem = off;
+        IntVar v = x;
+        while ((l = links.get(v.getId())) != null && l.parent != r) {
+            IntVar next = l.parent;
+            long o = l.offset;
+            l.parent = r;
+            l.offset = rem;
+            rem -= o;
+            v = next;
+        }
+        shift = off;
+        return r;
+    }
+
+    //***********************************************************************************
+    // LINEAR CONSTRAINTS
+    //***********************************************************************************
+
+    /**
+     * A normalized linear constraint: lo &le; SUM(coefs_i . vars_i) &le; hi,
+     * variables being sorted by ID and the first coefficient being positive.
+     */
+    private static final class Row {
+        final IntVar[] vars;
+        final long[] coefs;
+        long lo;
+        long hi;
+        final List<Constraint> origins = new ArrayList<>(1);
+        boolean changed;
+
+        Row(IntVar[] vars, long[] coefs, long lo, long hi) {
+            this.vars = vars;
+            this.coefs = coefs;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Arrays.hashCode(coefs);
+            for (IntVar v : vars) {
+                h = 31 * h + v.getId();
+            }
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Row)) return false;
+            Row r = (Row) o;
+            if (!Arrays.equals(coefs, r.coefs)) return false;
+            for (int i = 0; i < vars.length; i++) {
+                if (vars[i] != r.vars[i]) return false;
+            }
+            return true;
+        }
+    }
+
+    private boolean reduceLinear() throws ContradictionException {
+        Map<Row, Row> rows = new HashMap<>();
+        TIntHashSet substituted = new TIntHashSet();
+        for (Constraint c : model.getCstrs()) {
+            if (!candidate(c) || c.getPropagators().length != 1) continue;
+            Row row = normalize(c.getPropagator(0), substituted);
+            if (row == null) continue;
+            row.origins.add(c);
+            Row other = rows.putIfAbsent(row, row);
+            if (other != null) {
+                // same left-hand side: intersect the bounds,
+                // the row changes only if both have the same side, one of them being then redundant
+                other.changed |= row.changed
+                        || (other.lo != NEG_INF && row.lo != NEG_INF)
+                        || (other.hi != POS_INF && row.hi != POS_INF);
+                other.lo = Math.max(other.lo, row.lo);
+                other.hi = Math.min(other.hi, row.hi);
+                other.origins.add(c);
+            }
+        }
+        nbSubstitutedVars += substituted.size();
+        boolean modified = false;
+        for (Row row : rows.values()) {
+            modified |= rewrite(row);
+        }
+        return modified;
+    }
+
+    /**
+     * @return the normalized form of <i>p</i>, or <i>null</i> if <i>p</i> is not a linear propagator
+     */
+    private Row normalize(Propagator<?> p, TIntHashSet substituted) {
+        Operator o;
+        long b;
+        if (p instanceof PropSum) {
+            o = ((PropSum) p).getOperator();
+            b = ((PropSum) p).getB();
+        } else if (p instanceof PropSumWithLong) {
+            o = ((PropSumWithLong) p).getOperator();
+            b = ((PropSumWithLong) p).getB();
+        } else {
+            return null;
+        }
+        if (o != Operator.EQ && o != Operator.LE && o != Operator.GE) return null;
+        boolean changed = false;
+        int n = p.getNbVars();
+        IntVar[] vars = new IntVar[n];
+        long[] coefs = new long[n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            IntVar v = (IntVar) p.getVar(i);
+            long c = p instanceof PropSum ?
+                    ((PropSum) p).getCoefficient(i) :
+                    ((PropSumWithLong) p).getCoefficient(i);
+            if (v.isInstantiated()) {
+                changed |= !VariableUtils.isConstant(v);
+                b -= c * v.getValue();
+                continue;
+            }
+            IntVar r = find(v);
+            if (r != v) {
+                substituted.add(v.getId());
+                changed = true;
+                b -= c * shift;
+                if (r.isInstantiated()) {
+                    b -= c * r.getValue();
+                    continue;
+                }
+            }
+            vars[k] = r;
+            coefs[k++] = c;
+        }
+        // merge duplicate variables
+        Integer[] order = new Integer[k];
+        for (int i = 0; i < k; i++) order[i] = i;
+        IntVar[] fvars = vars;
+        Arrays.sort(order, (i, j) -> Integer.compare(fvars[i].getId(), fvars[j].getId()));
+        IntVar[] nvars = new IntVar[k];
+        long[] ncoefs = new long[k];
+        int m = 0;
+        for (int i = 0; i < k; i++) {
+            IntVar v = vars[order[i]];
+            if (m > 0 && nvars[m - 1] == v) {
+                ncoefs[m - 1] += coefs[order[i]];
+                changed = true;
+            } else {
+                nvars[m] = v;
+                ncoefs[m++] = coefs[order[i]];
+            }
+        }
+        int z = 0;
+        for (int i = 0; i < m; i++) {
+            if (ncoefs[i] != 0) {
+                nvars[z] = nvars[i];
+                ncoefs[z++] = ncoefs[i];
+            } else {
+                changed = true;
+            }
+        }
+        long lo = o == Operator.LE ? NEG_INF : b;
+        long hi = o == Operator.GE ? POS_INF : b;
+        long g = 0;
+        for (int i = 0; i < z; i++) g = gcd(g, Math.abs(ncoefs[i]));
+        if (g > 1) {
+            for (int i = 0; i < z; i++) ncoefs[i] /= g;
+            lo = lo == NEG_INF ? NEG_INF : -Math.floorDiv(-lo, g);
+            hi = hi == POS_INF ? POS_INF : Math.floorDiv(hi, g);
+            changed = true;
+        }
+        Row row;
+        if (z > 0 && ncoefs[0] < 0) {
+            for (int i = 0; i < z; i++) ncoefs[i] = -ncoefs[i];
+            row = new Row(Arrays.copyOf(nvars, z), Arrays.copyOf(ncoefs, z), neg(hi), neg(lo));
+        } else {
+            row = new Row(Arrays.copyOf(nvars, z), Arrays.copyOf(ncoefs, z), lo, hi);
+        }
+        row.changed = changed;
+        return row;
+    }
+
+    /**
+     * Replace the constraints a row comes from by simpler ones, if any
+     *
+     * @return <i>true</i> if the model has been modified
+     */
+    private boolean rewrite(Row row) throws ContradictionException {
+        long[] coefs = row.coefs;
+        long min = 0, max = 0;
+        for (int i = 0; i < coefs.length; i++) {
+            IntVar v = row.vars[i];
+            min += coefs[i] * (coefs[i] > 0 ? v.getLB() : v.getUB());
+            max += coefs[i] * (coefs[i] > 0 ? v.getUB() : v.getLB());
+        }
+        if (row.lo > row.hi || min > row.hi || max < row.lo) {
+            model.getSolver().throwsException(Cause.Null, null, "infeasible linear constraint");
+        }
+        // drop redundant sides
+        long lo = min >= row.lo ? NEG_INF : row.lo;
+        long hi = max <= row.hi ? POS_INF : row.hi;
+        if (lo == NEG_INF && hi == POS_INF) {
+            model.unpost(row.origins.toArray(new Constraint[0]));
+            nbRemovedCstrs += row.origins.size();
+            return true;
+        }
+        List<Row> sides = new ArrayList<>(2);
+        if (lo == hi) {
+            sides.add(new Row(row.vars, coefs, lo, hi));
+        } else {
+            if (hi != POS_INF) {
+                Row le = new Row(row.vars, coefs.clone(), NEG_INF, hi);
+                row.changed |= tighten(le, max);
+                sides.add(le);
+            }
+            if (lo != NEG_INF) {
+                // tighten -SUM(coefs_i . vars_i) <= -lo
+                long[] ncoefs = new long[coefs.length];
+                for (int i = 0; i < coefs.length; i++) ncoefs[i] = -coefs[i];
+                Row ge = new Row(row.vars, ncoefs, NEG_INF, -lo);
+                row.changed |= tighten(ge, -min);
+                for (int i = 0; i < coefs.length; i++) ncoefs[i] = -ncoefs[i];
+                ge.lo = -ge.hi;
+                ge.hi = POS_INF;
+                sides.add(ge);
+            }
+        }
+        if (!row.changed || !fitInt(sides)) return false;
+        model.unpost(row.origins.toArray(new Constraint[0]));
+        for (Row side : sides) {
+            int[] ic = new int[side.coefs.length];
+            for (int i = 0; i < ic.length; i++) ic[i] = (int) side.coefs[i];
+            String op = side.lo == side.hi ? "=" : side.hi != POS_INF ? "<=" : ">=";
+            int rhs = (int) (side.hi != POS_INF ? side.hi : side.lo);
+            model.scalar(side.vars, ic, op, rhs).post();
+        }
+        nbRewrittenCstrs += sides.size();
+        nbRemovedCstrs += Math.max(0, row.origins.size() - sides.size());
+        return true;
+    }
+
+    /**
+     * Tighten the coefficients of the boolean variables of SUM(coefs_i . vars_i) &le; hi.
+     * When the inequality is always satisfied for one value of a boolean variable,
+     * its coefficient can be reduced until it is tight for the other value.
+     *
+     * @param le  an inequality
+     * @param max maximum value of its left-hand side
+     * @return <i>true</i> if a coefficient has been tightened
+     */
+    private boolean tighten(Row le, long max) {
+        boolean tightened = false;
+        for (int i = 0; i < le.coefs.length; i++) {
+            IntVar v = le.vars[i];
+            if (v.getLB() != 0 || v.getUB() != 1) continue;
+            long a = le.coefs[i];
+            if (a > 0) {
+                // when v = 0, the inequality is satisfied
+                long d = le.hi - (max - a);
+                if (d > 0) {
+                    le.coefs[i] = a - d;
+                    le.hi -= d;
+                    max -= d;
+                    nbTightenedCoeffs++;
+                    tightened = true;
+                }
+            } else {
+                // when v = 1, the inequality is satisfied
+                long d = le.hi - a - max;
+                if (d > 0) {
+                    le.coefs[i] = a + d;
+                    nbTightenedCoeffs++;
+                    tightened = true;
+                }
+            }
+        }
+        return tightened;
+    }
+
+    private static boolean fitInt(List<Row> rows) {
+        for (Row r : rows) {
+            if (r.vars.length == 0) return false;
+            for (long c : r.coefs) {
+                if (c < Integer.MIN_VALUE || c > Integer.MAX_VALUE) return false;
+            }
+            long rhs = r.hi != POS_INF ? r.hi : r.lo;
+            if (rhs < Integer.MIN_VALUE || rhs > Integer.MAX_VALUE) return false;
+        }
+        return true;
+    }
+
+    private static long neg(long v) {
+        return v == NEG_INF ? POS_INF : v == POS_INF ? NEG_INF : -v;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    //***********************************************************************************
+    // TABLES
+    //***********************************************************************************
+
+    private boolean reduceTables() throws ContradictionException {
+        boolean modified = false;
+        for (Constraint c : model.getCstrs()) {
+            if (!candidate(c) || c.getPropagators().length != 1
+                    || c.getPropagator(0).getClass() != PropCompactTable.class) continue;
+            modified |= reduceTable(c, (PropCompactTable) c.getPropagator(0));
+        }
+        return modified;
+    }
+
+    /**
+     * Replace a table constraint by one on its free variables, with only the supported tuples
+     *
+     * @return <i>true</i> if the model has been modified
+     */
+    private boolean reduceTable(Constraint c, PropCompactTable p) throws ContradictionException {
+        Tuples tuples = p.getTuples();
+        int n = p.getNbVars();
+        int[] cols = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                // repeated variables are left untouched
+                if (p.getVar(i) == p.getVar(j)) return false;
+            }
+            if (!p.getVar(i).isInstantiated()) cols[m++] = i;
+        }
+        List<int[]> kept = new ArrayList<>();
+        for (int t = 0; t < tuples.nbTuples(); t++) {
+            int[] tuple = tuples.get(t);
+            boolean supported = true;
+            for (int i = 0; i < n && supported; i++) {
+                supported = p.getVar(i).contains(tuple[i]);
+            }
+            if (supported) {
+                int[] proj = new int[m];
+                for (int i = 0; i < m; i++) proj[i] = tuple[cols[i]];
+                kept.add(proj);
+            }
+        }
+        if (kept.isEmpty()) {
+            model.getSolver().throwsException(Cause.Null, null, "empty table");
+        }
+        if (m < n) {
+            // projection may create duplicates
+            kept.sort((t1, t2) -> {
+                for (int i = 0; i < t1.length; i++) {
+                    if (t1[i] != t2[i]) return Integer.compare(t1[i], t2[i]);
+                }
+                return 0;
+            });
+            int z = 1;
+            for (int i = 1; i < kept.size(); i++) {
+                if (!Arrays.equals(kept.get(i), kept.get(z - 1))) {
+                    kept.set(z++, kept.get(i));
+                }
+            }
+            kept.subList(z, kept.size()).clear();
+        } else if (kept.size() == tuples.nbTuples()) {
+            return false;
+        }
+        model.unpost(c);
+        nbRemovedTuples += tuples.nbTuples() - kept.size();
+        if (m == 0) {
+            nbRemovedCstrs++;
+        } else {
+            IntVar[] vars = new IntVar[m];
+            for (int i = 0; i < m; i++) vars[i] = (IntVar) p.getVar(cols[i]);
+            model.table(vars, new Tuples(kept.toArray(new int[0][]), true), "CT+").post();
+            nbReducedTables++;
+        }
+        return true;
+    }
+
+    //***********************************************************************************
+    // PROBING
+    //***********************************************************************************
+
+    /**
+     * Try each value of free boolean variables and remove the ones that fail on propagation
+     *
+     * @return <i>true</i> if a variable has been fixed
+     */
+    private boolean probe() throws ContradictionException {
+        Solver solver = model.getSolver();
+        int fixed = countFixed();
+        int nb = 0;
+        for (BoolVar b : model.retrieveBoolVars()) {
+            if (nb >= probingLimit) break;
+            if (b.isInstantiated() || VariableUtils.isView(b)) continue;
+            nb++;
+            boolean fails0 = fails(solver, b, 0);
+            boolean fails1 = fails(solver, b, 1);
+            if (fails0 && fails1) {
+                solver.throwsException(Cause.Null, b, "both values fail on probing");
+            } else if (fails0 || fails1) {
+                b.instantiateTo(fails0 ? 1 : 0, Cause.Null);
+                solver.propagate();
+            }
+        }
+        int delta = countFixed() - fixed;
+        nbProbingFixedVars += delta;
+        return delta > 0;
+    }
+
+    private boolean fails(Solver solver, BoolVar b, int value) {
+        model.getEnvironment().worldPush();
+        try {
+            b.instantiateTo(value, Cause.Null);
+            solver.propagate();
+            return false;
+        } catch (ContradictionException e) {
+            return true;
+        } finally {
+            model.getEnvironment().worldPop();
+        }
+    }
+
+    private int countFixed() {
+        int nb = 0;
+        for (int i = 0; i < model.getNbVars(); i++) {
+            if (model.getVar(i).isInstantiated()) nb++;
+        }
+        return nb;
+    }
+
+    //***********************************************************************************
+    // STATISTICS
+    //***********************************************************************************
+
+    /**
+     * @return number of variables fixed by the presolver, including the ones fixed by probing
+     */
+    public int getNbFixedVariables() {
+        return nbFixedVars;
+    }
+
+    /**
+     * @return number of variables fixed by probing
+     */
+    public int getNbProbingFixedVariables() {
+        return nbProbingFixedVars;
+    }
+
+    /**
+     * @return number of variables replaced by another one in linear constraints
+     */
+    public int getNbSubstitutedVariables() {
+        return nbSubstitutedVars;
+    }
+
+    /**
+     * @return number of constraints removed without replacement
+     */
+    public int getNbRemovedConstraints() {
+        return nbRemovedCstrs;
+    }
+
+    /**
+     * @return number of constraints posted in replacement of other ones
+     */
+    public int getNbRewrittenConstraints() {
+        return nbRewrittenCstrs;
+    }
+
+    /**
+     * @return number of rounds of reductions
+     */
+    public int getNbRounds() {
+        return nbRounds;
+    }
+
+    /**
+     * @return number of tightened coefficients
+     */
+    public int getNbTightenedCoefficients() {
+        return nbTightenedCoeffs;
+    }
+
+    /**
+     * @return number of tuples removed from table constraints
+     */
+    public int getNbRemovedTuples() {
+        return nbRemovedTuples;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Presolve: %d vars fixed (%d by probing), %d vars substituted, " +
+                        "%d cstrs removed, %d cstrs rewritten, %d coeffs tightened, " +
+                        "%d tables reduced (%d tuples removed), %d rounds in %.3fs",
+                nbFixedVars, nbProbingFixedVars, nbSubstitutedVars,
+                nbRemovedCstrs, nbRewrittenCstrs, nbTightenedCoeffs,
+                nbReducedTables, nbRemovedTuples, nbRounds, time / 1e9)
+                + (compiler == null ? "" : "\n" + compiler);
+    }
+}
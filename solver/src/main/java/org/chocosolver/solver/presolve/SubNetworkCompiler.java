@@ -0,0 +1,333 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.presolve;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+import org.chocosolver.util.tools.VariableUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A model compiler, which replaces small groups of tightly connected constraints by a single extension constraint.
+ * <p>
+ * A group is built greedily from a seed constraint, by absorbing the constraints which add the fewest
+ * free variables, as long as the group has at most {@link #setMaxVariables(int) maxVariables} free variables
+ * and the product of their domain sizes does not exceed {@link #setMaxSearchSpace(long) maxSearchSpace}.
+ * A group of at least two constraints is then compiled:
+ * its solutions are enumerated by a depth-first search with propagation at the root world,
+ * the constraints of the group are removed and replaced by:
+ * <ul>
+ *     <li>nothing, if every combination of values is a solution,</li>
+ *     <li>a multi-valued decision diagram ({@code mddc}), if it is at least twice as compact as the tuples,</li>
+ *     <li>a Compact-Table ({@code table} with "CT+") otherwise.</li>
+ * </ul>
+ * The enumeration is given up when it visits more than <i>maxSearchSpace</i> nodes or finds more than
+ * {@link #setMaxTuples(int) maxTuples} solutions, in which case the group is left untouched.
+ * Reified constraints are ignored.
+ * </p>
+ * <p>
+ * The compiler has to be called before the resolution starts, at the root world.
+ * It is called by the {@link Presolver} when
+ * {@link org.chocosolver.solver.Settings#setEnableModelCompilation(boolean)} is set to <i>true</i>.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public class SubNetworkCompiler {
+
+    private final Model model;
+    /**
+     * Maximum number of free variables in a group
+     */
+    private int maxVariables = 6;
+    /**
+     * Maximum size of the search space of a group
+     */
+    private long maxSearchSpace = 1 << 16;
+    /**
+     * Maximum number of solutions of a group
+     */
+    private int maxTuples = 10_000;
+
+    // statistics
+    private int nbGroups;
+    private int nbRemovedCstrs;
+    private int nbTables;
+    private int nbMDDs;
+    private long time;
+
+    /**
+     * Create a compiler for <i>model</i>.
+     *
+     * @param model the model to compile
+     */
+    public SubNetworkCompiler(Model model) {
+        this.model = model;
+    }
+
+    /**
+     * @param maxVariables maximum number of free variables in a group (default is 6)
+     * @return this
+     */
+    public SubNetworkCompiler setMaxVariables(int maxVariables) {
+        this.maxVariables = maxVariables;
+        return this;
+    }
+
+    /**
+     * @param maxSearchSpace maximum product of domain sizes of the variables of a group,
+     *                       and maximum number of nodes to enumerate its solutions (default is 65536)
+     * @return this
+     */
+    public SubNetworkCompiler setMaxSearchSpace(long maxSearchSpace) {
+        this.maxSearchSpace = maxSearchSpace;
+        return this;
+    }
+
+    /**
+     * @param maxTuples maximum number of solutions of a group (default is 10000)
+     * @return this
+     */
+    public SubNetworkCompiler setMaxTuples(int maxTuples) {
+        this.maxTuples = maxTuples;
+        return this;
+    }
+
+    /**
+     * Compile the groups of constraints which pay off.
+     *
+     * @return <i>true</i> if the model has been modified
+     * @throws ContradictionException if a group has no solution
+     * @throws SolverException        if the resolution has already started
+     */
+    public boolean compile() throws ContradictionException {
+        if (model.getEnvironment().getWorldIndex() != 0) {
+            throw new SolverException("The compiler must be called before the resolution starts");
+        }
+        time -= System.nanoTime();
+        try {
+            model.getSolver().propagate();
+            List<Constraint> cstrs = new ArrayList<>();
+            List<IntVar[]> scopes = new ArrayList<>();
+            TIntObjectHashMap<List<Integer>> occurrences = new TIntObjectHashMap<>();
+            for (Constraint c : model.getCstrs()) {
+                IntVar[] scope = scope(c);
+                if (scope == null) continue;
+                for (IntVar v : scope) {
+                    List<Integer> occ = occurrences.get(v.getId());
+                    if (occ == null) {
+                        occurrences.put(v.getId(), occ = new ArrayList<>());
+                    }
+                    occ.add(cstrs.size());
+                }
+                cstrs.add(c);
+                scopes.add(scope);
+            }
+            boolean[] used = new boolean[cstrs.size()];
+            boolean modified = false;
+            for (int s = 0; s < cstrs.size(); s++) {
+                if (used[s]) continue;
+                Set<IntVar> group = new LinkedHashSet<>(Arrays.asList(scopes.get(s)));
+                List<Integer> absorbed = new ArrayList<>();
+                absorbed.add(s);
+                grow(group, absorbed, scopes, occurrences, used);
+                if (absorbed.size() < 2) continue;
+                if (compile(group.toArray(new IntVar[0]), absorbed, cstrs)) {
+                    for (int a : absorbed) used[a] = true;
+                    modified = true;
+                }
+            }
+            return modified;
+        } finally {
+            time += System.nanoTime();
+        }
+    }
+
+    /**
+     * @return the free variables of <i>c</i>, or <i>null</i> if <i>c</i> cannot be compiled
+     */
+    private IntVar[] scope(Constraint c) {
+        if (!Presolver.candidate(c)) return null;
+        Set<IntVar> scope = new LinkedHashSet<>();
+        for (Propagator<?> p : c.getPropagators()) {
+            for (int i = 0; i < p.getNbVars(); i++) {
+                Variable v = p.getVar(i);
+                if (!VariableUtils.isInt(v)) return null;
+                if (!v.isInstantiated()) scope.add((IntVar) v);
+            }
+        }
+        if (scope.isEmpty() || scope.size() > maxVariables || searchSpace(scope) > maxSearchSpace) {
+            return null;
+        }
+        return scope.toArray(new IntVar[0]);
+    }
+
+    /**
+     * Absorb, one by one, the constraints adding the fewest variables to <i>group</i>
+     */
+    private void grow(Set<IntVar> group, List<Integer> absorbed, List<IntVar[]> scopes,
+                      TIntObjectHashMap<List<Integer>> occurrences, boolean[] used) {
+        while (true) {
+            int best = -1, bestAdded = Integer.MAX_VALUE;
+            for (IntVar v : group) {
+                for (int c : occurrences.get(v.getId())) {
+                    if (used[c] || absorbed.contains(c)) continue;
+                    int added = 0;
+                    for (IntVar w : scopes.get(c)) {
+                        if (!group.contains(w)) added++;
+                    }
+                    if (added < bestAdded && group.size() + added <= maxVariables) {
+                        Set<IntVar> tmp = new LinkedHashSet<>(group);
+                        tmp.addAll(Arrays.asList(scopes.get(c)));
+                        if (searchSpace(tmp) <= maxSearchSpace) {
+                            best = c;
+                            bestAdded = added;
+                        }
+                    }
+                }
+            }
+            if (best == -1) return;
+            absorbed.add(best);
+            group.addAll(Arrays.asList(scopes.get(best)));
+        }
+    }
+
+    /**
+     * @return the size of the cartesian product of the domains of <i>vars</i>,
+     * or {@link Long#MAX_VALUE} if it overflows
+     */
+    private static long searchSpace(Set<IntVar> vars) {
+        long size = 1;
+        for (IntVar v : vars) {
+            try {
+                size = Math.multiplyExact(size, v.getDomainSize());
+            } catch (ArithmeticException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Enumerate the solutions of a group and replace its constraints
+     *
+     * @return <i>true</i> if the group has been compiled
+     */
+    private boolean compile(IntVar[] vars, List<Integer> absorbed, List<Constraint> cstrs)
+            throws ContradictionException {
+        List<int[]> solutions = new ArrayList<>();
+        long[] nodes = {0};
+        if (!enumerate(vars, 0, new int[vars.length], solutions, nodes)) {
+            return false;
+        }
+        if (solutions.isEmpty()) {
+            model.getSolver().throwsException(Cause.Null, null, "sub-network without solution");
+        }
+        for (int a : absorbed) {
+            model.unpost(cstrs.get(a));
+        }
+        nbGroups++;
+        nbRemovedCstrs += absorbed.size();
+        Set<IntVar> set = new LinkedHashSet<>(Arrays.asList(vars));
+        if (solutions.size() < searchSpace(set)) {
+            Tuples tuples = new Tuples(solutions.toArray(new int[0][]), true);
+            MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, tuples);
+            if (2L * mdd.getDiagram().length < (long) solutions.size() * vars.length) {
+                model.mddc(vars, mdd).post();
+                nbMDDs++;
+            } else {
+                model.table(vars, tuples, "CT+").post();
+                nbTables++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Depth-first enumeration, with propagation of the whole model at each node
+     *
+     * @return <i>false</i> if the enumeration has been given up
+     */
+    private boolean enumerate(IntVar[] vars, int i, int[] tuple, List<int[]> solutions, long[] nodes) {
+        if (i == vars.length) {
+            solutions.add(tuple.clone());
+            return solutions.size() <= maxTuples;
+        }
+        IntVar var = vars[i];
+        int ub = var.getUB();
+        for (int v = var.getLB(); v <= ub; v = var.nextValue(v)) {
+            if (++nodes[0] > maxSearchSpace) return false;
+            model.getEnvironment().worldPush();
+            try {
+                var.instantiateTo(v, Cause.Null);
+                model.getSolver().propagate();
+                tuple[i] = v;
+                if (!enumerate(vars, i + 1, tuple, solutions, nodes)) return false;
+            } catch (ContradictionException ignored) {
+                // v is not part of any solution
+            } finally {
+                model.getEnvironment().worldPop();
+            }
+        }
+        return true;
+    }
+
+    //***********************************************************************************
+    // STATISTICS
+    //***********************************************************************************
+
+    /**
+     * @return number of groups of constraints compiled
+     */
+    public int getNbCompiledGroups() {
+        return nbGroups;
+    }
+
+    /**
+     * @return number of constraints removed by compilation
+     */
+    public int getNbRemovedConstraints() {
+        return nbRemovedCstrs;
+    }
+
+    /**
+     * @return number of table constraints posted
+     */
+    public int getNbTableConstraints() {
+        return nbTables;
+    }
+
+    /**
+     * @return number of mdd constraints posted
+     */
+    public int getNbMDDConstraints() {
+        return nbMDDs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Compilation: %d groups compiled, %d cstrs removed, %d tables and %d mdds posted in %.3fs",
+                nbGroups, nbRemovedCstrs, nbTables, nbMDDs, time / 1e9);
+    }
+}
@@ -81,7 +81,9 @@ public class PropagationEngine {
      * When set to '0b00', this works as a constraint-oriented propagation engine;
      * when set to '0b01', this workds as an hybridization between variable and constraint oriented
      * propagation engine.
-     * when set to '0b10', this workds as a variable- oriented propagation engine.
+     * when set to '0b10', this workds as a variable- oriented propagation engine;
+     * when set to '0b11', modified variables are batched while a priority queue is emptied,
+     * and their propagators are scheduled once, with the aggregated event mask, before the next queue is popped.
      */
     private final byte hybrid;
     /**
@@ -195,7 +197,7 @@ public class PropagationEngine {
                 lastProp.unschedule();
                 delayedPropagationType = 0;
                 propagateEvents();
-                if (hybrid < 0b01) {
+                if (hybrid < 0b01 || (hybrid == 0b11 && (notEmpty & (1 << i)) == 0)) {
                     manageModifications();
                 }
             }
@@ -249,7 +251,7 @@ public class PropagationEngine {
         if (!var_queue.isEmpty()) {
             do {
                 var_queue.pollFirst().schedulePropagators(this);
-            } while (hybrid < 2 && !var_queue.isEmpty());
+            } while (hybrid != 0b10 && !var_queue.isEmpty());
         }
     }
 
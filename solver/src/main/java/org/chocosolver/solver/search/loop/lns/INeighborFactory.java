@@ -91,6 +91,29 @@ public class INeighborFactory {
         return new ReversePropagationGuidedNeighborhood(vars, 0, 30, seed);
     }
 
+    /**
+     * Create a neighborhood relaxing variables which interact with each other,
+     * interactions being learnt from constraint scopes and from the values changed by improving solutions.
+     * The number of relaxed variables is adapted during search.
+     * @param vars      the pool of variables to be freezed
+     * @return an interaction-guided neighborhood
+     */
+    public static IntNeighbor interactionGuided(IntVar... vars) {
+        return interactionGuided(0, vars);
+    }
+
+    /**
+     * Create a neighborhood relaxing variables which interact with each other,
+     * interactions being learnt from constraint scopes and from the values changed by improving solutions.
+     * The number of relaxed variables is adapted during search.
+     * @param seed      the seed for randomness
+     * @param vars      the pool of variables to be freezed
+     * @return an interaction-guided neighborhood
+     */
+    public static IntNeighbor interactionGuided(long seed, IntVar... vars) {
+        return new InteractionGuidedNeighborhood(vars, seed);
+    }
+
     /**
      * Creates a composite INeighbor grouping a set of neighbors
      * @param neighbors a set of neighbors to be grouped
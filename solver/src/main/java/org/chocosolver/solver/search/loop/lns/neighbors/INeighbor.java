@@ -48,6 +48,23 @@ public interface INeighbor extends ICause {
         // Intentionally left empty.
     }
 
+    /**
+     * Adapt the restriction at the beginning of a LNS run. Called when a LNS run has found a new solution.
+     * By default, calls {@link #restrictLess()}.
+     */
+    default void restrictOnImprovement(){
+        restrictLess();
+    }
+
+    /**
+     * Use more restriction at the beginning of a LNS run. Called when a LNS run has been stopped
+     * by the fast restart criterion (the neighbor is too large to be explored in time).
+     * By default, calls {@link #restrictLess()}.
+     */
+    default void restrictMore(){
+        restrictLess();
+    }
+
     /**
      * @return true iff the search is in a complete mode (no fixed variable)
      */
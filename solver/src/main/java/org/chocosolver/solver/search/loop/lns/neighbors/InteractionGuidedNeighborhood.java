@@ -0,0 +1,329 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import gnu.trove.map.hash.TIntDoubleHashMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * A LNS neighbor which relaxes variables close to each other in a variable-interaction graph.
+ * <p>
+ * The interaction graph is initialized from constraint scopes (two variables sharing a constraint are connected,
+ * the weight of the edge decreasing with the arity of the constraint) and is reinforced each time
+ * a new solution is recorded: variables whose values changed together are considered as interacting.
+ * </p>
+ * <p>
+ * A fragment is built from a seed variable by relaxing, one at a time, the variable most connected to the
+ * already relaxed ones; all other variables are frozen to their value in the last solution.
+ * Seed variables are drawn randomly, with a bias towards the ones that took part in an improving neighbor and
+ * those connected to the objective variable, if any.
+ * </p>
+ * <p>
+ * The number of relaxed variables is adapted: it increases when a fragment is entirely explored
+ * without finding a solution, decreases when the exploration is stopped by the restart criterion
+ * and is reset to its initial value when a new solution is found.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public class InteractionGuidedNeighborhood extends IntNeighbor {
+
+    /**
+     * Arity above which constraint scopes are only connected as a chain, to limit the size of the graph
+     */
+    private static final int MAX_CLIQUE = 16;
+    /**
+     * Growth/shrink factor of the number of relaxed variables
+     */
+    private static final double FACTOR = 1.1;
+
+    /**
+     * Number of variables
+     */
+    protected final int n;
+    /**
+     * For randomness
+     */
+    protected final Random rd;
+    /**
+     * Weighted interaction graph
+     */
+    protected final TIntDoubleHashMap[] graph;
+    /**
+     * Score of each variable, to select seeds
+     */
+    protected final double[] scores;
+    /**
+     * Attraction of each variable to the current fragment
+     */
+    private final double[] attraction;
+    /**
+     * Variables currently relaxed
+     */
+    protected final BitSet relaxed;
+    /**
+     * Relaxed variables connected to the fragment
+     */
+    private final int[] frontier;
+    /**
+     * Previous solution, to detect co-changes
+     */
+    private final int[] previous;
+    /**
+     * Whether the graph has been built
+     */
+    private boolean built;
+    /**
+     * Initial number of variables to relax
+     */
+    private final double initialSize;
+    /**
+     * Number of variables to relax
+     */
+    protected double size;
+    /**
+     * Whether {@link #previous} is set
+     */
+    private boolean hasPrevious;
+
+    /**
+     * Create a neighbor for LNS which relaxes interacting variables.
+     *
+     * @param vars variables to consider
+     * @param seed for randomness
+     */
+    public InteractionGuidedNeighborhood(IntVar[] vars, long seed) {
+        super(vars);
+        this.n = vars.length;
+        this.rd = new Random(seed);
+        this.graph = new TIntDoubleHashMap[n];
+        this.scores = new double[n];
+        this.attraction = new double[n];
+        this.relaxed = new BitSet(n);
+        this.frontier = new int[n];
+        this.previous = new int[n];
+        this.initialSize = Math.max(1, n / 10.);
+        this.size = initialSize;
+    }
+
+    @Override
+    public void init() {
+        if (!built) {
+            buildGraph();
+            built = true;
+        }
+    }
+
+    /**
+     * Connect variables sharing a constraint.
+     */
+    private void buildGraph() {
+        for (int i = 0; i < n; i++) {
+            graph[i] = new TIntDoubleHashMap(8, .5f, -1, 0.);
+            scores[i] = 1.;
+        }
+        TIntIntHashMap index = new TIntIntHashMap(n, .5f, -1, -1);
+        for (int i = 0; i < n; i++) {
+            index.putIfAbsent(variables[i].getId(), i);
+        }
+        Model model = variables[0].getModel();
+        int[] scope = new int[n];
+        for (Constraint c : model.getCstrs()) {
+            for (Propagator<?> p : c.getPropagators()) {
+                int k = 0;
+                for (int j = 0; j < p.getNbVars() && k < n; j++) {
+                    int id = index.get(p.getVar(j).getId());
+                    if (id >= 0) {
+                        scope[k++] = id;
+                    }
+                }
+                if (k < 2) continue;
+                double w = 1. / (k - 1);
+                if (k <= MAX_CLIQUE) {
+                    for (int a = 0; a < k; a++) {
+                        for (int b = a + 1; b < k; b++) {
+                            connect(scope[a], scope[b], w);
+                        }
+                    }
+                } else {
+                    for (int a = 1; a < k; a++) {
+                        connect(scope[a - 1], scope[a], w);
+                    }
+                }
+            }
+        }
+        // objective-aware seeds: favor variables interacting with the objective
+        Variable objective = model.getObjective();
+        if (objective != null) {
+            for (Constraint c : model.getCstrs()) {
+                for (Propagator<?> p : c.getPropagators()) {
+                    boolean linked = false;
+                    for (int j = 0; j < p.getNbVars() && !linked; j++) {
+                        linked = p.getVar(j) == objective;
+                    }
+                    if (linked) {
+                        for (int j = 0; j < p.getNbVars(); j++) {
+                            int id = index.get(p.getVar(j).getId());
+                            if (id >= 0) {
+                                scores[id] += 1.;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void connect(int a, int b, double w) {
+        if (a != b) {
+            graph[a].adjustOrPutValue(b, w, w);
+            graph[b].adjustOrPutValue(a, w, w);
+        }
+    }
+
+    @Override
+    public void recordSolution() {
+        super.recordSolution();
+        onNewSolution();
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        super.loadFromSolution(solution);
+        onNewSolution();
+    }
+
+    /**
+     * Reward the last fragment and reinforce the interaction between variables which changed together.
+     */
+    private void onNewSolution() {
+        if (!built) {
+            init();
+        }
+        if (hasPrevious) {
+            int last = -1;
+            for (int i = 0; i < n; i++) {
+                if (previous[i] != values[i]) {
+                    scores[i] += 1.;
+                    // chain the changed variables, to keep the reinforcement linear
+                    if (last >= 0) {
+                        connect(last, i, 1.);
+                    }
+                    last = i;
+                }
+            }
+        }
+        System.arraycopy(values, 0, previous, 0, n);
+        hasPrevious = true;
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        selectFragment((int) Math.min(n, Math.round(size)));
+        for (int i = relaxed.nextClearBit(0); i < n; i = relaxed.nextClearBit(i + 1)) {
+            if (variables[i].contains(values[i])) {  // to deal with objective variable and related
+                freeze(i);
+            }
+        }
+    }
+
+    /**
+     * Select the variables to relax.
+     *
+     * @param k number of variables to relax
+     */
+    protected void selectFragment(int k) {
+        relaxed.clear();
+        int f = 0;
+        while (relaxed.cardinality() < k) {
+            int next = -1;
+            // pick the most attracted variable of the frontier
+            double best = 0.;
+            for (int j = 0; j < f; j++) {
+                int v = frontier[j];
+                if (!relaxed.get(v)) {
+                    // a bit of noise to diversify the fragments
+                    double a = attraction[v] * (1. + rd.nextDouble() * .1);
+                    if (a > best) {
+                        best = a;
+                        next = v;
+                    }
+                }
+            }
+            if (next < 0) {
+                // new seed
+                next = selectSeed();
+            }
+            relaxed.set(next);
+            int[] fr = new int[]{f};
+            graph[next].forEachEntry((v, w) -> {
+                if (!relaxed.get(v)) {
+                    if (attraction[v] == 0.) {
+                        frontier[fr[0]++] = v;
+                    }
+                    attraction[v] += w;
+                }
+                return true;
+            });
+            f = fr[0];
+        }
+        for (int j = 0; j < f; j++) {
+            attraction[frontier[j]] = 0.;
+        }
+    }
+
+    /**
+     * @return a variable not relaxed, drawn proportionally to its score
+     */
+    private int selectSeed() {
+        double sum = 0.;
+        for (int i = relaxed.nextClearBit(0); i < n; i = relaxed.nextClearBit(i + 1)) {
+            sum += scores[i];
+        }
+        double r = rd.nextDouble() * sum;
+        int last = -1;
+        for (int i = relaxed.nextClearBit(0); i < n; i = relaxed.nextClearBit(i + 1)) {
+            r -= scores[i];
+            last = i;
+            if (r <= 0.) {
+                return i;
+            }
+        }
+        return last;
+    }
+
+    @Override
+    public void restrictLess() {
+        // the fragment has been explored without success: relax more variables
+        size = Math.min(n, size * FACTOR + 1);
+    }
+
+    @Override
+    public void restrictOnImprovement() {
+        // the fragment has led to a new solution: intensify around it with small fragments again
+        size = initialSize;
+    }
+
+    @Override
+    public void restrictMore() {
+        // the exploration of the fragment has been stopped: relax less variables
+        size = Math.max(1, size / FACTOR);
+    }
+}
@@ -77,6 +77,16 @@ public class SequenceNeighborhood implements INeighbor {
         neighbors[who].restrictLess();
     }
 
+    @Override
+    public void restrictOnImprovement() {
+        neighbors[who].restrictOnImprovement();
+    }
+
+    @Override
+    public void restrictMore() {
+        neighbors[who].restrictMore();
+    }
+
     @Override
     public boolean isSearchComplete() {
         boolean isComplete = false;
@@ -19,7 +19,11 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.limits.SolutionCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.restart.BlockingRestartPolicy;
+import org.chocosolver.solver.search.restart.GlucoseRestartPolicy;
+import org.chocosolver.solver.search.restart.IRestartPolicy;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
+import org.chocosolver.solver.search.restart.ObjectiveRateRestartPolicy;
 import org.chocosolver.util.criteria.LongCriterion;
 
 /**
@@ -107,6 +111,19 @@ public interface IMoveFactory extends ISelf<Solver> {
                 restartsLimit, resetCutoffOnSolution));
     }
 
+    /**
+     * Creates a Move object that encapsulates the current move within a restart move.
+     * Restarts are triggered by <code>restartPolicy</code>, which observes the failures and solutions of the search.
+     * There will be at most <code>restartsLimit</code> restarts.
+     *
+     * @param restartPolicy the restart policy, for instance {@link GlucoseRestartPolicy}
+     *                      or {@link ObjectiveRateRestartPolicy}, possibly wrapped in a {@link BlockingRestartPolicy}
+     * @param restartsLimit number of allowed restarts
+     */
+    default void setRestarts(IRestartPolicy restartPolicy, int restartsLimit) {
+        ref().setMove(new MoveDynamicRestart(ref().getMove(), restartPolicy, restartsLimit));
+    }
+
     /**
      * Branch a luby restart strategy to the model
      *
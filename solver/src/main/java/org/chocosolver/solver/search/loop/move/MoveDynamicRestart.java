@@ -0,0 +1,150 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.restart.IRestartPolicy;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This {@link Move} implementation enables restarting a search when an {@link IRestartPolicy} says so.
+ * Unlike {@link MoveRestart}, restarts are not driven by a cutoff sequence but by the statistics of the search.
+ * It is not self-content and needs a underlying {@link Move} to delegate common movements when no restart is needed.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @since 19/10/2026
+ */
+public class MoveDynamicRestart implements Move {
+
+    /**
+     * the default {@link Move} to execute when no restart has to be done
+     */
+    private Move move;
+    /**
+     * When restarts should occur
+     */
+    private final IRestartPolicy policy;
+    /**
+     * restrict the total number of restart
+     */
+    private final int restartLimit;
+    /**
+     * Count the number of restarts
+     */
+    private int restartCount;
+    /**
+     * Number of failures seen so far
+     */
+    private long failures;
+    /**
+     * Number of solutions found so far
+     */
+    private long solutions;
+    /**
+     * Set to <i>true</i> once the policy is initialized
+     */
+    private boolean initialized;
+
+    /**
+     * @param move         the default {@link Move} to execute when no restart has to be done
+     * @param policy       defines when restarts happen
+     * @param restartLimit restrict the total number of restart
+     */
+    public MoveDynamicRestart(Move move, IRestartPolicy policy, int restartLimit) {
+        this.move = move;
+        this.policy = policy;
+        this.restartLimit = restartLimit;
+    }
+
+    @Override
+    public boolean init() {
+        restartCount = 0;
+        failures = 0;
+        solutions = 0;
+        initialized = false;
+        return move.init();
+    }
+
+    @Override
+    public boolean extend(Solver solver) {
+        return move.extend(solver);
+    }
+
+    @Override
+    public boolean repair(Solver solver) {
+        if (!initialized) {
+            initialized = true;
+            policy.init(solver);
+        }
+        if (solutions < solver.getSolutionCount()) {
+            solutions = solver.getSolutionCount();
+            policy.onSolution(solver);
+        }
+        boolean restart = false;
+        if (failures < solver.getFailCount()) {
+            failures = solver.getFailCount();
+            policy.onFailure(solver);
+            restart = restartCount < restartLimit && policy.shouldRestart(solver);
+        }
+        if (restart) {
+            restartCount++;
+            policy.onRestart(solver);
+            solver.restart();
+            return true;
+        }
+        return move.repair(solver);
+    }
+
+    /**
+     * @return the restart policy, for instance to get its statistics
+     */
+    public IRestartPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public void setTopDecisionPosition(int position) {
+        this.move.setTopDecisionPosition(position);
+    }
+
+    @Override
+    public <V extends Variable> AbstractStrategy<V> getStrategy() {
+        return move.getStrategy();
+    }
+
+    @Override
+    public <V extends Variable> void setStrategy(AbstractStrategy<V> aStrategy) {
+        move.setStrategy(aStrategy);
+    }
+
+    @Override
+    public void removeStrategy() {
+        move.removeStrategy();
+    }
+
+    @Override
+    public List<Move> getChildMoves() {
+        return Collections.singletonList(move);
+    }
+
+    @Override
+    public void setChildMoves(List<Move> someMoves) {
+        if (someMoves.size() == 1) {
+            this.move = someMoves.get(0);
+        } else {
+            throw new UnsupportedOperationException("Only one child move can be attached to it.");
+        }
+    }
+}
@@ -145,7 +145,7 @@ public class MoveLNS implements Move {
                 // if fast restart is on
                 if (counter.isMet()) {
                     // then is restart is triggered
-                    doRestart(solver);
+                    doRestart(solver, Trigger.TIMEOUT);
                     extend = true;
                 } else {
                     extend = move.extend(solver);
@@ -207,7 +207,7 @@ public class MoveLNS implements Move {
                 solutions++;
                 solutionLoaded = false;
                 neighbor.recordSolution();
-                doRestart(solver);
+                doRestart(solver, Trigger.IMPROVEMENT);
             }
             // when posting the cut directly at root node fails
             else if (freshRestart) {
@@ -218,14 +218,14 @@ public class MoveLNS implements Move {
                 // but the neighbor cannot ensure completeness
                 if (!neighbor.isSearchComplete()) {
                     // then a restart is triggered
-                    doRestart(solver);
+                    doRestart(solver, Trigger.EXHAUSTED);
                     repair = true;
                 }
             }
             // or a fast restart is on
             else if (counter.isMet()) {
                 // then is restart is triggered
-                doRestart(solver);
+                doRestart(solver, Trigger.TIMEOUT);
             }
         }else{
             repair = move.repair(solver);
@@ -245,7 +245,7 @@ public class MoveLNS implements Move {
         if(solutions == 0){
             freshRestart = true;
         }else{
-            doRestart(solver);
+            doRestart(solver, Trigger.IMPROVEMENT);
         }
     }
 
@@ -270,13 +270,24 @@ public class MoveLNS implements Move {
     }
 
     /**
-     * Extend the neighbor when conditions are met and do the restart
+     * Adapt the neighbor to the reason of the restart, when conditions are met, and do the restart
      *
-     * @param solver SearchLoop
+     * @param solver  SearchLoop
+     * @param trigger what triggers the restart
      */
-    private void doRestart(Solver solver) {
+    private void doRestart(Solver solver, Trigger trigger) {
         if (!freshRestart) {
-            neighbor.restrictLess();
+            switch (trigger) {
+                case IMPROVEMENT:
+                    neighbor.restrictOnImprovement();
+                    break;
+                case EXHAUSTED:
+                    neighbor.restrictLess();
+                    break;
+                case TIMEOUT:
+                    neighbor.restrictMore();
+                    break;
+            }
         }
         freshRestart = true;
         counter.overrideLimit(counter.currentValue() + frequency);
@@ -330,4 +341,22 @@ public class MoveLNS implements Move {
             pivot.intersectLit(dom, explanation);
         }
     }
+
+    /**
+     * What triggers a restart of the LNS
+     */
+    private enum Trigger {
+        /**
+         * a new solution has been found
+         */
+        IMPROVEMENT,
+        /**
+         * the fragment has been entirely explored without finding a solution
+         */
+        EXHAUSTED,
+        /**
+         * the fast restart criterion is met
+         */
+        TIMEOUT
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+import org.chocosolver.solver.Solver;
+
+/**
+ * A restart policy which blocks the restarts of another policy when the search is deeper than usual,
+ * that is, when it may be close to a solution.
+ * <p>
+ * When a failure occurs at a depth greater than <i>r</i> times the average depth of the last <i>window</i> failures,
+ * the restarts are blocked for the next <i>window</i> failures.
+ * The depth is the size of the decision path.
+ * </p>
+ * <p>
+ * Audemard and Simon, "Refining Restarts Strategies for SAT and UNSAT", CP 2012.
+ * <br/>
+ * Project: choco-solver.
+ *
+ * @since 19/10/2026
+ */
+public class BlockingRestartPolicy implements IRestartPolicy {
+
+    /**
+     * The policy whose restarts can be blocked
+     */
+    private final IRestartPolicy policy;
+    /**
+     * Depth of the recent failures
+     */
+    private final BoundedQueue depths;
+    /**
+     * Number of failures a block lasts
+     */
+    private final int window;
+    /**
+     * Ratio between the current and the average depth to block restarts
+     */
+    private final double r;
+    /**
+     * Number of failures before blocking is enabled
+     */
+    private final long warmup;
+    /**
+     * Number of failures
+     */
+    private long failures;
+    /**
+     * Restarts are blocked up to this number of failures
+     */
+    private long blockedUntil;
+    /**
+     * Number of blocks
+     */
+    private long blocked;
+
+    /**
+     * Block restarts of <i>policy</i> when the search is deep.
+     *
+     * @param policy the policy whose restarts can be blocked
+     * @param window number of recent failures to consider, also the length of a block
+     * @param r      ratio between the current and the average depth to block restarts (1.4 in Glucose)
+     * @param warmup number of failures before blocking is enabled
+     */
+    public BlockingRestartPolicy(IRestartPolicy policy, int window, double r, long warmup) {
+        this.policy = policy;
+        this.depths = new BoundedQueue(window);
+        this.window = window;
+        this.r = r;
+        this.warmup = warmup;
+    }
+
+    /**
+     * Block restarts of <i>policy</i> when the search is deep, with default parameters.
+     *
+     * @param policy the policy whose restarts can be blocked
+     */
+    public BlockingRestartPolicy(IRestartPolicy policy) {
+        this(policy, 5000, 1.4, 10000);
+    }
+
+    @Override
+    public void init(Solver solver) {
+        policy.init(solver);
+    }
+
+    @Override
+    public void onFailure(Solver solver) {
+        policy.onFailure(solver);
+        int depth = solver.getDecisionPath().size();
+        failures++;
+        if (failures > warmup && depths.isFull() && failures >= blockedUntil
+                && depth > r * depths.average()) {
+            blockedUntil = failures + window;
+            blocked++;
+        }
+        depths.push(depth);
+    }
+
+    @Override
+    public void onSolution(Solver solver) {
+        policy.onSolution(solver);
+    }
+
+    @Override
+    public boolean shouldRestart(Solver solver) {
+        return failures >= blockedUntil && policy.shouldRestart(solver);
+    }
+
+    @Override
+    public void onRestart(Solver solver) {
+        policy.onRestart(solver);
+    }
+
+    @Override
+    public long getTriggeredCount() {
+        return policy.getTriggeredCount();
+    }
+
+    @Override
+    public long getBlockedCount() {
+        return blocked + policy.getBlockedCount();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, blocked: %d", policy, blocked);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+/**
+ * A fixed-size FIFO of values maintaining its sum, to compute moving averages.
+ * <p>
+ * Project: choco-solver.
+ *
+ * @since 19/10/2026
+ */
+class BoundedQueue {
+
+    private final long[] elements;
+    private int first;
+    private int size;
+    private long sum;
+
+    BoundedQueue(int capacity) {
+        this.elements = new long[capacity];
+    }
+
+    void push(long x) {
+        if (size == elements.length) {
+            sum -= elements[first];
+            elements[first] = x;
+            first = (first + 1) % elements.length;
+        } else {
+            elements[(first + size++) % elements.length] = x;
+        }
+        sum += x;
+    }
+
+    boolean isFull() {
+        return size == elements.length;
+    }
+
+    double average() {
+        return size == 0 ? 0. : (double) sum / size;
+    }
+
+    void clear() {
+        first = size = 0;
+        sum = 0;
+    }
+}
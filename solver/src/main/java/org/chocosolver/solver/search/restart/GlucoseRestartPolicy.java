@@ -0,0 +1,140 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.learn.Learn;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
+
+/**
+ * A dynamic restart policy inspired from Glucose:
+ * the search restarts as soon as the quality of the recent conflicts is worse
+ * than the overall quality of the conflicts.
+ * <p>
+ * The quality of a conflict is the Literal Block Distance of the learnt signed clause when learning is on,
+ * the depth of the conflict in the decision path otherwise.
+ * A restart is triggered when the average quality over the last <i>window</i> conflicts,
+ * multiplied by <i>k</i>, exceeds the average quality since the beginning of the search.
+ * </p>
+ * <p>
+ * To preserve completeness, at least <i>minConflicts</i> failures occur between two restarts,
+ * and this minimum is multiplied by <i>growth</i> on each restart.
+ * </p>
+ * <p>
+ * Audemard and Simon, "Predicting Learnt Clauses Quality in Modern SAT Solvers", IJCAI 2009.
+ * <br/>
+ * Project: choco-solver.
+ *
+ * @since 19/10/2026
+ */
+public class GlucoseRestartPolicy implements IRestartPolicy {
+
+    /**
+     * Recent conflicts quality
+     */
+    private final BoundedQueue recent;
+    /**
+     * Ratio between recent and overall quality
+     */
+    private final double k;
+    /**
+     * Growth factor of the minimum number of failures between two restarts
+     */
+    private final double growth;
+    /**
+     * Minimum number of failures between two restarts
+     */
+    private double minConflicts;
+    /**
+     * Sum of qualities since the beginning
+     */
+    private long sum;
+    /**
+     * Number of conflicts since the beginning
+     */
+    private long conflicts;
+    /**
+     * Number of conflicts since the last restart
+     */
+    private long sinceRestart;
+    /**
+     * Number of restarts triggered
+     */
+    private long triggered;
+
+    /**
+     * Create a Glucose-like restart policy.
+     *
+     * @param window       number of recent conflicts to consider
+     * @param k            ratio between recent and overall quality (0.8 in Glucose)
+     * @param minConflicts minimum number of failures between two restarts
+     * @param growth       growth factor of <i>minConflicts</i>, applied on each restart
+     */
+    public GlucoseRestartPolicy(int window, double k, int minConflicts, double growth) {
+        this.recent = new BoundedQueue(window);
+        this.k = k;
+        this.minConflicts = Math.max(1, minConflicts);
+        this.growth = growth;
+    }
+
+    /**
+     * Create a Glucose-like restart policy with default parameters.
+     */
+    public GlucoseRestartPolicy() {
+        this(50, .8, 50, 1.02);
+    }
+
+    @Override
+    public void onFailure(Solver solver) {
+        long q = quality(solver);
+        recent.push(q);
+        sum += q;
+        conflicts++;
+        sinceRestart++;
+    }
+
+    /**
+     * @param solver the observed solver
+     * @return the quality of the last conflict, the lower the better
+     */
+    protected long quality(Solver solver) {
+        Learn learn = solver.getLearner();
+        if (learn instanceof LearnSignedClauses && ((LearnSignedClauses<?>) learn).getExplanation() != null) {
+            return ((LearnSignedClauses<?>) learn).getExplanation().getLBD();
+        }
+        return solver.getDecisionPath().size();
+    }
+
+    @Override
+    public boolean shouldRestart(Solver solver) {
+        return sinceRestart >= minConflicts
+                && recent.isFull()
+                && recent.average() * k > (double) sum / conflicts;
+    }
+
+    @Override
+    public void onRestart(Solver solver) {
+        triggered++;
+        sinceRestart = 0;
+        minConflicts *= growth;
+        recent.clear();
+    }
+
+    @Override
+    public long getTriggeredCount() {
+        return triggered;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Glucose restarts (triggered: %d, conflicts: %d, avg. quality: %.2f)",
+                triggered, conflicts, conflicts == 0 ? 0. : (double) sum / conflicts);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+import org.chocosolver.solver.Solver;
+
+/**
+ * A restart policy which decides, on each failure, whether the search should restart,
+ * based on the statistics of the search rather than on a predefined cutoff sequence.
+ * <p>
+ * Such a policy is plugged in a search loop with
+ * {@link org.chocosolver.solver.search.loop.move.IMoveFactory#setRestarts(IRestartPolicy, int)}.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @since 19/10/2026
+ */
+public interface IRestartPolicy {
+
+    /**
+     * Called once, when the search starts.
+     *
+     * @param solver the observed solver
+     */
+    default void init(Solver solver) {
+        // nothing to do by default
+    }
+
+    /**
+     * Called on each failure, before backtracking.
+     * The decision path still reflects the conflicting state.
+     *
+     * @param solver the observed solver
+     */
+    void onFailure(Solver solver);
+
+    /**
+     * Called each time a solution is found.
+     *
+     * @param solver the observed solver
+     */
+    default void onSolution(Solver solver) {
+        // nothing to do by default
+    }
+
+    /**
+     * @param solver the observed solver
+     * @return <i>true</i> if the search should restart now
+     */
+    boolean shouldRestart(Solver solver);
+
+    /**
+     * Called when a restart, triggered by this policy, is about to be done.
+     *
+     * @param solver the observed solver
+     */
+    void onRestart(Solver solver);
+
+    /**
+     * @return the number of restarts triggered by this policy
+     */
+    long getTriggeredCount();
+
+    /**
+     * @return the number of restarts which would have been triggered but were blocked
+     */
+    default long getBlockedCount() {
+        return 0;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+import org.chocosolver.solver.Solver;
+
+/**
+ * A dynamic restart policy for optimization problems, driven by the rate of improvement of the objective.
+ * <p>
+ * The policy maintains an exponential moving average of the number of failures needed to improve the objective.
+ * While the search keeps improving at that rate, no restart is done.
+ * Once the number of failures since the last improvement exceeds <i>factor</i> times this average,
+ * the search is considered as stuck and a restart is triggered.
+ * </p>
+ * <p>
+ * To preserve completeness, at least <i>base</i> failures occur between two restarts,
+ * and this minimum is multiplied by <i>growth</i> on each restart not preceded by an improvement.
+ * </p>
+ * <p>
+ * Project: choco-solver.
+ *
+ * @since 19/10/2026
+ */
+public class ObjectiveRateRestartPolicy implements IRestartPolicy {
+
+    /**
+     * Smoothing factor of the moving average
+     */
+    private static final double ALPHA = .3;
+
+    /**
+     * Minimum number of failures between two restarts
+     */
+    private final long base;
+    /**
+     * Ratio between the failures since the last improvement and the average to trigger a restart
+     */
+    private final double factor;
+    /**
+     * Growth factor of the minimum number of failures between two restarts
+     */
+    private final double growth;
+    /**
+     * Current minimum number of failures between two restarts
+     */
+    private double cutoff;
+    /**
+     * Average number of failures between two improvements
+     */
+    private double gap;
+    /**
+     * Number of failures since the last improvement
+     */
+    private long sinceImprovement;
+    /**
+     * Number of failures since the last restart
+     */
+    private long sinceRestart;
+    /**
+     * Set to <i>true</i> when an improvement occurs after the last restart
+     */
+    private boolean improved;
+    /**
+     * Number of restarts triggered
+     */
+    private long triggered;
+
+    /**
+     * Create a restart policy driven by the rate of improvement of the objective.
+     *
+     * @param base   minimum number of failures between two restarts
+     * @param factor ratio between the failures since the last improvement and their average to trigger a restart
+     * @param growth growth factor of the minimum number of failures, applied on each restart without improvement
+     */
+    public ObjectiveRateRestartPolicy(long base, double factor, double growth) {
+        this.base = Math.max(1, base);
+        this.factor = factor;
+        this.growth = growth;
+        this.cutoff = this.base;
+        this.gap = this.base;
+    }
+
+    /**
+     * Create a restart policy driven by the rate of improvement of the objective, with default parameters.
+     */
+    public ObjectiveRateRestartPolicy() {
+        this(100, 2., 1.5);
+    }
+
+    @Override
+    public void onFailure(Solver solver) {
+        sinceImprovement++;
+        sinceRestart++;
+    }
+
+    @Override
+    public void onSolution(Solver solver) {
+        gap = ALPHA * Math.max(sinceImprovement, 1) + (1. - ALPHA) * gap;
+        sinceImprovement = 0;
+        improved = true;
+    }
+
+    @Override
+    public boolean shouldRestart(Solver solver) {
+        return sinceRestart >= cutoff && sinceImprovement > factor * gap;
+    }
+
+    @Override
+    public void onRestart(Solver solver) {
+        triggered++;
+        sinceRestart = 0;
+        if (improved) {
+            cutoff = base;
+        } else {
+            cutoff *= growth;
+        }
+        improved = false;
+    }
+
+    @Override
+    public long getTriggeredCount() {
+        return triggered;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Objective rate restarts (triggered: %d, avg. failures per improvement: %.1f)",
+                triggered, gap);
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -39,4 +40,9 @@ public class IntDomainMedian implements IntValueSelector {
 		}
 		return median;
     }
+
+	@Override
+	public IntValueSelector duplicate(DuplicationContext context) {
+		return this;
+	}
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.IntVar;
 
 import java.util.function.ToDoubleFunction;
@@ -81,4 +82,13 @@ public class IntDomainMiddle implements IntValueSelector {
         }
         return value;
     }
+
+    @Override
+    public IntValueSelector duplicate(DuplicationContext context) {
+        if (middle != MIDEDEF) {
+            // a user-defined function may refer to the variables of the source model
+            throw DuplicationContext.unsupported(this);
+        }
+        return this;
+    }
 }
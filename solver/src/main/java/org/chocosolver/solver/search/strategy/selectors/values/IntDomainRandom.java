@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.IntVar;
 
 import java.util.Random;
@@ -27,8 +28,11 @@ public class IntDomainRandom implements IntValueSelector {
 
 	private final Random rand;
 
+	private final long seed;
+
     public IntDomainRandom(long seed) {
         this.rand = new Random(seed);
+        this.seed = seed;
     }
 
     /**
@@ -44,4 +48,9 @@ public class IntDomainRandom implements IntValueSelector {
 		}
 		return value;
     }
+
+    @Override
+    public IntValueSelector duplicate(DuplicationContext context) {
+        return new IntDomainRandom(seed);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.IntVar;
 
 import java.util.Random;
@@ -24,8 +25,11 @@ public class IntDomainRandomBound implements IntValueSelector {
 
     private final Random rand;
 
+    private final long seed;
+
     public IntDomainRandomBound(long seed) {
         this.rand = new Random(seed);
+        this.seed = seed;
     }
 
     /**
@@ -35,4 +39,9 @@ public class IntDomainRandomBound implements IntValueSelector {
     public int selectValue(IntVar var) {
 		return rand.nextBoolean() ? var.getLB() : var.getUB();
     }
+
+    @Override
+    public IntValueSelector duplicate(DuplicationContext context) {
+        return new IntDomainRandomBound(seed);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.RealVar;
 
 /**
@@ -26,4 +27,9 @@ public class RealDomainMax implements RealValueSelector {
         if (upp == Double.POSITIVE_INFINITY) upp = Double.MAX_VALUE;
         return upp;
     }
+
+    @Override
+    public RealValueSelector duplicate(DuplicationContext context) {
+        return this;
+    }
 }
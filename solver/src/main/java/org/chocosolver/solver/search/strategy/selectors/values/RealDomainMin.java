@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.RealVar;
 
 /**
@@ -26,4 +27,9 @@ public class RealDomainMin implements RealValueSelector {
         if (low == Double.NEGATIVE_INFINITY) low = -Double.MAX_VALUE;
         return low;
     }
+
+    @Override
+    public RealValueSelector duplicate(DuplicationContext context) {
+        return this;
+    }
 }
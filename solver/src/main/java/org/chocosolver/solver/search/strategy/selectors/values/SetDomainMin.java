@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 
@@ -31,4 +32,9 @@ public class SetDomainMin implements SetValueSelector {
         }
         throw new UnsupportedOperationException(s + " is already instantiated. Cannot compute a decision on it");
     }
+
+    @Override
+    public SetValueSelector duplicate(DuplicationContext context) {
+        return this;
+    }
 }
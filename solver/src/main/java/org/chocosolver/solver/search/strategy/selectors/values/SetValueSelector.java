@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.SetVar;
 
 /**
@@ -26,4 +28,15 @@ public interface SetValueSelector {
 	 */
 	int selectValue(SetVar v);
 
+	/**
+	 * Build a copy of this value selector for a copy of the model, see {@link Model#duplicate(String)}.
+	 * A value selector without any state may return itself.
+	 *
+	 * @param context the duplication context, to get the copy of the variables
+	 * @return a copy of this value selector
+	 * @throws org.chocosolver.solver.exception.SolverException if this value selector cannot be duplicated
+	 */
+	default SetValueSelector duplicate(DuplicationContext context) {
+		throw DuplicationContext.unsupported(this);
+	}
 }
@@ -9,10 +9,23 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values.graph.edge;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.GraphVar;
 
 public interface GraphEdgeSelector<G extends GraphVar> {
 
     int[] selectEdge(G g);
 
+    /**
+     * Build a copy of this selector for a copy of the model, see {@link Model#duplicate(String)}.
+     * A selector without any state may return itself.
+     *
+     * @param context the duplication context
+     * @return a copy of this selector
+     * @throws org.chocosolver.solver.exception.SolverException if this selector cannot be duplicated
+     */
+    default GraphEdgeSelector<G> duplicate(DuplicationContext context) {
+        throw DuplicationContext.unsupported(this);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values.graph.edge;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.GraphVar;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 
@@ -29,4 +30,9 @@ public class GraphLexEdge implements GraphEdgeSelector {
         }
         return new int[] {-1, -1};
     }
+
+    @Override
+    public GraphEdgeSelector duplicate(DuplicationContext context) {
+        return this;
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values.graph.node;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.GraphVar;
 
 public class GraphLexNode implements GraphNodeSelector {
@@ -21,4 +22,9 @@ public class GraphLexNode implements GraphNodeSelector {
         }
         return -1;
     }
+
+    @Override
+    public GraphNodeSelector duplicate(DuplicationContext context) {
+        return this;
+    }
 }
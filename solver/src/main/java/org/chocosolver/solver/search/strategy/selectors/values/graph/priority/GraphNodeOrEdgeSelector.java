@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values.graph.priority;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.GraphVar;
 
 /**
@@ -24,4 +26,16 @@ public interface GraphNodeOrEdgeSelector<G extends GraphVar> {
      * @return True if the next decision must be on nodes, else if it must be on edges.
      */
     boolean nextIsNode(G g);
+
+    /**
+     * Build a copy of this selector for a copy of the model, see {@link Model#duplicate(String)}.
+     * A selector without any state may return itself.
+     *
+     * @param context the duplication context
+     * @return a copy of this selector
+     * @throws org.chocosolver.solver.exception.SolverException if this selector cannot be duplicated
+     */
+    default GraphNodeOrEdgeSelector<G> duplicate(DuplicationContext context) {
+        throw DuplicationContext.unsupported(this);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values.graph.priority;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.GraphVar;
 
 /**
@@ -23,4 +24,9 @@ public class GraphNodeThenEdges implements GraphNodeOrEdgeSelector {
     public boolean nextIsNode(GraphVar g) {
         return g.getPotentialNodes().size() != g.getMandatoryNodes().size();
     }
+
+    @Override
+    public GraphNodeOrEdgeSelector duplicate(DuplicationContext context) {
+        return this;
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values.graph.priority;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.search.strategy.selectors.values.graph.edge.GraphEdgeSelector;
 import org.chocosolver.solver.search.strategy.selectors.values.graph.node.GraphNodeSelector;
 import org.chocosolver.solver.variables.GraphVar;
@@ -89,4 +90,9 @@ public class GraphNodeThenNeighbors implements GraphNodeOrEdgeSelector, GraphNod
         this.g = graphVar;
         return findNextNode();
     }
+
+    @Override
+    public GraphNodeThenNeighbors duplicate(DuplicationContext context) {
+        return new GraphNodeThenNeighbors();
+    }
 }
@@ -117,6 +117,14 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      */
     final HashMap<Propagator<?>, double[]> refinedWeights = new HashMap<>();
     static final double[] rw = {0.};
+    /**
+     * Decision variables, to duplicate this selector
+     */
+    final V[] scope;
+    /**
+     * Seed for breaking ties randomly, to duplicate this selector
+     */
+    final long seed;
 
     public AbstractCriterionBasedVariableSelector(V[] vars, long seed, int flush) {
         this.random = new java.util.Random(seed);
@@ -124,6 +132,8 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
         this.environment = vars[0].getModel().getEnvironment();
         this.last = environment.makeInt(vars.length - 1);
         this.flushThs = flush;
+        this.scope = vars;
+        this.seed = seed;
     }
 
     @Override
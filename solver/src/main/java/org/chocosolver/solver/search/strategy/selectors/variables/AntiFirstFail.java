@@ -10,6 +10,7 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -59,4 +60,9 @@ public class AntiFirstFail implements VariableSelector<IntVar>,VariableEvaluator
     public double evaluate(IntVar variable) {
         return -variable.getDomainSize();
     }
+
+    @Override
+    public VariableSelector<IntVar> duplicate(DuplicationContext context) {
+        return new AntiFirstFail(context.getTarget());
+    }
 }
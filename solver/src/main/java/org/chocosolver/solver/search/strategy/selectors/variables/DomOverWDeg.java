@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.variables.IntVar;
@@ -139,4 +140,9 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
         return 0;
     }*/
     // FOR DEBUGGING PURPOSE ONLY  -->
+
+    @Override
+    public VariableSelector<V> duplicate(DuplicationContext context) {
+        return new DomOverWDeg<>(context.get(scope), seed, flushThs);
+    }
 }
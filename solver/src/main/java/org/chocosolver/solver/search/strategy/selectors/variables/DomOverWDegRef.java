@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
@@ -65,4 +66,9 @@ public class DomOverWDegRef<V extends Variable> extends DomOverWDeg<V> {
             ws[i] += inc[0];
         }
     }
+
+    @Override
+    public VariableSelector<V> duplicate(DuplicationContext context) {
+        return new DomOverWDegRef<>(context.get(scope), seed, flushThs);
+    }
 }
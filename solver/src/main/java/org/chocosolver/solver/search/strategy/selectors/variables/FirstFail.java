@@ -10,6 +10,7 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -64,4 +65,9 @@ public class FirstFail implements VariableSelector<IntVar>, VariableEvaluator<In
     public double evaluate(IntVar variable) {
         return variable.getDomainSize();
     }
+
+    @Override
+    public VariableSelector<IntVar> duplicate(DuplicationContext context) {
+        return new FirstFail(context.getTarget());
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
 import org.chocosolver.solver.variables.SetVar;
@@ -74,4 +75,9 @@ public class GeneralizedMinDomVarSelector<V extends Variable> implements Variabl
         }
         return nextVar;
     }
+
+    @Override
+    public VariableSelector<V> duplicate(DuplicationContext context) {
+        return this;
+    }
 }
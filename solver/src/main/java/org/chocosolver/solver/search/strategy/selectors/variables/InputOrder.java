@@ -10,6 +10,7 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.Variable;
 
@@ -45,4 +46,9 @@ public class InputOrder<V extends Variable> implements VariableSelector<V> {
         lastIdx.set(variables.length);
         return null;
     }
+
+    @Override
+    public VariableSelector<V> duplicate(DuplicationContext context) {
+        return new InputOrder<>(context.getTarget());
+    }
 }
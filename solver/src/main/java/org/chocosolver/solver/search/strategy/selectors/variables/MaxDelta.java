@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.SetVar;
 
 /**
@@ -37,4 +38,9 @@ public class MaxDelta implements VariableSelector<SetVar>,VariableEvaluator<SetV
     public double evaluate(SetVar variable) {
         return -variable.getUB().size() - variable.getLB().size();
     }
+
+    @Override
+    public VariableSelector<SetVar> duplicate(DuplicationContext context) {
+        return this;
+    }
 }
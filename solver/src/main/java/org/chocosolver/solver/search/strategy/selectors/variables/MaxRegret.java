@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -43,4 +44,9 @@ public class MaxRegret implements VariableSelector<IntVar>,VariableEvaluator<Int
         int lower = variable.getLB();
         return -(variable.nextValue(lower) - lower);
     }
+
+    @Override
+    public VariableSelector<IntVar> duplicate(DuplicationContext context) {
+        return this;
+    }
 }
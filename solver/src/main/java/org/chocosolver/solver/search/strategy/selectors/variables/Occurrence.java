@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.Variable;
 
 /**
@@ -40,4 +41,9 @@ public class Occurrence<V extends Variable> implements VariableSelector<V>,Varia
     public double evaluate(V variable) {
         return -(variable.getNbProps());
     }
+
+    @Override
+    public VariableSelector<V> duplicate(DuplicationContext context) {
+        return this;
+    }
 }
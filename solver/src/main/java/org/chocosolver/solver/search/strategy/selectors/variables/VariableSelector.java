@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.Variable;
 
 
@@ -48,4 +50,15 @@ public interface VariableSelector<V extends Variable>  {
 
     }
 
+    /**
+     * Build a copy of this variable selector for a copy of the model, see {@link Model#duplicate(String)}.
+     * A variable selector without any state may return itself.
+     *
+     * @param context the duplication context, to get the copy of the variables
+     * @return a copy of this variable selector
+     * @throws org.chocosolver.solver.exception.SolverException if this variable selector cannot be duplicated
+     */
+    default VariableSelector<V> duplicate(DuplicationContext context) {
+        throw DuplicationContext.unsupported(this);
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.search.strategy.decision.IntDecision;
@@ -55,6 +57,18 @@ public abstract class AbstractStrategy<V extends Variable>  {
      */
     public abstract Decision<V> getDecision();
 
+    /**
+     * Build a copy of this strategy for a copy of the model, see {@link Model#duplicate(String)}.
+     * The copy is made of the copies of the variables and selectors of this strategy.
+     *
+     * @param context the duplication context, to get the copy of the variables
+     * @return a copy of this strategy
+     * @throws org.chocosolver.solver.exception.SolverException if this strategy cannot be duplicated
+     */
+    public AbstractStrategy<V> duplicate(DuplicationContext context) {
+        throw DuplicationContext.unsupported(this);
+    }
+
     /**
      * Creates a <code>String</code> object containing a pretty print of the current variables.
      *
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.assignments.GraphDecisionOperator;
 import org.chocosolver.solver.search.strategy.decision.Decision;
@@ -67,4 +68,14 @@ public class GraphStrategy<G extends GraphVar<?>> extends AbstractStrategy<G> {
             return g.getModel().getSolver().getDecisionPath().makeGraphEdgeDecision(g, operator, edge[0], edge[1]);
         }
     }
+
+    @Override
+    public AbstractStrategy<G> duplicate(DuplicationContext context) {
+        return new GraphStrategy<>(context.get(vars),
+                context.get(varSelector, s -> s.duplicate(context)),
+                context.get(nodeOrEdgeSelector, s -> s.duplicate(context)),
+                context.get(nodeSelector, s -> s.duplicate(context)),
+                context.get(edgeSelector, s -> s.duplicate(context)),
+                operator == DecisionOperatorFactory.makeGraphEnforce());
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
@@ -102,4 +103,12 @@ public class IntStrategy extends AbstractStrategy<IntVar> {
         IntVar variable = variableSelector.getVariable(vars);
         return computeDecision(variable);
     }
+
+	@Override
+	public AbstractStrategy<IntVar> duplicate(DuplicationContext context) {
+		return new IntStrategy(context.get(vars),
+				context.get(variableSelector, s -> s.duplicate(context)),
+				context.get(valueSelector, s -> s.duplicate(context)),
+				decisionOperator);
+	}
 }
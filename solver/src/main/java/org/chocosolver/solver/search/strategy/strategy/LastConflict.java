@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
@@ -167,4 +168,11 @@ public class LastConflict<V extends Variable> extends AbstractStrategy<V> implem
         }
         return null;
     }
+
+    @Override
+    public AbstractStrategy<V> duplicate(DuplicationContext context) {
+        return new LastConflict<>(context.getTarget(),
+                context.get(mainStrategy, s -> s.duplicate(context)),
+                conflictingVariables.length);
+    }
 }
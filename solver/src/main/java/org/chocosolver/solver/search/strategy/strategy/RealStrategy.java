@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.search.strategy.selectors.values.RealValueSelector;
 import org.chocosolver.solver.search.strategy.selectors.variables.VariableSelector;
@@ -100,4 +101,12 @@ public class RealStrategy extends AbstractStrategy<RealVar> {
         RealVar variable = varselector.getVariable(vars);
         return computeDecision(variable);
     }
+
+    @Override
+    public AbstractStrategy<RealVar> duplicate(DuplicationContext context) {
+        return new RealStrategy(context.get(vars),
+                context.get(varselector, s -> s.duplicate(context)),
+                context.get(valueIterator, s -> s.duplicate(context)),
+                epsilon, leftFirst);
+    }
 }
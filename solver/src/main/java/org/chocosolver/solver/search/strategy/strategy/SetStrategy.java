@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
@@ -88,4 +89,12 @@ public class SetStrategy extends AbstractStrategy<SetVar> {
         assert !s.isInstantiated();
         return s.getModel().getSolver().getDecisionPath().makeSetDecision(s, operator, valSelector.selectValue(s));
     }
+
+    @Override
+    public AbstractStrategy<SetVar> duplicate(DuplicationContext context) {
+        return new SetStrategy(context.get(vars),
+                context.get(varSelector, s -> s.duplicate(context)),
+                context.get(valSelector, s -> s.duplicate(context)),
+                operator == DecisionOperatorFactory.makeSetForce());
+    }
 }
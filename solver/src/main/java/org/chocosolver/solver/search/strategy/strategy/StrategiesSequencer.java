@@ -11,6 +11,7 @@ package org.chocosolver.solver.search.strategy.strategy;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -129,4 +130,16 @@ public class StrategiesSequencer<U extends Variable> extends AbstractStrategy<U>
         }
         return st.toString();
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public AbstractStrategy<U> duplicate(DuplicationContext context) {
+        AbstractStrategy<U>[] copies = new AbstractStrategy[strategies.length];
+        for (int i = 0; i < strategies.length; i++) {
+            copies[i] = context.get(strategies[i], s -> s.duplicate(context));
+        }
+        return index == null ?
+                new StrategiesSequencer<>(copies) :
+                new StrategiesSequencer<>(context.getTarget().getEnvironment(), copies);
+    }
 }
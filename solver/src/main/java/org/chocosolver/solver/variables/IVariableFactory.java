@@ -230,6 +230,8 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else if (boundedDomain) {
             return new IntervalIntVarImpl(name, lb, ub, ref());
+        } else if ((long) ub - lb + 1 > ref().getSettings().getMaxDomSizeForBitset()) {
+            return new IntervalHolesIntVarImpl(name, lb, ub, ref());
         } else {
             return new BitsetIntVarImpl(name, lb, ub, ref());
         }
@@ -266,6 +268,16 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else {
             int gap = values[values.length - 1] - values[0];
+            if (gap >= ref().getSettings().getMaxDomSizeForBitset()) {
+                // large span: an interval with holes is cheaper when values are mostly consecutive
+                int nbHoles = 0;
+                for (int i = 1; i < values.length; i++) {
+                    if (values[i - 1] + 1 < values[i]) nbHoles++;
+                }
+                if (nbHoles * 2 < values.length) {
+                    return new IntervalHolesIntVarImpl(name, values, ref());
+                }
+            }
             if (gap > 30 && gap / values.length > 5) {
                 return new BitsetArrayIntVarImpl(name, values, ref());
             } else {
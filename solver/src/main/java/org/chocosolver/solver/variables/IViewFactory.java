@@ -22,6 +22,8 @@ import org.chocosolver.solver.variables.view.graph.directed.DirectedNodeInducedS
 import org.chocosolver.solver.variables.view.graph.undirected.EdgeInducedSubgraphView;
 import org.chocosolver.solver.variables.view.graph.undirected.NodeInducedSubgraphView;
 import org.chocosolver.solver.variables.view.graph.undirected.UndirectedGraphUnionView;
+import org.chocosolver.solver.variables.view.IntView;
+import org.chocosolver.solver.variables.view.integer.IntAffineView;
 import org.chocosolver.solver.variables.view.integer.IntMinusView;
 import org.chocosolver.solver.variables.view.integer.IntOffsetView;
 import org.chocosolver.solver.variables.view.integer.IntScaleView;
@@ -123,6 +125,9 @@ public interface IViewFactory extends ISelf<Model> {
             return ref().intVar(name, var.getValue() + cste);
         }
         if (ref().getSettings().enableViews()) {
+            if (isAffineView(var)) {
+                return intAffineView(1, var, cste);
+            }
             int p = checkDeclaredView(var, cste, IntOffsetView.class, ref().getSettings().checkDeclaredViews());
             if(p>-1){
                 return var.getView(p).asIntVar();
@@ -155,9 +160,8 @@ public interface IViewFactory extends ISelf<Model> {
             return ref().intVar(-var.getValue());
         }
         if (ref().getSettings().enableViews()) {
-            if (var instanceof IntMinusView) {
-                //noinspection rawtypes
-                return ((IntMinusView) var).getVariable();
+            if (isAffineView(var)) {
+                return intAffineView(-1, var, 0);
             } else {
                 int p = checkDeclaredView(var, -1, IntMinusView.class, ref().getSettings().checkDeclaredViews());
                 if(p>-1){
@@ -209,6 +213,9 @@ public interface IViewFactory extends ISelf<Model> {
                 return ref().intVar(var.getValue() * cste);
             }
             if (ref().getSettings().enableViews()) {
+                if (isAffineView(var)) {
+                    return intAffineView(cste, var, 0);
+                }
                 boolean rev = cste < 0;
                 cste = Math.abs(cste);
                 int p = checkDeclaredView(var, cste, IntScaleView.class, ref().getSettings().checkDeclaredViews());
@@ -278,18 +285,91 @@ public interface IViewFactory extends ISelf<Model> {
     /**
      * Creates an affine view over <i>x</i> such that: <i>a.x + b</i>.
      * <p>
+     * When views are enabled, stacks of offset, scale, minus and affine views are flattened:
+     * the returned view is built directly over the first variable which is not such a view,
+     * and it is the simplest among offset, minus, scale and affine views.
      *
      * @param a a coefficient
      * @param x an integer variable.
      * @param b a constant
-     * @return an IntVar equal to the absolute value of <i>var</i>
+     * @return an IntVar equal to <i>a.x + b</i>
      */
     default IntVar intAffineView(int a, IntVar x, int b) {
         if (x.isInstantiated()) {
             return ref().intVar(a * x.getValue() + b);
-        } else {
+        } else if (a == 0) {
+            return ref().intVar(b);
+        } else if (!ref().getSettings().enableViews()) {
             return intOffsetView(intScaleView(x, a), b);
         }
+        int[] ab = {a, b};
+        IntVar y = affineBase(x, ab);
+        int ca = ab[0];
+        int cb = ab[1];
+        if (isAffineView(y)) {
+            // flattening stopped to avoid an overflow
+            return ca == 1 ? new IntOffsetView<>(y, cb) : new IntAffineView<>(y, ca, cb);
+        } else if (ca == 1) {
+            return cb == 0 ? y : intOffsetView(y, cb);
+        } else if (ca == -1 && cb == 0) {
+            return intMinusView(y);
+        } else if (ca > 1 && cb == 0) {
+            return intScaleView(y, ca);
+        }
+        for (int i = 0; ref().getSettings().checkDeclaredViews() && i < y.getNbViews(); i++) {
+            if (y.getView(i) instanceof IntAffineView) {
+                IntAffineView<?> v = (IntAffineView<?>) y.getView(i);
+                if (v.a == ca && v.b == cb) {
+                    return v;
+                }
+            }
+        }
+        return new IntAffineView<>(y, ca, cb);
+    }
+
+    /**
+     * @param x an integer variable
+     * @return <i>true</i> if <i>x</i> is an offset, scale, minus or affine view
+     */
+    static boolean isAffineView(IntVar x) {
+        return x instanceof IntOffsetView || x instanceof IntScaleView
+                || x instanceof IntMinusView || x instanceof IntAffineView;
+    }
+
+    /**
+     * Goes down a stack of offset, scale, minus and affine views.
+     * On input, <i>ab</i> stores the coefficients of <i>ab[0].x + ab[1]</i>,
+     * on output, it stores the coefficients wrt the returned variable.
+     * Stops before a view whose composition would overflow.
+     *
+     * @param x  an integer variable
+     * @param ab coefficients, updated
+     * @return the first variable of the stack which is not an offset, scale, minus or affine view
+     */
+    @SuppressWarnings("rawtypes")
+    static IntVar affineBase(IntVar x, int[] ab) {
+        while (isAffineView(x)) {
+            int a = ab[0], b = ab[1];
+            try {
+                if (x instanceof IntOffsetView) {
+                    b = Math.addExact(b, Math.multiplyExact(a, ((IntOffsetView) x).cste));
+                } else if (x instanceof IntScaleView) {
+                    a = Math.multiplyExact(a, ((IntScaleView) x).cste);
+                } else if (x instanceof IntMinusView) {
+                    a = Math.negateExact(a);
+                } else {
+                    IntAffineView v = (IntAffineView) x;
+                    b = Math.addExact(b, Math.multiplyExact(a, v.b));
+                    a = Math.multiplyExact(a, v.a);
+                }
+            } catch (ArithmeticException e) {
+                break;
+            }
+            ab[0] = a;
+            ab[1] = b;
+            x = ((IntView<?>) x).getVariable();
+        }
+        return x;
     }
 
 
@@ -307,6 +387,14 @@ public interface IViewFactory extends ISelf<Model> {
             return ref().boolVar(false);
         } else {
             if (ref().getSettings().enableViews()) {
+                if (isAffineView(x)) {
+                    int[] ab = {1, 0};
+                    IntVar y = affineBase(x, ab);
+                    if (y != x) {
+                        // x contains c, so c - b is a multiple of a
+                        return intEqView(y, (int) (((long) c - ab[1]) / ab[0]));
+                    }
+                }
                 int p = checkDeclaredView(x, c, BoolEqView.class, ref().getSettings().checkDeclaredViews());
                 if (p >= 0) {
                     return x.getView(p).asBoolVar();
@@ -335,6 +423,14 @@ public interface IViewFactory extends ISelf<Model> {
             return ref().boolVar(true);
         } else {
             if (ref().getSettings().enableViews()) {
+                if (isAffineView(x)) {
+                    int[] ab = {1, 0};
+                    IntVar y = affineBase(x, ab);
+                    if (y != x) {
+                        // x contains c, so c - b is a multiple of a
+                        return intNeView(y, (int) (((long) c - ab[1]) / ab[0]));
+                    }
+                }
                 int p = checkDeclaredView(x, c, BoolEqView.class, ref().getSettings().checkDeclaredViews());
                 if (p >= 0) {
                     return x.getView(p).asBoolVar().not();
@@ -363,6 +459,17 @@ public interface IViewFactory extends ISelf<Model> {
             return ref().boolVar(false);
         } else {
             if (ref().getSettings().enableViews()) {
+                if (isAffineView(x)) {
+                    int[] ab = {1, 0};
+                    IntVar y = affineBase(x, ab);
+                    if (y != x) {
+                        // a.y + b <= c
+                        long q = (long) c - ab[1];
+                        return ab[0] > 0 ?
+                                intLeView(y, (int) Math.floorDiv(q, ab[0])) :
+                                intGeView(y, (int) -Math.floorDiv(-q, ab[0]));
+                    }
+                }
                 int p = checkDeclaredView(x, c, BoolLeqView.class, ref().getSettings().checkDeclaredViews());
                 if (p >= 0) {
                     return x.getView(p).asBoolVar();
@@ -391,6 +498,17 @@ public interface IViewFactory extends ISelf<Model> {
             return ref().boolVar(false);
         } else {
             if (ref().getSettings().enableViews()) {
+                if (isAffineView(x)) {
+                    int[] ab = {1, 0};
+                    IntVar y = affineBase(x, ab);
+                    if (y != x) {
+                        // a.y + b >= c
+                        long q = (long) c - ab[1];
+                        return ab[0] > 0 ?
+                                intGeView(y, (int) -Math.floorDiv(-q, ab[0])) :
+                                intLeView(y, (int) Math.floorDiv(q, ab[0]));
+                    }
+                }
                 int p = checkDeclaredView(x, c - 1, BoolLeqView.class, ref().getSettings().checkDeclaredViews());
                 if (p >= 0) {
                     return x.getView(p).asBoolVar().not();
@@ -14,6 +14,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.delta.ISetDelta;
 import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 
 /**
  * A Set Variable is defined by a domain which is a set interval [LB,UB], where:
@@ -103,6 +104,66 @@ public interface SetVar extends Variable {
      */
     boolean remove(int element, ICause cause) throws ContradictionException;
 
+    /**
+     * Adds all elements of <code>elements</code> to the lower bound,
+     * i.e. every solution must include <code>elements</code>.
+     * Implementations are expected to notify propagators once for the whole operation, not once per element.
+     *
+     * @param elements values to add
+     * @param cause cause of values addition
+     * @return true iff at least one element has been added to the lower bound
+     * @throws ContradictionException if an element does not belong to the upper bound
+     */
+    default boolean forceAll(ISet elements, ICause cause) throws ContradictionException {
+        boolean change = false;
+        ISetIterator iter = elements.iterator();
+        while (iter.hasNext()) {
+            change |= force(iter.nextInt(), cause);
+        }
+        return change;
+    }
+
+    /**
+     * Removes all elements of <code>elements</code> from the upper bound,
+     * i.e. the set variable cannot contain any of <code>elements</code> anymore.
+     * Implementations are expected to notify propagators once for the whole operation, not once per element.
+     *
+     * @param elements values to remove
+     * @param cause cause of values removal
+     * @return true iff at least one element has been removed from the upper bound
+     * @throws ContradictionException if an element belongs to the lower bound
+     */
+    default boolean removeAll(ISet elements, ICause cause) throws ContradictionException {
+        boolean change = false;
+        ISetIterator iter = elements.iterator();
+        while (iter.hasNext()) {
+            change |= remove(iter.nextInt(), cause);
+        }
+        return change;
+    }
+
+    /**
+     * Removes from the upper bound all elements which do not belong to <code>elements</code>,
+     * i.e. the set variable must be a subset of <code>elements</code>.
+     * Implementations are expected to notify propagators once for the whole operation, not once per element.
+     *
+     * @param elements values to keep
+     * @param cause cause of values removal
+     * @return true iff at least one element has been removed from the upper bound
+     * @throws ContradictionException if an element of the lower bound does not belong to <code>elements</code>
+     */
+    default boolean retainAll(ISet elements, ICause cause) throws ContradictionException {
+        boolean change = false;
+        ISetIterator iter = getUB().iterator();
+        while (iter.hasNext()) {
+            int j = iter.nextInt();
+            if (!elements.contains(j)) {
+                change |= remove(j, cause);
+            }
+        }
+        return change;
+    }
+
     /**
      * Enforces the set variable to contain exactly the set of integers given in parameter
      *
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables;
 
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
@@ -315,6 +316,19 @@ public interface Variable extends Identity, Comparable<Variable> {
         return getModel().getEnvironment();
     }
 
+    /**
+     * Build a copy of this variable in <i>model</i> and declare it in <i>context</i>,
+     * unless <i>context</i> already knows it.
+     * This method is called when a model is duplicated, see {@link Model#duplicate(String)}.
+     *
+     * @param model   the model being built
+     * @param context the duplication context
+     * @throws org.chocosolver.solver.exception.SolverException if this variable cannot be duplicated
+     */
+    default void duplicate(Model model, DuplicationContext context) {
+        throw DuplicationContext.unsupported(this);
+    }
+
     /**
      * Return a MASK composed of 2 main information: TYPE and KIND.
      * <br/>TYPE is defined in the 3 first bits : VAR ( 1 << 0), CSTE (1 << 1) or VIEW (1 << 2)
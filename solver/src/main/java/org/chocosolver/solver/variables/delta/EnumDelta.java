@@ -13,40 +13,68 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.search.loop.TimeStampedObject;
 
+import java.util.Arrays;
+
 /**
  * A class to store the removed value of an integer variable.
  * <p/>
  * It defines methods to <code>add</code> a value, <code>clear</code> the structure
  * and execute a <code>Procedure</code> for each value stored.
+ * <p/>
+ * Consecutive values removed by the same cause form a batch whose cause is stored once.
  */
 public final class EnumDelta extends TimeStampedObject implements IEnumDelta {
     private static final int SIZE = 32;
 
     private int[] rem;
-    private ICause[] causes;
     private int last;
+    /**
+     * Cause of each batch
+     */
+    private ICause[] causes;
+    /**
+     * Rank of the first value of each batch
+     */
+    private int[] starts;
+    private int batches;
 
     public EnumDelta(IEnvironment environment) {
 		super(environment);
         rem = new int[SIZE];
-        causes = new ICause[SIZE];
+        causes = new ICause[4];
+        starts = new int[4];
     }
 
     private void ensureCapacity() {
         if (last >= rem.length) {
-            int[] tmp = new int[last * 3 / 2 + 1];
-            ICause[] tmpc = new ICause[last * 3 / 2 + 1];
-            System.arraycopy(rem, 0, tmp, 0, last);
-            System.arraycopy(causes, 0, tmpc, 0, last);
-            rem = tmp;
-            causes = tmpc;
+            rem = Arrays.copyOf(rem, last * 3 / 2 + 1);
+        }
+    }
+
+    private void newBatch(ICause cause) {
+        if (batches >= causes.length) {
+            causes = Arrays.copyOf(causes, batches * 3 / 2 + 1);
+            starts = Arrays.copyOf(starts, batches * 3 / 2 + 1);
         }
+        causes[batches] = cause;
+        starts[batches++] = last;
+    }
+
+    @Override
+    public int batchOf(int idx) {
+        // most of the time, the last batch is requested
+        if (idx >= starts[batches - 1]) {
+            return batches - 1;
+        }
+        int b = Arrays.binarySearch(starts, 0, batches, idx);
+        return b >= 0 ? b : -b - 2;
     }
 
 	@Override
     public void lazyClear() {
         if (needReset()) {
 			last = 0;
+			batches = 0;
 			resetStamp();
         }
     }
@@ -61,7 +89,9 @@ public final class EnumDelta extends TimeStampedObject implements IEnumDelta {
     public void add(int value, ICause cause) {
 		lazyClear();
         ensureCapacity();
-        causes[last] = cause;
+        if (batches == 0 || causes[batches - 1] != cause) {
+            newBatch(cause);
+        }
         rem[last++] = value;
     }
 
@@ -72,7 +102,17 @@ public final class EnumDelta extends TimeStampedObject implements IEnumDelta {
 
     @Override
     public ICause getCause(int idx) {
-        return causes[idx];
+        return causes[batchOf(idx)];
+    }
+
+    @Override
+    public int batchEnd(int batch) {
+        return batch + 1 < batches ? starts[batch + 1] : last;
+    }
+
+    @Override
+    public ICause batchCause(int batch) {
+        return causes[batch];
     }
 
     @Override
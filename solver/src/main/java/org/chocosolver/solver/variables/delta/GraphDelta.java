@@ -66,4 +66,19 @@ public class GraphDelta extends TimeStampedObject implements IGraphDelta {
     public ICause getCause(int index, int type) {
         return deltaOfType[type].getCause(index);
     }
+
+    @Override
+    public int batchOf(int index, int type) {
+        return deltaOfType[type].batchOf(index);
+    }
+
+    @Override
+    public int batchEnd(int batch, int type) {
+        return deltaOfType[type].batchEnd(batch);
+    }
+
+    @Override
+    public ICause batchCause(int batch, int type) {
+        return deltaOfType[type].batchCause(batch);
+    }
 }
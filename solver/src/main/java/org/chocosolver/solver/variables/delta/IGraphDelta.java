@@ -32,4 +32,32 @@ public interface IGraphDelta extends IDelta {
     int get(int index, int type);
 
     ICause getCause(int index, int type);
+
+    /**
+     * @param index rank of an element
+     * @param type  type of the element
+     * @return rank of the batch, i.e. consecutive elements with the same cause, containing the index^th element
+     * @see IntDelta#batchOf(int)
+     */
+    default int batchOf(int index, int type) {
+        return index;
+    }
+
+    /**
+     * @param batch rank of a batch
+     * @param type  type of the elements
+     * @return rank of the first element which follows the batch
+     */
+    default int batchEnd(int batch, int type) {
+        return batch + 1;
+    }
+
+    /**
+     * @param batch rank of a batch
+     * @param type  type of the elements
+     * @return cause of the elements of the batch
+     */
+    default ICause batchCause(int batch, int type) {
+        return getCause(batch, type);
+    }
 }
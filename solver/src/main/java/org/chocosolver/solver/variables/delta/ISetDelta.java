@@ -27,4 +27,32 @@ public interface ISetDelta extends IDelta {
 	int get(int index, int lbOrUb);
 
 	ICause getCause(int index, int lbOrUb);
+
+	/**
+	 * @param index  rank of an element
+	 * @param lbOrUb {@link #LB} or {@link #UB}
+	 * @return rank of the batch, i.e. consecutive elements with the same cause, containing the index^th element
+	 * @see IntDelta#batchOf(int)
+	 */
+	default int batchOf(int index, int lbOrUb) {
+		return index;
+	}
+
+	/**
+	 * @param batch  rank of a batch
+	 * @param lbOrUb {@link #LB} or {@link #UB}
+	 * @return rank of the first element which follows the batch
+	 */
+	default int batchEnd(int batch, int lbOrUb) {
+		return batch + 1;
+	}
+
+	/**
+	 * @param batch  rank of a batch
+	 * @param lbOrUb {@link #LB} or {@link #UB}
+	 * @return cause of the elements of the batch
+	 */
+	default ICause batchCause(int batch, int lbOrUb) {
+		return getCause(batch, lbOrUb);
+	}
 }
@@ -35,4 +35,31 @@ public interface IntDelta extends IDelta {
 	 * @throws IndexOutOfBoundsException if idx is out of the bounds
 	 */
 	ICause getCause(int idx) throws IndexOutOfBoundsException;
+
+	/**
+	 * Consecutive elements removed by the same cause form a batch, whose cause is stored once.
+	 * Batches are numbered in order of creation.
+	 *
+	 * @param idx rank of an element
+	 * @return rank of the batch containing the idx^th element
+	 */
+	default int batchOf(int idx) {
+		return idx;
+	}
+
+	/**
+	 * @param batch rank of a batch
+	 * @return rank of the first element which follows the batch
+	 */
+	default int batchEnd(int batch) {
+		return batch + 1;
+	}
+
+	/**
+	 * @param batch rank of a batch
+	 * @return cause of the removal of the elements of the batch
+	 */
+	default ICause batchCause(int batch) {
+		return getCause(batch);
+	}
 }
@@ -13,45 +13,71 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.search.loop.TimeStampedObject;
 
+import java.util.Arrays;
+
 /**
  * A class to store the removed intervals of an integer variable.
  * <p/>
  * It defines methods to <code>add</code> a value, <code>clear</code> the structure
  * and execute a <code>Procedure</code> for each value stored.
+ * <p/>
+ * Consecutive intervals removed by the same cause form a batch whose cause is stored once.
  */
 public final class IntervalDelta extends TimeStampedObject implements IIntervalDelta {
     private static final int SIZE = 32;
 
     private int[] from;
     private int[] to;
-    private ICause[] causes;
     private int last;
+    /**
+     * Cause of each batch
+     */
+    private ICause[] causes;
+    /**
+     * Rank of the first interval of each batch
+     */
+    private int[] starts;
+    private int batches;
 
     public IntervalDelta(IEnvironment environment) {
 		super(environment);
         from = new int[SIZE];
         to = new int[SIZE];
-        causes = new ICause[SIZE];
+        causes = new ICause[4];
+        starts = new int[4];
     }
 
     private void ensureCapacity() {
         if (last >= from.length) {
-            int[] tmp = new int[last * 3 / 2 + 1];
-            System.arraycopy(from, 0, tmp, 0, last);
-            from = tmp;
-            tmp = new int[last * 3 / 2 + 1];
-            System.arraycopy(to, 0, tmp, 0, last);
-            to = tmp;
-            ICause[] tmpc = new ICause[last * 3 / 2 + 1];
-            System.arraycopy(causes, 0, tmpc, 0, last);
-            causes = tmpc;
+            from = Arrays.copyOf(from, last * 3 / 2 + 1);
+            to = Arrays.copyOf(to, last * 3 / 2 + 1);
+        }
+    }
+
+    private void newBatch(ICause cause) {
+        if (batches >= causes.length) {
+            causes = Arrays.copyOf(causes, batches * 3 / 2 + 1);
+            starts = Arrays.copyOf(starts, batches * 3 / 2 + 1);
+        }
+        causes[batches] = cause;
+        starts[batches++] = last;
+    }
+
+    @Override
+    public int batchOf(int idx) {
+        // most of the time, the last batch is requested
+        if (idx >= starts[batches - 1]) {
+            return batches - 1;
         }
+        int b = Arrays.binarySearch(starts, 0, batches, idx);
+        return b >= 0 ? b : -b - 2;
     }
 
 	@Override
     public void lazyClear() {
         if (needReset()) {
 			last = 0;
+			batches = 0;
 			resetStamp();
         }
     }
@@ -60,7 +86,9 @@ public final class IntervalDelta extends TimeStampedObject implements IIntervalD
     public void add(int lb, int ub, ICause cause) {
 		lazyClear();
         ensureCapacity();
-        causes[last] = cause;
+        if (batches == 0 || causes[batches - 1] != cause) {
+            newBatch(cause);
+        }
         from[last] = lb;
         to[last++] = ub;
     }
@@ -77,7 +105,17 @@ public final class IntervalDelta extends TimeStampedObject implements IIntervalD
 
     @Override
     public ICause getCause(int idx) {
-        return causes[idx];
+        return causes[batchOf(idx)];
+    }
+
+    @Override
+    public int batchEnd(int batch) {
+        return batch + 1 < batches ? starts[batch + 1] : last;
+    }
+
+    @Override
+    public ICause batchCause(int batch) {
+        return causes[batch];
     }
 
     @Override
@@ -69,4 +69,19 @@ public class SetDelta extends TimeStampedObject implements ISetDelta {
     public ICause getCause(int index, int kerOrEnv) {
         return delta[kerOrEnv].getCause(index);
     }
+
+	@Override
+    public int batchOf(int index, int kerOrEnv) {
+        return delta[kerOrEnv].batchOf(index);
+    }
+
+	@Override
+    public int batchEnd(int batch, int kerOrEnv) {
+        return delta[kerOrEnv].batchEnd(batch);
+    }
+
+	@Override
+    public ICause batchCause(int batch, int kerOrEnv) {
+        return delta[kerOrEnv].batchCause(batch);
+    }
 }
@@ -70,22 +70,30 @@ public class EnumDeltaMonitor extends TimeStampedObject implements IIntDeltaMoni
     @Override
     public void forEachRemVal(SafeIntProcedure proc) {
         freeze();
-        while (first < last) {
-            if (propagator == Cause.Null || propagator != delta.getCause(first)) {
-                proc.execute(delta.get(first));
+        for (int b = first < last ? delta.batchOf(first) : 0; first < last; b++) {
+            int end = Math.min(delta.batchEnd(b), last);
+            if (propagator == Cause.Null || propagator != delta.batchCause(b)) {
+                for (; first < end; first++) {
+                    proc.execute(delta.get(first));
+                }
+            } else {
+                first = end;
             }
-            first++;
         }
     }
 
     @Override
     public void forEachRemVal(IntProcedure proc) throws ContradictionException {
         freeze();
-        while (first < last) {
-            if (propagator == Cause.Null || propagator != delta.getCause(first)) {
-                proc.execute(delta.get(first));
+        for (int b = first < last ? delta.batchOf(first) : 0; first < last; b++) {
+            int end = Math.min(delta.batchEnd(b), last);
+            if (propagator == Cause.Null || propagator != delta.batchCause(b)) {
+                for (; first < end; first++) {
+                    proc.execute(delta.get(first));
+                }
+            } else {
+                first = end;
             }
-            first++;
         }
     }
 
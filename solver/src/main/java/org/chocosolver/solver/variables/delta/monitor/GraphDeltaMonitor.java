@@ -92,11 +92,15 @@ public class GraphDeltaMonitor extends TimeStampedObject implements IGraphDeltaM
         } else {
             throw new UnsupportedOperationException("The event in parameter should be ADD_NODE or REMOVE_NODE");
         }
-        while (first[type] < last[type]) {
-            if (delta.getCause(first[type], type) != propagator) {
-                proc.execute(delta.get(first[type], type));
+        for (int b = first[type] < last[type] ? delta.batchOf(first[type], type) : 0; first[type] < last[type]; b++) {
+            int end = Math.min(delta.batchEnd(b, type), last[type]);
+            if (delta.batchCause(b, type) != propagator) {
+                for (; first[type] < end; first[type]++) {
+                    proc.execute(delta.get(first[type], type));
+                }
+            } else {
+                first[type] = end;
             }
-            first[type]++;
         }
     }
 
@@ -69,30 +69,38 @@ public class IntervalDeltaMonitor extends TimeStampedObject implements IIntDelta
     @Override
     public void forEachRemVal(SafeIntProcedure proc) {
         freeze();
-        while (first < last) {
-            if (propagator == Cause.Null || propagator != delta.getCause(first)) {
-                int lb = delta.getLB(first);
-                int ub = delta.getUB(first);
-                for (; lb <= ub; lb++) {
-                    proc.execute(lb);
+        for (int b = first < last ? delta.batchOf(first) : 0; first < last; b++) {
+            int end = Math.min(delta.batchEnd(b), last);
+            if (propagator == Cause.Null || propagator != delta.batchCause(b)) {
+                for (; first < end; first++) {
+                    int lb = delta.getLB(first);
+                    int ub = delta.getUB(first);
+                    for (; lb <= ub; lb++) {
+                        proc.execute(lb);
+                    }
                 }
+            } else {
+                first = end;
             }
-            first++;
         }
     }
 
     @Override
     public void forEachRemVal(IntProcedure proc) throws ContradictionException {
         freeze();
-        while (first < last) {
-            if (propagator == Cause.Null || propagator != delta.getCause(first)) {
-                int lb = delta.getLB(first);
-                int ub = delta.getUB(first);
-                for (; lb <= ub; lb++) {
-                    proc.execute(lb);
+        for (int b = first < last ? delta.batchOf(first) : 0; first < last; b++) {
+            int end = Math.min(delta.batchEnd(b), last);
+            if (propagator == Cause.Null || propagator != delta.batchCause(b)) {
+                for (; first < end; first++) {
+                    int lb = delta.getLB(first);
+                    int ub = delta.getUB(first);
+                    for (; lb <= ub; lb++) {
+                        proc.execute(lb);
+                    }
                 }
+            } else {
+                first = end;
             }
-            first++;
         }
     }
 
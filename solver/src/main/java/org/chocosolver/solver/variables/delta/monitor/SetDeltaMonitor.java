@@ -80,11 +80,15 @@ public class SetDeltaMonitor extends TimeStampedObject implements ISetDeltaMonit
         } else {
             throw new UnsupportedOperationException("The event in parameter should be ADD_TO_KER or REMOVE_FROM_ENVELOPE");
         }
-        while (first[x] < last[x]) {
-            if (delta.getCause(first[x], x) != propagator) {
-                proc.execute(delta.get(first[x], x));
+        for (int b = first[x] < last[x] ? delta.batchOf(first[x], x) : 0; first[x] < last[x]; b++) {
+            int end = Math.min(delta.batchEnd(b, x), last[x]);
+            if (delta.batchCause(b, x) != propagator) {
+                for (; first[x] < end; first[x]++) {
+                    proc.execute(delta.get(first[x], x));
+                }
+            } else {
+                first[x] = end;
             }
-            first[x]++;
         }
     }
 }
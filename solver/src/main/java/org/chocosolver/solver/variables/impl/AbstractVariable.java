@@ -546,7 +546,10 @@ public abstract class AbstractVariable implements Variable {
          */
         int[] pindices;
 
+        private final IEnvironment environment;
+
         public BipartiteList(IEnvironment environment) {
+            this.environment = environment;
             this.splitter = environment.makeInt(0);
             this.first = this.last = 0;
             this.capacity = 10;
@@ -590,7 +593,24 @@ public abstract class AbstractVariable implements Variable {
             assert propagators[p] == propagator : "Try to unlink from " + var.getName() + ":\n" + propagator + "but found:\n" + propagators[p];
             assert propagators[p].getVar(idxInProp) == var;
             // Dynamic addition of a propagator may be not considered yet, so the assertion is not correct
-            if (p < splitter.get()) {
+            if (p < splitter.get() && first == 0 && environment.getWorldIndex() == 0) {
+                // at root world, passivation is permanent: the passive part shrinks
+                int sp = splitter.add(-1);
+                propagator.setVIndices(idxInProp, -1);
+                if (p < sp) {
+                    propagators[p] = propagators[sp];
+                    pindices[p] = pindices[sp];
+                    propagators[p].setVIndices(pindices[p], p);
+                }
+                last--;
+                if (sp < last) {
+                    propagators[sp] = propagators[last];
+                    pindices[sp] = pindices[last];
+                    propagators[sp].setVIndices(pindices[sp], sp);
+                }
+                propagators[last] = null;
+                pindices[last] = 0;
+            } else if (p < splitter.get()) {
                 // swap the propagator to remove with the first one
                 propagator.setVIndices(idxInProp, -1);
                 propagators[p] = propagators[first];
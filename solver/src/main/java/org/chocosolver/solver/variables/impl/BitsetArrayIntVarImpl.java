@@ -13,6 +13,7 @@ import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateBitSet;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -935,4 +936,11 @@ public final class BitsetArrayIntVarImpl extends AbstractVariable implements Int
         }
         return this.literal;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new BitsetArrayIntVarImpl(name, stream().toArray(), model));
+        }
+    }
 }
@@ -10,9 +10,12 @@
 package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.delta.IEnumDelta;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -511,4 +514,25 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
         }
         return this.literal;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            BoolVarImpl copy = new BoolVarImpl(name, model);
+            copy.setNot(isNot);
+            if (isInstantiated()) {
+                try {
+                    copy.instantiateTo(getValue(), Cause.Null);
+                } catch (ContradictionException e) {
+                    throw new SolverException("Cannot duplicate " + this);
+                }
+            }
+            context.put(this, copy);
+            if (not != null && context.contains(not)) {
+                BoolVar n = context.get(not);
+                copy._setNot(n);
+                n._setNot(copy);
+            }
+        }
+    }
 }
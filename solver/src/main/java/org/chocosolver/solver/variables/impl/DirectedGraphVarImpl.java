@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.solver.Model;
 import org.chocosolver.util.objects.graphs.DirectedGraph;
@@ -33,4 +34,10 @@ public class DirectedGraphVarImpl extends AbstractGraphVar<DirectedGraph> implem
         super(name, solver, LB, UB);
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new DirectedGraphVarImpl(name, model, LB.duplicate(model), UB.duplicate(model)));
+        }
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.Variable;
@@ -106,4 +107,16 @@ public class FixedBoolVarImpl extends FixedIntVarImpl implements BoolVar {
         return this.literal;
     }
 
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            FixedBoolVarImpl copy = new FixedBoolVarImpl(name, constante, model);
+            context.put(this, copy);
+            if (not != null && context.contains(not)) {
+                BoolVar n = context.get(not);
+                copy._setNot(n);
+                n._setNot(copy);
+            }
+        }
+    }
 }
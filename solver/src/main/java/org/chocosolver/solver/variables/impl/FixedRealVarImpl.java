@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -182,4 +183,11 @@ public class FixedRealVarImpl extends AbstractVariable implements RealVar {
     public void init() {
         // void
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new FixedRealVarImpl(name, lb, ub, model));
+        }
+    }
 }
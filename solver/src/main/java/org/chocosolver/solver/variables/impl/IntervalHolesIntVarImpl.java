@@ -0,0 +1,816 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IIntervalDelta;
+import org.chocosolver.solver.variables.delta.IntervalDelta;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.IntervalDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.solver.variables.impl.siglit.SignedLiteral;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Iterator;
+
+/**
+ * <br/>Enumerated IntVar implementation for very large domains with few holes,
+ * e.g. time points over a long horizon.
+ * <p>
+ * The domain is stored as an interval [LB, UB] and a set of holes, that is, the values removed from inside the bounds.
+ * The set of holes is only created on the first removal of a value strictly between the bounds,
+ * so a variable whose bounds only are modified costs as much as an {@link IntervalIntVarImpl}.
+ * Holes are stored as ranges and restored on backtrack by undo operations.
+ * Values removed from the domain are recorded as ranges too.
+ *
+ * @since 19/10/2026
+ */
+public final class IntervalHolesIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Lower bound of the current domain
+     */
+    private final IStateInt LB;
+    /**
+     * Upper bound of the current domain
+     */
+    private final IStateInt UB;
+    /**
+     * Current size of domain
+     */
+    private final IStateInt SIZE;
+    /**
+     * Values removed from the domain, created lazily.
+     * May also contain values out of [LB, UB], but never LB nor UB.
+     */
+    private IntIterableRangeSet holes;
+    /**
+     * To iterate over removed values
+     */
+    private IIntervalDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    /**
+     * Signed Literal
+     */
+    protected SignedLiteral.Set literal;
+
+    /**
+     * Create an enumerated IntVar : [min,max]
+     *
+     * @param name  name of the variable
+     * @param min   lower bound
+     * @param max   upper bound
+     * @param model declaring model
+     */
+    public IntervalHolesIntVarImpl(String name, int min, int max, Model model) {
+        super(name, model);
+        IEnvironment env = model.getEnvironment();
+        this.LB = env.makeInt(min);
+        this.UB = env.makeInt(max);
+        this.SIZE = env.makeInt(max - min + 1);
+    }
+
+    /**
+     * Create an enumerated IntVar
+     *
+     * @param name         name of the variable
+     * @param sortedValues original domain values, sorted and without duplicates
+     * @param model        declaring model
+     */
+    public IntervalHolesIntVarImpl(String name, int[] sortedValues, Model model) {
+        this(name, sortedValues[0], sortedValues[sortedValues.length - 1], model);
+        for (int i = 1; i < sortedValues.length; i++) {
+            if (sortedValues[i - 1] + 1 < sortedValues[i]) {
+                if (holes == null) {
+                    holes = new IntIterableRangeSet();
+                }
+                holes.addBetween(sortedValues[i - 1] + 1, sortedValues[i] - 1);
+            }
+        }
+        this.SIZE.set(sortedValues.length);
+    }
+
+    /**
+     * Create an enumerated IntVar : [min,max] without the values of <i>holes</i>
+     *
+     * @param name  name of the variable
+     * @param min   lower bound
+     * @param max   upper bound
+     * @param holes values removed from [min,max], copied, may be <i>null</i>
+     * @param model declaring model
+     */
+    public IntervalHolesIntVarImpl(String name, int min, int max, IntIterableRangeSet holes, Model model) {
+        this(name, min, max, model);
+        if (holes != null && holes.size() > 0) {
+            IntIterableRangeSet inside = holes.duplicate();
+            inside.retainBetween(min, max);
+            if (inside.size() > 0) {
+                this.holes = inside;
+                this.SIZE.add(-inside.size());
+            }
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @param value a value
+     * @return the smallest value greater or equal to <i>value</i> which is not a hole
+     */
+    private int skipHolesUp(int value) {
+        return holes != null && holes.contains(value) ? holes.nextValueOut(value) : value;
+    }
+
+    /**
+     * @param value a value
+     * @return the greatest value smaller or equal to <i>value</i> which is not a hole
+     */
+    private int skipHolesDown(int value) {
+        return holes != null && holes.contains(value) ? holes.previousValueOut(value) : value;
+    }
+
+    /**
+     * Iterates over the ranges of values of the domain included in [<i>from</i>, <i>to</i>],
+     * which must be included in the current bounds, and records them in the delta.
+     * When <i>dig</i> is set, these values are also turned into holes.
+     * Neither the bounds nor the size of the domain are modified.
+     *
+     * @return the number of values of the domain in [<i>from</i>, <i>to</i>]
+     */
+    private int removeBetween(int from, int to, boolean dig, ICause cause) {
+        int count = 0;
+        int a = skipHolesUp(from);
+        while (a <= to) {
+            int b = holes == null ? to : Math.min(to, holes.nextValue(a) - 1);
+            count += b - a + 1;
+            if (reactOnRemoval) {
+                delta.add(a, b, cause);
+            }
+            if (dig) {
+                model.getSolver().getEventObserver().removeInterval(this, a, b, cause);
+                dig(a, b);
+            }
+            if (b == to) {
+                break;
+            }
+            a = skipHolesUp(b + 1);
+        }
+        return count;
+    }
+
+    /**
+     * Adds [<i>from</i>, <i>to</i>], which contains no hole, to the holes and records how to undo it
+     */
+    private void dig(int from, int to) {
+        if (holes == null) {
+            holes = new IntIterableRangeSet();
+        }
+        holes.addBetween(from, to);
+        model.getEnvironment().save(() -> holes.removeBetween(from, to));
+    }
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean change = contains(value);
+        if (change) {
+            model.getSolver().getEventObserver().removeValue(this, value, cause);
+            if (SIZE.get() == 1) {
+                this.contradiction(cause, MSG_REMOVE);
+            }
+            IntEventType e = IntEventType.REMOVE;
+            this.SIZE.add(-1);
+            if (reactOnRemoval) {
+                delta.add(value, value, cause);
+            }
+            if (value == getLB()) {
+                LB.set(skipHolesUp(value + 1));
+                e = IntEventType.INCLOW;
+            } else if (value == getUB()) {
+                UB.set(skipHolesDown(value - 1));
+                e = IntEventType.DECUPP;
+            } else {
+                dig(value, value);
+            }
+            if (this.isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+        }
+        return change;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        // look for the new lb
+        int nlb = olb;
+        while (nlb <= oub && values.contains(nlb)) {
+            nlb = nextValue(values.nextValueOut(nlb) - 1);
+        }
+        // look for the new ub
+        int nub = oub;
+        while (nub >= nlb && values.contains(nub)) {
+            nub = previousValue(values.previousValueOut(nub) + 1);
+        }
+        // the new bounds are now known, delegate to the right method
+        boolean hasChanged = updateBounds(nlb, nub, cause);
+        // now deal with holes
+        int count = 0;
+        int value = values.nextValue(nlb);
+        while (value < nub) {
+            int to = Math.min(values.nextValueOut(value) - 1, nub - 1);
+            count += removeBetween(value, to, true, cause);
+            value = values.nextValue(to);
+        }
+        if (count > 0) {
+            SIZE.add(-count);
+            this.notifyPropagators(IntEventType.REMOVE, cause);
+        }
+        return count > 0 || hasChanged;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        // look for the new lb
+        int nlb = olb;
+        while (nlb <= oub && !values.contains(nlb)) {
+            nlb = nextValue(values.nextValue(nlb) - 1);
+        }
+        // look for the new ub
+        int nub = oub;
+        while (nub >= nlb && !values.contains(nub)) {
+            nub = previousValue(values.previousValue(nub) + 1);
+        }
+        // the new bounds are now known, delegate to the right method
+        boolean hasChanged = updateBounds(nlb, nub, cause);
+        // now deal with holes
+        int count = 0;
+        int m0 = values.nextValueOut(nlb);
+        while (m0 < nub) {
+            int m1 = Math.min(values.nextValue(m0) - 1, nub - 1);
+            count += removeBetween(m0, m1, true, cause);
+            m0 = values.nextValueOut(m1 + 1);
+        }
+        if (count > 0) {
+            SIZE.add(-count);
+            this.notifyPropagators(IntEventType.REMOVE, cause);
+        }
+        return count > 0 || hasChanged;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB()) {
+            return updateLowerBound(to + 1, cause);
+        } else if (getUB() <= to) {
+            return updateUpperBound(from - 1, cause);
+        } else {
+            int count = removeBetween(from, to, true, cause);
+            if (count > 0) {
+                SIZE.add(-count);
+                this.notifyPropagators(IntEventType.REMOVE, cause);
+            }
+            return count > 0;
+        }
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            if (reactOnRemoval) {
+                removeBetween(getLB(), value - 1, false, cause);
+                removeBetween(value + 1, getUB(), false, cause);
+            }
+            this.LB.set(value);
+            this.UB.set(value);
+            this.SIZE.set(1);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            model.getSolver().getEventObserver().updateLowerBound(this, value, old, cause);
+            int oub = this.getUB();
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                IntEventType e = IntEventType.INCLOW;
+                SIZE.add(-removeBetween(old, value - 1, false, cause));
+                LB.set(skipHolesUp(value));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getUB();
+        if (old > value) {
+            model.getSolver().getEventObserver().updateUpperBound(this, value, old, cause);
+            int olb = this.getLB();
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                IntEventType e = IntEventType.DECUPP;
+                SIZE.add(-removeBetween(value + 1, old, false, cause));
+                UB.set(skipHolesDown(value));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || ub < oub) {
+            IntEventType e = null;
+            int d = 0;
+            if (oub < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                e = IntEventType.INCLOW;
+                d += removeBetween(olb, lb - 1, false, cause);
+                olb = skipHolesUp(lb); // olb is used as a temporary variable
+                LB.set(olb);
+            }
+            if (olb > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                d += removeBetween(ub + 1, oub, false, cause);
+                UB.set(skipHolesDown(ub));
+            }
+            SIZE.add(-d);
+            if (isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        return LB.get() <= aValue && aValue <= UB.get() && (holes == null || !holes.contains(aValue));
+    }
+
+    /**
+     * Retrieves the current value of the variable if instantiated, otherwier the lower bound.
+     *
+     * @return the current value (or lower bound if not yet instantiated).
+     */
+    @Override
+    public int getValue() {
+        assert isInstantiated() : name + " not instantiated";
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return this.LB.get();
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return this.UB.get();
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        int lb = LB.get();
+        if (aValue < lb) {
+            return lb;
+        } else if (aValue < UB.get()) {
+            return holes == null ? aValue + 1 : holes.nextValueOut(aValue);
+        } else {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public int nextValueOut(int v) {
+        int ub = UB.get();
+        if (LB.get() - 1 <= v && v <= ub) {
+            return holes == null ? ub + 1 : Math.min(holes.nextValue(v), ub + 1);
+        } else {
+            return v + 1;
+        }
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        int ub = UB.get();
+        if (aValue > ub) {
+            return ub;
+        } else if (aValue > LB.get()) {
+            return holes == null ? aValue - 1 : holes.previousValueOut(aValue);
+        } else {
+            return Integer.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public int previousValueOut(int v) {
+        int lb = LB.get();
+        if (lb <= v && v <= UB.get() + 1) {
+            return holes == null ? lb - 1 : Math.max(holes.previousValue(v), lb - 1);
+        } else {
+            return v - 1;
+        }
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IIntervalDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            int v = getLB(), w;
+            s.append('{').append(v);
+            w = nextValueOut(v);
+            if (v < w - 1) s.append("..").append(w - 1);
+            v = nextValue(w);
+            while (v < Integer.MAX_VALUE) {
+                s.append(",").append(v);
+                w = nextValueOut(v);
+                if (v < w - 1) s.append("..").append(w - 1);
+                v = nextValue(w);
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new IntervalDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new IntervalDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Current value
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.value = getLB();
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.value = getUB();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.value != Integer.MAX_VALUE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.value != Integer.MIN_VALUE;
+                }
+
+                @Override
+                public int next() {
+                    int old = this.value;
+                    this.value = nextValue(old);
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.value;
+                    this.value = previousValue(old);
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Lower bound of the current range
+                 */
+                int from;
+                /**
+                 * Upper bound of the current range
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.from = getLB();
+                    this.to = nextValueOut(from) - 1;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.to = getUB();
+                    this.from = previousValueOut(to) + 1;
+                }
+
+                public boolean hasNext() {
+                    return this.from != Integer.MAX_VALUE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.to != Integer.MIN_VALUE;
+                }
+
+                public void next() {
+                    this.from = nextValue(this.to);
+                    if (this.from != Integer.MAX_VALUE) {
+                        this.to = nextValueOut(this.from) - 1;
+                    }
+                }
+
+                @Override
+                public void previous() {
+                    this.to = previousValue(this.from);
+                    if (this.to != Integer.MIN_VALUE) {
+                        this.from = previousValueOut(this.to) + 1;
+                    }
+                }
+
+                @Override
+                public int min() {
+                    return from;
+                }
+
+                @Override
+                public int max() {
+                    return to;
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+
+    @Override
+    public void createLit(IntIterableRangeSet rootDomain) {
+        if (this.literal != null) {
+            throw new IllegalStateException("createLit(Implications) called twice");
+        }
+        this.literal = new SignedLiteral.Set(rootDomain);
+    }
+
+    @Override
+    public SignedLiteral getLit() {
+        if (this.literal == null) {
+            throw new NullPointerException("getLit() called on null, a call to createLit(Implications) is required");
+        }
+        return this.literal;
+    }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new IntervalHolesIntVarImpl(name, getLB(), getUB(), holes, model));
+        }
+    }
+}
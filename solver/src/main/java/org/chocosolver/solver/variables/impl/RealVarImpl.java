@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.memory.IStateDouble;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -214,4 +215,11 @@ public class RealVarImpl extends AbstractVariable implements RealVar {
     public void init() {
         // void
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new RealVarImpl(name, LB.get(), UB.get(), precision, model));
+        }
+    }
 }
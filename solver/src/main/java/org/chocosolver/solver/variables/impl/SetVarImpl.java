@@ -11,6 +11,7 @@ package org.chocosolver.solver.variables.impl;
 
 import gnu.trove.set.hash.TIntHashSet;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
@@ -26,9 +27,11 @@ import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.solver.variables.impl.scheduler.SetEvtScheduler;
 import org.chocosolver.util.iterators.EvtScheduler;
 import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.chocosolver.util.objects.setDataStructures.Set_ReadOnly;
+import org.chocosolver.util.objects.setDataStructures.bitset.Set_Std_BitSet;
 
 /**
  * Set variable to represent a set of integers, i.e. a value is a set
@@ -226,6 +229,197 @@ public class SetVarImpl extends AbstractVariable implements SetVar {
         return false;
     }
 
+    @Override
+    public boolean forceAll(ISet elements, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (lb instanceof Set_Std_BitSet && ub.hasWords() && elements.hasWords() && !elements.isEmpty()
+                && elements.min() >= ((Set_Std_BitSet) lb).getOffset()) {
+            return forceAllWords((Set_Std_BitSet) lb, elements, cause);
+        }
+        boolean change = false;
+        ISetIterator iter = elements.iterator();
+        while (iter.hasNext()) {
+            int element = iter.nextInt();
+            if (!ub.contains(element)) {
+                contradiction(cause, "");
+            }
+            if (lb.add(element)) {
+                change = true;
+                if (reactOnModification) {
+                    delta.add(element, SetDelta.LB, cause);
+                }
+            }
+        }
+        if (change) {
+            notifyPropagators(SetEventType.ADD_TO_KER, cause);
+        }
+        return change;
+    }
+
+    @Override
+    public boolean removeAll(ISet elements, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (ub instanceof Set_Std_BitSet && lb.hasWords() && elements.hasWords()) {
+            return removeAllWords((Set_Std_BitSet) ub, elements, cause);
+        }
+        boolean change = false;
+        ISetIterator iter = elements.iterator();
+        while (iter.hasNext()) {
+            change |= removeSilently(iter.nextInt(), cause);
+        }
+        if (change) {
+            notifyPropagators(SetEventType.REMOVE_FROM_ENVELOPE, cause);
+        }
+        return change;
+    }
+
+    @Override
+    public boolean retainAll(ISet elements, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (ub instanceof Set_Std_BitSet && lb.hasWords() && elements.hasWords()) {
+            return retainAllWords((Set_Std_BitSet) ub, elements, cause);
+        }
+        boolean change = false;
+        ISetIterator iter = ub.iterator();
+        while (iter.hasNext()) {
+            int element = iter.nextInt();
+            if (!elements.contains(element)) {
+                change |= removeSilently(element, cause);
+            }
+        }
+        if (change) {
+            notifyPropagators(SetEventType.REMOVE_FROM_ENVELOPE, cause);
+        }
+        return change;
+    }
+
+    /**
+     * {@link #forceAll(ISet, ICause)} a machine word at a time, when the kernel is a bitset
+     * and no element is smaller than its offset
+     */
+    private boolean forceAllWords(Set_Std_BitSet ker, ISet elements, ICause cause) throws ContradictionException {
+        int first = wordIndex(ker, elements.min());
+        int last = wordIndex(ker, elements.max());
+        for (int i = first; i <= last; i++) {
+            int from = ker.getOffset() + 64 * i;
+            if ((elements.word(from) & ~ub.word(from)) != 0) {
+                contradiction(cause, "");
+            }
+        }
+        boolean change = false;
+        for (int i = first; i <= last; i++) {
+            int from = ker.getOffset() + 64 * i;
+            long added = ker.setWord(i, ker.word(from) | elements.word(from));
+            if (added != 0) {
+                change = true;
+                record(added, from, SetDelta.LB, cause);
+            }
+        }
+        if (change) {
+            notifyPropagators(SetEventType.ADD_TO_KER, cause);
+        }
+        return change;
+    }
+
+    /**
+     * {@link #removeAll(ISet, ICause)} a machine word at a time, when the envelope is a bitset
+     */
+    private boolean removeAllWords(Set_Std_BitSet env, ISet elements, ICause cause) throws ContradictionException {
+        if (env.isEmpty() || elements.isEmpty()) {
+            return false;
+        }
+        int min = Math.max(env.min(), elements.min());
+        int max = Math.min(env.max(), elements.max());
+        if (min > max) {
+            return false;
+        }
+        int first = wordIndex(env, min);
+        int last = wordIndex(env, max);
+        for (int i = first; i <= last; i++) {
+            int from = env.getOffset() + 64 * i;
+            if ((elements.word(from) & lb.word(from)) != 0) {
+                contradiction(cause, "");
+            }
+        }
+        boolean change = false;
+        for (int i = first; i <= last; i++) {
+            int from = env.getOffset() + 64 * i;
+            long removed = env.setWord(i, env.word(from) & ~elements.word(from));
+            if (removed != 0) {
+                change = true;
+                record(removed, from, SetDelta.UB, cause);
+            }
+        }
+        if (change) {
+            notifyPropagators(SetEventType.REMOVE_FROM_ENVELOPE, cause);
+        }
+        return change;
+    }
+
+    /**
+     * {@link #retainAll(ISet, ICause)} a machine word at a time, when the envelope is a bitset
+     */
+    private boolean retainAllWords(Set_Std_BitSet env, ISet elements, ICause cause) throws ContradictionException {
+        if (env.isEmpty()) {
+            return false;
+        }
+        int first = wordIndex(env, env.min());
+        int last = wordIndex(env, env.max());
+        for (int i = first; i <= last; i++) {
+            int from = env.getOffset() + 64 * i;
+            if ((lb.word(from) & ~elements.word(from)) != 0) {
+                contradiction(cause, "");
+            }
+        }
+        boolean change = false;
+        for (int i = first; i <= last; i++) {
+            int from = env.getOffset() + 64 * i;
+            long removed = env.setWord(i, env.word(from) & elements.word(from));
+            if (removed != 0) {
+                change = true;
+                record(removed, from, SetDelta.UB, cause);
+            }
+        }
+        if (change) {
+            notifyPropagators(SetEventType.REMOVE_FROM_ENVELOPE, cause);
+        }
+        return change;
+    }
+
+    /**
+     * @return index of the word of <i>set</i> holding <i>element</i>, which is not smaller than its offset
+     */
+    private static int wordIndex(Set_Std_BitSet set, int element) {
+        return (int) (((long) element - set.getOffset()) >> 6);
+    }
+
+    /**
+     * Records in the delta the elements of a word whose bit k stands for from + k
+     */
+    private void record(long bits, int from, int kind, ICause cause) {
+        if (reactOnModification) {
+            for (long b = bits; b != 0; b &= b - 1) {
+                delta.add(from + Long.numberOfTrailingZeros(b), kind, cause);
+            }
+        }
+    }
+
+    /**
+     * Removes element from the upper bound and records it in the delta, without notifying propagators
+     */
+    private boolean removeSilently(int element, ICause cause) throws ContradictionException {
+        if (lb.contains(element)) {
+            contradiction(cause, "");
+        }
+        if (ub.remove(element)) {
+            if (reactOnModification) {
+                delta.add(element, SetDelta.UB, cause);
+            }
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public boolean instantiateTo(int[] value, ICause cause) throws ContradictionException {
         boolean changed = !isInstantiated();
@@ -282,4 +476,19 @@ public class SetVarImpl extends AbstractVariable implements SetVar {
             delta = new SetDelta(model.getEnvironment());
         }
     }
+
+	@Override
+	public void duplicate(Model model, DuplicationContext context) {
+		if (!context.contains(this)) {
+			SetVarImpl copy;
+			if (lb == ub) {
+				copy = new SetVarImpl(name, lb.toArray(), model);
+			} else {
+				copy = new SetVarImpl(name, lb.toArray(), lb.getSetType(), ub.toArray(), ub.getSetType(), model);
+			}
+			context.put(this, copy);
+			// the constraint linking them is duplicated with the other constraints
+			copy.cardinality = context.get(cardinality);
+		}
+	}
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.solver.variables.delta.GraphDelta;
 import org.chocosolver.solver.ICause;
@@ -63,4 +64,11 @@ public class UndirectedGraphVarImpl extends AbstractGraphVar<UndirectedGraph> im
         }
         return false;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new UndirectedGraphVarImpl(name, model, LB.duplicate(model), UB.duplicate(model)));
+        }
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -92,4 +93,11 @@ public class UndirectedNodeInducedGraphVarImpl extends UndirectedGraphVarImpl im
         }
         return true;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new UndirectedNodeInducedGraphVarImpl(name, model, LB.duplicate(model), UB.duplicate(model)));
+        }
+    }
 }
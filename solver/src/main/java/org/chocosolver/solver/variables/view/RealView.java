@@ -10,7 +10,9 @@
 package org.chocosolver.solver.variables.view;
 
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -186,31 +188,36 @@ public class RealView<I extends IntVar> extends AbstractView<I> implements RealV
 
     @Override
     public void tighten() {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
     }
 
     @Override
     public void project(ICause cause) throws ContradictionException {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
     }
 
     @Override
     public void collectVariables(TreeSet<RealVar> set) {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
+        set.add(this);
     }
 
     @Override
     public void subExps(List<CArExpression> list) {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
+        list.add(this);
     }
 
     @Override
     public boolean isolate(RealVar var, List<CArExpression> wx, List<CArExpression> wox) {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
+        return var == this;
     }
 
     @Override
     public void init() {
-        throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
+        // void
+    }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new RealView<>(context.get(var), precision));
+        }
     }
 }
@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.bool;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
@@ -227,4 +229,11 @@ public final class BoolEqView<I extends IntVar> extends BoolIntView<I> {
             }
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new BoolEqView<>(context.get(var), cste));
+        }
+    }
 }
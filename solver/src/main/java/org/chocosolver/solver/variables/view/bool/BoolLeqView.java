@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.bool;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
@@ -225,5 +227,10 @@ public final class BoolLeqView<I extends IntVar> extends BoolIntView {
         }
     }
 
-
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new BoolLeqView<>(context.get(var), cste));
+        }
+    }
 }
@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.bool;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.BoolVar;
@@ -300,4 +302,14 @@ public final class BoolNotView<B extends BoolVar> extends IntView<B> implements
         }
         return this.literal;
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            B v = context.get(var);
+            BoolNotView<B> copy = new BoolNotView<>(v);
+            context.put(this, copy);
+            v._setNot(copy);
+        }
+    }
 }
@@ -10,7 +10,9 @@
 package org.chocosolver.solver.variables.view.bool;
 
 import org.chocosolver.memory.IStateBool;
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.BoolVar;
@@ -440,4 +442,13 @@ public class BoolSetView<S extends SetVar> extends AbstractView<S> implements Bo
     public void explain(int p, ExplanationForSignedClause explanation) {
         throw new UnsupportedOperationException("Bool view over set variables does not support explanations");
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            BoolSetView<S> copy = new BoolSetView<>(v, context.get(setVar));
+            copy.setNot(isNot);
+            context.put(this, copy);
+        }
+    }
 }
@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.graph.directed;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.solver.variables.delta.IGraphDeltaMonitor;
@@ -172,4 +174,11 @@ public class DirectedGraphUnionView extends DirectedGraphView<DirectedGraphVar>
         }
         return new GraphUnionViewDeltaMonitor(this, deltaMonitors);
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new DirectedGraphUnionView(name, context.get(variables)));
+        }
+    }
 }
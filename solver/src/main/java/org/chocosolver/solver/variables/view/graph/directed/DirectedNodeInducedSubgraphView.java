@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.graph.directed;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.solver.variables.delta.IGraphDeltaMonitor;
@@ -20,6 +22,7 @@ import org.chocosolver.solver.variables.view.graph.DirectedGraphView;
 import org.chocosolver.util.objects.graphs.DirectedGraph;
 import org.chocosolver.util.objects.graphs.GraphFactory;
 import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.procedure.PairProcedure;
 
@@ -134,4 +137,11 @@ public class DirectedNodeInducedSubgraphView extends DirectedGraphView<DirectedG
             }
         };
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new DirectedNodeInducedSubgraphView(name, context.get(graphVar), SetFactory.makeConstantSet(nodes.toArray()), exclude));
+        }
+    }
 }
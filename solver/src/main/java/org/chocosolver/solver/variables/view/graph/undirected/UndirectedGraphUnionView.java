@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.graph.undirected;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.solver.variables.delta.IGraphDeltaMonitor;
@@ -171,4 +173,11 @@ public class UndirectedGraphUnionView extends UndirectedGraphView<UndirectedGrap
         }
         return new GraphUnionViewDeltaMonitor(this, deltaMonitors);
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new UndirectedGraphUnionView(name, context.get(variables)));
+        }
+    }
 }
@@ -0,0 +1,489 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.view.integer;
+
+import org.chocosolver.solver.DuplicationContext;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.solver.variables.view.IntView;
+import org.chocosolver.solver.variables.view.ViewDeltaMonitor;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+
+import static org.chocosolver.solver.variables.events.IntEventType.DECUPP;
+import static org.chocosolver.solver.variables.events.IntEventType.INCLOW;
+
+/**
+ * declare an IntVar based on X, A and B, such as A * X + B, with A &ne; 0.
+ * <p>
+ * This view is the canonical form of a stack of offset, scale and minus views:
+ * {@link org.chocosolver.solver.variables.IViewFactory} flattens such stacks into a single view
+ * over the base variable, so that each operation and each event goes through one hop only.
+ *
+ * @since 19/10/2026
+ */
+public final class IntAffineView<I extends IntVar> extends IntView<I> {
+
+    /**
+     * Coefficient of the variable, not null
+     */
+    public final int a;
+    /**
+     * Constant term
+     */
+    public final int b;
+
+    /**
+     * Create a <i>a<i/> &times; <i>var<i/> + <i>b</i> view
+     *
+     * @param var a variable
+     * @param a   a non-null coefficient
+     * @param b   a constant
+     */
+    public IntAffineView(final I var, final int a, final int b) {
+        super("(" + a + "*" + var.getName() + (b >= 0 ? "+" : "-") + Math.abs(b) + ")", var);
+        assert a != 0 : "view coefficient must be != 0";
+        this.a = a;
+        this.b = b;
+    }
+
+    /**
+     * @param x a value of the variable
+     * @return the corresponding value of the view
+     */
+    private int fromVar(int x) {
+        return a * x + b;
+    }
+
+    /**
+     * @param v a value of the view
+     * @return <i>true</i> if <i>v</i> is the image of an integer
+     */
+    private boolean isImage(int v) {
+        return ((long) v - b) % a == 0;
+    }
+
+    /**
+     * @param v a value of the view such that {@link #isImage(int)} holds
+     * @return its antecedent
+     */
+    private int toVar(int v) {
+        return (int) (((long) v - b) / a);
+    }
+
+    /**
+     * @param v a value of the view
+     * @return &lfloor;(v - b) / a&rfloor;, bounded to int
+     */
+    private int floorToVar(int v) {
+        return clamp(Math.floorDiv((long) v - b, a));
+    }
+
+    /**
+     * @param v a value of the view
+     * @return &lceil;(v - b) / a&rceil;, bounded to int
+     */
+    private int ceilToVar(int v) {
+        return clamp(-Math.floorDiv(b - (long) v, a));
+    }
+
+    private static int clamp(long v) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v));
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        var.createDelta();
+        if (var.getDelta() == NoDelta.singleton) {
+            return IIntDeltaMonitor.Default.NONE;
+        }
+        return new ViewDeltaMonitor(var.monitorDelta(propagator)) {
+            @Override
+            protected int transform(int value) {
+                return fromVar(value);
+            }
+        };
+    }
+
+    @Override
+    protected boolean doInstantiateVar(int value) throws ContradictionException {
+        if (!isImage(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, this, getLB(), getUB());
+            this.contradiction(this, MSG_INST);
+        }
+        return var.instantiateTo(toVar(value), this);
+    }
+
+    @Override
+    protected boolean doUpdateLowerBoundOfVar(int value) throws ContradictionException {
+        if (a > 0) {
+            return var.updateLowerBound(ceilToVar(value), this);
+        } else {
+            return var.updateUpperBound(floorToVar(value), this);
+        }
+    }
+
+    @Override
+    protected boolean doUpdateUpperBoundOfVar(int value) throws ContradictionException {
+        if (a > 0) {
+            return var.updateUpperBound(floorToVar(value), this);
+        } else {
+            return var.updateLowerBound(ceilToVar(value), this);
+        }
+    }
+
+    @Override
+    protected boolean doRemoveValueFromVar(int value) throws ContradictionException {
+        return isImage(value) && var.removeValue(toVar(value), this);
+    }
+
+    @Override
+    protected boolean doRemoveIntervalFromVar(int from, int to) throws ContradictionException {
+        if (a > 0) {
+            return var.removeInterval(ceilToVar(from), floorToVar(to), this);
+        } else {
+            return var.removeInterval(ceilToVar(to), floorToVar(from), this);
+        }
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return isImage(value) && var.contains(toVar(value));
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isImage(value) && var.isInstantiatedTo(toVar(value));
+    }
+
+    @Override
+    public int getValue() {
+        return fromVar(var.getValue());
+    }
+
+    @Override
+    public int getLB() {
+        return a > 0 ? fromVar(var.getLB()) : fromVar(var.getUB());
+    }
+
+    @Override
+    public int getUB() {
+        return a > 0 ? fromVar(var.getUB()) : fromVar(var.getLB());
+    }
+
+    @Override
+    public int nextValue(int v) {
+        if (a > 0) {
+            int value = var.nextValue(floorToVar(v));
+            return value == Integer.MAX_VALUE ? Integer.MAX_VALUE : fromVar(value);
+        } else {
+            int value = var.previousValue(ceilToVar(v));
+            return value == Integer.MIN_VALUE ? Integer.MAX_VALUE : fromVar(value);
+        }
+    }
+
+    @Override
+    public int nextValueOut(int v) {
+        if (a == 1) {
+            return var.nextValueOut(v - b) + b;
+        } else if (a == -1) {
+            return b - var.previousValueOut(b - v);
+        }
+        // the values of the view are not consecutive
+        if (contains(++v)) {
+            v++;
+        }
+        return v;
+    }
+
+    @Override
+    public int previousValue(int v) {
+        if (a > 0) {
+            int value = var.previousValue(ceilToVar(v));
+            return value == Integer.MIN_VALUE ? Integer.MIN_VALUE : fromVar(value);
+        } else {
+            int value = var.nextValue(floorToVar(v));
+            return value == Integer.MAX_VALUE ? Integer.MIN_VALUE : fromVar(value);
+        }
+    }
+
+    @Override
+    public int previousValueOut(int v) {
+        if (a == 1) {
+            return var.previousValueOut(v - b) + b;
+        } else if (a == -1) {
+            return b - var.nextValueOut(b - v);
+        }
+        // the values of the view are not consecutive
+        if (contains(--v)) {
+            v--;
+        }
+        return v;
+    }
+
+    @Override
+    protected EvtScheduler createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.a + " * " + this.var.toString() + " + " + this.b + ") = [" + getLB() + "," + getUB() + "]";
+    }
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                DisposableValueIterator vit;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    vit = var.getValueIterator(a > 0);
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    vit = var.getValueIterator(a < 0);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return a > 0 ? vit.hasNext() : vit.hasPrevious();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return a > 0 ? vit.hasPrevious() : vit.hasNext();
+                }
+
+                @Override
+                public int next() {
+                    return fromVar(a > 0 ? vit.next() : vit.previous());
+                }
+
+                @Override
+                public int previous() {
+                    return fromVar(a > 0 ? vit.previous() : vit.next());
+                }
+
+                @Override
+                public void dispose() {
+                    super.dispose();
+                    vit.dispose();
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            if (Math.abs(a) == 1) {
+                _riterator = new DisposableRangeIterator() {
+
+                    DisposableRangeIterator vir;
+
+                    @Override
+                    public void bottomUpInit() {
+                        super.bottomUpInit();
+                        vir = var.getRangeIterator(a > 0);
+                    }
+
+                    @Override
+                    public void topDownInit() {
+                        super.topDownInit();
+                        vir = var.getRangeIterator(a < 0);
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return a > 0 ? vir.hasNext() : vir.hasPrevious();
+                    }
+
+                    @Override
+                    public boolean hasPrevious() {
+                        return a > 0 ? vir.hasPrevious() : vir.hasNext();
+                    }
+
+                    @Override
+                    public void next() {
+                        if (a > 0) {
+                            vir.next();
+                        } else {
+                            vir.previous();
+                        }
+                    }
+
+                    @Override
+                    public void previous() {
+                        if (a > 0) {
+                            vir.previous();
+                        } else {
+                            vir.next();
+                        }
+                    }
+
+                    @Override
+                    public int min() {
+                        return a > 0 ? fromVar(vir.min()) : fromVar(vir.max());
+                    }
+
+                    @Override
+                    public int max() {
+                        return a > 0 ? fromVar(vir.max()) : fromVar(vir.min());
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.dispose();
+                        vir.dispose();
+                    }
+                };
+            } else {
+                // |a| > 1, so no range anymore!
+                _riterator = new DisposableRangeIterator() {
+
+                    DisposableValueIterator vit;
+                    int min, max;
+
+                    @Override
+                    public void bottomUpInit() {
+                        vit = getValueIterator(true);
+                        if (vit.hasNext()) {
+                            min = vit.next();
+                        }
+                        max = min;
+                    }
+
+                    @Override
+                    public void topDownInit() {
+                        vit = getValueIterator(false);
+                        if (vit.hasPrevious()) {
+                            max = vit.previous();
+                        }
+                        min = max;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return min != Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public boolean hasPrevious() {
+                        return max != -Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public void next() {
+                        if (vit.hasNext()) {
+                            min = max = vit.next();
+                        } else {
+                            min = Integer.MAX_VALUE;
+                        }
+                    }
+
+                    @Override
+                    public void previous() {
+                        if (vit.hasPrevious()) {
+                            max = vit.previous();
+                            min = max;
+                        } else {
+                            max = -Integer.MAX_VALUE;
+                        }
+                    }
+
+                    @Override
+                    public int min() {
+                        return min;
+                    }
+
+                    @Override
+                    public int max() {
+                        return max;
+                    }
+                };
+            }
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public IEventType transformEvent(IEventType evt) {
+        if (a < 0) {
+            if (evt == INCLOW) {
+                return DECUPP;
+            } else if (evt == DECUPP) {
+                return INCLOW;
+            }
+        }
+        return evt;
+    }
+
+    @Override
+    public void justifyEvent(IntEventType mask, int one, int two, int three) {
+        switch (mask) {
+            case DECUPP:
+                if (a > 0) {
+                    model.getSolver().getEventObserver().updateUpperBound(this, fromVar(one), fromVar(two), this);
+                } else {
+                    model.getSolver().getEventObserver().updateLowerBound(this, fromVar(one), fromVar(two), this);
+                }
+                break;
+            case INCLOW:
+                if (a > 0) {
+                    model.getSolver().getEventObserver().updateLowerBound(this, fromVar(one), fromVar(two), this);
+                } else {
+                    model.getSolver().getEventObserver().updateUpperBound(this, fromVar(one), fromVar(two), this);
+                }
+                break;
+            case REMOVE:
+                model.getSolver().getEventObserver().removeValue(this, fromVar(one), this);
+                break;
+            case INSTANTIATE:
+                if (a > 0) {
+                    model.getSolver().getEventObserver().instantiateTo(this, fromVar(one), this, fromVar(two), fromVar(three));
+                } else {
+                    model.getSolver().getEventObserver().instantiateTo(this, fromVar(one), this, fromVar(three), fromVar(two));
+                }
+                break;
+        }
+    }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new IntAffineView<>(context.get(var), a, b));
+        }
+    }
+}
@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.integer;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -330,4 +332,11 @@ public class IntMinusView<I extends IntVar> extends IntView<I> {
                 break;
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new IntMinusView<>(context.get(var)));
+        }
+    }
 }
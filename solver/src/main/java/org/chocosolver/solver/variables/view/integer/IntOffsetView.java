@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.integer;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
@@ -308,4 +310,11 @@ public final class IntOffsetView<I extends IntVar> extends IntView<I> {
             getVariable().intersectLit(set1, explanation);
         }
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new IntOffsetView<>(context.get(var), cste));
+        }
+    }
 }
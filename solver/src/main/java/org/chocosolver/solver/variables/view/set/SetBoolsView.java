@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.set;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.delta.ISetDelta;
@@ -186,4 +188,11 @@ public class SetBoolsView<B extends BoolVar> extends SetView<B> {
         createDelta();
         return new SetDeltaMonitor(getDelta(), propagator);
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new SetBoolsView<>(name, offset, context.get(variables)));
+        }
+    }
 }
@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.set;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.delta.ISetDelta;
@@ -133,4 +135,11 @@ public class SetDifferenceView extends SetView<SetVar> {
             }
         };
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new SetDifferenceView(name, context.get(x), context.get(y)));
+        }
+    }
 }
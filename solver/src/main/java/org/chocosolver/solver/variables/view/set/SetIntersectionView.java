@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.set;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.delta.ISetDelta;
@@ -158,4 +160,11 @@ public class SetIntersectionView extends SetView<SetVar> {
             }
         };
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new SetIntersectionView(name, context.get(variables)));
+        }
+    }
 }
@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.set;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
@@ -215,4 +217,11 @@ public class SetIntsView<I extends IntVar> extends SetView<I> {
         createDelta();
         return new SetDeltaMonitor(getDelta(), propagator);
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new SetIntsView<>(name, v, offset, context.get(variables)));
+        }
+    }
 }
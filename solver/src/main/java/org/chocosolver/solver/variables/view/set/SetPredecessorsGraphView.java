@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.variables.view.set;
 
+import org.chocosolver.solver.DuplicationContext;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.GraphVar;
 import org.chocosolver.solver.variables.delta.IGraphDeltaMonitor;
@@ -156,4 +158,11 @@ public class SetPredecessorsGraphView<E extends GraphVar<?>> extends SetGraphVie
             }
         };
     }
+
+    @Override
+    public void duplicate(Model model, DuplicationContext context) {
+        if (!context.contains(this)) {
+            context.put(this, new SetPredecessorsGraphView<>(name, context.get(graphVar), node));
+        }
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.graphOperations.connectivity;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.UndirectedGraphVar;
+import org.chocosolver.solver.variables.delta.IGraphDeltaMonitor;
+import org.chocosolver.solver.variables.events.GraphEventType;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.procedure.PairProcedure;
+
+/**
+ * Connectivity of an undirected graph variable, maintained incrementally and shared by the propagators
+ * posted on the same variable (see {@link #of(UndirectedGraphVar)}).
+ * <p>
+ * The connected components of the mandatory graph (LB) are stored in a backtrackable union-find
+ * (union by size, no path compression), updated on each enforced edge.
+ * The connected components of the potential graph (UB) are computed by a {@link ConnectivityFinder},
+ * lazily: only when they are requested and the potential graph has changed since the last computation.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public class UGVarIncrementalConnectivity implements IVariableMonitor<UndirectedGraphVar> {
+
+    private static final String HK_CONNECTIVITY = "HK_CONNECTIVITY_";
+
+    private final UndirectedGraphVar g;
+
+    // mandatory graph
+    private final IStateInt[] parent;
+    private final IStateInt[] size;
+    private final IStateInt nbMerges;
+    private final IGraphDeltaMonitor gdm;
+    private final PairProcedure onEnforcedEdge;
+
+    // potential graph
+    private final ConnectivityFinder potentialCC;
+    private final IStateInt version;
+    private int lastVersion;
+    private int cachedVersion;
+
+    /**
+     * Get the connectivity structure of <i>g</i>, created on the first call.
+     *
+     * @param g an undirected graph variable
+     * @return the connectivity structure shared by propagators on <i>g</i>
+     */
+    public static UGVarIncrementalConnectivity of(UndirectedGraphVar g) {
+        Model model = g.getModel();
+        String name = HK_CONNECTIVITY + g.getId();
+        UGVarIncrementalConnectivity connectivity = (UGVarIncrementalConnectivity) model.getHook(name);
+        if (connectivity == null) {
+            connectivity = new UGVarIncrementalConnectivity(g);
+            model.addHook(name, connectivity);
+        }
+        return connectivity;
+    }
+
+    private UGVarIncrementalConnectivity(UndirectedGraphVar g) {
+        this.g = g;
+        int n = g.getNbMaxNodes();
+        IEnvironment environment = g.getModel().getEnvironment();
+        this.parent = new IStateInt[n];
+        this.size = new IStateInt[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = environment.makeInt(i);
+            size[i] = environment.makeInt(1);
+        }
+        this.nbMerges = environment.makeInt(0);
+        for (int i : g.getMandatoryNodes()) {
+            for (int j : g.getMandatoryNeighborsOf(i)) {
+                if (i < j) {
+                    union(i, j);
+                }
+            }
+        }
+        this.onEnforcedEdge = this::union;
+        this.gdm = g.monitorDelta(this);
+        this.gdm.startMonitoring();
+        this.potentialCC = new ConnectivityFinder(g.getUB());
+        this.version = environment.makeInt(0);
+        this.cachedVersion = -1;
+        g.addMonitor(this);
+    }
+
+    @Override
+    public void onUpdate(UndirectedGraphVar var, IEventType evt) throws ContradictionException {
+        if (evt == GraphEventType.ADD_EDGE) {
+            gdm.forEachEdge(onEnforcedEdge, GraphEventType.ADD_EDGE);
+        } else if (evt == GraphEventType.REMOVE_EDGE || evt == GraphEventType.REMOVE_NODE) {
+            // a fresh value, so that a version is never restored by a backtrack for another potential graph
+            version.set(++lastVersion);
+        }
+    }
+
+    //***********************************************************************************
+    // MANDATORY GRAPH
+    //***********************************************************************************
+
+    /**
+     * @param x a node
+     * @return the representative of the connected component of <i>x</i> in the mandatory graph
+     */
+    public int findMandatory(int x) {
+        int p = parent[x].get();
+        while (p != x) {
+            x = p;
+            p = parent[x].get();
+        }
+        return x;
+    }
+
+    private void union(int x, int y) {
+        int rx = findMandatory(x);
+        int ry = findMandatory(y);
+        if (rx != ry) {
+            if (size[rx].get() < size[ry].get()) {
+                int t = rx;
+                rx = ry;
+                ry = t;
+            }
+            parent[ry].set(rx);
+            size[rx].add(size[ry].get());
+            nbMerges.add(1);
+        }
+    }
+
+    /**
+     * @return the number of connected components of the mandatory graph
+     */
+    public int getNbMandatoryCC() {
+        return g.getMandatoryNodes().size() - nbMerges.get();
+    }
+
+    /**
+     * @param x a mandatory node
+     * @return the number of nodes of the connected component of <i>x</i> in the mandatory graph
+     */
+    public int getMandatoryCCSize(int x) {
+        return size[findMandatory(x)].get();
+    }
+
+    //***********************************************************************************
+    // POTENTIAL GRAPH
+    //***********************************************************************************
+
+    /**
+     * Compute, if the potential graph has changed since the last call, its connected components.
+     * The returned finder is the same object on each call, and is shared by the propagators on the variable:
+     * its content is only valid until the next call.
+     *
+     * @return the connected components of the potential graph
+     */
+    public ConnectivityFinder findPotentialCC() {
+        if (cachedVersion != version.get()) {
+            potentialCC.findAllCC();
+            cachedVersion = version.get();
+        }
+        return potentialCC;
+    }
+
+    /**
+     * The version changes each time a node or an edge is removed from the potential graph,
+     * and is restored on backtrack: two calls returning the same value see the same potential graph.
+     *
+     * @return the version of the potential graph
+     */
+    public int getPotentialVersion() {
+        return version.get();
+    }
+}
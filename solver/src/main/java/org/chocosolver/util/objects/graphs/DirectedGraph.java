@@ -10,10 +10,13 @@
 package org.chocosolver.util.objects.graphs;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.csr.CSRRows;
+import org.chocosolver.util.objects.setDataStructures.csr.Set_CSRRow;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetDifference;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetIntersection;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetUnion;
@@ -148,6 +151,46 @@ public class DirectedGraph implements IGraph {
         }
     }
 
+    /**
+     * CONSTRUCTOR FOR PACKED GRAPHS:
+     *
+     * Construct a backtrackable copy of another directed graph, whose successors and predecessors are packed
+     * in two compressed sparse row structures (see {@link CSRRows}).
+     * Edges can be removed, and added back, but no edge which is not in <i>g</i> can be added.
+     * It is designed for graphs that only shrink, like the upper bound of a graph variable.
+     *
+     * @param model the model
+     * @param g the graph to copy
+     * @param nodeSetType data structure to use for representing nodes (ignored if all nodes of <i>g</i> are fixed)
+     */
+    public DirectedGraph(Model model, DirectedGraph g, SetType nodeSetType) {
+        this.nodeSetType = nodeSetType;
+        this.edgeSetType = SetType.BIPARTITESET;
+        this.n = g.getNbMaxNodes();
+        if (g.getNodes().getSetType() == SetType.FIXED_INTERVAL) {
+            this.nodes = g.getNodes();
+        } else {
+            this.nodes = SetFactory.makeStoredSet(nodeSetType, 0, model);
+            for (int i : g.getNodes()) {
+                this.nodes.add(i);
+            }
+        }
+        ISet[] preds = new ISet[n];
+        ISet[] succs = new ISet[n];
+        for (int i = 0; i < n; i++) {
+            preds[i] = g.getPredecessorsOf(i);
+            succs[i] = g.getSuccessorsOf(i);
+        }
+        CSRRows predCSR = new CSRRows(model.getEnvironment(), preds);
+        CSRRows succCSR = new CSRRows(model.getEnvironment(), succs);
+        predecessors = new ISet[n];
+        successors = new ISet[n];
+        for (int i = 0; i < n; i++) {
+            predecessors[i] = predCSR.getRow(i);
+            successors[i] = succCSR.getRow(i);
+        }
+    }
+
     /**
      * CONSTRUCTOR FOR BACKTRACKABLE DIRECTED NODE INDUCED SUBGRAPHS:
      *
@@ -680,4 +723,37 @@ public class DirectedGraph implements IGraph {
         }
         return true;
     }
+
+    /**
+     * Build a backtrackable copy of this graph in <i>model</i>, with the same nodes, edges and data structures.
+     * It is called when a model is duplicated (see {@link Model#duplicate(String)}):
+     * a packed graph is packed again and a read-only graph is copied as a read-only graph.
+     *
+     * @param model the model providing the backtracking environment of the copy
+     * @return a copy of this graph
+     * @throws SolverException if this graph is defined from other graphs (subgraph or union)
+     */
+    public DirectedGraph duplicate(Model model) {
+        if (n > 0 && successors[0] instanceof Set_CSRRow) {
+            return new DirectedGraph(model, this, nodeSetType);
+        }
+        switch (edgeSetType) {
+            case FIXED_ARRAY:
+                return new DirectedGraph(this);
+            case DYNAMIC:
+                throw new SolverException("Cannot duplicate a graph defined from other graphs");
+            default:
+                boolean allNodes = nodes.getSetType() == SetType.FIXED_INTERVAL;
+                DirectedGraph copy = new DirectedGraph(model, n, nodeSetType, edgeSetType, allNodes);
+                for (int i : nodes) {
+                    if (!allNodes) {
+                        copy.addNode(i);
+                    }
+                    for (int j : successors[i]) {
+                        copy.addEdge(i, j);
+                    }
+                }
+                return copy;
+        }
+    }
 }
@@ -260,6 +260,86 @@ public class GraphFactory {
         return makeStoredUndirectedGraph(model, n, nodeSetType, edgeSetType, IntStream.range(0, next_node).toArray(), edges);
     }
 
+    //***********************************************************************************
+    // PACKED GRAPHS
+    //***********************************************************************************
+
+    /**
+     * Return a stored copy of an undirected graph, whose edges are packed in a compressed sparse row structure:
+     * the neighbors of all nodes are stored in contiguous arrays,
+     * with a backtrackable set of alive edges per node.
+     * No edge which is not in `graph` can be added: it is suited to the upper bound of a graph variable.
+     * @param model The choco model
+     * @param graph the graph to copy
+     * @param nodeSetType set type for storing nodes (ignored if all nodes of `graph` are fixed)
+     * @return a stored copy of `graph` with packed edges.
+     */
+    public static UndirectedGraph makePackedUndirectedGraph(Model model, UndirectedGraph graph, SetType nodeSetType) {
+        return new UndirectedGraph(model, graph, nodeSetType);
+    }
+
+    /**
+     * Return a stored copy of a directed graph, whose edges are packed in two compressed sparse row structures,
+     * one for successors and one for predecessors.
+     * No edge which is not in `graph` can be added: it is suited to the upper bound of a graph variable.
+     * @param model The choco model
+     * @param graph the graph to copy
+     * @param nodeSetType set type for storing nodes (ignored if all nodes of `graph` are fixed)
+     * @return a stored copy of `graph` with packed edges.
+     */
+    public static DirectedGraph makePackedDirectedGraph(Model model, DirectedGraph graph, SetType nodeSetType) {
+        return new DirectedGraph(model, graph, nodeSetType);
+    }
+
+    /**
+     * Return a complete (all nodes and all edges, no loops) stored undirected graph, whose edges are packed
+     * in a compressed sparse row structure.
+     * @param model The choco model
+     * @param n the maximum number of nodes
+     * @param nodeSetType set type for storing nodes
+     * @param allNodesFixed if true all nodes are fixed to the graph (cannod be removed)
+     * @return a complete (all nodes, all edges, no loops) stored undirected graph with packed edges.
+     */
+    public static UndirectedGraph makeCompletePackedUndirectedGraph(Model model, int n, SetType nodeSetType, boolean allNodesFixed) {
+        UndirectedGraph g = new UndirectedGraph(n, SetType.BITSET, allNodesFixed);
+        if (!allNodesFixed) {
+            for (int i = 0; i < n; i++) {
+                g.addNode(i);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                g.addEdge(i, j);
+            }
+        }
+        return makePackedUndirectedGraph(model, g, nodeSetType);
+    }
+
+    /**
+     * Return a complete (all nodes and all edges, no loops) stored directed graph, whose edges are packed
+     * in compressed sparse row structures.
+     * @param model The choco model
+     * @param n the maximum number of nodes
+     * @param nodeSetType set type for storing nodes
+     * @param allNodesFixed if true all nodes are fixed to the graph (cannod be removed)
+     * @return a complete (all nodes, all edges, no loops) stored directed graph with packed edges.
+     */
+    public static DirectedGraph makeCompletePackedDirectedGraph(Model model, int n, SetType nodeSetType, boolean allNodesFixed) {
+        DirectedGraph g = new DirectedGraph(n, SetType.BITSET, allNodesFixed);
+        if (!allNodesFixed) {
+            for (int i = 0; i < n; i++) {
+                g.addNode(i);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                g.addEdge(i, j);
+                g.addEdge(j, i);
+            }
+        }
+        return makePackedDirectedGraph(model, g, nodeSetType);
+    }
+
     //***********************************************************************************
     // UNSTORED GRAPHS
     //***********************************************************************************
@@ -10,10 +10,13 @@
 package org.chocosolver.util.objects.graphs;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.csr.CSRRows;
+import org.chocosolver.util.objects.setDataStructures.csr.Set_CSRRow;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetDifference;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetIntersection;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetUnion;
@@ -138,6 +141,41 @@ public class UndirectedGraph implements IGraph {
         }
     }
 
+    /**
+     * CONSTRUCTOR FOR PACKED GRAPHS:
+     *
+     * Construct a backtrackable copy of another graph, whose neighbors are packed
+     * in a compressed sparse row structure (see {@link CSRRows}).
+     * Edges can be removed, and added back, but no edge which is not in <i>g</i> can be added.
+     * It is designed for graphs that only shrink, like the upper bound of a graph variable.
+     *
+     * @param model the model
+     * @param g the graph to copy
+     * @param nodeSetType data structure storing for nodes (ignored if all nodes of <i>g</i> are fixed)
+     */
+    public UndirectedGraph(Model model, UndirectedGraph g, SetType nodeSetType) {
+        this.nodeSetType = nodeSetType;
+        this.edgeSetType = SetType.BIPARTITESET;
+        this.n = g.getNbMaxNodes();
+        if (g.getNodes().getSetType() == SetType.FIXED_INTERVAL) {
+            this.nodes = g.getNodes();
+        } else {
+            this.nodes = SetFactory.makeStoredSet(nodeSetType, 0, model);
+            for (int i : g.getNodes()) {
+                this.nodes.add(i);
+            }
+        }
+        ISet[] rows = new ISet[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = g.getNeighborsOf(i);
+        }
+        CSRRows csr = new CSRRows(model.getEnvironment(), rows);
+        neighbors = new ISet[n];
+        for (int i = 0; i < n; i++) {
+            neighbors[i] = csr.getRow(i);
+        }
+    }
+
     // Subgraph constructors
 
     /**
@@ -617,4 +655,39 @@ public class UndirectedGraph implements IGraph {
         }
         return true;
     }
+
+    /**
+     * Build a backtrackable copy of this graph in <i>model</i>, with the same nodes, edges and data structures.
+     * It is called when a model is duplicated (see {@link Model#duplicate(String)}):
+     * a packed graph is packed again and a read-only graph is copied as a read-only graph.
+     *
+     * @param model the model providing the backtracking environment of the copy
+     * @return a copy of this graph
+     * @throws SolverException if this graph is defined from other graphs (subgraph or union)
+     */
+    public UndirectedGraph duplicate(Model model) {
+        if (n > 0 && neighbors[0] instanceof Set_CSRRow) {
+            return new UndirectedGraph(model, this, nodeSetType);
+        }
+        switch (edgeSetType) {
+            case FIXED_ARRAY:
+                return new UndirectedGraph(this);
+            case DYNAMIC:
+                throw new SolverException("Cannot duplicate a graph defined from other graphs");
+            default:
+                boolean allNodes = nodes.getSetType() == SetType.FIXED_INTERVAL;
+                UndirectedGraph copy = new UndirectedGraph(model, n, nodeSetType, edgeSetType, allNodes);
+                for (int i : nodes) {
+                    if (!allNodes) {
+                        copy.addNode(i);
+                    }
+                    for (int j : neighbors[i]) {
+                        if (i <= j) {
+                            copy.addEdge(i, j);
+                        }
+                    }
+                }
+                return copy;
+        }
+    }
 }
@@ -152,6 +152,29 @@ public interface ISet extends Iterable<Integer>{
         return a;
     }
 
+    /**
+     * @return true if {@link #word(int)} reads the set a machine word at a time,
+     * rather than element by element
+     */
+    default boolean hasWords() {
+        return false;
+    }
+
+    /**
+     * Reads 64 consecutive integers at once
+     * @param from an integer
+     * @return a word whose bit k is set iff from + k belongs to the set
+     */
+    default long word(int from) {
+        long word = 0;
+        for (int k = 0; k < 64 && (long) from + k <= Integer.MAX_VALUE; k++) {
+            if (contains(from + k)) {
+                word |= 1L << k;
+            }
+        }
+        return word;
+    }
+
     interface WithOffset {
         int getOffset();
     }
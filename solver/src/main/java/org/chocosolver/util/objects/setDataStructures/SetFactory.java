@@ -18,6 +18,7 @@ package org.chocosolver.util.objects.setDataStructures;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.Model;
+import org.chocosolver.util.objects.setDataStructures.adaptive.Set_Adaptive;
 import org.chocosolver.util.objects.setDataStructures.bitset.Set_BitSet;
 import org.chocosolver.util.objects.setDataStructures.bitset.Set_Std_BitSet;
 import org.chocosolver.util.objects.setDataStructures.constant.Set_CstInterval;
@@ -65,7 +66,6 @@ public class SetFactory {
         return new StdSet(model,makeSet(type,offSet));
     }
 
-
     //***********************************************************************************
     // FACTORY - SET
     //***********************************************************************************
@@ -88,6 +88,8 @@ public class SetFactory {
                 return makeLinkedList();
             case BITSET:
                 return makeBitSet(offSet);
+            case ADAPTIVE:
+                return makeAdaptiveSet(offSet);
             case FIXED_ARRAY: throw new UnsupportedOperationException("Please use makeConstantSet method to create a "+SetType.FIXED_ARRAY+" set");
             case FIXED_INTERVAL: throw new UnsupportedOperationException("Please use makeConstantSet method to create a "+SetType.FIXED_INTERVAL+" set");
             default:throw new UnsupportedOperationException("Unsupported SetType "+type);
@@ -125,6 +127,20 @@ public class SetFactory {
         return new Set_BitSet(offSet);
     }
 
+    // --- Adaptive Set
+
+    /**
+     * Creates a set of integers stored either as a sorted array or as an offseted BitSet,
+     * depending on its density, and switching from one to the other when elements are added or removed.
+     * Appropriate when the set can be either sparse or dense over a large span.
+     * Supports integers greater or equal than <code>offSet</code>
+     * @param offSet	smallest value allowed in the set (possibly < 0)
+     * @return a new set
+     */
+    public static ISet makeAdaptiveSet(int offSet) {
+        return new Set_Adaptive(offSet);
+    }
+
     // --- Bipartite Set
 
     /**
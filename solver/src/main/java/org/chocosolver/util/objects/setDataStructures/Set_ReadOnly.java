@@ -47,6 +47,16 @@ public class Set_ReadOnly extends AbstractSet {
 		return set.iterator();
 	}
 
+    @Override
+    public boolean hasWords() {
+        return set.hasWords();
+    }
+
+    @Override
+    public long word(int from) {
+        return set.word(from);
+    }
+
     @Override
     public boolean add(int element) {
         throw new UnsupportedOperationException("this set is read-only");
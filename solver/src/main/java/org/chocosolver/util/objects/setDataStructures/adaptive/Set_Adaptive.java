@@ -0,0 +1,315 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.adaptive;
+
+import org.chocosolver.util.objects.setDataStructures.AbstractSet;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+
+/**
+ * Set of integers whose representation depends on its density.
+ * <p>
+ * The set starts as a sorted array of elements (sparse mode), which is compact and cheap to iterate
+ * when few values are stored over a large span.
+ * It switches to a bitset (dense mode) as soon as the bitset needs fewer words than the array,
+ * and goes back to a sorted array when the density falls well below that threshold,
+ * so that a set oscillating around the threshold does not convert at each modification.
+ * <p>
+ * Switching only depends on the content of the set, so wrapping it into a
+ * {@link org.chocosolver.util.objects.setDataStructures.StdSet} makes it backtrackable:
+ * restoring removed (resp. added) elements restores the representation as well.
+ * <p>
+ * Iterators are value-based: they resume from the last returned value,
+ * which makes them robust to modifications and to representation changes during iteration.
+ *
+ * @since 19/10/2026
+ */
+public class Set_Adaptive extends AbstractSet implements ISet.WithOffset {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    /**
+     * Minimum number of elements before switching to a bitset
+     */
+    private static final int MIN_DENSE_SIZE = 16;
+    /**
+     * Switch to a bitset when <i>span</i> &le; DENSE_RATIO * <i>size</i>,
+     * that is when the bitset takes less memory than the sorted array
+     */
+    private static final int DENSE_RATIO = 32;
+    /**
+     * Switch back to a sorted array when <i>span</i> &gt; SPARSE_RATIO * <i>size</i>
+     */
+    private static final int SPARSE_RATIO = 4 * DENSE_RATIO;
+
+    private final int offset;
+    private int card;
+    private boolean dense;
+    // sparse mode
+    private int[] elements;
+    // dense mode
+    private BitSet values;
+    private final ISetIterator iter = newIterator();
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Creates an empty set having numbers greater or equal than <code>offSet</code> (possibly < 0)
+     *
+     * @param offSet minimum value in the set
+     */
+    public Set_Adaptive(int offSet) {
+        super();
+        this.offset = offSet;
+        this.card = 0;
+        this.dense = false;
+        this.elements = new int[4];
+    }
+
+    //***********************************************************************************
+    // ITERATOR
+    //***********************************************************************************
+
+    @Override
+    public ISetIterator iterator() {
+        iter.reset();
+        return iter;
+    }
+
+    @Override
+    public ISetIterator newIterator() {
+        return new ISetIterator() {
+            private boolean started;
+            private int last;
+
+            @Override
+            public void reset() {
+                started = false;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return card > 0 && (!started || (last < Integer.MAX_VALUE && nextValue(last + 1) >= 0));
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = nextValue(started ? last + 1 : offset) + offset;
+                started = true;
+                return last;
+            }
+        };
+    }
+
+    /**
+     * @param from a value
+     * @return the smallest element greater or equal to <i>from</i>, minus the offset, or -1 if none
+     */
+    private int nextValue(int from) {
+        long f = (long) from - offset;
+        if (f < 0) {
+            f = 0;
+        }
+        if (dense) {
+            return values.nextSetBit((int) f);
+        }
+        int i = search((int) (f + offset));
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return i < card ? elements[i] - offset : -1;
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return <i>true</i> if the set is currently stored as a bitset,
+     * <i>false</i> if it is stored as a sorted array
+     */
+    public boolean isDense() {
+        return dense;
+    }
+
+    @Override
+    public boolean add(int element) {
+        if (element < offset) throw new IllegalStateException("Cannot add " + element + " to set of offset " + offset);
+        if (dense && (long) element - offset >= (long) SPARSE_RATIO * (card + 1)) {
+            // the bitset would become too sparse (or too large)
+            toSparse();
+        }
+        if (dense) {
+            if (values.get(element - offset)) {
+                return false;
+            }
+            values.set(element - offset);
+        } else {
+            int i = search(element);
+            if (i >= 0) {
+                return false;
+            }
+            i = -i - 1;
+            if (card == elements.length) {
+                elements = Arrays.copyOf(elements, card * 3 / 2 + 1);
+            }
+            System.arraycopy(elements, i, elements, i + 1, card - i);
+            elements[i] = element;
+        }
+        card++;
+        if (!dense && card >= MIN_DENSE_SIZE && span() <= (long) DENSE_RATIO * card) {
+            toDense();
+        }
+        notifyObservingElementAdded(element);
+        return true;
+    }
+
+    @Override
+    public boolean remove(int element) {
+        if (dense) {
+            if (!contains(element)) {
+                return false;
+            }
+            values.clear(element - offset);
+        } else {
+            int i = search(element);
+            if (i < 0) {
+                return false;
+            }
+            System.arraycopy(elements, i + 1, elements, i, card - i - 1);
+        }
+        card--;
+        if (dense && span() > (long) SPARSE_RATIO * card) {
+            toSparse();
+        }
+        notifyObservingElementRemoved(element);
+        return true;
+    }
+
+    @Override
+    public boolean contains(int element) {
+        if (element < offset) {
+            return false;
+        }
+        if (dense) {
+            return values.get(element - offset);
+        }
+        return search(element) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return card;
+    }
+
+    @Override
+    public void clear() {
+        card = 0;
+        dense = false;
+        values = null;
+        notifyObservingCleared();
+    }
+
+    @Override
+    public int min() {
+        if (isEmpty()) throw new IllegalStateException("cannot find minimum of an empty set");
+        return dense ? offset + values.nextSetBit(0) : elements[0];
+    }
+
+    @Override
+    public int max() {
+        if (isEmpty()) throw new IllegalStateException("cannot find maximum of an empty set");
+        return dense ? offset + values.length() - 1 : elements[card - 1];
+    }
+
+    @Override
+    public SetType getSetType() {
+        return SetType.ADAPTIVE;
+    }
+
+    @Override
+    public int[] toArray() {
+        if (dense) {
+            int[] a = new int[card];
+            int j = 0;
+            for (int i = values.nextSetBit(0); i >= 0; i = values.nextSetBit(i + 1)) {
+                a[j++] = i + offset;
+            }
+            return a;
+        }
+        return Arrays.copyOf(elements, card);
+    }
+
+    /**
+     * @return number of bits needed to store the set as a bitset
+     */
+    private long span() {
+        if (card == 0) {
+            return 0;
+        }
+        return dense ? values.length() : (long) elements[card - 1] - offset + 1;
+    }
+
+    /**
+     * Binary search of <i>element</i> in the sorted array
+     *
+     * @return index of <i>element</i> if present, <i>-(insertion point) - 1</i> otherwise
+     */
+    private int search(int element) {
+        return Arrays.binarySearch(elements, 0, card, element);
+    }
+
+    private void toDense() {
+        values = new BitSet((int) span());
+        for (int i = 0; i < card; i++) {
+            values.set(elements[i] - offset);
+        }
+        elements = new int[4];
+        dense = true;
+    }
+
+    private void toSparse() {
+        elements = new int[card * 3 / 2 + 1];
+        int j = 0;
+        for (int i = values.nextSetBit(0); i >= 0; i = values.nextSetBit(i + 1)) {
+            elements[j++] = i + offset;
+        }
+        values = null;
+        dense = false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder("{");
+        ISetIterator it = newIterator();
+        while (it.hasNext()) {
+            st.append(it.nextInt()).append(", ");
+        }
+        st.append("}");
+        return st.toString().replace(", }", "}");
+    }
+}
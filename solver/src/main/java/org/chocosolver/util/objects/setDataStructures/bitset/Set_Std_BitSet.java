@@ -100,6 +100,50 @@ public class Set_Std_BitSet extends AbstractSet implements ISet.WithOffset {
         notifyObservingCleared();
 	}
 
+	@Override
+	public boolean hasWords() {
+		return true;
+	}
+
+	@Override
+	public long word(int from) {
+		long bit = (long) from - offset;
+		if (bit <= -64) {
+			return 0;
+		}
+		int i = (int) Math.floorDiv(bit, 64);
+		int shift = (int) Math.floorMod(bit, 64);
+		long word = values.getWord(i) >>> shift;
+		if (shift > 0) {
+			word |= values.getWord(i + 1) << (64 - shift);
+		}
+		return word;
+	}
+
+	/**
+	 * Replaces the elements of the set in [offset + 64.i, offset + 64.i + 63] by the ones of <code>word</code>
+	 *
+	 * @param i    index of a word
+	 * @param word the new elements, bit k standing for offset + 64.i + k
+	 * @return the bits which have changed
+	 */
+	public long setWord(int i, long word) {
+		long old = values.getWord(i);
+		long diff = old ^ word;
+		if (diff != 0) {
+			values.setWord(i, word);
+			card.add(Long.bitCount(word) - Long.bitCount(old));
+			int base = offset + 64 * i;
+			for (long b = word & diff; b != 0; b &= b - 1) {
+				notifyObservingElementAdded(base + Long.numberOfTrailingZeros(b));
+			}
+			for (long b = old & diff; b != 0; b &= b - 1) {
+				notifyObservingElementRemoved(base + Long.numberOfTrailingZeros(b));
+			}
+		}
+		return diff;
+	}
+
 	@Override
 	public SetType getSetType(){
 		return SetType.BITSET;
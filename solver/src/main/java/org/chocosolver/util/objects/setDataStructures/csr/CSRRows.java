@@ -0,0 +1,145 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.csr;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+
+import java.util.Arrays;
+
+/**
+ * Rows of integers packed in a compressed sparse row (CSR) structure, with a backtrackable set of alive entries per row.
+ * <p>
+ * The entries of all rows are stored in a few contiguous arrays: row <i>i</i> owns the slice
+ * <code>[offsets[i], offsets[i+1])</code>.
+ * In each slice, alive entries come first (bipartite set), followed by removed ones,
+ * so that the only backtrackable data is the number of alive entries per row.
+ * A sorted copy of the initial rows gives membership tests in O(log(d)), d being the size of the initial row.
+ * </p>
+ * <p>
+ * The initial rows are fixed: an element can be removed from a row and added back,
+ * but an element which does not belong to the initial row cannot be added.
+ * Like {@link org.chocosolver.util.objects.setDataStructures.swapList.Set_Std_Swap},
+ * elements cannot be both added and removed during search (add only or remove only).
+ * It is designed for sets that only shrink, like the neighbors in the upper bound of a graph variable.
+ * </p>
+ *
+ * @since 19/10/2026
+ */
+public final class CSRRows {
+
+    /**
+     * Row i owns [offsets[i], offsets[i+1])
+     */
+    final int[] offsets;
+    /**
+     * Initial entries, sorted in each row
+     */
+    final int[] sorted;
+    /**
+     * Current entries, alive ones first in each row
+     */
+    final int[] values;
+    /**
+     * position[k] is the position in {@link #values} of sorted[k]
+     */
+    final int[] position;
+    /**
+     * rank[p] is the position in {@link #sorted} of values[p]
+     */
+    final int[] rank;
+    /**
+     * Number of alive entries per row
+     */
+    final IStateIntVector sizes;
+    private final Set_CSRRow[] rows;
+
+    /**
+     * Pack <i>rows</i> in a CSR structure.
+     * The content of each row is copied, and all the entries are alive.
+     *
+     * @param environment backtracking environment
+     * @param rows        initial content of each row
+     */
+    public CSRRows(IEnvironment environment, ISet[] rows) {
+        int n = rows.length;
+        this.offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + rows[i].size();
+        }
+        int m = offsets[n];
+        this.sorted = new int[m];
+        this.values = new int[m];
+        this.position = new int[m];
+        this.rank = new int[m];
+        this.sizes = environment.makeIntVector(n, 0);
+        this.rows = new Set_CSRRow[n];
+        for (int i = 0; i < n; i++) {
+            int[] row = rows[i].toArray();
+            Arrays.sort(row);
+            System.arraycopy(row, 0, sorted, offsets[i], row.length);
+            System.arraycopy(row, 0, values, offsets[i], row.length);
+            sizes.quickSet(i, row.length);
+            this.rows[i] = new Set_CSRRow(this, i);
+        }
+        for (int k = 0; k < m; k++) {
+            position[k] = k;
+            rank[k] = k;
+        }
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int getNbRows() {
+        return rows.length;
+    }
+
+    /**
+     * @param i index of a row
+     * @return a view, as a set, of the alive entries of row <i>i</i>
+     */
+    public ISet getRow(int i) {
+        return rows[i];
+    }
+
+    /**
+     * @return the total number of entries, alive or not
+     */
+    public int getCapacity() {
+        return sorted.length;
+    }
+
+    /**
+     * @param i index of a row
+     * @param e an element
+     * @return the index in {@link #sorted} of <i>e</i> in row <i>i</i>, or a negative value if <i>e</i> is not
+     * in the initial row
+     */
+    int indexOf(int i, int e) {
+        return Arrays.binarySearch(sorted, offsets[i], offsets[i + 1], e);
+    }
+
+    /**
+     * Swap the entries at positions <i>p</i> and <i>q</i> of {@link #values}
+     */
+    void swap(int p, int q) {
+        if (p != q) {
+            int vp = values[p], rp = rank[p];
+            values[p] = values[q];
+            rank[p] = rank[q];
+            values[q] = vp;
+            rank[q] = rp;
+            position[rank[p]] = p;
+            position[rank[q]] = q;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.csr;
+
+import org.chocosolver.util.objects.setDataStructures.AbstractSet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+
+/**
+ * Backtrackable set of integers, stored as a row of a {@link CSRRows} structure.
+ * BEWARE : CANNOT ADD AN ELEMENT WHICH IS NOT IN THE INITIAL ROW,
+ * AND CANNOT BOTH ADD AND REMOVE ELEMENTS DURING SEARCH
+ * (add only or remove only)
+ *
+ * add : O(log(d))
+ * testPresence: O(log(d))
+ * remove: O(log(d))
+ * iteration : O(m), over a contiguous slice of an array
+ *
+ * @since 19/10/2026
+ */
+public class Set_CSRRow extends AbstractSet {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final CSRRows csr;
+    private final int row;
+    private final int from;
+    private final ISetIterator iter = newIterator();
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    Set_CSRRow(CSRRows csr, int row) {
+        this.csr = csr;
+        this.row = row;
+        this.from = csr.offsets[row];
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public boolean add(int element) {
+        int k = csr.indexOf(row, element);
+        if (k < 0) {
+            throw new UnsupportedOperationException("Cannot add " + element + " to a CSR row which does not initially contain it");
+        }
+        int size = size();
+        if (csr.position[k] < from + size) {
+            return false;
+        }
+        csr.swap(csr.position[k], from + size);
+        csr.sizes.quickSet(row, size + 1);
+        notifyObservingElementAdded(element);
+        return true;
+    }
+
+    @Override
+    public boolean remove(int element) {
+        int k = csr.indexOf(row, element);
+        int size = size();
+        if (k < 0 || csr.position[k] >= from + size) {
+            return false;
+        }
+        iter.notifyRemoving(element);
+        csr.swap(csr.position[k], from + size - 1);
+        csr.sizes.quickSet(row, size - 1);
+        notifyObservingElementRemoved(element);
+        return true;
+    }
+
+    @Override
+    public boolean contains(int element) {
+        int k = csr.indexOf(row, element);
+        return k >= 0 && csr.position[k] < from + size();
+    }
+
+    @Override
+    public int size() {
+        return csr.sizes.quickGet(row);
+    }
+
+    @Override
+    public void clear() {
+        csr.sizes.quickSet(row, 0);
+        notifyObservingCleared();
+    }
+
+    @Override
+    public int min() {
+        if (isEmpty()) throw new IllegalStateException("cannot find minimum of an empty set");
+        int last = from + size();
+        int k = from;
+        while (csr.position[k] >= last) {
+            k++;
+        }
+        return csr.sorted[k];
+    }
+
+    @Override
+    public int max() {
+        if (isEmpty()) throw new IllegalStateException("cannot find maximum of an empty set");
+        int last = from + size();
+        int k = csr.offsets[row + 1] - 1;
+        while (csr.position[k] >= last) {
+            k--;
+        }
+        return csr.sorted[k];
+    }
+
+    @Override
+    public SetType getSetType() {
+        // like a stored bipartite set, a row swaps removed elements after the alive ones
+        return SetType.BIPARTITESET;
+    }
+
+    //***********************************************************************************
+    // ITERATOR
+    //***********************************************************************************
+
+    @Override
+    public ISetIterator iterator() {
+        iter.reset();
+        return iter;
+    }
+
+    @Override
+    public ISetIterator newIterator() {
+        return new ISetIterator() {
+            private int idx = from;
+
+            @Override
+            public void reset() {
+                idx = from;
+            }
+
+            @Override
+            public void notifyRemoving(int item) {
+                if (idx > from && item == csr.values[idx - 1]) {
+                    idx--;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return idx < from + size();
+            }
+
+            @Override
+            public int nextInt() {
+                return csr.values[idx++];
+            }
+        };
+    }
+}
@@ -39,6 +39,27 @@ public class SatTest {
         Assert.assertEquals(sat.solve(), ESat.TRUE);
     }
 
+    @Test(groups = "1s")
+    public void testAddClauses() {
+        MiniSat sat = new MiniSat();
+        int a = MiniSat.makeLiteral(sat.newVariable());
+        int b = MiniSat.makeLiteral(sat.newVariable());
+        int c = MiniSat.makeLiteral(sat.newVariable());
+        int[] arena = {
+                3, c, a, MiniSat.neg(a), // tautology
+                1, a, // unit
+                2, MiniSat.neg(a), b, // turned into a unit clause
+                3, MiniSat.neg(b), c, c, // duplicated literal
+        };
+        Assert.assertTrue(sat.addClauses(arena, 0, arena.length));
+        Assert.assertEquals(sat.nClauses(), 0);
+        Assert.assertEquals(sat.valueLit(a), MiniSat.Boolean.lTrue);
+        Assert.assertEquals(sat.valueLit(b), MiniSat.Boolean.lTrue);
+        Assert.assertEquals(sat.valueLit(c), MiniSat.Boolean.lTrue);
+        Assert.assertFalse(sat.addClauses(new int[]{1, MiniSat.neg(c)}, 0, 2));
+        Assert.assertEquals(sat.solve(), ESat.FALSE);
+    }
+
     private static final String ROOT = "/dimacs/";
     private static final String COMMENT = "#";
     private static final String DELIMITER = ",";
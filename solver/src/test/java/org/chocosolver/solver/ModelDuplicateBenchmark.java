@@ -0,0 +1,43 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+/**
+ * Benchmark comparing {@link Model#duplicate()} with building the same model again,
+ * on the model of {@link ModelTest#globals(int)}.
+ * Not a test: run its main method.
+ *
+ * @since 19/10/2026
+ */
+public class ModelDuplicateBenchmark {
+
+    private static final int NB_COPIES = 1_000;
+    private static final int NB_RUNS = 5;
+
+    public static void main(String[] args) {
+        long rebuild = Long.MAX_VALUE, duplicate = Long.MAX_VALUE;
+        for (int k = 0; k < NB_RUNS; k++) {
+            long t = System.nanoTime();
+            for (int i = 0; i < NB_COPIES; i++) {
+                ModelTest.globals(k);
+            }
+            rebuild = Math.min(rebuild, System.nanoTime() - t);
+            Model model = ModelTest.globals(k);
+            t = System.nanoTime();
+            for (int i = 0; i < NB_COPIES; i++) {
+                model.duplicate();
+            }
+            duplicate = Math.min(duplicate, System.nanoTime() - t);
+        }
+        System.out.printf("%d models, best of %d runs%n", NB_COPIES, NB_RUNS);
+        System.out.printf("  rebuild: %.1f us/model%n", rebuild / 1e3 / NB_COPIES);
+        System.out.printf("  duplicate: %.1f us/model%n", duplicate / 1e3 / NB_COPIES);
+    }
+}
@@ -10,19 +10,29 @@
 package org.chocosolver.solver;
 
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.limits.TimeCounter;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainRandom;
 import org.chocosolver.solver.variables.*;
 import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.ESat;
 import org.chocosolver.util.criteria.Criterion;
+import org.chocosolver.util.objects.graphs.GraphFactory;
+import org.chocosolver.util.objects.graphs.UndirectedGraph;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
+import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Stream;
@@ -740,4 +750,291 @@ public class ModelTest {
         sol.limit(10).forEach(s -> System.out.printf("%s%n", s));
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate1() {
+        Model model = knapsack();
+        Model copy = model.duplicate();
+        Assert.assertNotSame(copy, model);
+        Assert.assertEquals(copy.getNbVars(), model.getNbVars());
+        Assert.assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        for (int i = 0; i < model.getNbVars(); i++) {
+            Assert.assertEquals(copy.getVar(i).getName(), model.getVar(i).getName());
+            Assert.assertEquals(copy.getVar(i).getClass(), model.getVar(i).getClass());
+            Assert.assertSame(copy.getVar(i).getModel(), copy);
+        }
+        Assert.assertSame(copy.getHook("obj"), copy.getObjective());
+        Assert.assertEquals(copy.getResolutionPolicy(), ResolutionPolicy.MAXIMIZE);
+        // the search strategy is duplicated
+        Variable[] decisions = copy.getSolver().getSearch().getVariables();
+        Assert.assertEquals(decisions.length, n);
+        for (int i = 0; i < n; i++) {
+            Assert.assertSame(decisions[i], copy.getVar(i + 1));
+        }
+        while (copy.getSolver().solve()) ;
+        Assert.assertEquals(copy.getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+        // the source model is left unchanged
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+        Assert.assertEquals(copy.getSolver().getNodeCount(), model.getSolver().getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate2() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        BoolVar[] b = model.boolVarArray("b", 3);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{0, 1, 2, 3, 4});
+        model.allDifferent(x).post();
+        model.arithm(model.intOffsetView(x[0], 2), "<", model.intScaleView(x[1], 2)).post();
+        model.arithm(x[2], ">", x[3]).reifyWith(b[0]);
+        model.arithm(x[3], "=", 1).reifyWith(b[1].not());
+        model.sum(b, ">=", 1).post();
+        model.sum(new IntVar[]{x[3], x[4]}, "<=", 6).post();
+        model.scalar(new IntVar[]{x[0], x[2]}, new int[]{2, -1}, ">=", 1).post();
+        model.member(x[4], s).post();
+        model.notMember(3, s).post();
+        model.element(b[2], new int[]{0, 1, 0, 1, 0}, x[0]).post();
+        model.getSolver().setSearch(Search.inputOrderLBSearch(x), Search.inputOrderLBSearch(b));
+        Model copy = model.duplicate("copy");
+        Assert.assertEquals(copy.getName(), "copy");
+        long sols = model.getSolver().streamSolutions().count();
+        Assert.assertTrue(sols > 0);
+        Assert.assertEquals(copy.getSolver().streamSolutions().count(), sols);
+        Assert.assertEquals(copy.getSolver().getNodeCount(), model.getSolver().getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate3() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Model[] copies = new Model[4];
+        java.util.stream.IntStream.range(0, copies.length).parallel().forEach(i -> copies[i] = model.duplicate());
+        for (Model copy : copies) {
+            copy.getSolver().findAllSolutions();
+            Assert.assertEquals(copy.getSolver().getSolutionCount(), 92);
+        }
+        // a copy can be extended
+        Model copy = model.duplicate();
+        copy.arithm((IntVar) copy.getVar(0), "=", 1).post();
+        copy.getSolver().findAllSolutions();
+        Assert.assertEquals(copy.getSolver().getSolutionCount(), 4);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testDuplicate4() {
+        Model model = knapsack();
+        model.getSolver().solve();
+        model.duplicate();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate5() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 3);
+        PropLeFromConstructor p = new PropLeFromConstructor(x[0], x[1]);
+        new Constraint("le", p).post();
+        model.arithm(x[1], "<", x[2]).post();
+        Model copy = model.duplicate();
+        Assert.assertEquals(PropLeFromConstructor.duplicated, 1);
+        Propagator<?> q = copy.getCstrs()[0].getPropagator(0);
+        Assert.assertNotSame(q, p);
+        Assert.assertSame(q.getModel(), copy);
+        Assert.assertSame(q.getConstraint(), copy.getCstrs()[0]);
+        Assert.assertEquals(copy.getSolver().streamSolutions().count(),
+                model.getSolver().streamSolutions().count());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate6() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 3);
+        model.arithm(x[1], "<", x[2]).post();
+        // does not define its own duplicate method
+        new Constraint("le", new PropLeFromConstructor(x[0], x[1]) {
+        }).post();
+        try {
+            model.duplicate();
+            Assert.fail();
+        } catch (SolverException e) {
+            Assert.assertTrue(e.getMessage().contains("does not define duplicate(Model, DuplicationContext)"));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate7() {
+        boolean hardCoded = SetFactory.HARD_CODED;
+        SetFactory.HARD_CODED = false;
+        try {
+            // set variables rely on a pool of operations stored in the hooks
+            Model model = new Model();
+            IntVar x = model.intVar("x", 0, 4);
+            SetVar s = model.setVar("s", new int[]{}, new int[]{0, 1, 2, 3, 4});
+            model.member(x, s).post();
+            Model copy = model.duplicate();
+            Assert.assertEquals(copy.getSolver().streamSolutions().count(),
+                    model.getSolver().streamSolutions().count());
+        } finally {
+            SetFactory.HARD_CODED = hardCoded;
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate8() {
+        // common global constraints, tasks and a search made of a last conflict and a sequencer
+        Model model = globals(8);
+        Model copy = model.duplicate();
+        Assert.assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        for (int i = 0; i < model.getNbCstrs(); i++) {
+            Assert.assertEquals(copy.getCstrs()[i].getPropagator(0).getClass(),
+                    model.getCstrs()[i].getPropagator(0).getClass());
+        }
+        Assert.assertNotNull(copy.getHook(Model.TASK_SET_HOOK_NAME));
+        long sols = model.getSolver().streamSolutions().count();
+        Assert.assertTrue(sols > 0);
+        Assert.assertEquals(copy.getSolver().streamSolutions().count(), sols);
+        Assert.assertEquals(copy.getSolver().getNodeCount(), model.getSolver().getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate9() {
+        // graph variables, their connectivity structure and a graph search
+        Model model = new Model();
+        UndirectedGraph lb = GraphFactory.makeStoredUndirectedGraph(model, 5, SetType.BITSET, SetType.BITSET);
+        UndirectedGraph ub = GraphFactory.makeCompleteStoredUndirectedGraph(model, 5, SetType.BITSET, SetType.BITSET, false);
+        UndirectedGraphVar g = model.graphVar("g", lb, ub);
+        model.connected(g).post();
+        model.nbNodes(g, model.intVar("n", 3)).post();
+        model.maxDegree(g, 2).post();
+        model.getSolver().setSearch(Search.graphVarSearch(g));
+        Model copy = model.duplicate();
+        long sols = model.getSolver().streamSolutions().count();
+        Assert.assertTrue(sols > 0);
+        Assert.assertEquals(copy.getSolver().streamSolutions().count(), sols);
+        Assert.assertEquals(copy.getSolver().getNodeCount(), model.getSolver().getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate10() {
+        // selectors with a state (weights, random numbers) are duplicated too
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 6, 0, 5);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{0, 1, 2, 3, 4, 5});
+        model.allDifferent(x).post();
+        model.sum(x, "<=", 18).post();
+        model.member(x[0], s).post();
+        model.notMember(5, s).post();
+        model.getSolver().setSearch(Search.domOverWDegSearch(Arrays.copyOf(x, 3)),
+                Search.intVarSearch(new org.chocosolver.solver.search.strategy.selectors.variables.Random<>(0),
+                        new IntDomainRandom(0), Arrays.copyOfRange(x, 3, 6)),
+                Search.setVarSearch(s));
+        Model copy = model.duplicate();
+        long sols = model.getSolver().streamSolutions().count();
+        Assert.assertTrue(sols > 0);
+        Assert.assertEquals(copy.getSolver().streamSolutions().count(), sols);
+        Assert.assertEquals(copy.getSolver().getNodeCount(), model.getSolver().getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate11() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 3);
+        model.allDifferent(x).post();
+        model.getSolver().setSearch(Search.intVarSearch(vars -> vars[0], IntVar::getLB, x));
+        try {
+            model.duplicate();
+            Assert.fail();
+        } catch (SolverException e) {
+            Assert.assertTrue(e.getMessage().contains("does not define duplicate"));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate12() {
+        // a set variable with a cardinality variable
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 4);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{0, 1, 2, 3, 4});
+        model.member(x, s).post();
+        model.arithm(s.getCard(), "=", 2).post();
+        Model copy = model.duplicate();
+        SetVar cs = copy.retrieveSetVars()[0];
+        Assert.assertTrue(cs.hasCard());
+        Assert.assertEquals(cs.getCard().getName(), "s.card");
+        Assert.assertEquals(copy.getNbVars(), model.getNbVars());
+        Assert.assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        long sols = model.getSolver().streamSolutions().count();
+        Assert.assertEquals(sols, 20);
+        Assert.assertEquals(copy.getSolver().streamSolutions().count(), sols);
+    }
+
+    /**
+     * @return a model with common global constraints and a composite search, also used by {@link ModelDuplicateBenchmark}
+     */
+    static Model globals(int seed) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        int n = 8;
+        IntVar[] x = model.intVarArray("x", n, 0, 3);
+        Tuples pairs = new Tuples(true);
+        Tuples triples = new Tuples(true);
+        for (int a = 0; a < 4; a++) {
+            for (int b = 0; b < 4; b++) {
+                if (a != b) {
+                    pairs.add(a, b);
+                }
+                for (int c = 0; c < 4; c++) {
+                    if (rnd.nextInt(3) > 0) {
+                        triples.add(a, b, c);
+                    }
+                }
+            }
+        }
+        model.table(x[0], x[1], pairs).post();
+        model.table(new IntVar[]{x[1], x[2], x[3]}, triples).post();
+        model.table(new IntVar[]{x[2], x[3], x[4]}, triples, "GAC3rm").post();
+        model.regular(new IntVar[]{x[4], x[5], x[6], x[7]}, new FiniteAutomaton("(0|1)*(2|3)*")).post();
+        IntVar[] cards = model.intVarArray("c", 4, 1, 3);
+        model.globalCardinality(x, new int[]{0, 1, 2, 3}, cards, true).post();
+        Task[] tasks = new Task[4];
+        IntVar[] heights = new IntVar[4];
+        for (int i = 0; i < 4; i++) {
+            tasks[i] = new Task(x[i], model.intVar(1 + i % 2), model.intVar("e" + i, 0, 6));
+            heights[i] = model.intVar(1);
+        }
+        model.cumulative(tasks, heights, model.intVar(2)).post();
+        model.getSolver().setSearch(Search.lastConflict(Search.sequencer(
+                Search.minDomLBSearch(Arrays.copyOf(x, 4)),
+                Search.inputOrderUBSearch(Arrays.copyOfRange(x, 4, n)))));
+        return model;
+    }
+
+    private static class PropLeFromConstructor extends Propagator<IntVar> {
+
+        static int duplicated = 0;
+
+        PropLeFromConstructor(IntVar x, IntVar y) {
+            super(x, y);
+        }
+
+        @Override
+        public void duplicate(Model model, DuplicationContext context) {
+            if (!context.contains(this)) {
+                duplicated++;
+                context.put(this, new PropLeFromConstructor(context.get(vars[0]), context.get(vars[1])));
+            }
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            vars[0].updateUpperBound(vars[1].getUB(), this);
+            vars[1].updateLowerBound(vars[0].getLB(), this);
+        }
+
+        @Override
+        public ESat isEntailed() {
+            if (vars[0].getUB() <= vars[1].getLB()) return TRUE;
+            if (vars[0].getLB() > vars[1].getUB()) return FALSE;
+            return ESat.UNDEFINED;
+        }
+    }
+
 }
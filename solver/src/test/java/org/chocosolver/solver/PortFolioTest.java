@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
@@ -82,6 +84,40 @@ public class PortFolioTest {
         }
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParetoFront() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        for (int i = 0; i < 4; i++) {
+            Model m = ProblemMaker.makeGolombRuler(6);
+            m.clearObjective();
+            pares.addModel(m);
+        }
+        pares.prepare();
+        int[] cstrs = pares.getModels().stream().mapToInt(Model::getNbCstrs).toArray();
+        List<Solution> front = pares.findParetoFront(m -> (IntVar[]) m.getHook("ticks"), false);
+        Assert.assertEquals(front.size(), 8);
+        Assert.assertEquals(pares.getModels().stream().mapToInt(Model::getNbCstrs).toArray(), cstrs);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testParetoFrontEmpty() {
+        new ParallelPortfolio().findParetoFront(m -> new IntVar[0], false);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testParetoFrontFailure() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        for (int i = 0; i < 2; i++) {
+            Model m = ProblemMaker.makeGolombRuler(6);
+            m.clearObjective();
+            pares.addModel(m);
+        }
+        pares.getModels().get(1).getSolver().plugMonitor((IMonitorSolution) () -> {
+            throw new IllegalStateException("worker failure");
+        });
+        pares.findParetoFront(m -> (IntVar[]) m.getHook("ticks"), false);
+    }
+
     @Test(groups = "1s", timeOut = 60000)
     public void testParWait() {
         ParallelPortfolio pares = new ParallelPortfolio();
@@ -269,4 +305,16 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopies() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModelAndCopies(knapsack(), 3);
+        Assert.assertEquals(pares.getModels().size(), 4);
+        while (pares.solve()) ;
+        Model finder = pares.getBestModel();
+        Assert.assertNotNull(finder);
+        Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 51);
+    }
+
 }
@@ -0,0 +1,170 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.graph.connectivity;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.UndirectedGraphVar;
+import org.chocosolver.util.graphOperations.connectivity.ConnectivityFinder;
+import org.chocosolver.util.graphOperations.connectivity.UGVarIncrementalConnectivity;
+import org.chocosolver.util.objects.graphs.UndirectedGraph;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Tests of {@link UGVarIncrementalConnectivity}.
+ *
+ * @since 19/10/2026
+ */
+public class IncrementalConnectivityTest {
+
+    private static UndirectedGraphVar path(Model m, int n) {
+        UndirectedGraph GLB = new UndirectedGraph(m, n, SetType.BIPARTITESET, false);
+        UndirectedGraph GUB = new UndirectedGraph(m, n, SetType.BIPARTITESET, false);
+        for (int i = 0; i < n; i++) {
+            GUB.addNode(i);
+            GLB.addNode(i);
+        }
+        for (int i = 0; i < n - 1; i++) {
+            GUB.addEdge(i, i + 1);
+        }
+        return m.graphVar("G", GLB, GUB);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBacktrack() throws ContradictionException {
+        Model m = new Model();
+        UndirectedGraphVar g = path(m, 5);
+        UGVarIncrementalConnectivity connectivity = UGVarIncrementalConnectivity.of(g);
+        Assert.assertSame(UGVarIncrementalConnectivity.of(g), connectivity);
+        Assert.assertEquals(connectivity.getNbMandatoryCC(), 5);
+        Assert.assertEquals(connectivity.findPotentialCC().getNBCC(), 1);
+
+        m.getEnvironment().worldPush();
+        g.enforceEdge(0, 1, Cause.Null);
+        g.enforceEdge(2, 3, Cause.Null);
+        g.enforceEdge(1, 2, Cause.Null);
+        g.removeEdge(3, 4, Cause.Null);
+        Assert.assertEquals(connectivity.getNbMandatoryCC(), 2);
+        Assert.assertEquals(connectivity.getMandatoryCCSize(3), 4);
+        Assert.assertEquals(connectivity.findMandatory(0), connectivity.findMandatory(3));
+        ConnectivityFinder cc = connectivity.findPotentialCC();
+        Assert.assertEquals(cc.getNBCC(), 2);
+        Assert.assertNotEquals(cc.getNodeCC()[3], cc.getNodeCC()[4]);
+
+        m.getEnvironment().worldPop();
+        Assert.assertEquals(connectivity.getNbMandatoryCC(), 5);
+        Assert.assertEquals(connectivity.getMandatoryCCSize(3), 1);
+        Assert.assertEquals(connectivity.findPotentialCC().getNBCC(), 1);
+
+        m.getEnvironment().worldPush();
+        g.removeEdge(0, 1, Cause.Null);
+        Assert.assertEquals(connectivity.findPotentialCC().getNBCC(), 2);
+        Assert.assertNotEquals(connectivity.findPotentialCC().getNodeCC()[0], connectivity.findPotentialCC().getNodeCC()[1]);
+        m.getEnvironment().worldPop();
+        Assert.assertEquals(connectivity.findPotentialCC().getNBCC(), 1);
+    }
+
+    @DataProvider
+    public Object[][] seeds() {
+        Object[][] seeds = new Object[20][];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = new Object[]{i};
+        }
+        return seeds;
+    }
+
+    /**
+     * Compare the number of solutions with connectivity constraints, sharing the same structure,
+     * with the number of unconstrained graphs which satisfy them
+     */
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "seeds")
+    public void testRandom(int seed) {
+        int n = 5;
+        int[][] edges = new int[7][];
+        Random rnd = new Random(seed);
+        for (int e = 0; e < edges.length; e++) {
+            int i = rnd.nextInt(n);
+            int j = (i + 1 + rnd.nextInt(n - 1)) % n;
+            edges[e] = new int[]{i, j};
+        }
+        int mandatory = rnd.nextInt(n);
+        int k = 1 + rnd.nextInt(2);
+        long expected = 0;
+        {
+            Model m = new Model();
+            UndirectedGraphVar g = build(m, n, edges, mandatory);
+            while (m.getSolver().solve()) {
+                ConnectivityFinder finder = new ConnectivityFinder(g.getValue());
+                finder.findAllCC();
+                if (finder.getNBCC() == k) {
+                    expected++;
+                }
+            }
+        }
+        Model m = new Model();
+        UndirectedGraphVar g = build(m, n, edges, mandatory);
+        m.nbConnectedComponents(g, m.intVar(k)).post();
+        if (k == 1) {
+            m.connected(g).post();
+        }
+        Assert.assertEquals(m.getSolver().streamSolutions().count(), expected);
+    }
+
+    /**
+     * Compare the number of solutions with the biconnected constraint
+     * with the number of unconstrained graphs which satisfy it
+     */
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "seeds")
+    public void testRandomBiconnected(int seed) {
+        int n = 5;
+        int[][] edges = new int[8][];
+        Random rnd = new Random(seed);
+        for (int e = 0; e < edges.length; e++) {
+            int i = rnd.nextInt(n);
+            int j = (i + 1 + rnd.nextInt(n - 1)) % n;
+            edges[e] = new int[]{i, j};
+        }
+        int mandatory = rnd.nextInt(n);
+        long expected = 0;
+        {
+            Model m = new Model();
+            UndirectedGraphVar g = build(m, n, edges, mandatory);
+            while (m.getSolver().solve()) {
+                if (new ConnectivityFinder(g.getValue()).isBiconnected()) {
+                    expected++;
+                }
+            }
+        }
+        Model m = new Model();
+        UndirectedGraphVar g = build(m, n, edges, mandatory);
+        m.connected(g).post();
+        m.biconnected(g).post();
+        Assert.assertEquals(m.getSolver().streamSolutions().count(), expected);
+    }
+
+    private static UndirectedGraphVar build(Model m, int n, int[][] edges, int mandatory) {
+        UndirectedGraph GLB = new UndirectedGraph(m, n, SetType.BIPARTITESET, false);
+        UndirectedGraph GUB = new UndirectedGraph(m, n, SetType.BIPARTITESET, false);
+        for (int i = 0; i < n; i++) {
+            GUB.addNode(i);
+        }
+        GLB.addNode(mandatory);
+        for (int[] e : edges) {
+            GUB.addEdge(e[0], e[1]);
+        }
+        return m.graphVar("G", GLB, GUB);
+    }
+}
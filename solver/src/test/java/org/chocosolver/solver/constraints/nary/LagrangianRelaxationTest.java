@@ -0,0 +1,299 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.lagrangian.DualizedConstraint;
+import org.chocosolver.solver.constraints.nary.lagrangian.PropLagrangianRelaxation;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @since 19/10/2026
+ */
+public class LagrangianRelaxationTest {
+
+    @Test(groups = "10s", timeOut = 300000)
+    public void testMultiKnapsack() {
+        for (int seed = 0; seed < 30; seed++) {
+            int[] best = new int[2];
+            long[] nodes = new long[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                int n = 8;
+                IntVar[] x = model.intVarArray("x", n, 0, 2);
+                int[] profits = new int[n];
+                for (int i = 0; i < n; i++) {
+                    profits[i] = 1 + rnd.nextInt(20);
+                }
+                DualizedConstraint[] dcs = new DualizedConstraint[2];
+                for (int r = 0; r < 2; r++) {
+                    int[] w = new int[n];
+                    for (int i = 0; i < n; i++) {
+                        w[i] = 1 + rnd.nextInt(15);
+                    }
+                    int capa = 20 + rnd.nextInt(30);
+                    model.scalar(x, w, "<=", capa).post();
+                    dcs[r] = DualizedConstraint.knapsack(w, capa);
+                }
+                IntVar obj = model.intVar("obj", 0, 999);
+                model.scalar(x, profits, "=", obj).post();
+                if (k == 1) {
+                    model.lagrangianRelaxation(x, profits, obj, Model.MAXIMIZE, dcs).post();
+                }
+                model.setObjective(Model.MAXIMIZE, obj);
+                Solver solver = model.getSolver();
+                solver.setSearch(inputOrderLBSearch(x));
+                while (solver.solve()) {
+                    best[k] = obj.getValue();
+                }
+                nodes[k] = solver.getNodeCount();
+            }
+            Assert.assertEquals(best[1], best[0], "seed " + seed);
+            Assert.assertTrue(nodes[1] <= nodes[0], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 300000)
+    public void testAssignment() {
+        // assign n items to m bins, at most 2 items per bin, minimizing the cost
+        for (int seed = 0; seed < 20; seed++) {
+            int[] best = new int[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                int n = 7, m = 4;
+                int[][] costs = new int[n][m];
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < m; j++) {
+                        costs[i][j] = rnd.nextInt(50);
+                    }
+                }
+                IntVar[] x = model.intVarArray("x", n, 0, m - 1);
+                int[] values = {0, 1, 2, 3};
+                int[] occMin = {0, 0, 1, 1};
+                int[] occMax = {2, 2, 2, 2};
+                IntVar[] cards = new IntVar[m];
+                for (int j = 0; j < m; j++) {
+                    cards[j] = model.intVar(occMin[j], occMax[j]);
+                }
+                model.globalCardinality(x, values, cards, true).post();
+                IntVar[] c = new IntVar[n];
+                for (int i = 0; i < n; i++) {
+                    c[i] = model.intVar(0, 50);
+                    model.element(c[i], costs[i], x[i]).post();
+                }
+                IntVar obj = model.intVar("obj", 0, 999);
+                model.sum(c, "=", obj).post();
+                if (k == 1) {
+                    new Constraint("LAGR", new PropLagrangianRelaxation(x, obj, Model.MINIMIZE,
+                            (i, v) -> costs[i][v],
+                            new DualizedConstraint[]{DualizedConstraint.cardinality(values, occMin, occMax)},
+                            30)).post();
+                }
+                model.setObjective(Model.MINIMIZE, obj);
+                Solver solver = model.getSolver();
+                solver.setSearch(inputOrderLBSearch(x));
+                while (solver.solve()) {
+                    best[k] = obj.getValue();
+                }
+            }
+            Assert.assertEquals(best[1], best[0], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 300000)
+    public void testResource() {
+        // schedule tasks on a resource, minimizing the weighted sum of starting times
+        for (int seed = 0; seed < 20; seed++) {
+            int[] best = new int[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                int n = 5, horizon = 12, capa = 3;
+                int[] d = new int[n], h = new int[n], w = new int[n];
+                for (int i = 0; i < n; i++) {
+                    d[i] = 1 + rnd.nextInt(4);
+                    h[i] = 1 + rnd.nextInt(3);
+                    w[i] = 1 + rnd.nextInt(5);
+                }
+                IntVar[] s = new IntVar[n];
+                Task[] tasks = new Task[n];
+                IntVar[] heights = new IntVar[n];
+                for (int i = 0; i < n; i++) {
+                    s[i] = model.intVar("s" + i, 0, horizon - d[i]);
+                    tasks[i] = new Task(s[i], d[i]);
+                    heights[i] = model.intVar(h[i]);
+                }
+                model.cumulative(tasks, heights, model.intVar(capa)).post();
+                IntVar obj = model.intVar("obj", 0, 999);
+                model.scalar(s, w, "=", obj).post();
+                if (k == 1) {
+                    model.lagrangianRelaxation(s, w, obj, Model.MINIMIZE,
+                            DualizedConstraint.resource(d, h, capa, 0, horizon)).post();
+                }
+                model.setObjective(Model.MINIMIZE, obj);
+                Solver solver = model.getSolver();
+                solver.setSearch(inputOrderLBSearch(s));
+                best[k] = -1;
+                while (solver.solve()) {
+                    best[k] = obj.getValue();
+                }
+            }
+            Assert.assertEquals(best[1], best[0], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLargeCoefficients() {
+        // -50_000 * x overflows an int when x >= 42_950, the objective does not
+        Model model = new Model();
+        IntVar[] x = new IntVar[]{model.intVar("x", 42_960, 43_000), model.intVar("y", 42_000, 42_900)};
+        int[] coeffs = {-50_000, 50_000};
+        IntVar obj = model.intVar("obj", -10_000_000, 10_000_000);
+        model.scalar(x, coeffs, "=", obj).post();
+        model.scalar(x, new int[]{1, -1}, "<=", 100).post();
+        model.lagrangianRelaxation(x, coeffs, obj, Model.MINIMIZE,
+                DualizedConstraint.linear(new int[]{1, -1}, "<=", 100)).post();
+        model.setObjective(Model.MINIMIZE, obj);
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(x));
+        int best = Integer.MAX_VALUE;
+        while (solver.solve()) {
+            best = obj.getValue();
+        }
+        Assert.assertEquals(best, -5_000_000);
+    }
+
+    @Test(groups = "10s", timeOut = 300000)
+    public void testLargeMagnitudes() {
+        // x_2k = x_2k+1, the Lagrangian cost of a pair is (C + d_k).x_2k - C.x_2k+1 with C = 10^9:
+        // its terms reach 10^12 while the objective stays small
+        int C = 1_000_000_000;
+        for (int seed = 0; seed < 20; seed++) {
+            int[] best = new int[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                int p = 4;
+                IntVar[] x = model.intVarArray("x", 2 * p, 0, 1000, true);
+                int[] d = new int[p];
+                int[] w = new int[p];
+                int[] coeffs = new int[2 * p];
+                DualizedConstraint[] dcs = new DualizedConstraint[p + 1];
+                for (int i = 0; i < p; i++) {
+                    d[i] = 1 + rnd.nextInt(20);
+                    w[i] = 1 + rnd.nextInt(15);
+                    coeffs[2 * i] = C + d[i];
+                    coeffs[2 * i + 1] = -C;
+                    model.arithm(x[2 * i], "=", x[2 * i + 1]).post();
+                    int[] pair = new int[2 * p];
+                    pair[2 * i] = 1;
+                    pair[2 * i + 1] = -1;
+                    dcs[i] = DualizedConstraint.linear(pair, "=", 0);
+                }
+                int capa = 500 + rnd.nextInt(1000);
+                int[] weights = new int[2 * p];
+                IntVar[] evens = new IntVar[p];
+                for (int i = 0; i < p; i++) {
+                    weights[2 * i] = w[i];
+                    evens[i] = x[2 * i];
+                }
+                model.scalar(evens, w, "<=", capa).post();
+                dcs[p] = DualizedConstraint.knapsack(weights, capa);
+                IntVar obj = model.intVar("obj", 0, 1_000_000, true);
+                model.scalar(evens, d, "=", obj).post();
+                if (k == 1) {
+                    model.lagrangianRelaxation(x, coeffs, obj, Model.MAXIMIZE, dcs).post();
+                }
+                model.setObjective(Model.MAXIMIZE, obj);
+                Solver solver = model.getSolver();
+                solver.setSearch(inputOrderLBSearch(x));
+                solver.limitTime("20s");
+                while (solver.solve()) {
+                    best[k] = obj.getValue();
+                }
+            }
+            Assert.assertEquals(best[1], best[0], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLinearOnBounds() throws ContradictionException {
+        // the linear path only evaluates bounds, it must filter as the enumeration does
+        boolean filtered = false;
+        for (int seed = 0; seed < 20; seed++) {
+            int[][] bounds = new int[2][];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                int n = 5;
+                IntVar[] x = model.intVarArray("x", n, 0, 500, true);
+                int[] profits = new int[n];
+                int[] w = new int[n];
+                for (int i = 0; i < n; i++) {
+                    profits[i] = 1 + rnd.nextInt(20);
+                    w[i] = 1 + rnd.nextInt(15);
+                }
+                int capa = 200 + rnd.nextInt(300);
+                double ratio = 0.;
+                for (int i = 0; i < n; i++) {
+                    ratio = Math.max(ratio, profits[i] / (double) w[i]);
+                }
+                // close to the LP optimum, so that values get filtered
+                IntVar obj = model.intVar("obj", (int) (.9 * capa * ratio), 100_000, true);
+                DualizedConstraint dc = DualizedConstraint.knapsack(w, capa);
+                if (k == 0) {
+                    new Constraint("LAG", new PropLagrangianRelaxation(x, obj, Model.MAXIMIZE,
+                            (i, v) -> profits[i] * v, new DualizedConstraint[]{dc}, 30)).post();
+                } else {
+                    model.lagrangianRelaxation(x, profits, obj, Model.MAXIMIZE, dc).post();
+                }
+                model.getSolver().propagate();
+                bounds[k] = new int[2 * n + 1];
+                for (int i = 0; i < n; i++) {
+                    bounds[k][2 * i] = x[i].getLB();
+                    bounds[k][2 * i + 1] = x[i].getUB();
+                }
+                bounds[k][2 * n] = obj.getUB();
+            }
+            Assert.assertEquals(bounds[1], bounds[0], "seed " + seed);
+            for (int i = 0; i < 5; i++) {
+                filtered |= bounds[1][2 * i + 1] < 500;
+            }
+        }
+        Assert.assertTrue(filtered);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHugeDomains() throws ContradictionException {
+        // max 3x + 2y s.t. x + y <= 10^7: the optimum is 3.10^7
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 2, 0, 10_000_000, true);
+        IntVar obj = model.intVar("obj", 0, 100_000_000, true);
+        model.lagrangianRelaxation(x, new int[]{3, 2}, obj, Model.MAXIMIZE,
+                DualizedConstraint.knapsack(new int[]{1, 1}, 10_000_000)).post();
+        model.getSolver().propagate();
+        Assert.assertTrue(obj.getUB() >= 30_000_000);
+        Assert.assertTrue(obj.getUB() < 50_000_000);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.lp.DualSimplex;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @since 19/10/2026
+ */
+public class LinearRelaxationTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSimplex1() {
+        // max 3x + 2y s.t. x + y <= 4, x + 3y <= 6, x in [0,3], y in [0,10]
+        DualSimplex lp = new DualSimplex(
+                new double[][]{{1, 1}, {1, 3}},
+                new double[]{Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY},
+                new double[]{4, 6},
+                new double[]{-3, -2});
+        lp.setBounds(0, 0, 3);
+        lp.setBounds(1, 0, 10);
+        Assert.assertEquals(lp.solve(100), DualSimplex.Status.OPTIMAL);
+        Assert.assertEquals(lp.getObjective(), -11., 1e-9);
+        Assert.assertEquals(lp.getValue(0), 3., 1e-9);
+        Assert.assertEquals(lp.getValue(1), 1., 1e-9);
+        Assert.assertTrue(lp.getSafeObjective() <= -11.);
+        Assert.assertEquals(lp.getSafeObjective(), -11., 1e-9);
+        // warm start after bound change
+        lp.setBounds(0, 0, 2);
+        Assert.assertEquals(lp.solve(100), DualSimplex.Status.OPTIMAL);
+        Assert.assertEquals(lp.getObjective(), -26. / 3, 1e-9);
+        Assert.assertEquals(lp.getSafeObjective(), -26. / 3, 1e-9);
+        Assert.assertFalse(lp.isInfeasibilityCertified());
+        // infeasibility
+        lp.setBounds(0, 3, 3);
+        lp.setBounds(1, 2, 10);
+        Assert.assertEquals(lp.solve(100), DualSimplex.Status.INFEASIBLE);
+        Assert.assertTrue(lp.isInfeasibilityCertified());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSimplex2() {
+        // min x + y s.t. x + 2y >= 3, 2x + y >= 3, x = y + z, x,y in [0,10], z in [-5, 5]
+        DualSimplex lp = new DualSimplex(
+                new double[][]{{1, 2, 0}, {2, 1, 0}, {1, -1, -1}},
+                new double[]{3, 3, 0},
+                new double[]{Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 0},
+                new double[]{1, 1, 0});
+        lp.setBounds(0, 0, 10);
+        lp.setBounds(1, 0, 10);
+        lp.setBounds(2, -5, 5);
+        Assert.assertEquals(lp.solve(100), DualSimplex.Status.OPTIMAL);
+        Assert.assertEquals(lp.getObjective(), 2., 1e-9);
+        Assert.assertTrue(lp.getSafeObjective() <= 2.);
+        Assert.assertEquals(lp.getSafeObjective(), 2., 1e-9);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSafeBound() {
+        // min x s.t. 1e8.x - 1e8.y >= 1, x,y in [0, 1e6]: the optimum is 1e-8
+        DualSimplex lp = new DualSimplex(
+                new double[][]{{1e8, -1e8}},
+                new double[]{1},
+                new double[]{Double.POSITIVE_INFINITY},
+                new double[]{1, 0});
+        lp.setBounds(0, 0, 1e6);
+        lp.setBounds(1, 0, 1e6);
+        lp.solve(100);
+        Assert.assertTrue(lp.getSafeObjective() <= 1e-8);
+        Assert.assertEquals(lp.getSafeObjective(), 1e-8, 1e-6);
+        Assert.assertTrue(lp.getSafeReducedCostLB(0) <= lp.getSafeReducedCostUB(0));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        long[] nodes = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = knapsack(k == 1);
+            Solver solver = model.getSolver();
+            while (solver.solve()) ;
+            Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue(), 97);
+            nodes[k] = solver.getNodeCount();
+        }
+        Assert.assertTrue(nodes[1] < nodes[0]);
+    }
+
+    @Test(groups = "10s", timeOut = 300000)
+    public void testRandom() {
+        for (int seed = 0; seed < 50; seed++) {
+            int[] best = new int[2];
+            long[] nodes = new long[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                int n = 6 + rnd.nextInt(4);
+                IntVar[] x = model.intVarArray("x", n, 0, 1 + rnd.nextInt(5));
+                for (int r = 0; r < 3; r++) {
+                    int[] c = new int[n];
+                    for (int i = 0; i < n; i++) {
+                        c[i] = rnd.nextInt(21) - 5;
+                    }
+                    model.scalar(x, c, rnd.nextBoolean() ? "<=" : ">=", rnd.nextInt(30)).post();
+                }
+                int[] w = new int[n];
+                for (int i = 0; i < n; i++) {
+                    w[i] = rnd.nextInt(10) - 2;
+                }
+                IntVar obj = model.intVar("obj", -1000, 1000);
+                model.scalar(x, w, "=", obj).post();
+                boolean maximize = seed % 2 == 0;
+                if (k == 1) {
+                    model.linearRelaxation(obj, maximize).post();
+                }
+                model.setObjective(maximize, obj);
+                Solver solver = model.getSolver();
+                solver.setSearch(inputOrderLBSearch(x));
+                best[k] = Integer.MIN_VALUE;
+                while (solver.solve()) {
+                    best[k] = obj.getValue();
+                }
+                nodes[k] = solver.getNodeCount();
+            }
+            Assert.assertEquals(best[1], best[0], "seed " + seed);
+            Assert.assertTrue(nodes[1] <= nodes[0], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 300000)
+    public void testRandomLargeCoefficients() {
+        for (int seed = 0; seed < 30; seed++) {
+            int[] best = new int[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                int n = 6;
+                IntVar[] x = model.intVarArray("x", n, 0, 3);
+                for (int r = 0; r < 3; r++) {
+                    int[] c = new int[n];
+                    for (int i = 0; i < n; i++) {
+                        c[i] = rnd.nextInt(2_000_001) - 500_000;
+                    }
+                    model.scalar(x, c, rnd.nextBoolean() ? "<=" : ">=", rnd.nextInt(3_000_000)).post();
+                }
+                int[] w = new int[n];
+                for (int i = 0; i < n; i++) {
+                    w[i] = rnd.nextInt(20_000_001) - 4_000_000;
+                }
+                IntVar obj = model.intVar("obj", -200_000_000, 200_000_000);
+                model.scalar(x, w, "=", obj).post();
+                boolean maximize = seed % 2 == 0;
+                if (k == 1) {
+                    model.linearRelaxation(obj, maximize).post();
+                }
+                model.setObjective(maximize, obj);
+                Solver solver = model.getSolver();
+                solver.setSearch(inputOrderLBSearch(x));
+                best[k] = Integer.MIN_VALUE;
+                while (solver.solve()) {
+                    best[k] = obj.getValue();
+                }
+            }
+            Assert.assertEquals(best[1], best[0], "seed " + seed);
+        }
+    }
+
+    private static Model knapsack(boolean relax) {
+        Model model = new Model();
+        int[] weights = {7, 11, 13, 17, 19, 23, 29, 31};
+        int[] profits = {5, 9, 10, 14, 15, 17, 23, 25};
+        IntVar[] items = model.intVarArray("i", weights.length, 0, 3);
+        IntVar weight = model.intVar("w", 0, 120);
+        IntVar profit = model.intVar("p", 0, 500);
+        model.knapsack(items, weight, profit, weights, profits).post();
+        if (relax) {
+            model.linearRelaxation(profit, true).post();
+        }
+        model.setObjective(Model.MAXIMIZE, profit);
+        model.getSolver().setSearch(inputOrderLBSearch(items));
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTooLarge() {
+        Assert.assertTrue(DualSimplex.fits(1000, 3000));
+        Assert.assertFalse(DualSimplex.fits(2100, 10));
+        Assert.assertThrows(SolverException.class, () -> new DualSimplex(
+                new double[2100][1], new double[2100], new double[2100], new double[1]));
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 10, 0, 5);
+        for (int i = 0; i < 2100; i++) {
+            model.sum(new IntVar[]{x[i % 10], x[(i + 1) % 10], x[(i + 3) % 10]}, "<=", 12).post();
+        }
+        IntVar obj = model.intVar("o", 0, 50);
+        model.sum(x, "=", obj).post();
+        Assert.assertEquals(model.linearRelaxation(obj, true).getName(), "TRUE");
+    }
+}
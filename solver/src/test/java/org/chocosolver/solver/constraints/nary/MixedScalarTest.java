@@ -9,13 +9,24 @@
  */
 package org.chocosolver.solver.constraints.nary;
 
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.testng.Assert.*;
 
 /**
@@ -153,6 +164,137 @@ public class MixedScalarTest {
         checkSolutions(coeffs, vars, 20., "=");
     }
 
+    @DataProvider
+    public Object[][] incr() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    private static Model incrModel(boolean incr) {
+        return new Model(Settings.init().setEnableIncrementalityOnMixedScalar(n -> incr));
+    }
+
+    @Test(groups = "1s", timeOut=60000, dataProvider = "incr")
+    public void testFractionalCoeffsRandom(boolean incr) {
+        String[] ops = {"=", "<=", ">="};
+        for (int seed = 0; seed < 30; seed++) {
+            Random rnd = new Random(seed);
+            int n = 2 + rnd.nextInt(3);
+            double[] coeffs = new double[n];
+            for (int i = 0; i < n; i++) {
+                coeffs[i] = (rnd.nextInt(9) - 4) / 2.;
+            }
+            String op = ops[seed % 3];
+            double b = rnd.nextInt(7) - 3;
+            // brute force
+            int expected = 0;
+            int[] t = new int[n];
+            Arrays.fill(t, -2);
+            while (t[0] <= 2) {
+                double s = 0;
+                for (int i = 0; i < n; i++) {
+                    s += coeffs[i] * t[i];
+                }
+                if (op.equals("=") ? s == b : op.equals("<=") ? s <= b : s >= b) {
+                    expected++;
+                }
+                int k = n - 1;
+                while (k > 0 && t[k] == 2) {
+                    t[k--] = -2;
+                }
+                t[k]++;
+            }
+            Model model = incrModel(incr);
+            IntVar[] vars = model.intVarArray(n, -2, 2, seed % 2 == 0);
+            model.scalar(vars, coeffs, op, b).post();
+            model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+            assertEquals(model.getSolver().findAllSolutions().size(), expected, "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut=60000, dataProvider = "incr")
+    public void testMixedIntReal(boolean incr) {
+        model = incrModel(incr);
+        IntVar[] ivars = model.intVarArray(3, 0, 4);
+        RealVar r = model.realVar("r", 0., 10., .01);
+        Variable[] vars = new Variable[]{r, ivars[0], ivars[1], ivars[2]};
+        double[] coeffs = new double[]{0.5, 1.5, -1, 2.25};
+        model.scalar(vars, coeffs, "=", 7.).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(ivars), Search.realVarSearch(r));
+        int nbSol = 0;
+        while (solver.solve()) {
+            nbSol++;
+            double s = 1.5 * ivars[0].getValue() - ivars[1].getValue() + 2.25 * ivars[2].getValue();
+            assertTrue(0.5 * r.getLB() + s <= 7. + 1.e-9);
+            assertTrue(0.5 * r.getUB() + s >= 7. - 1.e-9);
+        }
+        // 0 <= 7 - s <= 5
+        int expected = 0;
+        for (int a = 0; a <= 4; a++) {
+            for (int c = 0; c <= 4; c++) {
+                for (int d = 0; d <= 4; d++) {
+                    double s = 1.5 * a - c + 2.25 * d;
+                    if (s >= 2. && s <= 7.) expected++;
+                }
+            }
+        }
+        assertEquals(nbSol, expected);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testInfiniteBound() throws ContradictionException {
+        // only the incremental version deals with infinite bounds
+        model = incrModel(true);
+        RealVar x = model.realVar("x", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1.e-6);
+        RealVar y = model.realVar("y", 1., 3., 1.e-6);
+        IntVar z = model.intVar("z", -5, 5);
+        model.scalar(new Variable[]{x, y, z}, new double[]{2., 0.1, -1.}, "<=", 4.).post();
+        model.scalar(new Variable[]{x, z}, new double[]{1., 1.}, ">=", 1.).post();
+        model.getSolver().propagate();
+        // 2x <= 4 - 0.1 + 5, x >= 1 - 5 and z >= 1 - x
+        assertTrue(x.getUB() >= 4.45 && x.getUB() <= 4.45 + 1.e-9, "" + x.getUB());
+        assertTrue(x.getLB() <= -4. && x.getLB() >= -4. - 1.e-9, "" + x.getLB());
+        assertEquals(z.getLB(), -3);
+        assertEquals(z.getUB(), 5);
+        model.arithm(z, "=", 0).post();
+        model.getSolver().propagate();
+        assertTrue(x.getLB() >= 1. - 1.e-9 && x.getLB() <= 1., "" + x.getLB());
+        assertTrue(x.getUB() >= 1.95 && x.getUB() <= 1.95 + 1.e-9, "" + x.getUB());
+    }
+
+    @Test(groups = "1s", timeOut=60000, dataProvider = "incr")
+    public void testIncrementalBacktrack(boolean incr) throws ContradictionException {
+        model = incrModel(incr);
+        IntVar[] ivars = model.intVarArray(20, 0, 10);
+        RealVar r = model.realVar("r", 0., 100., 1.e-3);
+        Variable[] vars = ArrayUtils.append(ivars, new Variable[]{r});
+        double[] coeffs = new double[21];
+        Arrays.fill(coeffs, 0.25);
+        coeffs[20] = -1.;
+        model.scalar(vars, coeffs, "=", 0.).post();
+        model.getSolver().propagate();
+        assertEquals(r.getUB(), 50., 1.e-9);
+        model.getEnvironment().worldPush();
+        for (int i = 0; i < 10; i++) {
+            ivars[i].instantiateTo(10, Cause.Null);
+        }
+        model.getSolver().propagate();
+        assertEquals(r.getLB(), 25., 1.e-9);
+        r.updateUpperBound(26., Cause.Null);
+        model.getSolver().propagate();
+        for (int i = 10; i < 20; i++) {
+            assertEquals(ivars[i].getUB(), 4);
+        }
+        model.getEnvironment().worldPop();
+        assertEquals(r.getLB(), 0.);
+        assertEquals(ivars[15].getUB(), 10);
+        r.updateUpperBound(1., Cause.Null);
+        model.getSolver().propagate();
+        for (int i = 0; i < 20; i++) {
+            assertEquals(ivars[i].getUB(), 4);
+        }
+    }
+
 
     private int checkSolutions(double[] coeffs, IntVar[] vars, IntVar sum, String operator) {
         Model model = vars[0].getModel();
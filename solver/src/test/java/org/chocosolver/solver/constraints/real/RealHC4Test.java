@@ -0,0 +1,156 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.real;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests of real constraints filtered in Java, when Ibex is disabled.
+ *
+ * @since 19/10/2026
+ */
+public class RealHC4Test {
+
+    private static final double PRECISION = 1.e-6;
+
+    private static Model model() {
+        return new Model(Settings.init().setEnableIbex(false));
+    }
+
+    @Test(groups = "1s")
+    public void testLinear() throws ContradictionException {
+        Model model = model();
+        RealVar x = model.realVar("x", 0., 10., PRECISION);
+        RealVar y = model.realVar("y", 2., 10., PRECISION);
+        model.realIbexGenericConstraint("{0} + {1} = 3", x, y).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(x.getLB(), 0., PRECISION);
+        Assert.assertEquals(x.getUB(), 1., PRECISION);
+        Assert.assertEquals(y.getLB(), 2., PRECISION);
+        Assert.assertEquals(y.getUB(), 3., PRECISION);
+    }
+
+    @Test(groups = "1s")
+    public void testSquare() throws ContradictionException {
+        Model model = model();
+        RealVar x = model.realVar("x", -10., 10., PRECISION);
+        model.realIbexGenericConstraint("{0}^2 = 4;{0} >= -1", x).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(x.getLB(), 2., PRECISION);
+        Assert.assertEquals(x.getUB(), 2., PRECISION);
+    }
+
+    @Test(groups = "1s")
+    public void testFunctions() {
+        Model model = model();
+        RealVar x = model.realVar("x", -5., 5., PRECISION);
+        RealVar y = model.realVar("y", 0., 10., PRECISION);
+        model.realIbexGenericConstraint("exp({0}) = {1};ln({1}) + sqrt(abs({0})) >= 2 * pi / 3", x, y).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.realVarSearch(x, y));
+        Assert.assertTrue(solver.solve());
+        Assert.assertEquals(Math.exp(x.getLB()), y.getLB(), 1.e-4);
+        Assert.assertTrue(y.getUB() > 1.);
+    }
+
+    @Test(groups = "1s")
+    public void testConstantFolding() throws ContradictionException {
+        Model model = model();
+        RealVar x = model.realVar("x", -100., 100., PRECISION);
+        model.realIbexGenericConstraint("{0} = max(2, 3)^2 - 1.5 * [1,2] + min(-1,1)", x).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(x.getLB(), 5., PRECISION);
+        Assert.assertEquals(x.getUB(), 6.5, PRECISION);
+    }
+
+    @Test(groups = "1s")
+    public void testIntVars() {
+        Model model = model();
+        IntVar[] p = model.intVarArray("p", 4, 0, 5);
+        RealVar avg = model.realVar("avg", 0., 5., PRECISION);
+        model.realIbexGenericConstraint("({0}+{1}+{2}+{3})/4 = {4};{4} >= 4.5",
+                p[0], p[1], p[2], p[3], avg).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(p));
+        int nbSol = 0;
+        while (solver.solve()) {
+            int sum = 0;
+            for (IntVar v : p) {
+                sum += v.getValue();
+            }
+            Assert.assertTrue(sum >= 18);
+            Assert.assertEquals(avg.getLB(), sum / 4., 1.e-4);
+            nbSol++;
+        }
+        // 1 solution with sum 20, 4 with sum 19, 10 with sum 18
+        Assert.assertEquals(nbSol, 15);
+    }
+
+    @Test(groups = "1s")
+    public void testCycloHexan() {
+        Model model = model();
+        RealVar x = model.realVar("x", -1.0e8, 1.0e8, PRECISION);
+        RealVar y = model.realVar("y", -1.0e8, 1.0e8, PRECISION);
+        RealVar z = model.realVar("z", -1.0e8, 1.0e8, PRECISION);
+        model.realIbexGenericConstraint(
+                "{1}^2 * (1 + {2}^2) + {2} * ({2} - 24 * {1}) = -13;" +
+                        "{0}^2 * (1 + {1}^2) + {1} * ({1} - 24 * {0}) = -13;" +
+                        "{2}^2 * (1 + {0}^2) + {0} * ({0} - 24 * {2}) = -13",
+                x, y, z).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.realVarSearch(x, y, z));
+        int nbSol = 0;
+        while (solver.solve()) {
+            double vx = (x.getLB() + x.getUB()) / 2;
+            double vy = (y.getLB() + y.getUB()) / 2;
+            double vz = (z.getLB() + z.getUB()) / 2;
+            Assert.assertEquals(vy * vy * (1 + vz * vz) + vz * (vz - 24 * vy), -13, 1.e-2);
+            Assert.assertEquals(vx * vx * (1 + vy * vy) + vy * (vy - 24 * vx), -13, 1.e-2);
+            Assert.assertEquals(vz * vz * (1 + vx * vx) + vx * (vx - 24 * vz), -13, 1.e-2);
+            nbSol++;
+        }
+        Assert.assertTrue(nbSol > 0);
+    }
+
+    @Test(groups = "1s")
+    public void testReify() {
+        Model model = model();
+        RealVar x = model.realVar("x", 0., 4., PRECISION);
+        BoolVar b = model.boolVar("b");
+        model.realIbexGenericConstraint("{0}^2 <= 2", x).reifyWith(b);
+        model.arithm(b, "=", 0).post();
+        model.realIbexGenericConstraint("{0} <= 1", x).post();
+        Assert.assertFalse(model.getSolver().solve());
+    }
+
+    @Test(groups = "1s", expectedExceptions = SolverException.class)
+    public void testUnsupported() {
+        Model model = model();
+        RealVar x = model.realVar("x", 0., 4., PRECISION);
+        model.realIbexGenericConstraint("tan({0}) = 1", x);
+    }
+
+    @Test(groups = "1s", expectedExceptions = SolverException.class)
+    public void testMalformed() {
+        Model model = model();
+        RealVar x = model.realVar("x", 0., 4., PRECISION);
+        model.realIbexGenericConstraint("{0} + = 1", x);
+    }
+}
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.expression.discrete;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
 import org.chocosolver.solver.expression.discrete.relational.ReExpression;
@@ -627,4 +628,41 @@ public class ExpressionTest {
         Assert.assertEquals(z.getUB(), 2);
         Assert.assertEquals(z.getDomainSize(), 2);
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCache1() {
+        Model model = new Model(Settings.init().setEnableExpressionCaching(true));
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        IntVar z = model.intVar("z", 0, 5);
+        IntVar v1 = x.add(y).mul(z).intVar();
+        IntVar v2 = y.add(x).mul(z).intVar();
+        Assert.assertSame(v1, v2);
+        // x + y, (x + y) * z
+        Assert.assertEquals(model.getCachedExpressions().size(), 2);
+        Assert.assertEquals(model.getNbVars(), 5);
+        Assert.assertEquals(model.getNbCstrs(), 2);
+        Assert.assertNotSame(x.sub(y).intVar(), y.sub(x).intVar());
+        BoolVar b1 = x.add(y).gt(z).and(x.ne(2)).boolVar();
+        BoolVar b2 = x.ne(2).and(y.add(x).gt(z)).boolVar();
+        Assert.assertSame(b1, b2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCache2() {
+        long[] nbSols = new long[2];
+        int[] nbVars = new int[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model(Settings.init().setEnableExpressionCaching(k == 0));
+            IntVar[] xs = model.intVarArray("x", 4, 0, 3);
+            for (int i = 0; i < 3; i++) {
+                xs[0].mul(xs[1]).add(xs[i + 1]).le(xs[3].dist(xs[2])).post();
+                xs[0].mul(xs[1]).sub(xs[i]).ne(3).post();
+            }
+            nbVars[k] = model.getNbVars();
+            nbSols[k] = model.getSolver().streamSolutions().count();
+        }
+        Assert.assertEquals(nbSols[0], nbSols[1]);
+        Assert.assertTrue(nbVars[0] < nbVars[1]);
+    }
 }
@@ -0,0 +1,218 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.presolve;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @since 19/10/2026
+ */
+public class PresolverTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEntailed() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        IntVar z = model.intVar("z", 0, 5);
+        model.arithm(x, "=", 3).post();
+        model.sum(new IntVar[]{x, y, z}, "<=", 20).post();
+        model.allDifferent(x, y).post();
+        Presolver presolver = new Presolver(model);
+        presolver.presolve();
+        Assert.assertTrue(x.isInstantiated());
+        Assert.assertEquals(presolver.getNbFixedVariables(), 1);
+        Assert.assertEquals(model.getNbCstrs(), 1);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 30);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSubstitution() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        IntVar z = model.intVar("z", 0, 10);
+        IntVar w = model.intVar("w", 0, 10);
+        model.arithm(x, "=", y, "+", 2).post();
+        model.scalar(new IntVar[]{x, z, w}, new int[]{1, 2, 3}, "<=", 20).post();
+        Presolver presolver = new Presolver(model).setProbingLimit(0);
+        presolver.presolve();
+        Assert.assertEquals(presolver.getNbSubstitutedVariables(), 1);
+        Assert.assertEquals(presolver.getNbRewrittenConstraints(), 1);
+        Assert.assertEquals(x.getNbProps(), 1);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), count(false, this::substitution));
+    }
+
+    private void substitution(Model model) {
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        IntVar z = model.intVar("z", 0, 10);
+        IntVar w = model.intVar("w", 0, 10);
+        model.arithm(x, "=", y, "+", 2).post();
+        model.scalar(new IntVar[]{x, z, w}, new int[]{1, 2, 3}, "<=", 20).post();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDominatedRows() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 3, 0, 5);
+        model.sum(xs, "<=", 5).post();
+        model.sum(xs, "<=", 7).post();
+        model.scalar(xs, new int[]{2, 2, 2}, "<=", 11).post();
+        model.scalar(xs, new int[]{-1, -1, -1}, ">=", -9).post();
+        Presolver presolver = new Presolver(model);
+        presolver.presolve();
+        Assert.assertEquals(model.getNbCstrs(), 1);
+        Assert.assertEquals(presolver.getNbRemovedConstraints(), 3);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 56);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRangeFixpoint() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 3, 0, 5);
+        model.scalar(xs, new int[]{1, 2, 3}, ">=", 5).post();
+        model.scalar(xs, new int[]{1, 2, 3}, "<=", 20).post();
+        Presolver presolver = new Presolver(model);
+        presolver.presolve();
+        Assert.assertEquals(presolver.getNbRewrittenConstraints(), 0);
+        Assert.assertEquals(presolver.getNbRemovedConstraints(), 0);
+        Assert.assertEquals(presolver.getNbRounds(), 1);
+        Assert.assertEquals(model.getNbCstrs(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTightening() throws ContradictionException {
+        Model model = new Model();
+        BoolVar[] bs = model.boolVarArray("b", 3);
+        model.scalar(bs, new int[]{5, 3, 2}, "<=", 6).post();
+        Presolver presolver = new Presolver(model).setProbingLimit(0);
+        presolver.presolve();
+        // 4.b0 + 3.b1 + 2.b2 <= 5
+        Assert.assertEquals(presolver.getNbTightenedCoefficients(), 1);
+        Assert.assertEquals(model.getNbCstrs(), 1);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTable() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 2);
+        IntVar y = model.intVar("y", 0, 5);
+        IntVar z = model.intVar("z", 1, 2);
+        model.arithm(z, "=", 1).post();
+        Tuples tuples = new Tuples(new int[][]{
+                {0, 0, 1}, {1, 1, 1}, {1, 1, 2}, {2, 2, 1}, {3, 3, 1}, {4, 4, 2}
+        }, true);
+        model.table(new IntVar[]{x, y, z}, tuples, "CT+").post();
+        Presolver presolver = new Presolver(model);
+        presolver.presolve();
+        Assert.assertEquals(presolver.getNbRemovedTuples(), 3);
+        Assert.assertEquals(model.getNbCstrs(), 1);
+        Assert.assertEquals(model.getCstrs()[0].getPropagator(0).getNbVars(), 2);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testProbing() throws ContradictionException {
+        Model model = new Model();
+        BoolVar b = model.boolVar("b");
+        BoolVar x = model.boolVar("x");
+        BoolVar y = model.boolVar("y");
+        model.arithm(x, ">=", b).post();
+        model.arithm(y, ">=", b).post();
+        model.arithm(x, "+", y, "<=", 1).post();
+        Presolver presolver = new Presolver(model);
+        presolver.presolve();
+        Assert.assertTrue(b.isInstantiatedTo(0));
+        Assert.assertEquals(presolver.getNbProbingFixedVariables(), 1);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInfeasible() {
+        Model model = ProblemMaker.makeContrived();
+        model.getSettings().setEnablePresolve(true);
+        Assert.assertFalse(model.getSolver().solve());
+        Assert.assertNotNull(model.getSolver().getPresolver());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = org.chocosolver.solver.exception.SolverException.class)
+    public void testDuringSearch() throws ContradictionException {
+        Model model = new Model();
+        model.intVarArray("x", 3, 0, 2);
+        model.getSolver().solve();
+        new Presolver(model).presolve();
+    }
+
+    @DataProvider
+    public Object[][] seeds() {
+        Object[][] seeds = new Object[40][];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = new Object[]{i};
+        }
+        return seeds;
+    }
+
+    /**
+     * Compare the number of solutions of random models, with and without presolve
+     */
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "seeds")
+    public void testRandom(int seed) {
+        Assert.assertEquals(count(true, m -> random(m, seed)), count(false, m -> random(m, seed)));
+    }
+
+    private static long count(boolean presolve, java.util.function.Consumer<Model> maker) {
+        Model model = new Model(Settings.init().setEnablePresolve(presolve));
+        maker.accept(model);
+        return model.getSolver().streamSolutions().count();
+    }
+
+    private static void random(Model model, int seed) {
+        Random rnd = new Random(seed);
+        IntVar[] xs = model.intVarArray("x", 6, 0, 3);
+        BoolVar[] bs = model.boolVarArray("b", 4);
+        IntVar[] all = new IntVar[]{xs[0], xs[1], xs[2], xs[3], xs[4], xs[5], bs[0], bs[1], bs[2], bs[3]};
+        model.arithm(xs[rnd.nextInt(3)], "=", xs[3 + rnd.nextInt(3)], "+", rnd.nextInt(3) - 1).post();
+        for (int k = 0; k < 4; k++) {
+            int n = 3 + rnd.nextInt(3);
+            IntVar[] vars = new IntVar[n];
+            int[] coefs = new int[n];
+            for (int i = 0; i < n; i++) {
+                vars[i] = all[rnd.nextInt(all.length)];
+                coefs[i] = rnd.nextInt(5) + 1;
+            }
+            if (rnd.nextInt(4) == 0) {
+                model.scalar(vars, coefs, ">=", 3 + rnd.nextInt(6)).post();
+            } else {
+                model.scalar(vars, coefs, "<=", 6 + rnd.nextInt(10)).post();
+            }
+        }
+        Tuples tuples = new Tuples(true);
+        for (int t = 0; t < 20; t++) {
+            tuples.add(rnd.nextInt(5), rnd.nextInt(5), rnd.nextInt(2));
+        }
+        int i = rnd.nextInt(6);
+        model.table(new IntVar[]{xs[i], xs[(i + 1 + rnd.nextInt(5)) % 6], bs[rnd.nextInt(4)]}, tuples, "CT+").post();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.presolve;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * <br/>
+ *
+ * @since 19/10/2026
+ */
+public class SubNetworkCompilerTest {
+
+    private static void chain(Model model) {
+        IntVar x = model.intVar("x", 0, 3);
+        IntVar y = model.intVar("y", 0, 3);
+        IntVar z = model.intVar("z", 0, 3);
+        IntVar w = model.intVar("w", 0, 10_000);
+        model.arithm(x, "<", y).post();
+        model.arithm(y, "<", z).post();
+        model.arithm(x, "+", z, "!=", 3).post();
+        model.arithm(z, "<", w).post();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompile() throws ContradictionException {
+        Model model = new Model();
+        chain(model);
+        SubNetworkCompiler compiler = new SubNetworkCompiler(model);
+        Assert.assertTrue(compiler.compile());
+        Assert.assertEquals(compiler.getNbCompiledGroups(), 1);
+        Assert.assertEquals(compiler.getNbRemovedConstraints(), 3);
+        Assert.assertEquals(compiler.getNbTableConstraints(), 1);
+        Assert.assertEquals(model.getNbCstrs(), 2);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), count(false, SubNetworkCompilerTest::chain));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRedundant() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 3);
+        IntVar y = model.intVar("y", 5, 8);
+        model.arithm(x, "<", y).post();
+        model.arithm(x, "!=", y).post();
+        SubNetworkCompiler compiler = new SubNetworkCompiler(model);
+        Assert.assertTrue(compiler.compile());
+        Assert.assertEquals(model.getNbCstrs(), 0);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 16);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMDD() throws ContradictionException {
+        Model model = new Model();
+        BoolVar[] bs = model.boolVarArray("b", 6);
+        model.sum(bs, "<=", 3).post();
+        model.sum(bs, ">=", 2).post();
+        SubNetworkCompiler compiler = new SubNetworkCompiler(model);
+        Assert.assertTrue(compiler.compile());
+        Assert.assertEquals(compiler.getNbMDDConstraints(), 1);
+        Constraint[] cstrs = model.getCstrs();
+        Assert.assertEquals(cstrs.length, 1);
+        Assert.assertEquals(cstrs[0].getName(), ConstraintsName.MDDC);
+        // C(6,2) + C(6,3)
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 35);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTooLarge() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 4, 0, 20);
+        model.allDifferent(xs).post();
+        model.arithm(xs[0], "<", xs[1]).post();
+        SubNetworkCompiler compiler = new SubNetworkCompiler(model);
+        Assert.assertFalse(compiler.compile());
+        Assert.assertEquals(model.getNbCstrs(), 2);
+        compiler.setMaxSearchSpace(1 << 20);
+        Assert.assertFalse(compiler.compile());
+        compiler.setMaxTuples(100_000);
+        Assert.assertTrue(compiler.compile());
+        Assert.assertEquals(model.getNbCstrs(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSearchSpaceOverflow() throws ContradictionException {
+        // 16^16 = 2^64 overflows a long
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 16, 0, 15);
+        for (int i = 0; i < 15; i++) {
+            model.arithm(xs[i], "=", xs[i + 1]).post();
+        }
+        SubNetworkCompiler compiler = new SubNetworkCompiler(model)
+                .setMaxVariables(16)
+                .setMaxSearchSpace(1L << 62);
+        Assert.assertTrue(compiler.compile());
+        Assert.assertEquals(compiler.getNbRemovedConstraints(), 14);
+        Assert.assertEquals(model.getNbCstrs(), 2);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 16);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testInfeasible() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 3, 0, 3);
+        model.allDifferent(xs).post();
+        model.sum(xs, "=", 5).post();
+        model.sum(xs, "!=", 5).post();
+        new SubNetworkCompiler(model).compile();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPresolver() {
+        Model model = new Model(Settings.init().setEnablePresolve(true).setEnableModelCompilation(true));
+        chain(model);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), count(false, SubNetworkCompilerTest::chain));
+        Assert.assertNotNull(model.getSolver().getPresolver().getCompiler());
+        Assert.assertEquals(model.getSolver().getPresolver().getCompiler().getNbCompiledGroups(), 1);
+    }
+
+    @DataProvider
+    public Object[][] seeds() {
+        Object[][] seeds = new Object[30][];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = new Object[]{i};
+        }
+        return seeds;
+    }
+
+    /**
+     * Compare the number of solutions of random models, with and without compilation
+     */
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "seeds")
+    public void testRandom(int seed) {
+        Assert.assertEquals(count(true, m -> random(m, seed)), count(false, m -> random(m, seed)));
+    }
+
+    private static long count(boolean compile, Consumer<Model> maker) {
+        Model model = new Model();
+        maker.accept(model);
+        if (compile) {
+            try {
+                new SubNetworkCompiler(model).setMaxVariables(4).compile();
+            } catch (ContradictionException e) {
+                return 0;
+            }
+        }
+        return model.getSolver().streamSolutions().count();
+    }
+
+    private static void random(Model model, int seed) {
+        Random rnd = new Random(seed);
+        IntVar[] xs = model.intVarArray("x", 8, 0, 3);
+        for (int k = 0; k < 10; k++) {
+            IntVar a = xs[rnd.nextInt(8)];
+            IntVar b = xs[rnd.nextInt(8)];
+            IntVar c = xs[rnd.nextInt(8)];
+            switch (rnd.nextInt(4)) {
+                case 0:
+                    model.arithm(a, "!=", b).post();
+                    break;
+                case 1:
+                    model.arithm(a, "<=", b, "+", rnd.nextInt(3)).post();
+                    break;
+                case 2:
+                    model.scalar(new IntVar[]{a, b, c}, new int[]{1, 2, -1}, "<=", rnd.nextInt(6)).post();
+                    break;
+                default:
+                    model.times(a, b, c).post();
+                    break;
+            }
+        }
+    }
+}
@@ -9,7 +9,9 @@
  */
 package org.chocosolver.solver.propagation;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
@@ -20,6 +22,7 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.delta.EnumDelta;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntervalDelta;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.testng.Assert;
@@ -48,6 +51,61 @@ public class DeltaTest {
         }
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testBatches() {
+        Model model = new Model();
+        ICause a = new ICause() {};
+        ICause b = new ICause() {};
+        EnumDelta d = new EnumDelta(model.getEnvironment());
+        ICause[] causes = {a, a, b, b, b, a};
+        for (int i = 0; i < causes.length; i++) {
+            d.add(i, causes[i]);
+        }
+        for (int i = 0; i < causes.length; i++) {
+            Assert.assertEquals(d.getCause(i), causes[i]);
+        }
+        Assert.assertEquals(d.batchOf(1), 0);
+        Assert.assertEquals(d.batchOf(4), 1);
+        Assert.assertEquals(d.batchOf(5), 2);
+        Assert.assertEquals(d.batchEnd(0), 2);
+        Assert.assertEquals(d.batchEnd(1), 5);
+        Assert.assertEquals(d.batchEnd(2), 6);
+        Assert.assertEquals(d.batchCause(1), b);
+        IntervalDelta id = new IntervalDelta(model.getEnvironment());
+        id.add(0, 2, a);
+        id.add(4, 5, a);
+        id.add(7, 7, b);
+        Assert.assertEquals(id.batchOf(1), 0);
+        Assert.assertEquals(id.batchEnd(0), 2);
+        Assert.assertEquals(id.getCause(2), b);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testMonitorSkipsOwnBatches() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("X", 0, 20, false);
+        ICause a = new ICause() {};
+        ICause b = new ICause() {};
+        IIntDeltaMonitor ma = x.monitorDelta(a);
+        IIntDeltaMonitor mb = x.monitorDelta(b);
+        model.getEnvironment().worldPush();
+        ma.startMonitoring();
+        mb.startMonitoring();
+        x.removeValue(3, a);
+        x.removeValue(5, a);
+        x.updateUpperBound(17, b);
+        x.removeValue(7, a);
+        TIntArrayList la = new TIntArrayList();
+        TIntArrayList lb = new TIntArrayList();
+        ma.forEachRemVal((IntProcedure) la::add);
+        mb.forEachRemVal((IntProcedure) lb::add);
+        Assert.assertEquals(la.toArray(), new int[]{20, 19, 18});
+        Assert.assertEquals(lb.toArray(), new int[]{3, 5, 7});
+        x.removeValue(9, b);
+        ma.forEachRemVal((IntProcedure) la::add);
+        Assert.assertEquals(la.toArray(), new int[]{20, 19, 18, 9});
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void testEq() throws ContradictionException {
         Model model = new Model();
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.propagation;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
@@ -192,4 +193,61 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    private static Model golombLike(byte hybrid) {
+        int n = 7, ub = 30;
+        Model model = new Model(Settings.init().setHybridizationOfPropagationEngine(hybrid));
+        IntVar[] t = model.intVarArray("t", n, 0, ub, true);
+        model.arithm(t[0], "=", 0).post();
+        IntVar[] d = new IntVar[n * (n - 1) / 2];
+        for (int i = 0, k = 0; i < n; i++) {
+            if (i < n - 1) {
+                model.arithm(t[i], "<", t[i + 1]).post();
+            }
+            for (int j = i + 1; j < n; j++, k++) {
+                d[k] = model.intVar("d" + k, 1, ub, true);
+                model.arithm(d[k], "=", t[j], "-", t[i]).post();
+            }
+        }
+        model.allDifferent(d, "BC").post();
+        model.setObjective(Model.MINIMIZE, t[n - 1]);
+        model.getSolver().setSearch(minDomLBSearch(t));
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testHybridModes() {
+        for (byte h = 0b00; h <= 0b11; h++) {
+            Model model = golombLike(h);
+            int obj = Integer.MAX_VALUE;
+            while (model.getSolver().solve()) {
+                obj = ((IntVar) model.getObjective()).getValue();
+            }
+            Assert.assertEquals(obj, 25, "hybrid: " + h);
+            model = makeNQueenWithBinaryConstraints(8);
+            model.getSettings().setHybridizationOfPropagationEngine(h);
+            model.getSolver().setEngine(new PropagationEngine(model));
+            while (model.getSolver().solve()) ;
+            assertEquals(model.getSolver().getSolutionCount(), 92, "hybrid: " + h);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBatchedSchedulesLess() {
+        long[] calls = new long[2];
+        byte[] modes = {0b00, 0b11};
+        for (int k = 0; k < 2; k++) {
+            Model model = golombLike(modes[k]);
+            int c = k;
+            model.getSolver().setEngine(new PropagationEngine(model) {
+                @Override
+                public void schedule(Propagator<?> prop, int pindice, int mask) {
+                    calls[c]++;
+                    super.schedule(prop, pindice, mask);
+                }
+            });
+            while (model.getSolver().solve()) ;
+        }
+        Assert.assertTrue(calls[1] < calls[0], calls[1] + " >= " + calls[0]);
+    }
 }
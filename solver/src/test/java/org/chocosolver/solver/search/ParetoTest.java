@@ -11,6 +11,7 @@ package org.chocosolver.solver.search;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.objective.ParetoArchive;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
@@ -18,7 +19,10 @@ import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static java.lang.Integer.parseInt;
 import static java.lang.Math.max;
@@ -89,6 +93,37 @@ public class ParetoTest {
         }
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testArchive() {
+        Random rnd = new Random(0);
+        for (int n = 2; n < 5; n++) {
+            ParetoArchive<int[]> archive = new ParetoArchive<>(n);
+            List<int[]> front = new ArrayList<>();
+            for (int k = 0; k < 5000; k++) {
+                int[] p = new int[n];
+                for (int j = 0; j < n; j++) {
+                    p[j] = rnd.nextInt(200);
+                }
+                // brute force
+                boolean dominated = front.stream().anyMatch(q -> !Arrays.equals(q, p) && geq(q, p));
+                if (!dominated) {
+                    front.removeIf(q -> geq(p, q));
+                    front.add(p);
+                }
+                Assert.assertEquals(archive.add(p, p, q -> Assert.assertTrue(geq(p, q))), !dominated);
+                Assert.assertEquals(archive.size(), front.size());
+            }
+            Assert.assertEquals(archive.getPayloads(), front);
+        }
+    }
+
+    private static boolean geq(int[] a, int[] b) {
+        for (int j = 0; j < a.length; j++) {
+            if (a[j] < b[j]) return false;
+        }
+        return true;
+    }
+
     @Test(groups = "10s")
     public void testMOQAP() {
         runMOQAP();
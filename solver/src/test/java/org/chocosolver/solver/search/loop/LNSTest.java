@@ -33,6 +33,9 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static java.lang.Math.ceil;
 import static org.chocosolver.solver.search.strategy.Search.domOverWDegSearch;
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
@@ -118,6 +121,90 @@ public class LNSTest {
         knapsack20(lns);
     }
 
+    private static class SizedNeighborhood extends InteractionGuidedNeighborhood {
+        private final List<String> calls = new ArrayList<>();
+
+        SizedNeighborhood(IntVar[] vars) {
+            super(vars, 0L);
+        }
+
+        double size() {
+            return size;
+        }
+
+        @Override
+        public void recordSolution() {
+            super.recordSolution();
+            calls.add("solution");
+        }
+
+        @Override
+        public void restrictLess() {
+            super.restrictLess();
+            calls.add("less");
+        }
+
+        @Override
+        public void restrictMore() {
+            super.restrictMore();
+            calls.add("more");
+        }
+
+        @Override
+        public void restrictOnImprovement() {
+            super.restrictOnImprovement();
+            calls.add("improvement");
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testInteractionGuidedSize() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 20, 0, 5);
+        model.allDifferent(x).post();
+        SizedNeighborhood ign = new SizedNeighborhood(x);
+        Assert.assertEquals(ign.size(), 2., 1e-9);
+        // exhausted fragments: relax more variables
+        ign.restrictLess();
+        Assert.assertEquals(ign.size(), 3.2, 1e-9);
+        ign.restrictLess();
+        Assert.assertEquals(ign.size(), 4.52, 1e-9);
+        // success: back to small fragments
+        ign.restrictOnImprovement();
+        Assert.assertEquals(ign.size(), 2., 1e-9);
+        // stopped by the fast restart criterion: relax less variables
+        ign.restrictMore();
+        Assert.assertEquals(ign.size(), 2. / 1.1, 1e-9);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testInteractionGuidedSizeInLNS() {
+        int[] volumes = {54, 12, 47, 33, 30, 65, 56, 57, 91, 88, 77, 99, 29, 23, 39, 86, 12, 85, 22, 64};
+        int[] energies = {38, 57, 69, 90, 79, 89, 28, 70, 38, 71, 46, 41, 49, 43, 36, 68, 92, 33, 84, 90};
+        Model model = new Model();
+        IntVar[] objects = new IntVar[volumes.length];
+        for (int i = 0; i < volumes.length; i++) {
+            objects[i] = model.intVar("o_" + (i + 1), 0, (int) ceil(1101. / volumes[i]), true);
+        }
+        IntVar power = model.intVar("power", 0, 99999, true);
+        IntVar scalar = model.intVar("weight", 99, 1101, true);
+        model.knapsack(objects, scalar, power, volumes, energies).post();
+        model.setObjective(Model.MAXIMIZE, power);
+        Solver r = model.getSolver();
+        r.setSearch(Search.inputOrderLBSearch(objects));
+        SizedNeighborhood ign = new SizedNeighborhood(objects);
+        r.setLNS(ign);
+        r.limitNode(20000);
+        while (r.solve()) ;
+        Assert.assertTrue(ign.calls.contains("less"));
+        for (int i = 0; i < ign.calls.size(); i++) {
+            if (ign.calls.get(i).equals("solution") && i + 1 < ign.calls.size()) {
+                // the size never grows right after a new solution
+                Assert.assertEquals(ign.calls.get(i + 1), "improvement");
+            }
+        }
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void testTOTO() {
         // First, the model: here a simple knapsack pb ...
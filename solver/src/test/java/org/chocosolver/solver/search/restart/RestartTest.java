@@ -10,14 +10,19 @@
 package org.chocosolver.solver.search.restart;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.limits.NodeCounter;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
+import org.chocosolver.solver.search.loop.monitors.IMonitorUpBranch;
 import org.chocosolver.solver.variables.IntVar;
 import org.testng.annotations.Test;
 
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * <br/>
@@ -114,4 +119,93 @@ public class RestartTest {
 //        Assert.assertEquals(solver.getSolutionCount(), 92);
         assertEquals(model.getSolver().getRestartCount(), 2);
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testGlucoseRestart() {
+        Model model = buildQ(10);
+        GlucoseRestartPolicy policy = new GlucoseRestartPolicy(5, .8, 2, 1.1);
+        model.getSolver().setRestarts(policy, Integer.MAX_VALUE);
+        while (model.getSolver().solve()) ;
+        // restarts may found the same solution twice
+        assertTrue(model.getSolver().getSolutionCount() >= 724);
+        assertTrue(policy.getTriggeredCount() > 0);
+        assertEquals(model.getSolver().getRestartCount(), policy.getTriggeredCount());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testGlucoseRestartWithLearning() {
+        Model model = buildQ(8);
+        Solver solver = model.getSolver();
+        solver.setLearningSignedClauses();
+        GlucoseRestartPolicy policy = new GlucoseRestartPolicy(5, .8, 2, 1.1);
+        solver.setRestarts(policy, Integer.MAX_VALUE);
+        assertTrue(solver.solve());
+        assertEquals(solver.getRestartCount(), policy.getTriggeredCount());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testLBD() {
+        Model model = buildQ(8);
+        Solver solver = model.getSolver();
+        solver.setLearningSignedClauses();
+        int[] checked = new int[1];
+        solver.plugMonitor(new IMonitorUpBranch() {
+            @Override
+            public void beforeUpBranch() {
+                ExplanationForSignedClause e = ((LearnSignedClauses<?>) solver.getLearner()).getExplanation();
+                if (e.getCardinality() > 0) {
+                    int lbd = e.getLBD();
+                    // each literal of the clause is given a level
+                    assertTrue(lbd >= 1);
+                    assertTrue(lbd <= e.getCardinality());
+                    assertTrue(lbd <= solver.getDecisionPath().size() + 1);
+                    checked[0]++;
+                }
+            }
+        });
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 92);
+        assertTrue(checked[0] > 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testObjectiveRateRestart() {
+        int[] best = new int[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model();
+            int[] w = {7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+            int[] p = {5, 9, 10, 14, 15, 17, 23, 25, 30, 33};
+            IntVar[] x = model.intVarArray("x", w.length, 0, 2);
+            IntVar weight = model.intVar("w", 0, 150);
+            IntVar profit = model.intVar("p", 0, 1000);
+            model.knapsack(x, weight, profit, w, p).post();
+            model.setObjective(Model.MAXIMIZE, profit);
+            Solver solver = model.getSolver();
+            solver.setSearch(inputOrderLBSearch(x));
+            ObjectiveRateRestartPolicy policy = new ObjectiveRateRestartPolicy(5, 2., 1.5);
+            if (k == 1) {
+                solver.setRestarts(policy, Integer.MAX_VALUE);
+            }
+            while (solver.solve()) {
+                best[k] = profit.getValue();
+            }
+            assertEquals(solver.getRestartCount(), policy.getTriggeredCount());
+            if (k == 1) {
+                assertTrue(policy.getTriggeredCount() > 0);
+            }
+        }
+        assertEquals(best[1], best[0]);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBlockingRestart() {
+        Model model = buildQ(10);
+        BlockingRestartPolicy policy = new BlockingRestartPolicy(
+                new GlucoseRestartPolicy(5, .8, 2, 1.1), 10, 1.1, 10);
+        model.getSolver().setRestarts(policy, Integer.MAX_VALUE);
+        while (model.getSolver().solve()) ;
+        assertTrue(model.getSolver().getSolutionCount() >= 724);
+        assertTrue(policy.getBlockedCount() > 0);
+        assertEquals(model.getSolver().getRestartCount(), policy.getTriggeredCount());
+    }
 }
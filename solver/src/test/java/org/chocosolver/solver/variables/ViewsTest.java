@@ -16,6 +16,8 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainRandomBound;
 import org.chocosolver.solver.search.strategy.selectors.variables.Random;
+import org.chocosolver.solver.variables.view.IntView;
+import org.chocosolver.solver.variables.view.integer.IntAffineView;
 import org.chocosolver.util.iterators.DisposableValueIterator;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
@@ -924,4 +926,46 @@ public class ViewsTest {
             model.getSolver().printShortStatistics();
         }
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFlattenChain() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", -5, 5);
+        IntVar y = model.intMinusView(model.intOffsetView(model.intScaleView(x, 3), 5));
+        Assert.assertTrue(y instanceof IntAffineView);
+        IntAffineView<?> v = (IntAffineView<?>) y;
+        Assert.assertSame(v.getVariable(), x);
+        Assert.assertEquals(v.a, -3);
+        Assert.assertEquals(v.b, -5);
+        Assert.assertSame(model.intMinusView(model.intMinusView(x)), x);
+        Assert.assertSame(model.intOffsetView(model.intOffsetView(x, 2), -2), x);
+        Assert.assertSame(((IntView<?>) model.intScaleView(model.intScaleView(x, 2), 3)).getVariable(), x);
+        Assert.assertSame(((IntView<?>) model.intLeView(model.intOffsetView(model.intScaleView(x, 3), 5), 0)).getVariable(), x);
+        Assert.assertSame(((IntView<?>) model.intEqView(y, 1)).getVariable(), x);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFlattenChainBoolViews() {
+        for (int a = -3; a < 4; a++) {
+            if (a == 0) continue;
+            for (int c = -12; c < 13; c += 3) {
+                long[] counts = new long[2];
+                for (int k = 0; k < 2; k++) {
+                    Model model = makeModel(k == 0);
+                    IntVar x = model.intVar("x", -4, 4);
+                    IntVar z = model.intVar("z", -4, 4);
+                    IntVar y = model.intOffsetView(model.intMinusView(model.intScaleView(x, a)), 1);
+                    BoolVar[] bs = new BoolVar[]{
+                            model.intLeView(y, c),
+                            model.intGeView(y, c),
+                            model.intEqView(y, c),
+                            model.intNeView(y, c)};
+                    model.sum(bs, "=", model.intOffsetView(z, 2)).post();
+                    model.getSolver().findAllSolutions();
+                    counts[k] = model.getSolver().getSolutionCount();
+                }
+                Assert.assertEquals(counts[0], counts[1], "a=" + a + ", c=" + c);
+            }
+        }
+    }
 }
@@ -0,0 +1,226 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.AbstractEventObserver;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * @since 19/10/2026
+ */
+public class IntervalHolesIntVarTest extends EnumIntVarTest {
+
+    @BeforeMethod(alwaysRun = true)
+    @Override
+    public void setup() {
+        Model model = new Model(Settings.init().setMaxDomSizeForBitset(2));
+        this.var = model.intVar(1, 4, false);
+        Assert.assertTrue(var instanceof IntervalHolesIntVarImpl);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFactory() {
+        Model model = new Model();
+        Assert.assertTrue(model.intVar("x", 0, 10_000_000, false) instanceof IntervalHolesIntVarImpl);
+        Assert.assertTrue(model.intVar("y", 0, 1_000, false) instanceof BitsetIntVarImpl);
+        int[] values = new int[1_000_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < values.length / 2 ? i : i + 10;
+        }
+        IntVar z = model.intVar("z", values);
+        Assert.assertTrue(z instanceof IntervalHolesIntVarImpl);
+        Assert.assertEquals(z.getDomainSize(), values.length);
+        Assert.assertEquals(z.nextValue(values.length / 2 - 1), values.length / 2 + 10);
+        Assert.assertFalse(z.contains(values.length / 2));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBacktrack() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 1_000_000, false);
+        model.getEnvironment().worldPush();
+        x.removeInterval(10, 999_990, Cause.Null);
+        x.removeValue(5, Cause.Null);
+        Assert.assertEquals(x.getDomainSize(), 19);
+        Assert.assertEquals(x.nextValue(9), 999_991);
+        Assert.assertEquals(x.previousValueOut(7), 5);
+        model.getEnvironment().worldPush();
+        x.updateBounds(6, 999_995, Cause.Null);
+        Assert.assertEquals(x.getDomainSize(), 9);
+        Assert.assertEquals(x.getLB(), 6);
+        x.updateLowerBound(8, Cause.Null);
+        Assert.assertEquals(x.getLB(), 8);
+        x.updateLowerBound(10, Cause.Null);
+        Assert.assertEquals(x.getLB(), 999_991);
+        Assert.assertEquals(x.getDomainSize(), 5);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getDomainSize(), 19);
+        Assert.assertEquals(x.toString(), "x = {0..4,6..9,999991..1000000}");
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getDomainSize(), 1_000_001);
+        Assert.assertTrue(x.contains(5));
+        Assert.assertTrue(x.contains(500_000));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDuplicate() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10_000_000, false);
+        x.removeInterval(10, 9_999_990, Cause.Null);
+        x.removeValue(5, Cause.Null);
+        x.updateLowerBound(3, Cause.Null);
+        IntVar y = (IntVar) model.duplicate().getVar(0);
+        Assert.assertTrue(y instanceof IntervalHolesIntVarImpl);
+        Assert.assertEquals(y.toString(), "x = {3..4,6..9,9999991..10000000}");
+        Assert.assertEquals(y.getDomainSize(), x.getDomainSize());
+        y.removeValue(7, Cause.Null);
+        Assert.assertTrue(x.contains(7));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() throws ContradictionException {
+        for (int seed = 0; seed < 50; seed++) {
+            Random rnd = new Random(seed);
+            Model model = new Model(Settings.init().setMaxDomSizeForBitset(2));
+            IntVar x = model.intVar("x", -20, 80, false);
+            IntVar y = new BitsetIntVarImpl("y", -20, 80, model);
+            Assert.assertTrue(x instanceof IntervalHolesIntVarImpl);
+            int depth = 0;
+            for (int k = 0; k < 200; k++) {
+                int a = rnd.nextInt(120) - 30;
+                int b = a + rnd.nextInt(10);
+                int op = rnd.nextInt(8);
+                if (op == 0 && depth > 0) {
+                    model.getEnvironment().worldPop();
+                    depth--;
+                } else if (op == 1) {
+                    model.getEnvironment().worldPush();
+                    depth++;
+                } else {
+                    model.getEnvironment().worldPush();
+                    try {
+                        boolean cx = apply(x, op, a, b);
+                        Assert.assertEquals(cx, apply(y, op, a, b));
+                        depth++;
+                    } catch (ContradictionException e) {
+                        Assert.assertThrows(ContradictionException.class, () -> apply(y, op, a, b));
+                        model.getEnvironment().worldPop();
+                    }
+                }
+                checkSame(x, y);
+            }
+        }
+    }
+
+    private static boolean apply(IntVar v, int op, int a, int b) throws ContradictionException {
+        switch (op) {
+            case 2:
+                return v.removeValue(a, Cause.Null);
+            case 3:
+                return v.removeInterval(a, b, Cause.Null);
+            case 4:
+                return v.updateBounds(a - 10, b + 40, Cause.Null);
+            case 5:
+                return v.removeValues(new IntIterableRangeSet(new int[]{a, a + 2, b, b + 1}), Cause.Null);
+            case 6:
+                IntIterableRangeSet set = new IntIterableRangeSet(-40, 100);
+                set.removeBetween(a, b);
+                return v.removeAllValuesBut(set, Cause.Null);
+            default:
+                return a % 2 == 0 ? v.updateLowerBound(a, Cause.Null) : v.updateUpperBound(b + 50, Cause.Null);
+        }
+    }
+
+    private static void checkSame(IntVar x, IntVar y) {
+        Assert.assertEquals(x.getDomainSize(), y.getDomainSize());
+        Assert.assertEquals(x.getLB(), y.getLB());
+        Assert.assertEquals(x.getUB(), y.getUB());
+        for (int v = -25; v < 85; v++) {
+            Assert.assertEquals(x.contains(v), y.contains(v), "" + v);
+            Assert.assertEquals(x.nextValue(v), y.nextValue(v), "" + v);
+            Assert.assertEquals(x.previousValue(v), y.previousValue(v), "" + v);
+            Assert.assertEquals(x.nextValueOut(v), y.nextValueOut(v), "" + v);
+            Assert.assertEquals(x.previousValueOut(v), y.previousValueOut(v), "" + v);
+        }
+        DisposableValueIterator vx = x.getValueIterator(false);
+        DisposableValueIterator vy = y.getValueIterator(false);
+        while (vy.hasPrevious()) {
+            Assert.assertTrue(vx.hasPrevious());
+            Assert.assertEquals(vx.previous(), vy.previous());
+        }
+        Assert.assertFalse(vx.hasPrevious());
+        DisposableRangeIterator rx = x.getRangeIterator(true);
+        DisposableRangeIterator ry = y.getRangeIterator(true);
+        while (ry.hasNext()) {
+            Assert.assertTrue(rx.hasNext());
+            Assert.assertEquals(rx.min(), ry.min());
+            Assert.assertEquals(rx.max(), ry.max());
+            rx.next();
+            ry.next();
+        }
+        Assert.assertFalse(rx.hasNext());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSolve() {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model(Settings.init().setMaxDomSizeForBitset(k == 0 ? 2 : 1 << 16));
+            IntVar[] xs = model.intVarArray("x", 4, new int[]{0, 1, 2, 4, 5, 7, 8, 9});
+            IntVar s = model.intVar("s", 0, 30, false);
+            model.allDifferent(xs, "AC").post();
+            model.sum(xs, "=", s).post();
+            model.member(s, new int[]{12, 15, 16, 20}).post();
+            model.getSolver().findAllSolutions();
+            counts[k] = model.getSolver().getSolutionCount();
+        }
+        Assert.assertTrue(counts[0] > 0);
+        Assert.assertEquals(counts[0], counts[1]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRemoveIntervalObserver() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 1_000_000, false);
+        int[] calls = new int[2];
+        model.getSolver().setEventObserver(new AbstractEventObserver() {
+            @Override
+            public void removeValue(IntVar var, int val, ICause cause) {
+                calls[0]++;
+            }
+
+            @Override
+            public void removeInterval(IntVar var, int from, int to, ICause cause) {
+                calls[1]++;
+            }
+        });
+        x.removeInterval(10, 1_000, Cause.Null);
+        x.removeInterval(5_000, 9_000, Cause.Null);
+        x.removeValues(new IntIterableRangeSet(0, 20_000), Cause.Null);
+        Assert.assertEquals(x.getLB(), 20_001);
+        x.removeInterval(30_000, 40_000, Cause.Null);
+        x.removeValues(new IntIterableRangeSet(25_000, 50_000), Cause.Null);
+        Assert.assertEquals(calls[0], 0);
+        Assert.assertEquals(calls[1], 5);
+    }
+}
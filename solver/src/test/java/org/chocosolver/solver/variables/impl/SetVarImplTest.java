@@ -22,6 +22,9 @@ import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+import java.util.stream.IntStream;
+
 /**
  * @author Guillaume Le Lou�t [guillaume.lelouet@gmail.com] 2016, Jean-Guillaume Fages
  */
@@ -116,5 +119,95 @@ public class SetVarImplTest {
         Assert.assertEquals(s.getDomainSize(), 1);
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAdaptive() {
+        // a dense envelope and a sparse one
+        int[][] envs = {ArrayUtils.array(0, 29), new int[30]};
+        for (int i = 0; i < 30; i++) {
+            envs[1][i] = i * 10_000;
+        }
+        for (int[] env : envs) {
+            for (SetType type : new SetType[]{SetType.BITSET, SetType.ADAPTIVE}) {
+                Model m = new Model();
+                SetVar x = new SetVarImpl("x", new int[0], type, env, type, m);
+                SetVar y = new SetVarImpl("y", new int[0], type, env, type, m);
+                SetVar z = new SetVarImpl("z", new int[0], type, env, type, m);
+                SetVar w = new SetVarImpl("w", new int[0], type, env, type, m);
+                m.subsetEq(x, y).post();
+                m.union(new SetVar[]{x, y}, z).post();
+                m.intersection(new SetVar[]{x, y}, w).post();
+                x.getCard().eq(1).post();
+                y.getCard().eq(2).post();
+                while (m.getSolver().solve()) {
+                    Assert.assertEquals(z.getValue().size(), 2);
+                    Assert.assertEquals(w.getValue().toArray(), x.getValue().toArray());
+                }
+                Assert.assertEquals(m.getSolver().getSolutionCount(), 870, type.name());
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBulk() throws ContradictionException {
+        Model m = new Model();
+        SetVar s = m.setVar("s", new int[]{}, ArrayUtils.array(0, 9));
+        Assert.assertTrue(s.forceAll(SetFactory.makeConstantSet(2, 4), Cause.Null));
+        Assert.assertFalse(s.forceAll(SetFactory.makeConstantSet(2, 3), Cause.Null));
+        Assert.assertEquals(s.getLB().toArray(), new int[]{2, 3, 4});
+        Assert.assertTrue(s.removeAll(SetFactory.makeConstantSet(new int[]{0, 8, 9}), Cause.Null));
+        Assert.assertFalse(s.removeAll(SetFactory.makeConstantSet(new int[]{0, 8}), Cause.Null));
+        Assert.assertEquals(s.getUB().toArray(), new int[]{1, 2, 3, 4, 5, 6, 7});
+        Assert.assertTrue(s.retainAll(SetFactory.makeConstantSet(1, 5), Cause.Null));
+        Assert.assertFalse(s.retainAll(SetFactory.makeConstantSet(1, 5), Cause.Null));
+        Assert.assertEquals(s.getUB().toArray(), new int[]{1, 2, 3, 4, 5});
+    }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBulkWords() {
+        // bitset arguments are applied a word at a time, constant ones element by element
+        Random rnd = new Random(0);
+        for (int k = 0; k < 200; k++) {
+            Model m = new Model();
+            int off = rnd.nextInt(100) - 50;
+            SetVar words = m.setVar("w", new int[]{off + 70}, ArrayUtils.array(off, off + 200));
+            SetVar elems = m.setVar("e", new int[]{off + 70}, ArrayUtils.array(off, off + 200));
+            for (int op = 0; op < 10; op++) {
+                int eoff = off + rnd.nextInt(130) - 65;
+                double density = rnd.nextDouble();
+                int[] values = IntStream.rangeClosed(eoff, eoff + 200)
+                        .filter(v -> rnd.nextDouble() < density).toArray();
+                ISet bits = m.setVar("a" + op, values, ArrayUtils.array(eoff, eoff + 200)).getLB();
+                ISet cst = SetFactory.makeConstantSet(values);
+                int type = rnd.nextInt(3);
+                Boolean expected, actual;
+                try {
+                    expected = type == 0 ? elems.forceAll(cst, Cause.Null) :
+                            type == 1 ? elems.removeAll(cst, Cause.Null) : elems.retainAll(cst, Cause.Null);
+                } catch (ContradictionException e) {
+                    expected = null;
+                }
+                try {
+                    actual = type == 0 ? words.forceAll(bits, Cause.Null) :
+                            type == 1 ? words.removeAll(bits, Cause.Null) : words.retainAll(bits, Cause.Null);
+                } catch (ContradictionException e) {
+                    actual = null;
+                }
+                Assert.assertEquals(actual, expected);
+                if (expected == null) {
+                    break;
+                }
+                Assert.assertEquals(words.getLB().toArray(), elems.getLB().toArray());
+                Assert.assertEquals(words.getUB().toArray(), elems.getUB().toArray());
+                Assert.assertEquals(words.getLB().size(), elems.getLB().size());
+                Assert.assertEquals(words.getUB().size(), elems.getUB().size());
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testBulkFail() throws ContradictionException {
+        Model m = new Model();
+        SetVar s = m.setVar("s", new int[]{3}, ArrayUtils.array(0, 9));
+        s.retainAll(SetFactory.makeConstantSet(4, 9), Cause.Null);
+    }
 }
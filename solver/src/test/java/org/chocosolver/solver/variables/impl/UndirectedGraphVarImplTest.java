@@ -113,6 +113,22 @@ public class UndirectedGraphVarImplTest {
         }
     }
 
+    /**
+     * Same as testInstantiateAndGenerate, with an upper bound whose edges are packed.
+     */
+    @Test(groups="1s", timeOut=60000)
+    public void testInstantiateAndGeneratePacked() {
+        int n = 3;
+        for (SetType nodeSetType : new SetType[]{SetType.BITSET, SetType.BIPARTITESET, SetType.LINKED_LIST}) {
+            Model m = new Model();
+            UndirectedGraph LB = GraphFactory.makeStoredUndirectedGraph(m, n, nodeSetType, SetType.BITSET);
+            UndirectedGraph UB = GraphFactory.makeCompletePackedUndirectedGraph(m, n, nodeSetType, false);
+            UndirectedGraphVar g = new UndirectedGraphVarImpl("g", m, LB, UB);
+            while (m.getSolver().solve()) ;
+            Assert.assertEquals(m.getSolver().getSolutionCount(), 18);
+        }
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void testGraphVarInstantiated() {
         Model m = new Model();
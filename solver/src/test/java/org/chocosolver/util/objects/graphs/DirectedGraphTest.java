@@ -11,6 +11,7 @@ package org.chocosolver.util.objects.graphs;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.csr.Set_CSRRow;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -59,4 +60,33 @@ public class DirectedGraphTest {
         Assert.assertTrue(g2.equals(g1));
     }
 
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPacked() {
+        Model model = new Model();
+        int n = 10;
+        int[] nodes = new int[] {0, 1, 2, 3, 4, 5, 6};
+        int[][] edges = new int[][] {
+                {0, 1}, {2, 3}, {4, 5},
+                {6, 0}, {2, 1}, {5, 3}, {1, 2}
+        };
+        DirectedGraph g = GraphFactory.makeDirectedGraph(n, SetType.BIPARTITESET, SetType.BIPARTITESET, nodes, edges);
+        DirectedGraph packed = GraphFactory.makePackedDirectedGraph(model, g, SetType.BIPARTITESET);
+        Assert.assertTrue(packed.getSuccessorsOf(0) instanceof Set_CSRRow);
+        Assert.assertTrue(packed.getPredecessorsOf(0) instanceof Set_CSRRow);
+        Assert.assertTrue(packed.equals(g));
+        model.getEnvironment().worldPush();
+        Assert.assertTrue(packed.removeEdge(2, 1));
+        Assert.assertTrue(packed.containsEdge(1, 2));
+        Assert.assertFalse(packed.containsEdge(2, 1));
+        Assert.assertEquals(packed.getSuccessorsOf(2).toArray(), new int[] {3});
+        Assert.assertEquals(packed.getPredecessorsOf(1).toArray(), new int[] {0});
+        Assert.assertTrue(packed.removeNode(3));
+        Assert.assertTrue(packed.getSuccessorsOf(2).isEmpty());
+        Assert.assertTrue(packed.getSuccessorsOf(5).isEmpty());
+        model.getEnvironment().worldPop();
+        Assert.assertTrue(packed.equals(g));
+        DirectedGraph complete = GraphFactory.makeCompletePackedDirectedGraph(model, n, SetType.BITSET, false);
+        Assert.assertTrue(complete.equals(GraphFactory.makeCompleteDirectedGraph(n, SetType.BITSET, SetType.BITSET, false)));
+    }
 }
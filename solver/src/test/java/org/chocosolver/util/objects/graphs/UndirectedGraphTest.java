@@ -11,6 +11,7 @@ package org.chocosolver.util.objects.graphs;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.csr.Set_CSRRow;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -87,4 +88,43 @@ public class UndirectedGraphTest {
         Assert.assertTrue(Arrays.equals(neigh5, new int[] {7}));
         Assert.assertTrue(Arrays.equals(neigh7, new int[] {1, 5}));
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPacked() {
+        Model model = new Model();
+        int n = 10;
+        int[] nodes = new int[] {0, 1, 2, 3, 4, 5, 6};
+        int[][] edges = new int[][] {
+                {0, 1}, {2, 3}, {4, 5},
+                {6, 0}, {2, 1}, {5, 3}, {6, 6}
+        };
+        UndirectedGraph g = GraphFactory.makeUndirectedGraph(n, SetType.BIPARTITESET, SetType.BIPARTITESET, nodes, edges);
+        UndirectedGraph packed = GraphFactory.makePackedUndirectedGraph(model, g, SetType.BITSET);
+        Assert.assertTrue(packed.getNeighborsOf(0) instanceof Set_CSRRow);
+        Assert.assertTrue(packed.equals(g));
+        Assert.assertEquals(packed.getNeighborsOf(2).min(), 1);
+        Assert.assertEquals(packed.getNeighborsOf(2).max(), 3);
+        model.getEnvironment().worldPush();
+        Assert.assertTrue(packed.removeEdge(2, 1));
+        Assert.assertFalse(packed.removeEdge(2, 1));
+        Assert.assertFalse(packed.removeEdge(2, 9));
+        Assert.assertTrue(packed.removeEdge(6, 6));
+        Assert.assertTrue(packed.removeNode(5));
+        Assert.assertFalse(packed.containsEdge(1, 2));
+        Assert.assertFalse(packed.containsEdge(3, 5));
+        Assert.assertTrue(packed.containsEdge(2, 3));
+        Assert.assertEquals(packed.getNeighborsOf(2).min(), 3);
+        Assert.assertEquals(packed.getNeighborsOf(3).toArray(), new int[] {2});
+        Assert.assertEquals(packed.getNeighborsOf(4).size(), 0);
+        model.getEnvironment().worldPop();
+        Assert.assertTrue(packed.equals(g));
+        Assert.assertFalse(packed.addEdge(6, 0));
+        try {
+            packed.addEdge(2, 4);
+            Assert.fail();
+        } catch (UnsupportedOperationException ignored) {
+        }
+        UndirectedGraph complete = GraphFactory.makeCompletePackedUndirectedGraph(model, n, SetType.BITSET, true);
+        Assert.assertTrue(complete.equals(GraphFactory.makeCompleteUndirectedGraph(n, SetType.BITSET, SetType.BITSET, true)));
+    }
 }
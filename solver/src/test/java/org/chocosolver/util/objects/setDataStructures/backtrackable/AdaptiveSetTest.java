@@ -0,0 +1,62 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.backtrackable;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @since 19/10/2026
+ */
+public class AdaptiveSetTest extends BacktrackableSetTest {
+
+    @Override
+    public ISet create(int offset) {
+        return SetFactory.makeStoredSet(SetType.ADAPTIVE, offset, model);
+    }
+
+    @Override
+    public ISet create() {
+        return SetFactory.makeStoredSet(SetType.ADAPTIVE, 0, model);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBacktrackAcrossSwitch() {
+        ISet set = create();
+        IEnvironment environment = model.getEnvironment();
+        for (int i = 0; i < 10; i++) {
+            set.add(i * 1000);
+        }
+        environment.worldPush();
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+        assertEquals(set.size(), 1009);
+        environment.worldPush();
+        for (int i = 0; i < 1000; i++) {
+            set.remove(i);
+        }
+        assertEquals(set.size(), 9);
+        environment.worldPop();
+        assertEquals(set.size(), 1009);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.contains(i));
+        }
+        environment.worldPop();
+        assertEquals(set.size(), 10);
+        assertEquals(set.toArray(), new int[]{0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000, 9000});
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2022, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.nonbacktrackable;
+
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.adaptive.Set_Adaptive;
+import org.testng.annotations.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * @since 19/10/2026
+ */
+public class AdaptiveSetTest extends SetTest {
+
+    @Override
+    public ISet create(int offset) {
+        return SetFactory.makeAdaptiveSet(offset);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSwitch() {
+        Set_Adaptive set = (Set_Adaptive) create(-10);
+        assertEquals(set.getSetType(), SetType.ADAPTIVE);
+        for (int i = -10; i < 1000; i++) {
+            set.add(i);
+        }
+        assertTrue(set.isDense());
+        assertEquals(set.size(), 1010);
+        assertEquals(set.min(), -10);
+        assertEquals(set.max(), 999);
+        for (int i = -9; i < 999; i++) {
+            set.remove(i);
+        }
+        assertFalse(set.isDense());
+        assertEquals(set.size(), 2);
+        assertEquals(set.toArray(), new int[]{-10, 999});
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHugeSpan() {
+        Set_Adaptive set = (Set_Adaptive) create(0);
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+        assertTrue(set.isDense());
+        set.add(Integer.MAX_VALUE);
+        assertFalse(set.isDense());
+        assertEquals(set.max(), Integer.MAX_VALUE);
+        assertTrue(set.remove(Integer.MAX_VALUE));
+        assertEquals(set.max(), 99);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRemoveWhileIterating() {
+        Set_Adaptive set = (Set_Adaptive) create(0);
+        for (int i = 0; i < 200; i++) {
+            set.add(i);
+        }
+        assertTrue(set.isDense());
+        ISetIterator it = set.iterator();
+        int k = 0;
+        while (it.hasNext()) {
+            int v = it.nextInt();
+            assertEquals(v, k++);
+            // makes the set switch to a sorted array during iteration
+            set.remove(v);
+        }
+        assertEquals(k, 200);
+        assertTrue(set.isEmpty());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        Random rnd = new Random(0);
+        for (int seed = 0; seed < 20; seed++) {
+            rnd.setSeed(seed);
+            Set_Adaptive set = (Set_Adaptive) create(-5);
+            BitSet ref = new BitSet();
+            int span = 1 + rnd.nextInt(5000);
+            for (int k = 0; k < 20000; k++) {
+                int v = rnd.nextInt(span);
+                // bias towards filling up, then emptying
+                boolean add = k < 10000 ? rnd.nextInt(4) > 0 : rnd.nextInt(4) == 0;
+                if (add) {
+                    assertEquals(set.add(v - 5), !ref.get(v));
+                    ref.set(v);
+                } else {
+                    assertEquals(set.remove(v - 5), ref.get(v));
+                    ref.clear(v);
+                }
+            }
+            assertEquals(set.size(), ref.cardinality());
+            ISetIterator it = set.iterator();
+            for (int i = ref.nextSetBit(0); i >= 0; i = ref.nextSetBit(i + 1)) {
+                assertTrue(it.hasNext());
+                assertEquals(it.nextInt(), i - 5);
+                assertTrue(set.contains(i - 5));
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+}